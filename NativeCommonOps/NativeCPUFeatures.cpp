@@ -0,0 +1,84 @@
+/*
+ * NativeCPUFeatures.cpp
+ *
+ * Probes the instruction sets supported by the CPU and the operating system with cpuid. This file is compiled without
+ * any instruction set flag into its own small library, such that it can be loaded on any x86-64 CPU before picking the
+ * NativeCommonOps variant to load.
+ */
+
+#include <jni.h>
+#include "us_ihmc_matrixlib_NativeCPUFeatures.h"
+
+#if defined(_MSC_VER) && (defined(_M_X64) || defined(_M_IX86))
+#include <intrin.h>
+#define NATIVE_CPU_FEATURES_X86
+
+static void cpuid(int leaf, int subleaf, unsigned int registers[4])
+{
+    int values[4];
+    __cpuidex(values, leaf, subleaf);
+    for (int i = 0; i < 4; i++)
+        registers[i] = (unsigned int) values[i];
+}
+
+static unsigned long long xgetbv()
+{
+    return _xgetbv(0);
+}
+#elif (defined(__GNUC__) || defined(__clang__)) && (defined(__x86_64__) || defined(__i386__))
+#include <cpuid.h>
+#define NATIVE_CPU_FEATURES_X86
+
+static void cpuid(int leaf, int subleaf, unsigned int registers[4])
+{
+    __cpuid_count(leaf, subleaf, registers[0], registers[1], registers[2], registers[3]);
+}
+
+static unsigned long long xgetbv()
+{
+    unsigned int eax, edx;
+    __asm__ volatile("xgetbv" : "=a"(eax), "=d"(edx) : "c"(0));
+    return ((unsigned long long) edx << 32) | eax;
+}
+#endif
+
+JNIEXPORT jint JNICALL Java_us_ihmc_matrixlib_NativeCPUFeatures_getSupportedInstructionSet(JNIEnv *, jclass)
+{
+#ifdef NATIVE_CPU_FEATURES_X86
+    unsigned int registers[4]; // eax, ebx, ecx, edx
+
+    cpuid(0, 0, registers);
+    unsigned int maximumLeaf = registers[0];
+
+    cpuid(1, 0, registers);
+    bool fma = (registers[2] & (1u << 12)) != 0;
+    bool osxsave = (registers[2] & (1u << 27)) != 0;
+    bool avx = (registers[2] & (1u << 28)) != 0;
+
+    if (!osxsave || !avx)
+        return us_ihmc_matrixlib_NativeCPUFeatures_NONE;
+
+    // The operating system has to save the AVX (YMM) and AVX-512 (opmask, ZMM) registers on context switches.
+    unsigned long long enabledStates = xgetbv();
+    bool ymmEnabled = (enabledStates & 0x6) == 0x6;
+    bool zmmEnabled = (enabledStates & 0xE6) == 0xE6;
+
+    if (!ymmEnabled)
+        return us_ihmc_matrixlib_NativeCPUFeatures_NONE;
+    if (maximumLeaf < 7)
+        return us_ihmc_matrixlib_NativeCPUFeatures_AVX;
+
+    cpuid(7, 0, registers);
+    bool avx2 = (registers[1] & (1u << 5)) != 0;
+    bool avx512f = (registers[1] & (1u << 16)) != 0;
+    bool avx512dq = (registers[1] & (1u << 17)) != 0;
+
+    if (!avx2 || !fma)
+        return us_ihmc_matrixlib_NativeCPUFeatures_AVX;
+    if (!zmmEnabled || !avx512f || !avx512dq)
+        return us_ihmc_matrixlib_NativeCPUFeatures_AVX2;
+    return us_ihmc_matrixlib_NativeCPUFeatures_AVX512;
+#else
+    return us_ihmc_matrixlib_NativeCPUFeatures_NONE;
+#endif
+}
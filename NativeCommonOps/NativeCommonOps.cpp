@@ -8,168 +8,335 @@
 #include <jni.h>
 #include <Eigen/Dense>
 #include <iostream>
+#include <initializer_list>
+#include <vector>
 #include "us_ihmc_matrixlib_NativeCommonOpsWrapper.h"
+#include "SolveWithRcond.h"
 
 using Eigen::MatrixXd;
+using Eigen::VectorXd;
 
-JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_mult(JNIEnv *env, jobject thisObj,
-		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols, jint bCols)
-{
-	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
-	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
-	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aCols);
-	MatrixXd B = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(bDataArray, aCols, bCols);
+typedef Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>> RowMajorMap;
+typedef Eigen::Map<VectorXd> VectorMap;
 
-	MatrixXd AB = A * B;
+/*
+ * The Java arrays of small matrices are accessed in place using GetPrimitiveArrayCritical and mapped with Eigen::Map,
+ * the results are written directly in the Java array backing the result matrix. Temporaries are kept in thread local
+ * workspaces that are only reallocated when the matrix dimensions change between calls.
+ *
+ * No JNI functions can be called while an array is held, so all checks involving the JNIEnv are done before. Holding
+ * an array also blocks the garbage collector, so when one of the arrays of a call is larger than
+ * CRITICAL_ARRAY_MAX_LENGTH all the arrays of the call are copied with Get/SetDoubleArrayRegion instead. The copies are
+ * O(n^2) while the operations on such matrices are O(n^3).
+ */
+static const jsize CRITICAL_ARRAY_MAX_LENGTH = 4096;
 
-	jdouble *resultDataArray = new jdouble[aRows * bCols];
-	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aRows, bCols) = AB;
-	env->SetDoubleArrayRegion(result, 0, aRows * bCols, resultDataArray);
+class JavaArrays
+{
+public:
+    JavaArrays(JNIEnv *env, std::initializer_list<jdoubleArray> arrays) :
+        env(env),
+        critical(true),
+        failed(false),
+        nextBuffer(0)
+    {
+        for (jdoubleArray array : arrays)
+        {
+            if (env->GetArrayLength(array) > CRITICAL_ARRAY_MAX_LENGTH)
+                critical = false;
+        }
+    }
+
+    ~JavaArrays()
+    {
+        // The arrays declared after this object have been released, the exception can be thrown.
+        if (failed && !env->ExceptionCheck())
+            env->ThrowNew(env->FindClass("java/lang/OutOfMemoryError"), "Unable to access the data of a Java array.");
+    }
+
+    /**
+     * @return false if one of the arrays could not be accessed, an OutOfMemoryError is thrown when the arrays are released.
+     */
+    bool valid() const
+    {
+        return !failed;
+    }
+
+    std::vector<double>& nextCopyBuffer()
+    {
+        static thread_local std::vector<double> buffers[MAX_ARRAYS];
+        return buffers[nextBuffer++];
+    }
+
+    static const int MAX_ARRAYS = 3;
+
+    JNIEnv* const env;
+    bool critical;
+    bool failed;
+
+private:
+    int nextBuffer;
+};
+
+class JavaArray
+{
+public:
+    JavaArray(JavaArrays& arrays, jdoubleArray array, bool output) :
+        data(NULL),
+        arrays(arrays),
+        array(array),
+        output(output)
+    {
+        if (arrays.failed)
+            return;
+
+        if (arrays.critical)
+        {
+            data = (double*) arrays.env->GetPrimitiveArrayCritical(array, NULL);
+        }
+        else
+        {
+            jsize length = arrays.env->GetArrayLength(array);
+            std::vector<double>& buffer = arrays.nextCopyBuffer();
+            // The buffers are reused by the next calls of the thread, they only grow.
+            if ((jsize) buffer.size() < length)
+                buffer.resize(length);
+            arrays.env->GetDoubleArrayRegion(array, 0, length, buffer.data());
+            if (!arrays.env->ExceptionCheck())
+                data = buffer.data();
+        }
+
+        if (data == NULL)
+            arrays.failed = true;
+    }
+
+    ~JavaArray()
+    {
+        if (data == NULL)
+            return;
+
+        if (arrays.critical)
+        {
+            // Inputs are only read, no need to copy them back if the JVM decided to provide a copy.
+            arrays.env->ReleasePrimitiveArrayCritical(array, data, output ? 0 : JNI_ABORT);
+        }
+        else if (output && arrays.valid())
+        {
+            arrays.env->SetDoubleArrayRegion(array, 0, arrays.env->GetArrayLength(array), data);
+        }
+    }
+
+    double* data;
+
+private:
+    JavaArrays& arrays;
+    const jdoubleArray array;
+    const bool output;
+};
+
+#define JAVA_ARRAYS(env, ...) JavaArrays javaArrays(env, {__VA_ARGS__})
+#define INPUT_ARRAY(array) JavaArray array##Array(javaArrays, array, false)
+#define OUTPUT_ARRAY(array) JavaArray array##Array(javaArrays, array, true)
 
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-	delete resultDataArray;
+JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_mult(JNIEnv *env, jobject thisObj,
+		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols, jint bCols)
+{
+	static thread_local MatrixXd AB;
+	bool aliased = env->IsSameObject(result, aData) || env->IsSameObject(result, bData);
+
+	JAVA_ARRAYS(env, result, aData, bData);
+	OUTPUT_ARRAY(result);
+	INPUT_ARRAY(aData);
+	INPUT_ARRAY(bData);
+	if (!javaArrays.valid())
+		return;
+	RowMajorMap A(aDataArray.data, aRows, aCols);
+	RowMajorMap B(bDataArray.data, aCols, bCols);
+	RowMajorMap C(resultArray.data, aRows, bCols);
+
+	if (aliased)
+	{
+		AB.noalias() = A * B;
+		C = AB;
+	}
+	else
+	{
+		C.noalias() = A * B;
+	}
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_multQuad(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols)
 {
-	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
-	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
-	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aCols);
-	MatrixXd B = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(bDataArray, aRows, aRows);
-
-	MatrixXd AtBA = A.transpose() * B * A;
-
-	jdouble *resultDataArray = new jdouble[aCols * aCols];
-	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aCols, aCols) = AtBA;
-	env->SetDoubleArrayRegion(result, 0, aCols * aCols, resultDataArray);
-
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-	delete resultDataArray;
+	static thread_local MatrixXd BA;
+	static thread_local MatrixXd AtBA;
+	bool aliased = env->IsSameObject(result, aData);
+
+	JAVA_ARRAYS(env, result, aData, bData);
+	OUTPUT_ARRAY(result);
+	INPUT_ARRAY(aData);
+	INPUT_ARRAY(bData);
+	if (!javaArrays.valid())
+		return;
+	RowMajorMap A(aDataArray.data, aRows, aCols);
+	RowMajorMap B(bDataArray.data, aRows, aRows);
+	RowMajorMap C(resultArray.data, aCols, aCols);
+
+	BA.noalias() = B * A;
+	if (aliased)
+	{
+		AtBA.noalias() = A.transpose() * BA;
+		C = AtBA;
+	}
+	else
+	{
+		C.noalias() = A.transpose() * BA;
+	}
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_invert(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jint aRows)
 {
-	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
-	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aRows);
-
-	MatrixXd x = A.lu().inverse();
-
-	jdouble *resultDataArray = new jdouble[aRows * aRows];
-	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aRows, aRows) = x;
-	env->SetDoubleArrayRegion(result, 0, aRows * aRows, resultDataArray);
-
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	delete resultDataArray;
+	static thread_local Eigen::PartialPivLU<MatrixXd> lu;
+
+	JAVA_ARRAYS(env, result, aData);
+	OUTPUT_ARRAY(result);
+	INPUT_ARRAY(aData);
+	if (!javaArrays.valid())
+		return;
+	RowMajorMap A(aDataArray.data, aRows, aRows);
+	RowMajorMap x(resultArray.data, aRows, aRows);
+
+	lu.compute(A);
+	x = lu.inverse();
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solve(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows)
 {
-	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
-	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
-	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aRows);
-	MatrixXd B = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(bDataArray, aRows, 1);
-
-	MatrixXd x = A.lu().solve(B);
-
-	jdouble *resultDataArray = new jdouble[aRows];
-	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aRows, 1) = x;
-	env->SetDoubleArrayRegion(result, 0, aRows, resultDataArray);
-
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
+	static thread_local Eigen::PartialPivLU<MatrixXd> lu;
+
+	JAVA_ARRAYS(env, result, aData, bData);
+	OUTPUT_ARRAY(result);
+	INPUT_ARRAY(aData);
+	INPUT_ARRAY(bData);
+	if (!javaArrays.valid())
+		return;
+	RowMajorMap A(aDataArray.data, aRows, aRows);
+	VectorMap b(bDataArray.data, aRows);
+	VectorMap x(resultArray.data, aRows);
+
+	// The decomposition holds a copy of A, and the permutation of b is done in place when x and b are the same array.
+	lu.compute(A);
+	x = lu.solve(b);
 }
 
 JNIEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveCheck(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows)
 {
-	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
-	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
-	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aRows);
-	MatrixXd B = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(bDataArray, aRows, 1);
-
-	const Eigen::FullPivLU<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic> > fullPivLu = A.fullPivLu();
-	if (fullPivLu.isInvertible())
-	{
-		MatrixXd x = fullPivLu.solve(B);
+	JAVA_ARRAYS(env, result, aData, bData);
+	OUTPUT_ARRAY(result);
+	INPUT_ARRAY(aData);
+	INPUT_ARRAY(bData);
+	if (!javaArrays.valid())
+		return false;
+	RowMajorMap A(aDataArray.data, aRows, aRows);
+	VectorMap b(bDataArray.data, aRows);
+	VectorMap x(resultArray.data, aRows);
 
-		jdouble *resultDataArray = new jdouble[aRows];
-		Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aRows, 1) = x;
-		env->SetDoubleArrayRegion(result, 0, aRows, resultDataArray);
+	return solveWithRcond(A, b, x, false) > SOLVE_MINIMUM_RCOND;
+}
 
-		delete resultDataArray;
-		env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-		env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-		return true;
-	}
-	else
-	{
-		env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-		env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-		return false;
-	}
+JNIEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveRcond(JNIEnv *env, jobject thisObj,
+		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint bCols, jboolean positiveDefinite)
+{
+	JAVA_ARRAYS(env, result, aData, bData);
+	OUTPUT_ARRAY(result);
+	INPUT_ARRAY(aData);
+	INPUT_ARRAY(bData);
+	if (!javaArrays.valid())
+		return 0.0;
+	RowMajorMap A(aDataArray.data, aRows, aRows);
+	RowMajorMap b(bDataArray.data, aRows, bCols);
+	RowMajorMap x(resultArray.data, aRows, bCols);
+
+	return solveWithRcond(A, b, x, positiveDefinite);
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveRobust(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols)
 {
-	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
-	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
-	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aCols);
-	MatrixXd B = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(bDataArray, aRows, 1);
-
-	MatrixXd x = A.householderQr().solve(B);
-
-	jdouble *resultDataArray = new jdouble[aCols];
-	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aCols, 1) = x;
-	env->SetDoubleArrayRegion(result, 0, aCols, resultDataArray);
-
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-	delete resultDataArray;
+	static thread_local Eigen::HouseholderQR<MatrixXd> qr;
+	static thread_local VectorXd c;
+
+	JAVA_ARRAYS(env, result, aData, bData);
+	OUTPUT_ARRAY(result);
+	INPUT_ARRAY(aData);
+	INPUT_ARRAY(bData);
+	if (!javaArrays.valid())
+		return;
+	RowMajorMap A(aDataArray.data, aRows, aCols);
+	VectorMap b(bDataArray.data, aRows);
+	VectorMap x(resultArray.data, aCols);
+
+	// Same as HouseholderQR::solve, but using the workspace instead of allocating a copy of b.
+	qr.compute(A);
+	int rank = std::min(aRows, aCols);
+	c = b;
+	c.applyOnTheLeft(qr.householderQ().setLength(rank).adjoint());
+	qr.matrixQR().topLeftCorner(rank, rank).triangularView<Eigen::Upper>().solveInPlace(c.topRows(rank));
+	x.topRows(rank) = c.topRows(rank);
+	x.bottomRows(aCols - rank).setZero();
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveDamped(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols, jdouble alpha)
 {
-	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
-	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
-	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aCols);
-	MatrixXd B = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(bDataArray, aRows, 1);
-
-	MatrixXd outer = A * A.transpose() + MatrixXd::Identity(aRows, aRows) * alpha * alpha;
-	MatrixXd x = A.transpose() * outer.llt().solve(B);
-
-	jdouble *resultDataArray = new jdouble[aCols];
-	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aCols, 1) = x;
-	env->SetDoubleArrayRegion(result, 0, aCols, resultDataArray);
-
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-	delete resultDataArray;
+	static thread_local MatrixXd outer;
+	static thread_local Eigen::LLT<MatrixXd> llt;
+	static thread_local VectorXd y;
+
+	JAVA_ARRAYS(env, result, aData, bData);
+	OUTPUT_ARRAY(result);
+	INPUT_ARRAY(aData);
+	INPUT_ARRAY(bData);
+	if (!javaArrays.valid())
+		return;
+	RowMajorMap A(aDataArray.data, aRows, aCols);
+	VectorMap b(bDataArray.data, aRows);
+	VectorMap x(resultArray.data, aCols);
+
+	outer.noalias() = A * A.transpose();
+	outer.diagonal().array() += alpha * alpha;
+	llt.compute(outer);
+	y = b;
+	llt.solveInPlace(y);
+	x.noalias() = A.transpose() * y;
 }
 
 JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_projectOnNullspace(JNIEnv *env, jobject thisObj,
 		jdoubleArray result, jdoubleArray aData, jdoubleArray bData, jint aRows, jint aCols, jint bRows, jdouble alpha)
 {
-	jdouble *aDataArray = env->GetDoubleArrayElements(aData, NULL);
-	jdouble *bDataArray = env->GetDoubleArrayElements(bData, NULL);
-	MatrixXd A = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(aDataArray, aRows, aCols);
-	MatrixXd B = Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(bDataArray, bRows, aCols);
-
-	MatrixXd BtB = B.transpose() * B;
-	MatrixXd outer = BtB + MatrixXd::Identity(aCols, aCols) * alpha * alpha;
-	MatrixXd x = A * (MatrixXd::Identity(aCols, aCols) - outer.llt().solve(BtB));
-
-	jdouble *resultDataArray = new jdouble[aRows * aCols];
-	Eigen::Map<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic, Eigen::RowMajor>>(resultDataArray, aRows, aCols) = x;
-	env->SetDoubleArrayRegion(result, 0, aRows * aCols, resultDataArray);
-
-	env->ReleaseDoubleArrayElements(aData, aDataArray, 0);
-	env->ReleaseDoubleArrayElements(bData, bDataArray, 0);
-	delete resultDataArray;
+	static thread_local MatrixXd BtB;
+	static thread_local MatrixXd outer;
+	static thread_local Eigen::LLT<MatrixXd> llt;
+
+	JAVA_ARRAYS(env, result, aData, bData);
+	OUTPUT_ARRAY(result);
+	INPUT_ARRAY(aData);
+	INPUT_ARRAY(bData);
+	if (!javaArrays.valid())
+		return;
+	RowMajorMap A(aDataArray.data, aRows, aCols);
+	RowMajorMap B(bDataArray.data, bRows, aCols);
+	RowMajorMap x(resultArray.data, aRows, aCols);
+
+	// x = A * (I - inverse(BtB + alpha^2 I) * BtB)
+	BtB.noalias() = B.transpose() * B;
+	outer = BtB;
+	outer.diagonal().array() += alpha * alpha;
+	llt.compute(outer);
+	llt.solveInPlace(BtB);
+	x = A;
+	x.noalias() -= A * BtB;
 }
@@ -0,0 +1,238 @@
+#include "NativeFusedKalmanFilter.h"
+#include "SequentialKalmanUpdate.h"
+
+NativeFusedKalmanFilterImpl::NativeFusedKalmanFilterImpl(int stateSize, int measurementSize) :
+    n(stateSize),
+    m(measurementSize),
+    x(Eigen::VectorXd::Zero(stateSize)),
+    P(Eigen::MatrixXd::Identity(stateSize, stateSize)),
+    xPredicted(stateSize),
+    nByN(stateSize, stateSize),
+    IKH(stateSize, stateSize),
+    PHt(stateSize, measurementSize),
+    S(measurementSize, measurementSize),
+    Kt(measurementSize, stateSize),
+    KR(stateSize, measurementSize),
+    r(measurementSize),
+    h(stateSize),
+    Ph(stateSize),
+    dx(stateSize),
+    llt(measurementSize),
+    ldlt(measurementSize)
+{
+}
+
+bool NativeFusedKalmanFilterImpl::setState(NativeMatrixImpl* x)
+{
+    if(x->rows() != n || x->cols() != 1)
+    {
+        return false;
+    }
+
+    this->x = x->matrix;
+    return true;
+}
+
+bool NativeFusedKalmanFilterImpl::getState(NativeMatrixImpl* x)
+{
+    x->resize(n, 1);
+    x->matrix = this->x;
+    return true;
+}
+
+bool NativeFusedKalmanFilterImpl::setErrorCovariance(NativeMatrixImpl* P)
+{
+    if(P->rows() != n || P->cols() != n)
+    {
+        return false;
+    }
+
+    this->P = P->matrix;
+    return true;
+}
+
+bool NativeFusedKalmanFilterImpl::getErrorCovariance(NativeMatrixImpl* P)
+{
+    P->resize(n, n);
+    P->matrix = this->P;
+    return true;
+}
+
+int NativeFusedKalmanFilterImpl::predict(NativeMatrixImpl* F, NativeMatrixImpl* Q)
+{
+    if(!checkPredictDimensions(F, Q))
+    {
+        return INCOMPATIBLE_DIMENSIONS;
+    }
+
+    xPredicted.noalias() = F->matrix * x;
+    x = xPredicted;
+    predictErrorCovarianceUnchecked(F, Q);
+    return SUCCESS;
+}
+
+int NativeFusedKalmanFilterImpl::predictErrorCovariance(NativeMatrixImpl* F, NativeMatrixImpl* Q)
+{
+    if(!checkPredictDimensions(F, Q))
+    {
+        return INCOMPATIBLE_DIMENSIONS;
+    }
+
+    predictErrorCovarianceUnchecked(F, Q);
+    return SUCCESS;
+}
+
+int NativeFusedKalmanFilterImpl::update(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* z)
+{
+    if(!checkUpdateDimensions(H, R, z))
+    {
+        return INCOMPATIBLE_DIMENSIONS;
+    }
+
+    r = z->matrix;
+    r.noalias() -= H->matrix * x;
+    return updateUnchecked(H, R);
+}
+
+int NativeFusedKalmanFilterImpl::updateWithResidual(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* residual)
+{
+    if(!checkUpdateDimensions(H, R, residual))
+    {
+        return INCOMPATIBLE_DIMENSIONS;
+    }
+
+    r = residual->matrix;
+    return updateUnchecked(H, R);
+}
+
+int NativeFusedKalmanFilterImpl::predictAndUpdate(NativeMatrixImpl* F, NativeMatrixImpl* Q, NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* z)
+{
+    if(!checkPredictDimensions(F, Q) || !checkUpdateDimensions(H, R, z))
+    {
+        return INCOMPATIBLE_DIMENSIONS;
+    }
+
+    predict(F, Q);
+    return update(H, R, z);
+}
+
+int NativeFusedKalmanFilterImpl::sequentialUpdate(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* z, double chiSquareThreshold)
+{
+    if(!checkSequentialUpdateDimensions(H, R, z))
+    {
+        return -1;
+    }
+
+    return sequentialKalmanUpdate(x, P, H->matrix, R->matrix, z->matrix, false, chiSquareThreshold, h, Ph, dx);
+}
+
+int NativeFusedKalmanFilterImpl::sequentialUpdateWithResidual(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* residual, double chiSquareThreshold)
+{
+    if(!checkSequentialUpdateDimensions(H, R, residual))
+    {
+        return -1;
+    }
+
+    return sequentialKalmanUpdate(x, P, H->matrix, R->matrix, residual->matrix, true, chiSquareThreshold, h, Ph, dx);
+}
+
+int NativeFusedKalmanFilterImpl::getStateSize()
+{
+    return n;
+}
+
+int NativeFusedKalmanFilterImpl::getMeasurementSize()
+{
+    return m;
+}
+
+bool NativeFusedKalmanFilterImpl::checkPredictDimensions(NativeMatrixImpl* F, NativeMatrixImpl* Q)
+{
+    return F->rows() == n && F->cols() == n && Q->rows() == n && (Q->cols() == n || Q->cols() == 1);
+}
+
+bool NativeFusedKalmanFilterImpl::checkUpdateDimensions(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* z)
+{
+    return H->rows() == m && H->cols() == n && R->rows() == m && (R->cols() == m || R->cols() == 1) && z->rows() == m && z->cols() == 1;
+}
+
+bool NativeFusedKalmanFilterImpl::checkSequentialUpdateDimensions(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* z)
+{
+    int rows = H->rows();
+    return H->cols() == n && R->rows() == rows && R->cols() == 1 && z->rows() == rows && z->cols() == 1;
+}
+
+void NativeFusedKalmanFilterImpl::predictErrorCovarianceUnchecked(NativeMatrixImpl* F, NativeMatrixImpl* Q)
+{
+    nByN.noalias() = F->matrix * P;
+    P.noalias() = nByN * F->matrix.transpose();
+
+    if(Q->cols() == 1 && n != 1)
+    {
+        P.diagonal() += Q->matrix.col(0);
+    }
+    else
+    {
+        P += Q->matrix;
+    }
+}
+
+int NativeFusedKalmanFilterImpl::updateUnchecked(NativeMatrixImpl* H, NativeMatrixImpl* R)
+{
+    bool diagonalR = R->cols() == 1 && m != 1;
+
+    // S = H P H' + R
+    PHt.noalias() = P * H->matrix.transpose();
+    S.noalias() = H->matrix * PHt;
+    if(diagonalR)
+    {
+        S.diagonal() += R->matrix.col(0);
+    }
+    else
+    {
+        S += R->matrix;
+    }
+
+    // K' = S^-1 (P H')', S being symmetric
+    Kt = PHt.transpose();
+    llt.compute(S);
+    if(llt.info() == Eigen::Success)
+    {
+        llt.solveInPlace(Kt);
+    }
+    else
+    {
+        ldlt.compute(S);
+        if(ldlt.info() != Eigen::Success || ldlt.vectorD().cwiseAbs().minCoeff() <= std::numeric_limits<double>::epsilon() * ldlt.vectorD().cwiseAbs().maxCoeff())
+        {
+            return SINGULAR_INNOVATION_COVARIANCE;
+        }
+        ldlt.solveInPlace(Kt);
+    }
+
+    // x = x + K r
+    x.noalias() += Kt.transpose() * r;
+
+    // Joseph form: P = (I - K H) P (I - K H)' + K R K'
+    IKH.setIdentity();
+    IKH.noalias() -= Kt.transpose() * H->matrix;
+    nByN.noalias() = IKH * P;
+    P.noalias() = nByN * IKH.transpose();
+
+    if(diagonalR)
+    {
+        KR = Kt.transpose() * R->matrix.col(0).asDiagonal();
+    }
+    else
+    {
+        KR.noalias() = Kt.transpose() * R->matrix;
+    }
+    P.noalias() += KR * Kt;
+
+    // Remove the asymmetry introduced by round-off errors.
+    nByN = P.transpose();
+    P += nByN;
+    P *= 0.5;
+
+    return SUCCESS;
+}
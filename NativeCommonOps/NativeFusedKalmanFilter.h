@@ -0,0 +1,106 @@
+#ifndef NATIVEFUSEDKALMANFILTER_H
+#define NATIVEFUSEDKALMANFILTER_H
+
+#include "NativeMatrix.h"
+
+/**
+ * Kalman filter owning its state, error covariance and all the workspaces needed for a step.
+ *
+ * The sizes are fixed at construction, such that predict and update do not allocate memory. The innovation covariance
+ * is factorized with LLT, falling back to LDLT when it is not numerically positive definite, and the error covariance
+ * is updated with the Joseph form to keep it symmetric positive semi-definite.
+ *
+ * Q and R can either be full square matrices or column vectors holding their diagonal.
+ *
+ * The methods return one of the status codes below, mirrored in NativeFusedKalmanFilter.java.
+ */
+class NativeFusedKalmanFilterImpl
+{
+public:
+    static const int SUCCESS = 0;
+    static const int INCOMPATIBLE_DIMENSIONS = 1;
+    static const int SINGULAR_INNOVATION_COVARIANCE = 2;
+
+    NativeFusedKalmanFilterImpl(int stateSize, int measurementSize);
+
+    bool setState(NativeMatrixImpl* x);
+
+    bool getState(NativeMatrixImpl* x);
+
+    bool setErrorCovariance(NativeMatrixImpl* P);
+
+    bool getErrorCovariance(NativeMatrixImpl* P);
+
+    /**
+     * x = F * x, P = F * P * F' + Q
+     */
+    int predict(NativeMatrixImpl* F, NativeMatrixImpl* Q);
+
+    /**
+     * P = F * P * F' + Q, the state being predicted by the caller, e.g. for an extended Kalman filter.
+     */
+    int predictErrorCovariance(NativeMatrixImpl* F, NativeMatrixImpl* Q);
+
+    /**
+     * Update with the measurement z, the residual being z - H * x.
+     */
+    int update(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* z);
+
+    /**
+     * Update with a residual computed by the caller, e.g. z - h(x) for an extended Kalman filter.
+     */
+    int updateWithResidual(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* residual);
+
+    /**
+     * predict(F, Q) followed by update(H, R, z).
+     */
+    int predictAndUpdate(NativeMatrixImpl* F, NativeMatrixImpl* Q, NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* z);
+
+    /**
+     * Update processing the rows of H one at a time, R being the diagonal of the measurement noise covariance.
+     * The number of rows of H is not limited to the measurement size. Rows whose normalized innovation squared exceeds
+     * chiSquareThreshold are skipped, the gate is disabled when the threshold is not positive.
+     * Returns the number of rows skipped, or -1 if the dimensions are incompatible.
+     */
+    int sequentialUpdate(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* z, double chiSquareThreshold);
+
+    /**
+     * Same as sequentialUpdate with a residual computed by the caller before the update.
+     */
+    int sequentialUpdateWithResidual(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* residual, double chiSquareThreshold);
+
+    int getStateSize();
+
+    int getMeasurementSize();
+
+private:
+    bool checkPredictDimensions(NativeMatrixImpl* F, NativeMatrixImpl* Q);
+    bool checkUpdateDimensions(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* z);
+    bool checkSequentialUpdateDimensions(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* z);
+    void predictErrorCovarianceUnchecked(NativeMatrixImpl* F, NativeMatrixImpl* Q);
+    int updateUnchecked(NativeMatrixImpl* H, NativeMatrixImpl* R);
+
+    int n;
+    int m;
+
+    Eigen::VectorXd x;
+    Eigen::MatrixXd P;
+
+    Eigen::VectorXd xPredicted;
+    Eigen::MatrixXd nByN;
+    Eigen::MatrixXd IKH;
+    Eigen::MatrixXd PHt;
+    Eigen::MatrixXd S;
+    Eigen::MatrixXd Kt;
+    Eigen::MatrixXd KR;
+    Eigen::VectorXd r;
+
+    Eigen::VectorXd h;
+    Eigen::VectorXd Ph;
+    Eigen::VectorXd dx;
+
+    Eigen::LLT<Eigen::MatrixXd> llt;
+    Eigen::LDLT<Eigen::MatrixXd> ldlt;
+};
+
+#endif // NATIVEFUSEDKALMANFILTER_H
@@ -0,0 +1,134 @@
+#include "NativeHierarchicalNullspaceProjector.h"
+
+#include <algorithm>
+
+NativeHierarchicalNullspaceProjectorImpl::NativeHierarchicalNullspaceProjectorImpl(int degreesOfFreedom, int maximumNumberOfTasks) :
+    degreesOfFreedom_(degreesOfFreedom),
+    maximumNumberOfTasks_(maximumNumberOfTasks),
+    computedTasks(0),
+    projectors(maximumNumberOfTasks + 1, Eigen::MatrixXd(degreesOfFreedom, degreesOfFreedom)),
+    Jp(degreesOfFreedom, degreesOfFreedom),
+    JpJpt(degreesOfFreedom, degreesOfFreedom),
+    W(degreesOfFreedom, degreesOfFreedom)
+{
+    jacobians.reserve(maximumNumberOfTasks);
+    dampings.reserve(maximumNumberOfTasks);
+    projectors[0].setIdentity();
+}
+
+bool NativeHierarchicalNullspaceProjectorImpl::addTask(NativeMatrixImpl* J, double alpha)
+{
+    if((int) jacobians.size() >= maximumNumberOfTasks_ || J->cols() != degreesOfFreedom_)
+    {
+        return false;
+    }
+
+    jacobians.push_back(J);
+    dampings.push_back(alpha);
+    return true;
+}
+
+void NativeHierarchicalNullspaceProjectorImpl::clear()
+{
+    jacobians.clear();
+    dampings.clear();
+    computedTasks = 0;
+}
+
+int NativeHierarchicalNullspaceProjectorImpl::getNumberOfTasks()
+{
+    return (int) jacobians.size();
+}
+
+bool NativeHierarchicalNullspaceProjectorImpl::compute()
+{
+    int numberOfTasks = (int) jacobians.size();
+    int maxRows = 0;
+
+    for(int i = 0; i < numberOfTasks; i++)
+    {
+        if(jacobians[i]->cols() != degreesOfFreedom_)
+        {
+            computedTasks = 0;
+            return false;
+        }
+        maxRows = std::max(maxRows, jacobians[i]->rows());
+    }
+
+    reserveRows(maxRows);
+
+    for(int i = 0; i < numberOfTasks; i++)
+    {
+        const NativeMatrixView& J = jacobians[i]->matrix;
+        const Eigen::MatrixXd& N = projectors[i];
+        Eigen::MatrixXd& Nnext = projectors[i + 1];
+        int rows = J.rows();
+
+        Nnext = N;
+        if(rows == 0)
+        {
+            continue;
+        }
+
+        auto jp = Jp.topRows(rows);
+        jp.noalias() = J * N;
+
+        auto jpjpt = JpJpt.topLeftCorner(rows, rows);
+        jpjpt.noalias() = jp * jp.transpose();
+        jpjpt.diagonal().array() += dampings[i] * dampings[i];
+
+        // In place decomposition, the workspaces are not reallocated when the task size changes.
+        Eigen::LLT<Eigen::Ref<Eigen::MatrixXd>> llt(jpjpt);
+        auto w = W.topRows(rows);
+        w = jp;
+        llt.solveInPlace(w);
+
+        Nnext.noalias() -= jp.transpose() * w;
+    }
+
+    computedTasks = numberOfTasks;
+    return true;
+}
+
+bool NativeHierarchicalNullspaceProjectorImpl::project(int level, NativeMatrixImpl* A, NativeMatrixImpl* x)
+{
+    if(level < 0 || level > computedTasks || A->cols() != degreesOfFreedom_)
+    {
+        return false;
+    }
+
+    if(A == x)
+    {
+        AN.noalias() = A->matrix * projectors[level];
+        x->matrix = AN;
+    }
+    else
+    {
+        x->resize(A->rows(), degreesOfFreedom_);
+        x->matrix.noalias() = A->matrix * projectors[level];
+    }
+
+    return true;
+}
+
+bool NativeHierarchicalNullspaceProjectorImpl::getProjector(int level, NativeMatrixImpl* N)
+{
+    if(level < 0 || level > computedTasks)
+    {
+        return false;
+    }
+
+    N->resize(degreesOfFreedom_, degreesOfFreedom_);
+    N->matrix = projectors[level];
+    return true;
+}
+
+void NativeHierarchicalNullspaceProjectorImpl::reserveRows(int rows)
+{
+    if(rows > Jp.rows())
+    {
+        Jp.resize(rows, degreesOfFreedom_);
+        JpJpt.resize(rows, rows);
+        W.resize(rows, degreesOfFreedom_);
+    }
+}
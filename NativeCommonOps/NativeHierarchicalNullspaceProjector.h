@@ -0,0 +1,66 @@
+#ifndef NATIVEHIERARCHICALNULLSPACEPROJECTOR_H
+#define NATIVEHIERARCHICALNULLSPACEPROJECTOR_H
+
+#include <vector>
+#include "NativeMatrix.h"
+
+/**
+ * Successive nullspace projectors of an ordered list of tasks.
+ *
+ * The tasks are registered with addTask, the Jacobians being referenced and read when compute is called, such that a
+ * hierarchy is set up once and recomputed every tick after updating the Jacobians in place. compute builds the
+ * projectors recursively: N_0 = I and, for each task i,
+ *   Jp_i = J_i * N_i
+ *   N_i+1 = N_i - Jp_i' * inverse(Jp_i * Jp_i' + alpha_i^2 I) * Jp_i
+ * such that N_k projects onto the combined nullspace of the tasks 0 to k-1 and A * N_k is the projection of A for a
+ * task of priority k.
+ *
+ * The projectors are allocated at construction for the maximum number of tasks. The workspaces are sized for tasks
+ * having up to degreesOfFreedom rows and only grow if a larger task is added.
+ */
+class NativeHierarchicalNullspaceProjectorImpl
+{
+public:
+    NativeHierarchicalNullspaceProjectorImpl(int degreesOfFreedom, int maximumNumberOfTasks);
+
+    /**
+     * Appends a task of lower priority than the ones already added. Returns false if J does not have degreesOfFreedom
+     * columns or if the maximum number of tasks is reached.
+     */
+    bool addTask(NativeMatrixImpl* J, double alpha);
+
+    void clear();
+
+    int getNumberOfTasks();
+
+    /**
+     * Computes the projectors of all the tasks from the current value of their Jacobian. Returns false if a Jacobian no
+     * longer has degreesOfFreedom columns.
+     */
+    bool compute();
+
+    /**
+     * x = A * N_level, level being in [0, number of computed tasks].
+     */
+    bool project(int level, NativeMatrixImpl* A, NativeMatrixImpl* x);
+
+    bool getProjector(int level, NativeMatrixImpl* N);
+
+private:
+    void reserveRows(int rows);
+
+    const int degreesOfFreedom_;
+    const int maximumNumberOfTasks_;
+    int computedTasks;
+
+    std::vector<NativeMatrixImpl*> jacobians;
+    std::vector<double> dampings;
+    std::vector<Eigen::MatrixXd> projectors;
+
+    Eigen::MatrixXd Jp;
+    Eigen::MatrixXd JpJpt;
+    Eigen::MatrixXd W;
+    Eigen::MatrixXd AN;
+};
+
+#endif // NATIVEHIERARCHICALNULLSPACEPROJECTOR_H
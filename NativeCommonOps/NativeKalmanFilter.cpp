@@ -1,4 +1,5 @@
 #include "NativeKalmanFilter.h"
+#include "SequentialKalmanUpdate.h"
 #include <iostream>
 
 
@@ -66,3 +67,69 @@ bool NativeKalmanFilterImpl::updateErrorCovariance(NativeMatrixImpl *nextError,
 
     return true;
 }
+
+int sequentialKalmanUpdate(Eigen::Ref<Eigen::MatrixXd> x, Eigen::Ref<Eigen::MatrixXd> P, const Eigen::Ref<const Eigen::MatrixXd>& H,
+                           const Eigen::Ref<const Eigen::MatrixXd>& R, const Eigen::Ref<const Eigen::MatrixXd>& measurement, bool isResidual, double chiSquareThreshold,
+                           Eigen::VectorXd& h, Eigen::VectorXd& PHt, Eigen::VectorXd& dx)
+{
+    int n = P.rows();
+    h.resize(n);
+    PHt.resize(n);
+    if (isResidual)
+    {
+        dx.setZero(n);
+    }
+
+    int rejected = 0;
+
+    for (int i = 0; i < H.rows(); i++)
+    {
+        h = H.row(i).transpose();
+        PHt.noalias() = P.selfadjointView<Eigen::Lower>() * h;
+
+        double s = h.dot(PHt) + R(i, 0);
+        double r = measurement(i, 0) - (isResidual ? h.dot(dx) : h.dot(x.col(0)));
+
+        if (!(s > 0.0) || (chiSquareThreshold > 0.0 && r * r > chiSquareThreshold * s))
+        {
+            rejected++;
+            continue;
+        }
+
+        // k = P h' / s, x = x + k r, P = P - k h P
+        double scale = r / s;
+        x.col(0) += scale * PHt;
+        if (isResidual)
+        {
+            dx += scale * PHt;
+        }
+        P.selfadjointView<Eigen::Lower>().rankUpdate(PHt, -1.0 / s);
+    }
+
+    for (int col = 1; col < n; col++)
+    {
+        for (int row = 0; row < col; row++)
+        {
+            P(row, col) = P(col, row);
+        }
+    }
+
+    return rejected;
+}
+
+int NativeKalmanFilterImpl::sequentialUpdate(NativeMatrixImpl *x, NativeMatrixImpl *P, NativeMatrixImpl *H, NativeMatrixImpl *R, NativeMatrixImpl *r, double chiSquareThreshold)
+{
+    int n = x->rows();
+    int m = H->rows();
+
+    if (x->cols() != 1 || P->rows() != n || P->cols() != n || H->cols() != n || R->rows() != m || R->cols() != 1 || r->rows() != m || r->cols() != 1)
+    {
+        return -1;
+    }
+
+    static thread_local Eigen::VectorXd h;
+    static thread_local Eigen::VectorXd PHt;
+    static thread_local Eigen::VectorXd dx;
+
+    return sequentialKalmanUpdate(x->matrix, P->matrix, H->matrix, R->matrix, r->matrix, true, chiSquareThreshold, h, PHt, dx);
+}
@@ -20,6 +20,12 @@ static bool updateState(NativeMatrixImpl *nextState, NativeMatrixImpl *x, Native
 
 static bool updateErrorCovariance(NativeMatrixImpl *nextError, NativeMatrixImpl *K, NativeMatrixImpl *H, NativeMatrixImpl *P);
 
+/**
+ * Updates x and P in place processing the rows of H one at a time, R being the diagonal of the measurement noise covariance.
+ * Returns the number of rows rejected by the chi-square gate, or -1 if the dimensions are incompatible.
+ */
+static int sequentialUpdate(NativeMatrixImpl *x, NativeMatrixImpl *P, NativeMatrixImpl *H, NativeMatrixImpl *R, NativeMatrixImpl *r, double chiSquareThreshold);
+
 };
 
 #endif // NATIVEKALMANFILTER_H
@@ -0,0 +1,442 @@
+#include "NativeKalmanFilterBank.h"
+
+#include <algorithm>
+
+NativeKalmanFilterBankImpl::NativeKalmanFilterBankImpl(int numberOfFilters, int stateSize, int measurementSize) :
+    N(numberOfFilters),
+    n(stateSize),
+    m(measurementSize),
+    X(Eigen::MatrixXd::Zero(numberOfFilters, stateSize)),
+    P(Eigen::MatrixXd::Zero(numberOfFilters, stateSize * stateSize)),
+    Zt(numberOfFilters, measurementSize),
+    Xactive(numberOfFilters, stateSize),
+    Pactive(numberOfFilters, stateSize * stateSize),
+    Zactive(numberOfFilters, measurementSize)
+{
+    active.reserve(N);
+    for (int i = 0; i < n; i++)
+    {
+        P.col(i + i * n).setOnes();
+    }
+    allocateWorkspaces();
+}
+
+bool NativeKalmanFilterBankImpl::setState(int filter, NativeMatrixImpl* x)
+{
+    if (filter < 0 || filter >= N || x->rows() != n || x->cols() != 1)
+    {
+        return false;
+    }
+
+    X.row(filter) = x->matrix.transpose();
+    return true;
+}
+
+bool NativeKalmanFilterBankImpl::getState(int filter, NativeMatrixImpl* x)
+{
+    if (filter < 0 || filter >= N)
+    {
+        return false;
+    }
+
+    x->resize(n, 1);
+    x->matrix = X.row(filter).transpose();
+    return true;
+}
+
+bool NativeKalmanFilterBankImpl::setErrorCovariance(int filter, NativeMatrixImpl* P)
+{
+    if (filter < 0 || filter >= N || P->rows() != n || P->cols() != n)
+    {
+        return false;
+    }
+
+    this->P.row(filter) = Eigen::Map<const Eigen::RowVectorXd>(P->matrix.data(), n * n);
+    return true;
+}
+
+bool NativeKalmanFilterBankImpl::getErrorCovariance(int filter, NativeMatrixImpl* P)
+{
+    if (filter < 0 || filter >= N)
+    {
+        return false;
+    }
+
+    P->resize(n, n);
+    Eigen::Map<Eigen::RowVectorXd>(P->matrix.data(), n * n) = this->P.row(filter);
+    return true;
+}
+
+bool NativeKalmanFilterBankImpl::setStates(NativeMatrixImpl* X)
+{
+    if (X->rows() != n || X->cols() != N)
+    {
+        return false;
+    }
+
+    this->X = X->matrix.transpose();
+    return true;
+}
+
+void NativeKalmanFilterBankImpl::getStates(NativeMatrixImpl* X)
+{
+    X->resize(n, N);
+    X->matrix = this->X.transpose();
+}
+
+bool NativeKalmanFilterBankImpl::predict(NativeMatrixImpl* F, NativeMatrixImpl* Q, NativeMatrixImpl* mask)
+{
+    if (F->rows() != n || F->cols() != n || Q->rows() != n || (Q->cols() != n && Q->cols() != 1) || !checkMask(mask))
+    {
+        return false;
+    }
+
+    if (mask == nullptr)
+    {
+        runChunks(N, [&](int start, int rows, Workspace& w)
+        {
+            predictChunk(X.middleRows(start, rows), P.middleRows(start, rows), F->matrix, Q->matrix, w);
+            return 0;
+        });
+    }
+    else
+    {
+        int count = gather(mask);
+        runChunks(count, [&](int start, int rows, Workspace& w)
+        {
+            predictChunk(Xactive.middleRows(start, rows), Pactive.middleRows(start, rows), F->matrix, Q->matrix, w);
+            return 0;
+        });
+        scatter(count);
+    }
+
+    return true;
+}
+
+int NativeKalmanFilterBankImpl::update(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* Z, NativeMatrixImpl* mask)
+{
+    if (H->rows() != m || H->cols() != n || R->rows() != m || (R->cols() != m && R->cols() != 1) || Z->rows() != m || Z->cols() != N
+            || !checkMask(mask))
+    {
+        return -1;
+    }
+
+    int skipped;
+
+    if (mask == nullptr)
+    {
+        Zt = Z->matrix.transpose();
+        skipped = runChunks(N, [&](int start, int rows, Workspace& w)
+        {
+            return updateChunk(X.middleRows(start, rows), P.middleRows(start, rows), Zt.middleRows(start, rows), H->matrix, R->matrix, w);
+        });
+    }
+    else
+    {
+        int count = gather(mask);
+        for (int i = 0; i < count; i++)
+        {
+            Zactive.row(i) = Z->matrix.col(active[i]).transpose();
+        }
+        skipped = runChunks(count, [&](int start, int rows, Workspace& w)
+        {
+            return updateChunk(Xactive.middleRows(start, rows), Pactive.middleRows(start, rows), Zactive.middleRows(start, rows), H->matrix,
+                               R->matrix, w);
+        });
+        scatter(count);
+    }
+
+    return skipped;
+}
+
+void NativeKalmanFilterBankImpl::setNumberOfThreads(int numberOfThreads)
+{
+    pool.setNumberOfThreads(numberOfThreads);
+    allocateWorkspaces();
+}
+
+int NativeKalmanFilterBankImpl::getNumberOfThreads()
+{
+    return pool.getNumberOfThreads();
+}
+
+int NativeKalmanFilterBankImpl::getNumberOfFilters()
+{
+    return N;
+}
+
+int NativeKalmanFilterBankImpl::getStateSize()
+{
+    return n;
+}
+
+int NativeKalmanFilterBankImpl::getMeasurementSize()
+{
+    return m;
+}
+
+bool NativeKalmanFilterBankImpl::checkMask(NativeMatrixImpl* mask)
+{
+    return mask == nullptr || (mask->rows() == N && mask->cols() == 1);
+}
+
+int NativeKalmanFilterBankImpl::gather(NativeMatrixImpl* mask)
+{
+    active.clear();
+    for (int i = 0; i < N; i++)
+    {
+        if (mask->matrix(i, 0) != 0.0)
+        {
+            active.push_back(i);
+        }
+    }
+
+    int count = (int) active.size();
+    for (int i = 0; i < count; i++)
+    {
+        Xactive.row(i) = X.row(active[i]);
+        Pactive.row(i) = P.row(active[i]);
+    }
+
+    return count;
+}
+
+void NativeKalmanFilterBankImpl::scatter(int count)
+{
+    for (int i = 0; i < count; i++)
+    {
+        X.row(active[i]) = Xactive.row(i);
+        P.row(active[i]) = Pactive.row(i);
+    }
+}
+
+template<typename Kernel> int NativeKalmanFilterBankImpl::runChunks(int count, const Kernel& kernel)
+{
+    if (count == 0)
+    {
+        return 0;
+    }
+
+    int tasks = std::min(pool.getNumberOfThreads(), std::max(1, count / MINIMUM_FILTERS_PER_THREAD));
+    int rowsPerTask = (count + tasks - 1) / tasks;
+
+    pool.run(tasks, [&](int task)
+    {
+        int start = task * rowsPerTask;
+        int rows = std::min(rowsPerTask, count - start);
+        results[task] = rows > 0 ? kernel(start, rows, workspaces[task]) : 0;
+    });
+
+    int sum = 0;
+    for (int task = 0; task < tasks; task++)
+    {
+        sum += results[task];
+    }
+    return sum;
+}
+
+void NativeKalmanFilterBankImpl::allocateWorkspaces()
+{
+    // Upper bound of the number of rows given to a task by runChunks.
+    int threads = pool.getNumberOfThreads();
+    int capacity = N;
+    if (threads > 1)
+    {
+        capacity = std::min(N, std::max((N + threads - 1) / threads, 2 * MINIMUM_FILTERS_PER_THREAD));
+    }
+
+    workspaces.resize(threads);
+    results.resize(threads);
+    for (Workspace& w : workspaces)
+    {
+        w.xPredicted.resize(capacity, n);
+        w.FP.resize(capacity, n * n);
+        w.PHt.resize(capacity, n * m);
+        w.S.resize(capacity, m * m);
+        w.K.resize(capacity, n * m);
+        w.y.resize(capacity, m);
+        w.d.resize(capacity);
+        w.valid.resize(capacity);
+    }
+}
+
+void NativeKalmanFilterBankImpl::predictChunk(Eigen::Ref<Eigen::MatrixXd> X, Eigen::Ref<Eigen::MatrixXd> P, const NativeMatrixView& F,
+                                              const NativeMatrixView& Q, Workspace& w)
+{
+    int rows = X.rows();
+
+    // One row per filter, so x = F * x is X = X * F'.
+    auto xPredicted = w.xPredicted.topRows(rows);
+    xPredicted.noalias() = X * F.transpose();
+    X = xPredicted;
+
+    // FP(i, l) = sum_k F(i, k) * P(k, l), the column block l of the storage holding the column l of P.
+    auto FP = w.FP.topRows(rows);
+    for (int l = 0; l < n; l++)
+    {
+        FP.middleCols(l * n, n).noalias() = P.middleCols(l * n, n) * F.transpose();
+    }
+
+    // P(i, j) = sum_l FP(i, l) * F(j, l) + Q(i, j)
+    for (int j = 0; j < n; j++)
+    {
+        auto Pj = P.middleCols(j * n, n);
+        Pj.setZero();
+        for (int l = 0; l < n; l++)
+        {
+            Pj += F(j, l) * FP.middleCols(l * n, n);
+        }
+    }
+
+    if (Q.cols() == 1)
+    {
+        for (int i = 0; i < n; i++)
+        {
+            P.col(i + i * n).array() += Q(i, 0);
+        }
+    }
+    else
+    {
+        for (int j = 0; j < n; j++)
+        {
+            for (int i = 0; i < n; i++)
+            {
+                P.col(i + j * n).array() += Q(i, j);
+            }
+        }
+    }
+}
+
+int NativeKalmanFilterBankImpl::updateChunk(Eigen::Ref<Eigen::MatrixXd> X, Eigen::Ref<Eigen::MatrixXd> P, const Eigen::Ref<const Eigen::MatrixXd>& Z,
+                                            const NativeMatrixView& H, const NativeMatrixView& R, Workspace& w)
+{
+    int rows = X.rows();
+    auto PHt = w.PHt.topRows(rows);
+    auto S = w.S.topRows(rows);
+    auto K = w.K.topRows(rows);
+    auto y = w.y.topRows(rows);
+    auto d = w.d.head(rows);
+    auto valid = w.valid.head(rows);
+
+    // PHt(i, k) = sum_j P(i, j) * H(k, j), stored at column i + k * n.
+    for (int k = 0; k < m; k++)
+    {
+        auto PHtk = PHt.middleCols(k * n, n);
+        PHtk.setZero();
+        for (int j = 0; j < n; j++)
+        {
+            PHtk += H(k, j) * P.middleCols(j * n, n);
+        }
+    }
+
+    // S(k, l) = sum_i H(k, i) * PHt(i, l) + R(k, l), stored at column k + l * m.
+    for (int l = 0; l < m; l++)
+    {
+        S.middleCols(l * m, m).noalias() = PHt.middleCols(l * n, n) * H.transpose();
+    }
+
+    if (R.cols() == 1)
+    {
+        for (int k = 0; k < m; k++)
+        {
+            S.col(k + k * m).array() += R(k, 0);
+        }
+    }
+    else
+    {
+        for (int l = 0; l < m; l++)
+        {
+            for (int k = 0; k < m; k++)
+            {
+                S.col(k + l * m).array() += R(k, l);
+            }
+        }
+    }
+
+    // y = z - H * x
+    y = Z;
+    y.noalias() -= X * H.transpose();
+
+    // Cholesky decomposition S = L * L' in place in the lower triangle of S. The pivots of the filters whose innovation
+    // covariance is not positive definite are replaced by one to keep the arithmetic finite, their gain is zeroed below.
+    valid.setConstant(true);
+    for (int j = 0; j < m; j++)
+    {
+        d = S.col(j + j * m).array();
+        for (int k = 0; k < j; k++)
+        {
+            d -= S.col(j + k * m).array().square();
+        }
+        valid = valid && (d > 0.0);
+        S.col(j + j * m).array() = (d > 0.0).select(d.sqrt(), 1.0);
+
+        for (int i = j + 1; i < m; i++)
+        {
+            auto Lij = S.col(i + j * m).array();
+            for (int k = 0; k < j; k++)
+            {
+                Lij -= S.col(i + k * m).array() * S.col(j + k * m).array();
+            }
+            Lij /= S.col(j + j * m).array();
+        }
+    }
+
+    // K = PHt * inverse(S), solving S * K(i, :)' = PHt(i, :)' for each state i. K(i, l) is stored at column i + l * n.
+    for (int i = 0; i < n; i++)
+    {
+        for (int l = 0; l < m; l++)
+        {
+            auto Kil = K.col(i + l * n).array();
+            Kil = PHt.col(i + l * n).array();
+            for (int k = 0; k < l; k++)
+            {
+                Kil -= S.col(l + k * m).array() * K.col(i + k * n).array();
+            }
+            Kil /= S.col(l + l * m).array();
+        }
+
+        for (int l = m - 1; l >= 0; l--)
+        {
+            auto Kil = K.col(i + l * n).array();
+            for (int k = l + 1; k < m; k++)
+            {
+                Kil -= S.col(k + l * m).array() * K.col(i + k * n).array();
+            }
+            Kil /= S.col(l + l * m).array();
+            Kil = valid.select(Kil, 0.0);
+        }
+    }
+
+    // x = x + K * y, P = P - K * H * P = P - K * PHt'
+    for (int l = 0; l < m; l++)
+    {
+        auto yl = y.col(l).array();
+        for (int i = 0; i < n; i++)
+        {
+            X.col(i).array() += K.col(i + l * n).array() * yl;
+        }
+    }
+
+    for (int j = 0; j < n; j++)
+    {
+        for (int i = 0; i <= j; i++)
+        {
+            auto Pij = P.col(i + j * n).array();
+            for (int l = 0; l < m; l++)
+            {
+                Pij -= K.col(i + l * n).array() * PHt.col(j + l * n).array();
+            }
+        }
+    }
+
+    // Only the upper triangle was updated, the error covariance is kept exactly symmetric.
+    for (int j = 0; j < n; j++)
+    {
+        for (int i = j + 1; i < n; i++)
+        {
+            P.col(i + j * n) = P.col(j + i * n);
+        }
+    }
+
+    return rows - (int) valid.count();
+}
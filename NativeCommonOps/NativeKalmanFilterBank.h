@@ -0,0 +1,117 @@
+#ifndef NATIVEKALMANFILTERBANK_H
+#define NATIVEKALMANFILTERBANK_H
+
+#include <vector>
+#include "NativeMatrix.h"
+#include "WorkerPool.h"
+
+/**
+ * Bank of same-sized Kalman filters sharing their model F, Q, H and R, each filter having its own state, error
+ * covariance and measurement.
+ *
+ * The filters are stored in a structure-of-arrays layout: the element (i, j) of the error covariance of all the filters
+ * is a contiguous column of the storage, such that every operation of a step is a loop over the filters that Eigen
+ * vectorizes. The innovation covariance of each filter is factorized with a Cholesky decomposition written element by
+ * element, the filters whose innovation covariance is not positive definite are left unchanged.
+ *
+ * Q and R can either be full square matrices or column vectors holding their diagonal. The states and measurements of
+ * all the filters are exchanged as matrices having one column per filter. The optional mask is a column vector with one
+ * element per filter, only the filters with a non-zero element are processed. It can be null to process all of them.
+ *
+ * Large banks are split in chunks processed in parallel by a worker pool, see setNumberOfThreads.
+ */
+class NativeKalmanFilterBankImpl
+{
+public:
+    /**
+     * Minimum number of filters processed by each thread, smaller banks are processed on the calling thread.
+     */
+    static const int MINIMUM_FILTERS_PER_THREAD = 32;
+
+    NativeKalmanFilterBankImpl(int numberOfFilters, int stateSize, int measurementSize);
+
+    bool setState(int filter, NativeMatrixImpl* x);
+
+    bool getState(int filter, NativeMatrixImpl* x);
+
+    bool setErrorCovariance(int filter, NativeMatrixImpl* P);
+
+    bool getErrorCovariance(int filter, NativeMatrixImpl* P);
+
+    /**
+     * Sets the states of all the filters from a stateSize-by-numberOfFilters matrix.
+     */
+    bool setStates(NativeMatrixImpl* X);
+
+    /**
+     * Packs the states of all the filters in a stateSize-by-numberOfFilters matrix.
+     */
+    void getStates(NativeMatrixImpl* X);
+
+    /**
+     * x = F * x, P = F * P * F' + Q for every filter selected by the mask.
+     */
+    bool predict(NativeMatrixImpl* F, NativeMatrixImpl* Q, NativeMatrixImpl* mask);
+
+    /**
+     * Update of every filter selected by the mask, Z being a measurementSize-by-numberOfFilters matrix.
+     * Returns the number of filters left unchanged because their innovation covariance is not positive definite, or -1
+     * if the dimensions are incompatible.
+     */
+    int update(NativeMatrixImpl* H, NativeMatrixImpl* R, NativeMatrixImpl* Z, NativeMatrixImpl* mask);
+
+    void setNumberOfThreads(int numberOfThreads);
+
+    int getNumberOfThreads();
+
+    int getNumberOfFilters();
+
+    int getStateSize();
+
+    int getMeasurementSize();
+
+private:
+    struct Workspace
+    {
+        Eigen::MatrixXd xPredicted;
+        Eigen::MatrixXd FP;
+        Eigen::MatrixXd PHt;
+        Eigen::MatrixXd S;
+        Eigen::MatrixXd K;
+        Eigen::MatrixXd y;
+        Eigen::ArrayXd d;
+        Eigen::Array<bool, Eigen::Dynamic, 1> valid;
+    };
+
+    bool checkMask(NativeMatrixImpl* mask);
+    int gather(NativeMatrixImpl* mask);
+    void scatter(int count);
+    template<typename Kernel> int runChunks(int count, const Kernel& kernel);
+    void allocateWorkspaces();
+
+    void predictChunk(Eigen::Ref<Eigen::MatrixXd> X, Eigen::Ref<Eigen::MatrixXd> P, const NativeMatrixView& F,
+                      const NativeMatrixView& Q, Workspace& w);
+    int updateChunk(Eigen::Ref<Eigen::MatrixXd> X, Eigen::Ref<Eigen::MatrixXd> P, const Eigen::Ref<const Eigen::MatrixXd>& Z,
+                    const NativeMatrixView& H, const NativeMatrixView& R, Workspace& w);
+
+    const int N;
+    const int n;
+    const int m;
+
+    // One row per filter, the element (i, j) of the covariance of filter f is at P(f, i + j * n).
+    Eigen::MatrixXd X;
+    Eigen::MatrixXd P;
+    Eigen::MatrixXd Zt;
+
+    // Copies of the filters selected by a mask, packed in the first rows.
+    std::vector<int> active;
+    Eigen::MatrixXd Xactive;
+    Eigen::MatrixXd Pactive;
+    Eigen::MatrixXd Zactive;
+
+    WorkerPool pool;
+    std::vector<Workspace> workspaces;
+    std::vector<int> results;
+};
+
+#endif // NATIVEKALMANFILTERBANK_H
@@ -0,0 +1,6 @@
+#include "NativeLibraryVersion.h"
+
+int NativeLibraryVersion::getLibraryVersion()
+{
+    return SOURCE_VERSION;
+}
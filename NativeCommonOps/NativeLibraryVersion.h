@@ -0,0 +1,24 @@
+#ifndef NATIVELIBRARYVERSION_H
+#define NATIVELIBRARYVERSION_H
+
+/**
+ * Version of the native sources, compiled into the library and exported to Java by SWIG.
+ *
+ * SOURCE_VERSION has to be incremented with every change of the native code. NativeCommonOpsLibrary compares it with
+ * the version of the loaded library and warns when the library has not been rebuilt after the change.
+ */
+class NativeLibraryVersion
+{
+public:
+    enum
+    {
+        SOURCE_VERSION = 1
+    };
+
+    /**
+     * Value of SOURCE_VERSION when the library was built.
+     */
+    static int getLibraryVersion();
+};
+
+#endif // NATIVELIBRARYVERSION_H
@@ -0,0 +1,289 @@
+#include "NativeLinearSolver.h"
+
+#include <algorithm>
+#include <limits>
+
+NativeLinearSolverImpl::NativeLinearSolverImpl(int decomposition, int maxRows, int maxCols) :
+    decomposition(decomposition),
+    maxRows(maxRows),
+    maxCols(maxCols),
+    rows(-1),
+    cols(-1),
+    succeeded(false),
+    pseudoInverseComputed(false),
+    lu(decomposition == LU ? maxRows : 0),
+    llt(decomposition == LLT ? maxRows : 0),
+    ldlt(decomposition == LDLT ? maxRows : 0),
+    qr(decomposition == HOUSEHOLDER_QR ? maxRows : 0, decomposition == HOUSEHOLDER_QR ? maxCols : 0),
+    cod(decomposition == COMPLETE_ORTHOGONAL_DECOMPOSITION ? maxRows : 0, decomposition == COMPLETE_ORTHOGONAL_DECOMPOSITION ? maxCols : 0)
+{
+}
+
+int NativeLinearSolverImpl::factor(NativeMatrixImpl* A)
+{
+    int aRows = A->rows();
+    int aCols = A->cols();
+    bool square = decomposition == LU || decomposition == LLT || decomposition == LDLT;
+
+    if(aRows > maxRows || aCols > maxCols || (square && aRows != aCols) || (decomposition == HOUSEHOLDER_QR && aRows < aCols))
+    {
+        return INCOMPATIBLE_DIMENSIONS;
+    }
+
+    rows = aRows;
+    cols = aCols;
+    succeeded = true;
+    pseudoInverseComputed = false;
+
+    switch(decomposition)
+    {
+    case LU:
+        lu.compute(A->matrix);
+        return SUCCESS;
+    case LLT:
+        llt.compute(A->matrix);
+        succeeded = llt.info() == Eigen::Success;
+        return succeeded ? SUCCESS : NUMERICAL_ISSUE;
+    case LDLT:
+        ldlt.compute(A->matrix);
+        succeeded = ldlt.info() == Eigen::Success;
+        return succeeded ? SUCCESS : NUMERICAL_ISSUE;
+    case HOUSEHOLDER_QR:
+        qr.compute(A->matrix);
+        return SUCCESS;
+    case COMPLETE_ORTHOGONAL_DECOMPOSITION:
+        cod.compute(A->matrix);
+        return SUCCESS;
+    default:
+        rows = -1;
+        cols = -1;
+        return INCOMPATIBLE_DIMENSIONS;
+    }
+}
+
+bool NativeLinearSolverImpl::solve(NativeMatrixImpl* B, NativeMatrixImpl* X)
+{
+    if(!isFactored() || B->rows() != rows)
+    {
+        return false;
+    }
+
+    if(B == X)
+    {
+        rhs = B->matrix;
+        X->resize(cols, rhs.cols());
+        solveUnchecked(rhs, X->matrix);
+    }
+    else
+    {
+        X->resize(cols, B->cols());
+        solveUnchecked(B->matrix, X->matrix);
+    }
+
+    return true;
+}
+
+bool NativeLinearSolverImpl::solveTranspose(NativeMatrixImpl* B, NativeMatrixImpl* X)
+{
+    if(!isFactored() || B->rows() != cols)
+    {
+        return false;
+    }
+
+    if(B == X)
+    {
+        rhs = B->matrix;
+        X->resize(rows, rhs.cols());
+        solveTransposeUnchecked(rhs, X->matrix);
+    }
+    else
+    {
+        X->resize(rows, B->cols());
+        solveTransposeUnchecked(B->matrix, X->matrix);
+    }
+
+    return true;
+}
+
+double NativeLinearSolverImpl::determinant()
+{
+    if(!isFactored() || !succeeded || rows != cols)
+    {
+        return std::numeric_limits<double>::quiet_NaN();
+    }
+
+    switch(decomposition)
+    {
+    case LU:
+        return lu.determinant();
+    case LLT:
+    {
+        double product = llt.matrixLLT().diagonal().prod();
+        return product * product;
+    }
+    case LDLT:
+        return ldlt.vectorD().prod();
+    case HOUSEHOLDER_QR:
+        return householderSign(qr.hCoeffs(), cols) * qr.matrixQR().diagonal().prod();
+    case COMPLETE_ORTHOGONAL_DECOMPOSITION:
+        if(cod.rank() < cols)
+        {
+            return 0.0;
+        }
+        // A * P = Q * T when A has full rank.
+        return householderSign(cod.hCoeffs(), cols) * cod.matrixT().diagonal().prod() * cod.colsPermutation().determinant();
+    default:
+        return std::numeric_limits<double>::quiet_NaN();
+    }
+}
+
+double NativeLinearSolverImpl::rcond()
+{
+    if(!isFactored())
+    {
+        return std::numeric_limits<double>::quiet_NaN();
+    }
+
+    if(!succeeded)
+    {
+        return 0.0;
+    }
+
+    switch(decomposition)
+    {
+    case LU:
+        return lu.rcond();
+    case LLT:
+        return llt.rcond();
+    case LDLT:
+        return ldlt.rcond();
+    case HOUSEHOLDER_QR:
+        return triangularRcond(qr.matrixQR().diagonal());
+    case COMPLETE_ORTHOGONAL_DECOMPOSITION:
+        if(cod.rank() < std::min(rows, cols))
+        {
+            return 0.0;
+        }
+        return triangularRcond(cod.matrixT().diagonal().head(cod.rank()));
+    default:
+        return std::numeric_limits<double>::quiet_NaN();
+    }
+}
+
+int NativeLinearSolverImpl::rank()
+{
+    if(!isFactored())
+    {
+        return 0;
+    }
+
+    if(decomposition == COMPLETE_ORTHOGONAL_DECOMPOSITION)
+    {
+        return cod.rank();
+    }
+
+    return std::min(rows, cols);
+}
+
+int NativeLinearSolverImpl::getDecomposition()
+{
+    return decomposition;
+}
+
+int NativeLinearSolverImpl::getMaxRows()
+{
+    return maxRows;
+}
+
+int NativeLinearSolverImpl::getMaxCols()
+{
+    return maxCols;
+}
+
+bool NativeLinearSolverImpl::isFactored()
+{
+    return rows >= 0;
+}
+
+void NativeLinearSolverImpl::solveUnchecked(const Eigen::Ref<const Eigen::MatrixXd>& B, NativeMatrixView& X)
+{
+    switch(decomposition)
+    {
+    case LU:
+        X = lu.solve(B);
+        break;
+    case LLT:
+        X = llt.solve(B);
+        break;
+    case LDLT:
+        X = ldlt.solve(B);
+        break;
+    case HOUSEHOLDER_QR:
+        X = qr.solve(B);
+        break;
+    case COMPLETE_ORTHOGONAL_DECOMPOSITION:
+        X = cod.solve(B);
+        break;
+    }
+}
+
+void NativeLinearSolverImpl::solveTransposeUnchecked(const Eigen::Ref<const Eigen::MatrixXd>& B, NativeMatrixView& X)
+{
+    switch(decomposition)
+    {
+    case LU:
+        X = lu.transpose().solve(B);
+        break;
+    case LLT:
+        X = llt.solve(B);
+        break;
+    case LDLT:
+        X = ldlt.solve(B);
+        break;
+    case HOUSEHOLDER_QR:
+        solveQRTranspose(B, X);
+        break;
+    case COMPLETE_ORTHOGONAL_DECOMPOSITION:
+        if(!pseudoInverseComputed)
+        {
+            pseudoInverse = cod.pseudoInverse();
+            pseudoInverseComputed = true;
+        }
+        X.noalias() = pseudoInverse.transpose() * B;
+        break;
+    }
+}
+
+void NativeLinearSolverImpl::solveQRTranspose(const Eigen::Ref<const Eigen::MatrixXd>& B, NativeMatrixView& X)
+{
+    // A' = R' * Q1', the minimum norm solution of A' * X = B is X = Q * [inverse(R') * B; 0].
+    X.topRows(cols) = qr.matrixQR().topLeftCorner(cols, cols).triangularView<Eigen::Upper>().transpose().solve(B);
+    X.bottomRows(rows - cols).setZero();
+    X.applyOnTheLeft(qr.householderQ());
+}
+
+double NativeLinearSolverImpl::householderSign(const Eigen::VectorXd& hCoeffs, int length)
+{
+    // Each non-trivial Householder reflection has a determinant of -1.
+    double sign = 1.0;
+    for(int i = 0; i < length && i < hCoeffs.size(); i++)
+    {
+        if(hCoeffs(i) != 0.0)
+        {
+            sign = -sign;
+        }
+    }
+    return sign;
+}
+
+double NativeLinearSolverImpl::triangularRcond(const Eigen::Ref<const Eigen::VectorXd>& diagonal)
+{
+    if(diagonal.size() == 0)
+    {
+        return 1.0;
+    }
+
+    double largest = diagonal.cwiseAbs().maxCoeff();
+    double smallest = diagonal.cwiseAbs().minCoeff();
+    return largest == 0.0 ? 0.0 : smallest / largest;
+}
@@ -0,0 +1,94 @@
+#ifndef NATIVELINEARSOLVER_H
+#define NATIVELINEARSOLVER_H
+
+#include "NativeMatrix.h"
+
+/**
+ * Linear solver factorizing a matrix once and solving for any number of right-hand sides.
+ *
+ * The decomposition is selected at construction and preallocated for the maximum size of A, a matrix larger than the
+ * maximum size is rejected. Eigen resizes the decomposition when the size of A changes, factorizing matrices of a
+ * constant size does not allocate memory.
+ *
+ * LU, LLT and LDLT require a square A. HOUSEHOLDER_QR gives the least-squares solution for A having at least as many
+ * rows as columns, COMPLETE_ORTHOGONAL_DECOMPOSITION gives the minimum norm least-squares solution for any A.
+ *
+ * factor returns one of the status codes below, mirrored in NativeLinearSolver.java.
+ */
+class NativeLinearSolverImpl
+{
+public:
+    static const int LU = 0;
+    static const int LLT = 1;
+    static const int LDLT = 2;
+    static const int HOUSEHOLDER_QR = 3;
+    static const int COMPLETE_ORTHOGONAL_DECOMPOSITION = 4;
+
+    static const int SUCCESS = 0;
+    static const int INCOMPATIBLE_DIMENSIONS = 1;
+    static const int NUMERICAL_ISSUE = 2;
+
+    NativeLinearSolverImpl(int decomposition, int maxRows, int maxCols);
+
+    int factor(NativeMatrixImpl* A);
+
+    /**
+     * X = inverse(A) * B, B having as many rows as A.
+     */
+    bool solve(NativeMatrixImpl* B, NativeMatrixImpl* X);
+
+    /**
+     * X = inverse(A') * B, B having as many rows as A has columns. For a non-square A, X is the minimum norm solution.
+     */
+    bool solveTranspose(NativeMatrixImpl* B, NativeMatrixImpl* X);
+
+    /**
+     * Determinant of the last square matrix factorized, NaN if it is not square or the factorization failed.
+     */
+    double determinant();
+
+    /**
+     * Estimate of the reciprocal condition number of the last matrix factorized, computed by the decomposition for LU,
+     * LLT and LDLT and from the diagonal of the triangular factor for HOUSEHOLDER_QR and
+     * COMPLETE_ORTHOGONAL_DECOMPOSITION. Zero if the factorization failed.
+     */
+    double rcond();
+
+    /**
+     * Numerical rank for COMPLETE_ORTHOGONAL_DECOMPOSITION, min(rows, cols) of the last matrix factorized otherwise.
+     */
+    int rank();
+
+    int getDecomposition();
+
+    int getMaxRows();
+
+    int getMaxCols();
+
+private:
+    bool isFactored();
+    void solveUnchecked(const Eigen::Ref<const Eigen::MatrixXd>& B, NativeMatrixView& X);
+    void solveTransposeUnchecked(const Eigen::Ref<const Eigen::MatrixXd>& B, NativeMatrixView& X);
+    void solveQRTranspose(const Eigen::Ref<const Eigen::MatrixXd>& B, NativeMatrixView& X);
+    static double householderSign(const Eigen::VectorXd& hCoeffs, int length);
+    static double triangularRcond(const Eigen::Ref<const Eigen::VectorXd>& diagonal);
+
+    const int decomposition;
+    const int maxRows;
+    const int maxCols;
+    int rows;
+    int cols;
+    bool succeeded;
+    bool pseudoInverseComputed;
+
+    Eigen::PartialPivLU<Eigen::MatrixXd> lu;
+    Eigen::LLT<Eigen::MatrixXd> llt;
+    Eigen::LDLT<Eigen::MatrixXd> ldlt;
+    Eigen::HouseholderQR<Eigen::MatrixXd> qr;
+    Eigen::CompleteOrthogonalDecomposition<Eigen::MatrixXd> cod;
+
+    Eigen::MatrixXd pseudoInverse;
+    Eigen::MatrixXd rhs;
+};
+
+#endif // NATIVELINEARSOLVER_H
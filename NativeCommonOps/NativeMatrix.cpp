@@ -1,11 +1,24 @@
 #include "NativeMatrix.h"
+#include "SolveWithRcond.h"
+#include "NativeParallelKernels.h"
+#include "NativeMemoryAccounting.h"
 #include <iostream>
 #include <cmath>
 #include <cstring>
 
 NativeMatrixImpl::NativeMatrixImpl(int numRows, int numCols) : storage(numRows, numCols), matrix(NULL, numRows, numCols)
 {
+    shape[2] = 0;
     updateView(numRows, numCols);
+
+    NativeMemoryAccounting::created();
+    NativeMemoryAccounting::allocated(sizeof(NativeMatrixImpl) + storage.size() * sizeof(double));
+}
+
+NativeMatrixImpl::~NativeMatrixImpl()
+{
+    NativeMemoryAccounting::freed(sizeof(NativeMatrixImpl) + (storage.size() + workspaceStorage.size()) * sizeof(double));
+    NativeMemoryAccounting::deleted();
 }
 
 void NativeMatrixImpl::resize(int numRows, int numCols)
@@ -17,7 +30,10 @@ void NativeMatrixImpl::resize(int numRows, int numCols)
 
     if(numRows * numCols > storage.size())
     {
+        long long previousCapacity = storage.size();
         storage.resize(numRows, numCols);
+        shape[2]++;
+        NativeMemoryAccounting::allocated((storage.size() - previousCapacity) * sizeof(double));
     }
 
     updateView(numRows, numCols);
@@ -27,13 +43,43 @@ void NativeMatrixImpl::growRows(int numRowsToGrow)
 {
     int numRows = rows();
     int numCols = cols();
+    int newRows = numRows + numRowsToGrow;
 
-    storage.conservativeResize(numRows + numRowsToGrow, Eigen::NoChange);
-    updateView(numRows + numRowsToGrow, numCols);
+    reserve(newRows * numCols);
+
+    /*
+     * The storage is not necessarily shaped like the view, move the columns
+     * to the new leading dimension starting from the last one.
+     */
+    double* data = storage.data();
+    for (int col = numCols - 1; col > 0; col--)
+    {
+        memmove((void*)(data + col * newRows), (void*)(data + col * numRows), numRows * sizeof(double));
+    }
+
+    updateView(newRows, numCols);
 
     matrix.block(numRows, 0, numRowsToGrow, numCols).setZero();
 }
 
+void NativeMatrixImpl::reserve(int numberOfElements)
+{
+    if(numberOfElements <= storage.size())
+    {
+        return;
+    }
+
+    // Both storages are allocated during the copy.
+    NativeMemoryAccounting::allocated(numberOfElements * sizeof(double));
+    Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic> newStorage(numberOfElements, 1);
+    memcpy((void*)newStorage.data(), (void*)storage.data(), size() * sizeof(double));
+    storage.swap(newStorage);
+    shape[2]++;
+    NativeMemoryAccounting::freed(newStorage.size() * sizeof(double));
+
+    updateView(rows(), cols());
+}
+
 bool NativeMatrixImpl::set(NativeMatrixImpl *a)
 {
     resize(a->rows(), a->cols());
@@ -144,6 +190,11 @@ bool NativeMatrixImpl::mult(NativeMatrixImpl *a, NativeMatrixImpl *b)
 
     resize(a->rows(), b->cols());
 
+    if(this != a && this != b && NativeParallelKernels::mult(matrix, a->matrix, b->matrix, 1.0, false))
+    {
+        return true;
+    }
+
     matrix = (a->matrix) * (b->matrix);
 
     return true;
@@ -158,6 +209,11 @@ bool NativeMatrixImpl::mult(double scale, NativeMatrixImpl *a, NativeMatrixImpl
 
     resize(a->rows(), b->cols());
 
+    if(this != a && this != b && NativeParallelKernels::mult(matrix, a->matrix, b->matrix, scale, false))
+    {
+        return true;
+    }
+
     matrix = scale * (a->matrix) * (b->matrix);
 
     return true;
@@ -196,6 +252,11 @@ bool NativeMatrixImpl::multTransA(NativeMatrixImpl *a, NativeMatrixImpl *b)
 
     resize(a->cols(), b->cols());
 
+    if(this != a && this != b && NativeParallelKernels::mult(matrix, a->matrix, b->matrix, 1.0, true))
+    {
+        return true;
+    }
+
     matrix = (a->matrix.transpose()) * (b->matrix);
 
     return true;
@@ -210,6 +271,11 @@ bool NativeMatrixImpl::multTransA(double scale, NativeMatrixImpl *a, NativeMatri
 
     resize(a->cols(), b->cols());
 
+    if(this != a && this != b && NativeParallelKernels::mult(matrix, a->matrix, b->matrix, scale, true))
+    {
+        return true;
+    }
+
     matrix = scale * (a->matrix.transpose()) * (b->matrix);
 
     return true;
@@ -553,6 +619,235 @@ bool NativeMatrixImpl::multAddQuadBlock(NativeMatrixImpl *a, NativeMatrixImpl *b
     return true;
 }
 
+Eigen::Map<Eigen::MatrixXd> NativeMatrixImpl::workspace(int numRows, int numCols)
+{
+    int previousCapacity = workspaceStorage.size();
+    if(previousCapacity < numRows * numCols)
+    {
+        workspaceStorage.resize(numRows * numCols);
+        NativeMemoryAccounting::allocated((workspaceStorage.size() - previousCapacity) * sizeof(double));
+    }
+
+    return Eigen::Map<Eigen::MatrixXd>(workspaceStorage.data(), numRows, numCols);
+}
+
+bool NativeMatrixImpl::multQuadDiagonal(NativeMatrixImpl *a, double *w, int size)
+{
+    if(a->rows() != size)
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+    Eigen::Map<Eigen::MatrixXd> weighted = workspace(size, a->cols());
+    weighted.noalias() = weights.asDiagonal() * (a->matrix);
+
+    resize(a->cols(), a->cols());
+
+    matrix.noalias() = (a->matrix).transpose() * weighted;
+
+    return true;
+}
+
+bool NativeMatrixImpl::multAddQuadDiagonal(NativeMatrixImpl *a, double *w, int size)
+{
+    if(a->rows() != size)
+    {
+        return false;
+    }
+
+    if(rows() != a->cols() || cols() != a->cols())
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+    Eigen::Map<Eigen::MatrixXd> weighted = workspace(size, a->cols());
+    weighted.noalias() = weights.asDiagonal() * (a->matrix);
+
+    matrix.noalias() += (a->matrix).transpose() * weighted;
+
+    return true;
+}
+
+bool NativeMatrixImpl::multAddQuadDiagonalBlock(NativeMatrixImpl *a, double *w, int size, int rowStart, int colStart)
+{
+    if(rowStart < 0 || colStart < 0)
+    {
+        return false;
+    }
+
+    if(a->rows() != size)
+    {
+        return false;
+    }
+
+    if((rows() - rowStart) < a->cols() || (cols() - colStart) < a->cols())
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+    Eigen::Map<Eigen::MatrixXd> weighted = workspace(size, a->cols());
+    weighted.noalias() = weights.asDiagonal() * (a->matrix);
+
+    matrix.block(rowStart, colStart, a->cols(), a->cols()).noalias() += (a->matrix).transpose() * weighted;
+
+    return true;
+}
+
+bool NativeMatrixImpl::preMultDiagonal(double *w, int size, NativeMatrixImpl *b)
+{
+    if(b->rows() != size)
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+
+    resize(size, b->cols());
+
+    matrix.noalias() = weights.asDiagonal() * (b->matrix);
+
+    return true;
+}
+
+bool NativeMatrixImpl::preMultAddDiagonalBlock(double scale, double *w, int size, NativeMatrixImpl *b, int rowStart, int colStart)
+{
+    if(rowStart < 0 || colStart < 0)
+    {
+        return false;
+    }
+
+    if(b->rows() != size)
+    {
+        return false;
+    }
+
+    if((rows() - rowStart) < size || (cols() - colStart) < b->cols())
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+
+    matrix.block(rowStart, colStart, size, b->cols()).noalias() += scale * (weights.asDiagonal() * (b->matrix));
+
+    return true;
+}
+
+bool NativeMatrixImpl::postMultDiagonal(NativeMatrixImpl *a, double *w, int size)
+{
+    if(a->cols() != size)
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+
+    resize(a->rows(), size);
+
+    matrix.noalias() = (a->matrix) * weights.asDiagonal();
+
+    return true;
+}
+
+bool NativeMatrixImpl::postMultTransADiagonal(NativeMatrixImpl *a, double *w, int size)
+{
+    if(a->rows() != size)
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+
+    resize(a->cols(), size);
+
+    matrix.noalias() = (a->matrix).transpose() * weights.asDiagonal();
+
+    return true;
+}
+
+bool NativeMatrixImpl::multOuterDiagonal(NativeMatrixImpl *a, double *w, int size)
+{
+    if(a->cols() != size)
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+    Eigen::Map<Eigen::MatrixXd> weighted = workspace(size, a->rows());
+    weighted.noalias() = weights.asDiagonal() * (a->matrix).transpose();
+
+    resize(a->rows(), a->rows());
+
+    matrix.noalias() = (a->matrix) * weighted;
+
+    return true;
+}
+
+bool NativeMatrixImpl::innerDiagonalMult(NativeMatrixImpl *a, double *w, int size, NativeMatrixImpl *c)
+{
+    if(a->cols() != size || c->rows() != size)
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+    Eigen::Map<Eigen::MatrixXd> weighted = workspace(size, c->cols());
+    weighted.noalias() = weights.asDiagonal() * (c->matrix);
+
+    resize(a->rows(), c->cols());
+
+    matrix.noalias() = (a->matrix) * weighted;
+
+    return true;
+}
+
+bool NativeMatrixImpl::innerDiagonalMultTransA(NativeMatrixImpl *a, double *w, int size, NativeMatrixImpl *c)
+{
+    if(a->rows() != size || c->rows() != size)
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+    Eigen::Map<Eigen::MatrixXd> weighted = workspace(size, c->cols());
+    weighted.noalias() = weights.asDiagonal() * (c->matrix);
+
+    resize(a->cols(), c->cols());
+
+    matrix.noalias() = (a->matrix).transpose() * weighted;
+
+    return true;
+}
+
+bool NativeMatrixImpl::innerDiagonalMultAddBlockTransA(double scale, NativeMatrixImpl *a, double *w, int size, NativeMatrixImpl *c, int rowStart, int colStart)
+{
+    if(rowStart < 0 || colStart < 0)
+    {
+        return false;
+    }
+
+    if(a->rows() != size || c->rows() != size)
+    {
+        return false;
+    }
+
+    if((rows() - rowStart) < a->cols() || (cols() - colStart) < c->cols())
+    {
+        return false;
+    }
+
+    Eigen::Map<const Eigen::VectorXd> weights(w, size);
+    Eigen::Map<Eigen::MatrixXd> weighted = workspace(size, c->cols());
+    weighted.noalias() = weights.asDiagonal() * (c->matrix);
+
+    matrix.block(rowStart, colStart, a->cols(), c->cols()).noalias() += scale * ((a->matrix).transpose() * weighted);
+
+    return true;
+}
+
 bool NativeMatrixImpl::invert(NativeMatrixImpl *a)
 {
     if(a->rows() != a->cols())
@@ -560,6 +855,11 @@ bool NativeMatrixImpl::invert(NativeMatrixImpl *a)
         return false;
     }
 
+    if(NativeParallelKernels::invert(this, a))
+    {
+        return true;
+    }
+
     resize(a->rows(), a->cols());
 
     matrix = (a->matrix).lu().inverse();
@@ -575,6 +875,11 @@ bool NativeMatrixImpl::solve(NativeMatrixImpl *a, NativeMatrixImpl *b)
         return false;
     }
 
+    if(NativeParallelKernels::solve(this, a, b))
+    {
+        return true;
+    }
+
     resize(a->cols(), 1);
 
     matrix = (a->matrix).lu().solve((b->matrix));
@@ -593,10 +898,8 @@ bool NativeMatrixImpl::solveCheck(NativeMatrixImpl *a, NativeMatrixImpl *b)
 
     resize(a->cols(), 1);
 
-    const Eigen::FullPivLU<Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic> > fullPivLu = a->matrix.fullPivLu();
-    if (fullPivLu.isInvertible())
+    if (solveWithRcond(a->matrix, b->matrix, matrix, false) > SOLVE_MINIMUM_RCOND)
     {
-        matrix = fullPivLu.solve(b->matrix);
         return true;
     }
     else
@@ -607,6 +910,18 @@ bool NativeMatrixImpl::solveCheck(NativeMatrixImpl *a, NativeMatrixImpl *b)
 
 }
 
+double NativeMatrixImpl::solveRcond(NativeMatrixImpl *a, NativeMatrixImpl *b, bool positiveDefinite)
+{
+    if(a->rows() != b->rows() || a->cols() != a->rows())
+    {
+        return SOLVE_INCOMPATIBLE_DIMENSIONS;
+    }
+
+    resize(a->cols(), b->cols());
+
+    return solveWithRcond(a->matrix, b->matrix, matrix, positiveDefinite);
+}
+
 bool NativeMatrixImpl::insert(NativeMatrixImpl *src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
 {
     if(srcY0 < 0 || srcY1 < 0 || srcX0 < 0 || srcX1 < 0 || dstY0 < 0 || dstX0 < 0)
@@ -13,10 +13,14 @@ public:
 
     NativeMatrixImpl(int numRows, int numCols);
 
+    ~NativeMatrixImpl();
+
     void resize(int numRows, int numCols);
 
     void growRows(int numRowsToGrow);
 
+    void reserve(int numberOfElements);
+
     bool set(NativeMatrixImpl* a);
 
     bool add(NativeMatrixImpl* a, NativeMatrixImpl* b);
@@ -80,12 +84,47 @@ public:
 
     bool multAddQuadBlock(NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
 
+    /**
+     * Quadratic forms a^T * diag(w) * a where the diagonal weight matrix is given by its size elements.
+     */
+    bool multQuadDiagonal(NativeMatrixImpl* a, double* w, int size);
+
+    bool multAddQuadDiagonal(NativeMatrixImpl* a, double* w, int size);
+
+    bool multAddQuadDiagonalBlock(NativeMatrixImpl* a, double* w, int size, int rowStart, int colStart);
+
+    /**
+     * Products with a diagonal matrix given by its size elements, mirroring DiagonalMatrixTools.
+     */
+    bool preMultDiagonal(double* w, int size, NativeMatrixImpl* b);
+
+    bool preMultAddDiagonalBlock(double scale, double* w, int size, NativeMatrixImpl* b, int rowStart, int colStart);
+
+    bool postMultDiagonal(NativeMatrixImpl* a, double* w, int size);
+
+    bool postMultTransADiagonal(NativeMatrixImpl* a, double* w, int size);
+
+    bool multOuterDiagonal(NativeMatrixImpl* a, double* w, int size);
+
+    bool innerDiagonalMult(NativeMatrixImpl* a, double* w, int size, NativeMatrixImpl* c);
+
+    bool innerDiagonalMultTransA(NativeMatrixImpl* a, double* w, int size, NativeMatrixImpl* c);
+
+    bool innerDiagonalMultAddBlockTransA(double scale, NativeMatrixImpl* a, double* w, int size, NativeMatrixImpl* c, int rowStart, int colStart);
+
     bool invert(NativeMatrixImpl* a);
 
     bool solve(NativeMatrixImpl* a, NativeMatrixImpl* b);
 
     bool solveCheck(NativeMatrixImpl* a, NativeMatrixImpl* b);
 
+    /**
+     * Solves a * this = b, b having any number of columns, and returns an estimate of the reciprocal condition number
+     * of a. Uses a LLT decomposition if positiveDefinite is true, a partial pivoting LU decomposition otherwise.
+     * Returns -1 if the dimensions are incompatible and -2 if a is not positive definite.
+     */
+    double solveRcond(NativeMatrixImpl* a, NativeMatrixImpl* b, bool positiveDefinite);
+
     bool insert(NativeMatrixImpl* src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0);
 
     bool insert(double* src, int rows, int cols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0);
@@ -216,6 +255,28 @@ public:
         return matrix.size();
     }
 
+    inline int capacity()
+    {
+        return storage.size();
+    }
+
+    /**
+     * Column-major storage of this matrix, the leading dimension is rows().
+     * The pointer is invalidated when the storage is reallocated, which increments the storage version in dims().
+     */
+    inline double* data()
+    {
+        return storage.data();
+    }
+
+    /**
+     * {rows, cols, storage version}, updated on every change of shape or reallocation of the storage.
+     */
+    inline int* dims()
+    {
+        return shape;
+    }
+
     bool zeroRow(int rowToZero);
 
     bool zeroCol(int colToZero);
@@ -227,11 +288,24 @@ public:
 private:
     Eigen::Matrix<double, Eigen::Dynamic, Eigen::Dynamic>  storage;
 
+    int shape[3];
+
+    /**
+     * Storage of the intermediate products of the diagonal kernels, only reallocated when it has to grow such that
+     * repeated calls do not allocate.
+     */
+    Eigen::VectorXd workspaceStorage;
+
+    Eigen::Map<Eigen::MatrixXd> workspace(int numRows, int numCols);
+
     inline void updateView(int numRows, int numCols)
     {
         eigen_assert((numRows * numCols) <= storage.size());
 
         new (&matrix) NativeMatrixView(storage.data(), numRows, numCols);
+
+        shape[0] = numRows;
+        shape[1] = numCols;
     }
 
 };
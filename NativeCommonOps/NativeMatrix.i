@@ -2,6 +2,8 @@
 %javaconst(1);
 %include "typemaps.i"
 %include "various.i"
+// The enums are exported as integer constants, e.g. the operation codes of NativeMatrixProgramImpl.
+%include "enumtypeunsafe.swg"
 
 
 %typemap(jtype) int* dims() "java.nio.ByteBuffer"
@@ -15,6 +17,17 @@
     return $jnicall;
 }
 
+%typemap(jtype) double* data() "java.nio.ByteBuffer"
+%typemap(jstype) double* data() "java.nio.ByteBuffer"
+%typemap(jni) double* data() "jobject"
+%typemap(out) double* data()
+%{
+    $result = jenv->NewDirectByteBuffer($1, arg1->capacity() * sizeof(double));
+%}
+%typemap(javaout) double* data() {
+    return $jnicall;
+}
+
 
 %typemap(jtype) double* "double[]"
 %typemap(jstype) double* "double[]"
@@ -27,15 +40,45 @@
     jenv->ReleasePrimitiveArrayCritical($input, $1, 0);
 }
 
+// The diagonals are only read, there is nothing to copy back when the array is released.
+%typemap(freearg) double* w {
+    jenv->ReleasePrimitiveArrayCritical($input, $1, JNI_ABORT);
+}
+
 %ignore matrix;
 
+// The pointer is used by the backends calling the C entry points of NativeMatrixC.h directly.
+SWIG_JAVABODY_PROXY(protected, public, NativeMatrixImpl)
+
 %include "NativeMatrix.h"
 %include "NativeNullspaceProjector.h"
 %include "NativeKalmanFilter.h"
+%include "NativeMatrixProgram.h"
+%include "NativeFusedKalmanFilter.h"
+%include "NativeKalmanFilterBank.h"
+%include "NativeHierarchicalNullspaceProjector.h"
+%include "NativeLinearSolver.h"
+%include "NativeSymmetricMatrix.h"
+%include "NativeSparseMatrix.h"
+%include "NativeSparseLDLTSolver.h"
+%include "NativeParallelism.h"
+%include "NativeMemoryAccounting.h"
+%include "NativeLibraryVersion.h"
 
 %{
 #include "NativeMatrix.h"
 #include "NativeNullspaceProjector.h"
 #include "NativeKalmanFilter.h"
+#include "NativeMatrixProgram.h"
+#include "NativeFusedKalmanFilter.h"
+#include "NativeKalmanFilterBank.h"
+#include "NativeHierarchicalNullspaceProjector.h"
+#include "NativeLinearSolver.h"
+#include "NativeSymmetricMatrix.h"
+#include "NativeSparseMatrix.h"
+#include "NativeSparseLDLTSolver.h"
+#include "NativeParallelism.h"
+#include "NativeMemoryAccounting.h"
+#include "NativeLibraryVersion.h"
 %}
 
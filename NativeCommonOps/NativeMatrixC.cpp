@@ -0,0 +1,446 @@
+#include "NativeMatrixC.h"
+
+void NativeMatrixImpl_resize(NativeMatrixImpl* self, int numRows, int numCols)
+{
+    self->resize(numRows, numCols);
+}
+
+void NativeMatrixImpl_growRows(NativeMatrixImpl* self, int numRowsToGrow)
+{
+    self->growRows(numRowsToGrow);
+}
+
+void NativeMatrixImpl_reserve(NativeMatrixImpl* self, int numberOfElements)
+{
+    self->reserve(numberOfElements);
+}
+
+bool NativeMatrixImpl_set(NativeMatrixImpl* self, NativeMatrixImpl* a)
+{
+    return self->set(a);
+}
+
+bool NativeMatrixImpl_add(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->add(a, b);
+}
+
+bool NativeMatrixImpl_addScaled(NativeMatrixImpl* self, NativeMatrixImpl* a, double scale, NativeMatrixImpl* b)
+{
+    return self->add(a, scale, b);
+}
+
+bool NativeMatrixImpl_addWeighted(NativeMatrixImpl* self, double scale1, NativeMatrixImpl* a, double scale2, NativeMatrixImpl* b)
+{
+    return self->add(scale1, a, scale2, b);
+}
+
+bool NativeMatrixImpl_addEquals(NativeMatrixImpl* self, NativeMatrixImpl* b)
+{
+    return self->addEquals(b);
+}
+
+bool NativeMatrixImpl_addEqualsScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* b)
+{
+    return self->addEquals(scale, b);
+}
+
+bool NativeMatrixImpl_addElement(NativeMatrixImpl* self, int row, int col, double value)
+{
+    return self->add(row, col, value);
+}
+
+bool NativeMatrixImpl_subtract(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->subtract(a, b);
+}
+
+bool NativeMatrixImpl_mult(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->mult(a, b);
+}
+
+bool NativeMatrixImpl_multScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->mult(scale, a, b);
+}
+
+bool NativeMatrixImpl_multAdd(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multAdd(a, b);
+}
+
+bool NativeMatrixImpl_multAddScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multAdd(scale, a, b);
+}
+
+bool NativeMatrixImpl_multTransA(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multTransA(a, b);
+}
+
+bool NativeMatrixImpl_multTransAScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multTransA(scale, a, b);
+}
+
+bool NativeMatrixImpl_multAddTransA(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multAddTransA(a, b);
+}
+
+bool NativeMatrixImpl_multAddTransAScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multAddTransA(scale, a, b);
+}
+
+bool NativeMatrixImpl_multTransB(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multTransB(a, b);
+}
+
+bool NativeMatrixImpl_multTransBScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multTransB(scale, a, b);
+}
+
+bool NativeMatrixImpl_multAddTransB(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multAddTransB(a, b);
+}
+
+bool NativeMatrixImpl_multAddTransBScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multAddTransB(scale, a, b);
+}
+
+bool NativeMatrixImpl_addBlockScaled(NativeMatrixImpl* self, NativeMatrixImpl* a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns, double scale)
+{
+    return self->addBlock(a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, scale);
+}
+
+bool NativeMatrixImpl_addBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+{
+    return self->addBlock(a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns);
+}
+
+bool NativeMatrixImpl_subtractBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+{
+    return self->subtractBlock(a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns);
+}
+
+bool NativeMatrixImpl_multAddBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart)
+{
+    return self->multAddBlock(a, b, rowStart, colStart);
+}
+
+bool NativeMatrixImpl_multAddBlockScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart)
+{
+    return self->multAddBlock(scale, a, b, rowStart, colStart);
+}
+
+bool NativeMatrixImpl_multAddBlockTransA(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart)
+{
+    return self->multAddBlockTransA(a, b, rowStart, colStart);
+}
+
+bool NativeMatrixImpl_multAddBlockTransAScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart)
+{
+    return self->multAddBlockTransA(scale, a, b, rowStart, colStart);
+}
+
+bool NativeMatrixImpl_multQuad(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multQuad(a, b);
+}
+
+bool NativeMatrixImpl_multAddQuad(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->multAddQuad(a, b);
+}
+
+bool NativeMatrixImpl_multQuadBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart)
+{
+    return self->multQuadBlock(a, b, rowStart, colStart);
+}
+
+bool NativeMatrixImpl_multAddQuadBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart)
+{
+    return self->multAddQuadBlock(a, b, rowStart, colStart);
+}
+
+bool NativeMatrixImpl_multQuadDiagonal(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size)
+{
+    return self->multQuadDiagonal(a, w, size);
+}
+
+bool NativeMatrixImpl_multAddQuadDiagonal(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size)
+{
+    return self->multAddQuadDiagonal(a, w, size);
+}
+
+bool NativeMatrixImpl_multAddQuadDiagonalBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size, int rowStart, int colStart)
+{
+    return self->multAddQuadDiagonalBlock(a, w, size, rowStart, colStart);
+}
+
+bool NativeMatrixImpl_preMultDiagonal(NativeMatrixImpl* self, double* w, int size, NativeMatrixImpl* b)
+{
+    return self->preMultDiagonal(w, size, b);
+}
+
+bool NativeMatrixImpl_preMultAddDiagonalBlock(NativeMatrixImpl* self, double scale, double* w, int size, NativeMatrixImpl* b, int rowStart, int colStart)
+{
+    return self->preMultAddDiagonalBlock(scale, w, size, b, rowStart, colStart);
+}
+
+bool NativeMatrixImpl_postMultDiagonal(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size)
+{
+    return self->postMultDiagonal(a, w, size);
+}
+
+bool NativeMatrixImpl_postMultTransADiagonal(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size)
+{
+    return self->postMultTransADiagonal(a, w, size);
+}
+
+bool NativeMatrixImpl_multOuterDiagonal(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size)
+{
+    return self->multOuterDiagonal(a, w, size);
+}
+
+bool NativeMatrixImpl_innerDiagonalMult(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size, NativeMatrixImpl* c)
+{
+    return self->innerDiagonalMult(a, w, size, c);
+}
+
+bool NativeMatrixImpl_innerDiagonalMultTransA(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size, NativeMatrixImpl* c)
+{
+    return self->innerDiagonalMultTransA(a, w, size, c);
+}
+
+bool NativeMatrixImpl_innerDiagonalMultAddBlockTransA(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, double* w, int size, NativeMatrixImpl* c, int rowStart, int colStart)
+{
+    return self->innerDiagonalMultAddBlockTransA(scale, a, w, size, c, rowStart, colStart);
+}
+
+bool NativeMatrixImpl_invert(NativeMatrixImpl* self, NativeMatrixImpl* a)
+{
+    return self->invert(a);
+}
+
+bool NativeMatrixImpl_solve(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->solve(a, b);
+}
+
+bool NativeMatrixImpl_solveCheck(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    return self->solveCheck(a, b);
+}
+
+double NativeMatrixImpl_solveRcond(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b, bool positiveDefinite)
+{
+    return self->solveRcond(a, b, positiveDefinite);
+}
+
+bool NativeMatrixImpl_insert(NativeMatrixImpl* self, NativeMatrixImpl* src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+{
+    return self->insert(src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
+}
+
+bool NativeMatrixImpl_insertData(NativeMatrixImpl* self, double* src, int rows, int cols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+{
+    return self->insert(src, rows, cols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
+}
+
+bool NativeMatrixImpl_insertMatrix3D(NativeMatrixImpl* self, int startRow, int startCol, double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22)
+{
+    return self->insert(startRow, startCol, m00, m01, m02, m10, m11, m12, m20, m21, m22);
+}
+
+bool NativeMatrixImpl_insertTupleRow(NativeMatrixImpl* self, int startRow, int startCol, double x, double y, double z)
+{
+    return self->insertTupleRow(startRow, startCol, x, y, z);
+}
+
+bool NativeMatrixImpl_insertScaled(NativeMatrixImpl* self, NativeMatrixImpl* src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+{
+    return self->insertScaled(src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale);
+}
+
+bool NativeMatrixImpl_insertScaledData(NativeMatrixImpl* self, double* src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+{
+    return self->insertScaled(src, srcRows, srcCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale);
+}
+
+bool NativeMatrixImpl_extract(NativeMatrixImpl* self, int srcY0, int srcY1, int srcX0, int srcX1, double* dst, int dstRows, int dstCols, int dstY0, int dstX0)
+{
+    return self->extract(srcY0, srcY1, srcX0, srcX1, dst, dstRows, dstCols, dstY0, dstX0);
+}
+
+bool NativeMatrixImpl_transpose(NativeMatrixImpl* self, NativeMatrixImpl* a)
+{
+    return self->transpose(a);
+}
+
+bool NativeMatrixImpl_removeRow(NativeMatrixImpl* self, int indexToRemove)
+{
+    return self->removeRow(indexToRemove);
+}
+
+bool NativeMatrixImpl_removeColumn(NativeMatrixImpl* self, int indexToRemove)
+{
+    return self->removeColumn(indexToRemove);
+}
+
+void NativeMatrixImpl_zero(NativeMatrixImpl* self)
+{
+    self->zero();
+}
+
+bool NativeMatrixImpl_containsNaN(NativeMatrixImpl* self)
+{
+    return self->containsNaN();
+}
+
+bool NativeMatrixImpl_scale(NativeMatrixImpl* self, double scale, NativeMatrixImpl* src)
+{
+    return self->scale(scale, src);
+}
+
+bool NativeMatrixImpl_scaleBlock(NativeMatrixImpl* self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
+{
+    return self->scaleBlock(startRow, startCol, numberOfRows, numberOfCols, value);
+}
+
+bool NativeMatrixImpl_isAprrox(NativeMatrixImpl* self, NativeMatrixImpl* other, double precision)
+{
+    return self->isAprrox(other, precision);
+}
+
+bool NativeMatrixImpl_setData(NativeMatrixImpl* self, double* data, int rows, int cols)
+{
+    return self->set(data, rows, cols);
+}
+
+bool NativeMatrixImpl_getData(NativeMatrixImpl* self, double* data, int rows, int cols)
+{
+    return self->get(data, rows, cols);
+}
+
+bool NativeMatrixImpl_addDiagonalBlock(NativeMatrixImpl* self, int startRow, int startCol, int rows, int cols, double value)
+{
+    return self->addDiagonal(startRow, startCol, rows, cols, value);
+}
+
+bool NativeMatrixImpl_fill(NativeMatrixImpl* self, double value)
+{
+    return self->fill(value);
+}
+
+bool NativeMatrixImpl_fillDiagonalBlock(NativeMatrixImpl* self, int startRow, int startCol, int rows, int cols, double value)
+{
+    return self->fillDiagonal(startRow, startCol, rows, cols, value);
+}
+
+bool NativeMatrixImpl_fillBlock(NativeMatrixImpl* self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
+{
+    return self->fillBlock(startRow, startCol, numberOfRows, numberOfCols, value);
+}
+
+bool NativeMatrixImpl_setElement(NativeMatrixImpl* self, int dstRow, int dstCol, NativeMatrixImpl* src, int srcRow, int srcCol)
+{
+    return self->setElement(dstRow, dstCol, src, srcRow, srcCol);
+}
+
+bool NativeMatrixImpl_zeroBlock(NativeMatrixImpl* self, int srcY0, int srcY1, int srcX0, int srcX1)
+{
+    return self->zeroBlock(srcY0, srcY1, srcX0, srcX1);
+}
+
+bool NativeMatrixImpl_addDiagonalSquare(NativeMatrixImpl* self, int startRow, int startCol, int size, double value)
+{
+    return self->addDiagonal(startRow, startCol, size, value);
+}
+
+bool NativeMatrixImpl_addDiagonal(NativeMatrixImpl* self, double value)
+{
+    return self->addDiagonal(value);
+}
+
+bool NativeMatrixImpl_fillDiagonalSquare(NativeMatrixImpl* self, int startRow, int startCol, int size, double value)
+{
+    return self->fillDiagonal(startRow, startCol, size, value);
+}
+
+bool NativeMatrixImpl_fillDiagonal(NativeMatrixImpl* self, double value)
+{
+    return self->fillDiagonal(value);
+}
+
+double NativeMatrixImpl_min(NativeMatrixImpl* self)
+{
+    return self->min();
+}
+
+double NativeMatrixImpl_max(NativeMatrixImpl* self)
+{
+    return self->max();
+}
+
+double NativeMatrixImpl_sum(NativeMatrixImpl* self)
+{
+    return self->sum();
+}
+
+double NativeMatrixImpl_prod(NativeMatrixImpl* self)
+{
+    return self->prod();
+}
+
+void NativeMatrixImpl_scaleInPlace(NativeMatrixImpl* self, double scale)
+{
+    self->scale(scale);
+}
+
+bool NativeMatrixImpl_setValue(NativeMatrixImpl* self, int row, int col, double value)
+{
+    return self->set(row, col, value);
+}
+
+double NativeMatrixImpl_getValue(NativeMatrixImpl* self, int row, int col)
+{
+    return self->get(row, col);
+}
+
+int NativeMatrixImpl_rows(NativeMatrixImpl* self)
+{
+    return self->rows();
+}
+
+int NativeMatrixImpl_cols(NativeMatrixImpl* self)
+{
+    return self->cols();
+}
+
+int NativeMatrixImpl_size(NativeMatrixImpl* self)
+{
+    return self->size();
+}
+
+int NativeMatrixImpl_capacity(NativeMatrixImpl* self)
+{
+    return self->capacity();
+}
+
+bool NativeMatrixImpl_zeroRow(NativeMatrixImpl* self, int rowToZero)
+{
+    return self->zeroRow(rowToZero);
+}
+
+bool NativeMatrixImpl_zeroCol(NativeMatrixImpl* self, int colToZero)
+{
+    return self->zeroCol(colToZero);
+}
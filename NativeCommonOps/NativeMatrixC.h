@@ -0,0 +1,196 @@
+#ifndef NATIVEMATRIXC_H
+#define NATIVEMATRIXC_H
+
+#include "NativeMatrix.h"
+
+/*
+ * Plain C entry points to NativeMatrixImpl for the Panama (java.lang.foreign) backend.
+ *
+ * Unlike the SWIG wrappers, these functions do not take a JNIEnv and can be bound with downcall handles. The
+ * NativeMatrixImpl pointer is the one owned by the SWIG proxy, see NativeMatrixImpl.getCPtr() on the Java side.
+ */
+#if defined(_WIN32)
+#define NATIVEMATRIX_EXPORT extern "C" __declspec(dllexport)
+#else
+#define NATIVEMATRIX_EXPORT extern "C" __attribute__((visibility("default")))
+#endif
+
+NATIVEMATRIX_EXPORT void NativeMatrixImpl_resize(NativeMatrixImpl* self, int numRows, int numCols);
+
+NATIVEMATRIX_EXPORT void NativeMatrixImpl_growRows(NativeMatrixImpl* self, int numRowsToGrow);
+
+NATIVEMATRIX_EXPORT void NativeMatrixImpl_reserve(NativeMatrixImpl* self, int numberOfElements);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_set(NativeMatrixImpl* self, NativeMatrixImpl* a);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_add(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_addScaled(NativeMatrixImpl* self, NativeMatrixImpl* a, double scale, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_addWeighted(NativeMatrixImpl* self, double scale1, NativeMatrixImpl* a, double scale2, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_addEquals(NativeMatrixImpl* self, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_addEqualsScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_addElement(NativeMatrixImpl* self, int row, int col, double value);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_subtract(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_mult(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAdd(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multTransA(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multTransAScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddTransA(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddTransAScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multTransB(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multTransBScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddTransB(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddTransBScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_addBlockScaled(NativeMatrixImpl* self, NativeMatrixImpl* a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns, double scale);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_addBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_subtractBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddBlockScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddBlockTransA(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddBlockTransAScaled(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multQuad(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddQuad(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multQuadBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddQuadBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b, int rowStart, int colStart);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multQuadDiagonal(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddQuadDiagonal(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multAddQuadDiagonalBlock(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size, int rowStart, int colStart);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_preMultDiagonal(NativeMatrixImpl* self, double* w, int size, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_preMultAddDiagonalBlock(NativeMatrixImpl* self, double scale, double* w, int size, NativeMatrixImpl* b, int rowStart, int colStart);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_postMultDiagonal(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_postMultTransADiagonal(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_multOuterDiagonal(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_innerDiagonalMult(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size, NativeMatrixImpl* c);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_innerDiagonalMultTransA(NativeMatrixImpl* self, NativeMatrixImpl* a, double* w, int size, NativeMatrixImpl* c);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_innerDiagonalMultAddBlockTransA(NativeMatrixImpl* self, double scale, NativeMatrixImpl* a, double* w, int size, NativeMatrixImpl* c, int rowStart, int colStart);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_invert(NativeMatrixImpl* self, NativeMatrixImpl* a);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_solve(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_solveCheck(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b);
+
+NATIVEMATRIX_EXPORT double NativeMatrixImpl_solveRcond(NativeMatrixImpl* self, NativeMatrixImpl* a, NativeMatrixImpl* b, bool positiveDefinite);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_insert(NativeMatrixImpl* self, NativeMatrixImpl* src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_insertData(NativeMatrixImpl* self, double* src, int rows, int cols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_insertMatrix3D(NativeMatrixImpl* self, int startRow, int startCol, double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_insertTupleRow(NativeMatrixImpl* self, int startRow, int startCol, double x, double y, double z);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_insertScaled(NativeMatrixImpl* self, NativeMatrixImpl* src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_insertScaledData(NativeMatrixImpl* self, double* src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_extract(NativeMatrixImpl* self, int srcY0, int srcY1, int srcX0, int srcX1, double* dst, int dstRows, int dstCols, int dstY0, int dstX0);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_transpose(NativeMatrixImpl* self, NativeMatrixImpl* a);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_removeRow(NativeMatrixImpl* self, int indexToRemove);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_removeColumn(NativeMatrixImpl* self, int indexToRemove);
+
+NATIVEMATRIX_EXPORT void NativeMatrixImpl_zero(NativeMatrixImpl* self);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_containsNaN(NativeMatrixImpl* self);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_scale(NativeMatrixImpl* self, double scale, NativeMatrixImpl* src);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_scaleBlock(NativeMatrixImpl* self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_isAprrox(NativeMatrixImpl* self, NativeMatrixImpl* other, double precision);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_setData(NativeMatrixImpl* self, double* data, int rows, int cols);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_getData(NativeMatrixImpl* self, double* data, int rows, int cols);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_addDiagonalBlock(NativeMatrixImpl* self, int startRow, int startCol, int rows, int cols, double value);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_fill(NativeMatrixImpl* self, double value);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_fillDiagonalBlock(NativeMatrixImpl* self, int startRow, int startCol, int rows, int cols, double value);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_fillBlock(NativeMatrixImpl* self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_setElement(NativeMatrixImpl* self, int dstRow, int dstCol, NativeMatrixImpl* src, int srcRow, int srcCol);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_zeroBlock(NativeMatrixImpl* self, int srcY0, int srcY1, int srcX0, int srcX1);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_addDiagonalSquare(NativeMatrixImpl* self, int startRow, int startCol, int size, double value);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_addDiagonal(NativeMatrixImpl* self, double value);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_fillDiagonalSquare(NativeMatrixImpl* self, int startRow, int startCol, int size, double value);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_fillDiagonal(NativeMatrixImpl* self, double value);
+
+NATIVEMATRIX_EXPORT double NativeMatrixImpl_min(NativeMatrixImpl* self);
+
+NATIVEMATRIX_EXPORT double NativeMatrixImpl_max(NativeMatrixImpl* self);
+
+NATIVEMATRIX_EXPORT double NativeMatrixImpl_sum(NativeMatrixImpl* self);
+
+NATIVEMATRIX_EXPORT double NativeMatrixImpl_prod(NativeMatrixImpl* self);
+
+NATIVEMATRIX_EXPORT void NativeMatrixImpl_scaleInPlace(NativeMatrixImpl* self, double scale);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_setValue(NativeMatrixImpl* self, int row, int col, double value);
+
+NATIVEMATRIX_EXPORT double NativeMatrixImpl_getValue(NativeMatrixImpl* self, int row, int col);
+
+NATIVEMATRIX_EXPORT int NativeMatrixImpl_rows(NativeMatrixImpl* self);
+
+NATIVEMATRIX_EXPORT int NativeMatrixImpl_cols(NativeMatrixImpl* self);
+
+NATIVEMATRIX_EXPORT int NativeMatrixImpl_size(NativeMatrixImpl* self);
+
+NATIVEMATRIX_EXPORT int NativeMatrixImpl_capacity(NativeMatrixImpl* self);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_zeroRow(NativeMatrixImpl* self, int rowToZero);
+
+NATIVEMATRIX_EXPORT bool NativeMatrixImpl_zeroCol(NativeMatrixImpl* self, int colToZero);
+
+#endif // NATIVEMATRIXC_H
@@ -0,0 +1,156 @@
+#include "NativeMatrixProgram.h"
+
+NativeMatrixProgramImpl::NativeMatrixProgramImpl()
+{
+}
+
+bool NativeMatrixProgramImpl::record(int operation, NativeMatrixImpl* result, NativeMatrixImpl* a, NativeMatrixImpl* b,
+                                     int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, double scale1, double scale2)
+{
+    if(operation < 0 || operation >= NUMBER_OF_OPERATIONS || result == NULL)
+    {
+        return false;
+    }
+
+    Operation op;
+    op.operation = operation;
+    op.result = result;
+    op.a = a;
+    op.b = b;
+    op.args[0] = arg0;
+    op.args[1] = arg1;
+    op.args[2] = arg2;
+    op.args[3] = arg3;
+    op.args[4] = arg4;
+    op.args[5] = arg5;
+    op.scale1 = scale1;
+    op.scale2 = scale2;
+    operations.push_back(op);
+
+    return true;
+}
+
+int NativeMatrixProgramImpl::execute()
+{
+    for(std::size_t i = 0; i < operations.size(); i++)
+    {
+        if(!execute(operations[i]))
+        {
+            return (int) i;
+        }
+    }
+
+    return -1;
+}
+
+void NativeMatrixProgramImpl::clear()
+{
+    operations.clear();
+}
+
+int NativeMatrixProgramImpl::size()
+{
+    return (int) operations.size();
+}
+
+bool NativeMatrixProgramImpl::execute(const Operation& op)
+{
+    NativeMatrixImpl* r = op.result;
+    const int* args = op.args;
+
+    switch(op.operation)
+    {
+    case SET:
+        return r->set(op.a);
+    case ADD:
+        return r->add(op.a, op.b);
+    case ADD_SCALED:
+        return r->add(op.a, op.scale1, op.b);
+    case ADD_WEIGHTED:
+        return r->add(op.scale1, op.a, op.scale2, op.b);
+    case ADD_EQUALS:
+        return r->addEquals(op.a);
+    case ADD_EQUALS_SCALED:
+        return r->addEquals(op.scale1, op.a);
+    case SUBTRACT:
+        return r->subtract(op.a, op.b);
+    case MULT:
+        return r->mult(op.a, op.b);
+    case MULT_SCALED:
+        return r->mult(op.scale1, op.a, op.b);
+    case MULT_ADD:
+        return r->multAdd(op.a, op.b);
+    case MULT_ADD_SCALED:
+        return r->multAdd(op.scale1, op.a, op.b);
+    case MULT_TRANS_A:
+        return r->multTransA(op.a, op.b);
+    case MULT_TRANS_A_SCALED:
+        return r->multTransA(op.scale1, op.a, op.b);
+    case MULT_ADD_TRANS_A:
+        return r->multAddTransA(op.a, op.b);
+    case MULT_ADD_TRANS_A_SCALED:
+        return r->multAddTransA(op.scale1, op.a, op.b);
+    case MULT_TRANS_B:
+        return r->multTransB(op.a, op.b);
+    case MULT_TRANS_B_SCALED:
+        return r->multTransB(op.scale1, op.a, op.b);
+    case MULT_ADD_TRANS_B:
+        return r->multAddTransB(op.a, op.b);
+    case MULT_ADD_TRANS_B_SCALED:
+        return r->multAddTransB(op.scale1, op.a, op.b);
+    case ADD_BLOCK:
+        return r->addBlock(op.a, args[0], args[1], args[2], args[3], args[4], args[5]);
+    case ADD_BLOCK_SCALED:
+        return r->addBlock(op.a, args[0], args[1], args[2], args[3], args[4], args[5], op.scale1);
+    case SUBTRACT_BLOCK:
+        return r->subtractBlock(op.a, args[0], args[1], args[2], args[3], args[4], args[5]);
+    case MULT_ADD_BLOCK:
+        return r->multAddBlock(op.a, op.b, args[0], args[1]);
+    case MULT_ADD_BLOCK_SCALED:
+        return r->multAddBlock(op.scale1, op.a, op.b, args[0], args[1]);
+    case MULT_ADD_BLOCK_TRANS_A:
+        return r->multAddBlockTransA(op.a, op.b, args[0], args[1]);
+    case MULT_ADD_BLOCK_TRANS_A_SCALED:
+        return r->multAddBlockTransA(op.scale1, op.a, op.b, args[0], args[1]);
+    case MULT_QUAD:
+        return r->multQuad(op.a, op.b);
+    case MULT_ADD_QUAD:
+        return r->multAddQuad(op.a, op.b);
+    case MULT_QUAD_BLOCK:
+        return r->multQuadBlock(op.a, op.b, args[0], args[1]);
+    case MULT_ADD_QUAD_BLOCK:
+        return r->multAddQuadBlock(op.a, op.b, args[0], args[1]);
+    case INVERT:
+        return r->invert(op.a);
+    case SOLVE:
+        return r->solve(op.a, op.b);
+    case TRANSPOSE:
+        return r->transpose(op.a);
+    case INSERT:
+        return r->insert(op.a, args[0], args[1], args[2], args[3], args[4], args[5]);
+    case INSERT_SCALED:
+        return r->insertScaled(op.a, args[0], args[1], args[2], args[3], args[4], args[5], op.scale1);
+    case SCALE:
+        return r->scale(op.scale1, op.a);
+    case SCALE_BLOCK:
+        return r->scaleBlock(args[0], args[1], args[2], args[3], op.scale1);
+    case ZERO:
+        r->zero();
+        return true;
+    case FILL:
+        return r->fill(op.scale1);
+    case FILL_BLOCK:
+        return r->fillBlock(args[0], args[1], args[2], args[3], op.scale1);
+    case ZERO_BLOCK:
+        return r->zeroBlock(args[0], args[1], args[2], args[3]);
+    case ADD_DIAGONAL:
+        return r->addDiagonal(op.scale1);
+    case FILL_DIAGONAL:
+        return r->fillDiagonal(op.scale1);
+    case RESHAPE:
+        r->resize(args[0], args[1]);
+        return true;
+    default:
+        return false;
+    }
+}
@@ -0,0 +1,103 @@
+#ifndef NATIVEMATRIXPROGRAM_H
+#define NATIVEMATRIXPROGRAM_H
+
+#include <vector>
+#include "NativeMatrix.h"
+
+/**
+ * Sequence of NativeMatrixImpl operations recorded once and executed in a single call.
+ *
+ * The operation codes are exported to Java by SWIG as the constants of NativeMatrixProgramImpl.
+ */
+class NativeMatrixProgramImpl
+{
+public:
+    /**
+     * Codes of the operations that can be recorded, one per NativeMatrixImpl method and overload.
+     */
+    enum OperationCode
+    {
+        SET = 0,
+        ADD,
+        ADD_SCALED,
+        ADD_WEIGHTED,
+        ADD_EQUALS,
+        ADD_EQUALS_SCALED,
+        SUBTRACT,
+        MULT,
+        MULT_SCALED,
+        MULT_ADD,
+        MULT_ADD_SCALED,
+        MULT_TRANS_A,
+        MULT_TRANS_A_SCALED,
+        MULT_ADD_TRANS_A,
+        MULT_ADD_TRANS_A_SCALED,
+        MULT_TRANS_B,
+        MULT_TRANS_B_SCALED,
+        MULT_ADD_TRANS_B,
+        MULT_ADD_TRANS_B_SCALED,
+        ADD_BLOCK,
+        ADD_BLOCK_SCALED,
+        SUBTRACT_BLOCK,
+        MULT_ADD_BLOCK,
+        MULT_ADD_BLOCK_SCALED,
+        MULT_ADD_BLOCK_TRANS_A,
+        MULT_ADD_BLOCK_TRANS_A_SCALED,
+        MULT_QUAD,
+        MULT_ADD_QUAD,
+        MULT_QUAD_BLOCK,
+        MULT_ADD_QUAD_BLOCK,
+        INVERT,
+        SOLVE,
+        TRANSPOSE,
+        INSERT,
+        INSERT_SCALED,
+        SCALE,
+        SCALE_BLOCK,
+        ZERO,
+        FILL,
+        FILL_BLOCK,
+        ZERO_BLOCK,
+        ADD_DIAGONAL,
+        FILL_DIAGONAL,
+        RESHAPE,
+        NUMBER_OF_OPERATIONS
+    };
+
+    NativeMatrixProgramImpl();
+
+    /**
+     * Appends an operation to the program. The integer and scale arguments that are not used by the operation are ignored.
+     * Returns false if the operation code is unknown.
+     */
+    bool record(int operation, NativeMatrixImpl* result, NativeMatrixImpl* a, NativeMatrixImpl* b,
+                int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, double scale1, double scale2);
+
+    /**
+     * Executes the operations in order, stopping at the first one that fails.
+     * Returns -1 if all the operations succeeded, the index of the failed operation otherwise.
+     */
+    int execute();
+
+    void clear();
+
+    int size();
+
+private:
+    struct Operation
+    {
+        int operation;
+        NativeMatrixImpl* result;
+        NativeMatrixImpl* a;
+        NativeMatrixImpl* b;
+        int args[6];
+        double scale1;
+        double scale2;
+    };
+
+    bool execute(const Operation& op);
+
+    std::vector<Operation> operations;
+};
+
+#endif // NATIVEMATRIXPROGRAM_H
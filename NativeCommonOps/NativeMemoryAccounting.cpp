@@ -0,0 +1,58 @@
+#include "NativeMemoryAccounting.h"
+
+#include <atomic>
+
+namespace
+{
+std::atomic<long long> liveBytes(0);
+std::atomic<long long> highWaterMark(0);
+std::atomic<long long> liveCount(0);
+
+void updateHighWaterMark(long long bytes)
+{
+    long long current = highWaterMark.load(std::memory_order_relaxed);
+    while (bytes > current && !highWaterMark.compare_exchange_weak(current, bytes, std::memory_order_relaxed))
+    {
+    }
+}
+}
+
+long long NativeMemoryAccounting::getLiveBytes()
+{
+    return liveBytes.load(std::memory_order_relaxed);
+}
+
+long long NativeMemoryAccounting::getHighWaterMark()
+{
+    return highWaterMark.load(std::memory_order_relaxed);
+}
+
+long long NativeMemoryAccounting::getLiveCount()
+{
+    return liveCount.load(std::memory_order_relaxed);
+}
+
+void NativeMemoryAccounting::resetHighWaterMark()
+{
+    highWaterMark.store(liveBytes.load(std::memory_order_relaxed), std::memory_order_relaxed);
+}
+
+void NativeMemoryAccounting::allocated(long long bytes)
+{
+    updateHighWaterMark(liveBytes.fetch_add(bytes, std::memory_order_relaxed) + bytes);
+}
+
+void NativeMemoryAccounting::freed(long long bytes)
+{
+    liveBytes.fetch_sub(bytes, std::memory_order_relaxed);
+}
+
+void NativeMemoryAccounting::created()
+{
+    liveCount.fetch_add(1, std::memory_order_relaxed);
+}
+
+void NativeMemoryAccounting::deleted()
+{
+    liveCount.fetch_sub(1, std::memory_order_relaxed);
+}
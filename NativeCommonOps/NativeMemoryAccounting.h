@@ -0,0 +1,44 @@
+#ifndef NATIVEMEMORYACCOUNTING_H
+#define NATIVEMEMORYACCOUNTING_H
+
+/**
+ * Process-wide accounting of the native memory held by the NativeMatrixImpl instances: the instances themselves and
+ * their storage, which only grows on resize and is released when the instance is deleted.
+ *
+ * The counters are atomic and can be read from any thread. They are not visible in the heap metrics of the JVM.
+ */
+class NativeMemoryAccounting
+{
+public:
+    /**
+     * Bytes currently allocated by the live NativeMatrixImpl instances.
+     */
+    static long long getLiveBytes();
+
+    /**
+     * Largest value of getLiveBytes() since the library was loaded or since the last call to resetHighWaterMark().
+     */
+    static long long getHighWaterMark();
+
+    /**
+     * Number of NativeMatrixImpl instances that have been created and not deleted yet.
+     */
+    static long long getLiveCount();
+
+    /**
+     * Sets the high-water mark to the current number of live bytes.
+     */
+    static void resetHighWaterMark();
+
+#ifndef SWIG
+    static void allocated(long long bytes);
+
+    static void freed(long long bytes);
+
+    static void created();
+
+    static void deleted();
+#endif
+};
+
+#endif // NATIVEMEMORYACCOUNTING_H
@@ -4,7 +4,10 @@ NativeNullspaceProjectorImpl::NativeNullspaceProjectorImpl(int degreesOfFreedom)
     degreesOfFreedom_(degreesOfFreedom),
     identity(Eigen::MatrixXd::Identity(degreesOfFreedom, degreesOfFreedom)),
     BtB(degreesOfFreedom, degreesOfFreedom),
-    outer(degreesOfFreedom, degreesOfFreedom)
+    outer(degreesOfFreedom, degreesOfFreedom),
+    hasConstraint(false),
+    N(degreesOfFreedom, degreesOfFreedom),
+    llt(degreesOfFreedom)
 {
 
 }
@@ -37,3 +40,91 @@ bool NativeNullspaceProjectorImpl::projectOnNullSpace(NativeMatrixImpl* A, Nativ
 
     return true;
 }
+
+bool NativeNullspaceProjectorImpl::setConstraint(NativeMatrixImpl* B, double alpha)
+{
+    if(B->cols() != degreesOfFreedom_)
+    {
+        return false;
+    }
+
+    int bRows = B->rows();
+
+    if(bRows < degreesOfFreedom_)
+    {
+        // inverse(BtB + alpha^2 I) * BtB = Bt * inverse(BBt + alpha^2 I) * B, only a bRows-by-bRows matrix is factorized.
+        BBt.noalias() = B->matrix * B->matrix.transpose();
+        BBt.diagonal().array() += alpha * alpha;
+        llt.compute(BBt);
+        W = B->matrix;
+        llt.solveInPlace(W);
+        N = identity;
+        N.noalias() -= B->matrix.transpose() * W;
+    }
+    else
+    {
+        BtB.noalias() = B->matrix.transpose() * B->matrix;
+        outer = BtB;
+        outer.diagonal().array() += alpha * alpha;
+        llt.compute(outer);
+        llt.solveInPlace(BtB);
+        N = identity - BtB;
+    }
+
+    hasConstraint = true;
+    return true;
+}
+
+bool NativeNullspaceProjectorImpl::project(NativeMatrixImpl* A, NativeMatrixImpl* x)
+{
+    if(!hasConstraint || A->cols() != degreesOfFreedom_)
+    {
+        return false;
+    }
+
+    if(A == x)
+    {
+        W = A->matrix;
+        x->matrix.noalias() = W * N;
+    }
+    else
+    {
+        x->resize(A->rows(), degreesOfFreedom_);
+        x->matrix.noalias() = A->matrix * N;
+    }
+
+    return true;
+}
+
+bool NativeNullspaceProjectorImpl::projectColumns(NativeMatrixImpl* V, NativeMatrixImpl* x)
+{
+    if(!hasConstraint || V->rows() != degreesOfFreedom_)
+    {
+        return false;
+    }
+
+    if(V == x)
+    {
+        W = V->matrix;
+        x->matrix.noalias() = N * W;
+    }
+    else
+    {
+        x->resize(degreesOfFreedom_, V->cols());
+        x->matrix.noalias() = N * V->matrix;
+    }
+
+    return true;
+}
+
+bool NativeNullspaceProjectorImpl::getProjector(NativeMatrixImpl* N)
+{
+    if(!hasConstraint)
+    {
+        return false;
+    }
+
+    N->resize(degreesOfFreedom_, degreesOfFreedom_);
+    N->matrix = this->N;
+    return true;
+}
@@ -9,12 +9,35 @@ public:
     NativeNullspaceProjectorImpl(int degreesOfFreedom);
     bool projectOnNullSpace(NativeMatrixImpl *A, NativeMatrixImpl *B, NativeMatrixImpl *x, double alpha);
 
+    /**
+     * Computes and caches the projector N = I - inverse(BtB + alpha^2 I) * BtB onto the nullspace of B.
+     */
+    bool setConstraint(NativeMatrixImpl *B, double alpha);
+
+    /**
+     * x = A * N, using the projector cached by setConstraint.
+     */
+    bool project(NativeMatrixImpl *A, NativeMatrixImpl *x);
+
+    /**
+     * x = N * V, using the projector cached by setConstraint. N being symmetric, this projects the columns of V.
+     */
+    bool projectColumns(NativeMatrixImpl *V, NativeMatrixImpl *x);
+
+    bool getProjector(NativeMatrixImpl *N);
+
 
 private:
     int degreesOfFreedom_;
     Eigen::MatrixXd identity;
     Eigen::MatrixXd BtB;
     Eigen::MatrixXd outer;
+
+    bool hasConstraint;
+    Eigen::MatrixXd N;
+    Eigen::MatrixXd BBt;
+    Eigen::MatrixXd W;
+    Eigen::LLT<Eigen::MatrixXd> llt;
 };
 
 #endif // NULLSPACEPROJECTOR_H
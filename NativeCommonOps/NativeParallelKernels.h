@@ -0,0 +1,31 @@
+#ifndef NATIVEPARALLELKERNELS_H
+#define NATIVEPARALLELKERNELS_H
+
+#include "NativeMatrix.h"
+
+/**
+ * Parallel versions of the large NativeMatrix operations, using the settings of NativeParallelism for the calling
+ * thread. This header is internal to the library and not wrapped by SWIG.
+ */
+namespace NativeParallelKernels
+{
+/**
+ * result = scale * a * b, or scale * a' * b when transposeA is true. result must be sized and must not alias a or b.
+ * Returns false, without modifying result, when the operation should run sequentially.
+ */
+bool mult(NativeMatrixView& result, const NativeMatrixView& a, const NativeMatrixView& b, double scale, bool transposeA);
+
+/**
+ * result = inverse(a) using a blocked LU decomposition with partial pivoting, a being square. result can be a.
+ * Returns false, without modifying result, when the operation should run sequentially.
+ */
+bool invert(NativeMatrixImpl* result, NativeMatrixImpl* a);
+
+/**
+ * result = inverse(a) * b using a blocked LU decomposition with partial pivoting, a being square. result can be a or
+ * b. Returns false, without modifying result, when the operation should run sequentially.
+ */
+bool solve(NativeMatrixImpl* result, NativeMatrixImpl* a, NativeMatrixImpl* b);
+}
+
+#endif // NATIVEPARALLELKERNELS_H
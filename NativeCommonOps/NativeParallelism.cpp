@@ -0,0 +1,245 @@
+#include "NativeParallelism.h"
+#include "NativeParallelKernels.h"
+#include "WorkerPool.h"
+
+#include <algorithm>
+#include <memory>
+#include <utility>
+#include <vector>
+
+namespace
+{
+// Smaller chunks of columns do not amortize the synchronization of the pool.
+const int MINIMUM_COLUMNS_PER_TASK = 16;
+const int LU_BLOCK_SIZE = 64;
+
+struct Settings
+{
+    int numberOfThreads = 1;
+    int threshold = NativeParallelism::DEFAULT_THRESHOLD;
+    std::unique_ptr<WorkerPool> pool;
+};
+
+// The pool is created on the first parallel operation and its workers are stopped when the owning thread exits.
+thread_local Settings settings;
+
+WorkerPool& pool()
+{
+    if (!settings.pool)
+    {
+        settings.pool.reset(new WorkerPool(settings.numberOfThreads));
+    }
+    return *settings.pool;
+}
+
+/*
+ * Number of tasks used to process the given number of columns of an operation whose largest dimension is size, 1 when
+ * the operation should run sequentially.
+ */
+int numberOfTasks(int size, int columns)
+{
+    if (settings.numberOfThreads <= 1 || size < settings.threshold)
+    {
+        return 1;
+    }
+    return std::max(1, std::min(settings.numberOfThreads, columns / MINIMUM_COLUMNS_PER_TASK));
+}
+
+template<typename Kernel> void forEachChunk(int tasks, int columns, const Kernel& kernel)
+{
+    int columnsPerTask = (columns + tasks - 1) / tasks;
+
+    pool().run(tasks, [&](int task)
+    {
+        int start = task * columnsPerTask;
+        int count = std::min(columnsPerTask, columns - start);
+        if (count > 0)
+        {
+            kernel(start, count);
+        }
+    });
+}
+
+/*
+ * Right-looking blocked LU decomposition with partial pivoting, P * A = L * U, computed in place. Each panel of
+ * LU_BLOCK_SIZE columns is factorized on the calling thread, the update of the trailing matrix, where most of the time
+ * is spent, is split by columns across the tasks. Row j was swapped with row pivots[j] at step j.
+ */
+void blockedLU(Eigen::MatrixXd& A, std::vector<int>& pivots, int tasks)
+{
+    int n = (int) A.rows();
+    pivots.resize(n);
+
+    for (int k = 0; k < n; k += LU_BLOCK_SIZE)
+    {
+        int blockSize = std::min(LU_BLOCK_SIZE, n - k);
+
+        for (int j = k; j < k + blockSize; j++)
+        {
+            Eigen::Index maxIndex;
+            A.col(j).tail(n - j).cwiseAbs().maxCoeff(&maxIndex);
+            int pivot = j + (int) maxIndex;
+            pivots[j] = pivot;
+            if (pivot != j)
+            {
+                A.row(j).swap(A.row(pivot));
+            }
+
+            // Like Eigen, a zero pivot is kept and gives infinite or NaN values when solving.
+            int below = n - j - 1;
+            if (A(j, j) != 0.0)
+            {
+                A.col(j).tail(below) /= A(j, j);
+            }
+
+            int panelCols = k + blockSize - j - 1;
+            A.block(j + 1, j + 1, below, panelCols).noalias() -= A.col(j).tail(below) * A.row(j).segment(j + 1, panelCols);
+        }
+
+        int trailingSize = n - k - blockSize;
+        if (trailingSize == 0)
+        {
+            break;
+        }
+
+        forEachChunk(tasks, trailingSize, [&](int start, int count)
+        {
+            int col = k + blockSize + start;
+            A.block(k, k, blockSize, blockSize).triangularView<Eigen::UnitLower>().solveInPlace(A.block(k, col, blockSize, count));
+            A.block(k + blockSize, col, trailingSize, count).noalias() -= A.block(k + blockSize, k, trailingSize, blockSize) * A.block(k, col, blockSize, count);
+        });
+    }
+}
+}
+
+void NativeParallelism::setNumberOfThreads(int numberOfThreads)
+{
+    settings.numberOfThreads = std::max(numberOfThreads, 1);
+    if (settings.pool)
+    {
+        settings.pool->setNumberOfThreads(settings.numberOfThreads);
+    }
+}
+
+int NativeParallelism::getNumberOfThreads()
+{
+    return settings.numberOfThreads;
+}
+
+void NativeParallelism::setThreshold(int threshold)
+{
+    settings.threshold = threshold;
+}
+
+int NativeParallelism::getThreshold()
+{
+    return settings.threshold;
+}
+
+bool NativeParallelKernels::mult(NativeMatrixView& result, const NativeMatrixView& a, const NativeMatrixView& b, double scale, bool transposeA)
+{
+    int rows = (int) result.rows();
+    int cols = (int) result.cols();
+    int inner = (int) (transposeA ? a.rows() : a.cols());
+    int size = std::max(std::max(rows, cols), inner);
+
+    // Column chunks are contiguous, row chunks are only used for results with few columns such as matrix-vector products.
+    bool splitColumns = cols >= rows;
+    int tasks = numberOfTasks(size, splitColumns ? cols : rows);
+    if (tasks <= 1)
+    {
+        return false;
+    }
+
+    if (splitColumns)
+    {
+        forEachChunk(tasks, cols, [&](int start, int count)
+        {
+            if (transposeA)
+                result.middleCols(start, count).noalias() = scale * (a.transpose() * b.middleCols(start, count));
+            else
+                result.middleCols(start, count).noalias() = scale * (a * b.middleCols(start, count));
+        });
+    }
+    else
+    {
+        forEachChunk(tasks, rows, [&](int start, int count)
+        {
+            if (transposeA)
+                result.middleRows(start, count).noalias() = scale * (a.middleCols(start, count).transpose() * b);
+            else
+                result.middleRows(start, count).noalias() = scale * (a.middleRows(start, count) * b);
+        });
+    }
+
+    return true;
+}
+
+bool NativeParallelKernels::invert(NativeMatrixImpl* result, NativeMatrixImpl* a)
+{
+    static thread_local Eigen::MatrixXd lu;
+    static thread_local std::vector<int> pivots;
+
+    int n = a->rows();
+    int tasks = numberOfTasks(n, n);
+    if (tasks <= 1)
+    {
+        return false;
+    }
+
+    lu = a->matrix;
+    blockedLU(lu, pivots, tasks);
+
+    // inverse(A) = inverse(U) * inverse(L) * P
+    result->resize(n, n);
+    NativeMatrixView& inverse = result->matrix;
+    inverse.setIdentity();
+    for (int j = 0; j < n; j++)
+    {
+        if (pivots[j] != j)
+        {
+            inverse.row(j).swap(inverse.row(pivots[j]));
+        }
+    }
+
+    forEachChunk(tasks, n, [&](int start, int count)
+    {
+        lu.triangularView<Eigen::UnitLower>().solveInPlace(inverse.middleCols(start, count));
+        lu.triangularView<Eigen::Upper>().solveInPlace(inverse.middleCols(start, count));
+    });
+
+    return true;
+}
+
+bool NativeParallelKernels::solve(NativeMatrixImpl* result, NativeMatrixImpl* a, NativeMatrixImpl* b)
+{
+    static thread_local Eigen::MatrixXd lu;
+    static thread_local std::vector<int> pivots;
+    static thread_local Eigen::MatrixXd x;
+
+    int n = a->rows();
+    int tasks = numberOfTasks(n, n);
+    if (tasks <= 1)
+    {
+        return false;
+    }
+
+    lu = a->matrix;
+    x = b->matrix;
+    blockedLU(lu, pivots, tasks);
+
+    for (int j = 0; j < n; j++)
+    {
+        if (pivots[j] != j)
+        {
+            x.row(j).swap(x.row(pivots[j]));
+        }
+    }
+    lu.triangularView<Eigen::UnitLower>().solveInPlace(x);
+    lu.triangularView<Eigen::Upper>().solveInPlace(x);
+
+    result->resize(n, (int) x.cols());
+    result->matrix = x;
+
+    return true;
+}
@@ -0,0 +1,34 @@
+#ifndef NATIVEPARALLELISM_H
+#define NATIVEPARALLELISM_H
+
+/**
+ * Opt-in parallelization of the large NativeMatrix operations: mult, multTransA, invert and solve, implemented in
+ * NativeParallelKernels.h.
+ *
+ * The settings are thread local: they only apply to the operations called from the thread that set them, and each
+ * calling thread owns its own WorkerPool. A thread that never changes the settings, such as a real-time control thread,
+ * runs every operation sequentially on itself. An operation is split across the threads when its largest dimension is
+ * at least the threshold.
+ */
+class NativeParallelism
+{
+public:
+    static const int DEFAULT_THRESHOLD = 256;
+
+    /**
+     * Sets the number of threads used by the calling thread, the calling thread included. Values less than one are
+     * treated as one, which disables the parallelization.
+     */
+    static void setNumberOfThreads(int numberOfThreads);
+
+    static int getNumberOfThreads();
+
+    /**
+     * Sets the minimum size of the largest dimension of an operation for it to be parallelized on the calling thread.
+     */
+    static void setThreshold(int threshold);
+
+    static int getThreshold();
+};
+
+#endif // NATIVEPARALLELISM_H
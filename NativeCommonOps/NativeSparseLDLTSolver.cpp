@@ -0,0 +1,72 @@
+#include "NativeSparseLDLTSolver.h"
+
+#include <algorithm>
+
+NativeSparseLDLTSolverImpl::NativeSparseLDLTSolverImpl() :
+    analyzed(false),
+    succeeded(false),
+    size(-1),
+    symbolicFactorizations(0)
+{
+}
+
+bool NativeSparseLDLTSolverImpl::samePattern(const Eigen::SparseMatrix<double>& A)
+{
+    if(!analyzed || A.cols() != size || A.nonZeros() != (Eigen::Index) innerIndices.size())
+    {
+        return false;
+    }
+
+    return std::equal(outerIndices.begin(), outerIndices.end(), A.outerIndexPtr())
+            && std::equal(innerIndices.begin(), innerIndices.end(), A.innerIndexPtr());
+}
+
+int NativeSparseLDLTSolverImpl::factor(NativeSparseMatrixImpl* A)
+{
+    if(A->rows() != A->cols())
+    {
+        return INCOMPATIBLE_DIMENSIONS;
+    }
+
+    Eigen::SparseMatrix<double>& matrix = A->matrix;
+    matrix.makeCompressed();
+
+    if(!samePattern(matrix))
+    {
+        ldlt.analyzePattern(matrix);
+        size = matrix.cols();
+        outerIndices.assign(matrix.outerIndexPtr(), matrix.outerIndexPtr() + matrix.cols() + 1);
+        innerIndices.assign(matrix.innerIndexPtr(), matrix.innerIndexPtr() + matrix.nonZeros());
+        analyzed = true;
+        symbolicFactorizations++;
+    }
+
+    ldlt.factorize(matrix);
+    succeeded = ldlt.info() == Eigen::Success;
+    return succeeded ? SUCCESS : NUMERICAL_ISSUE;
+}
+
+bool NativeSparseLDLTSolverImpl::solve(NativeMatrixImpl* b, NativeMatrixImpl* x)
+{
+    if(!analyzed || !succeeded || b->rows() != size)
+    {
+        return false;
+    }
+
+    if(b == x)
+    {
+        rhs = b->matrix;
+        x->matrix = ldlt.solve(rhs);
+    }
+    else
+    {
+        x->resize(size, b->cols());
+        x->matrix = ldlt.solve(b->matrix);
+    }
+    return true;
+}
+
+int NativeSparseLDLTSolverImpl::getNumberOfSymbolicFactorizations()
+{
+    return symbolicFactorizations;
+}
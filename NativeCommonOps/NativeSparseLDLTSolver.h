@@ -0,0 +1,53 @@
+#ifndef NATIVESPARSELDLTSOLVER_H
+#define NATIVESPARSELDLTSOLVER_H
+
+#include <Eigen/SparseCholesky>
+#include "NativeSparseMatrix.h"
+
+/**
+ * Sparse Cholesky solver for symmetric matrices, using a simplicial LDLT decomposition with a fill-reducing ordering.
+ * Only the upper triangle of the matrix is read.
+ *
+ * The decomposition is split in a symbolic analysis of the sparsity pattern, i.e. the ordering and the structure of
+ * the factor, and a numerical factorization. The pattern of the last matrix analyzed is kept and compared to the one
+ * of each new matrix, the symbolic analysis is only recomputed when the pattern changes. The comparison costs O(nnz).
+ *
+ * factor returns one of the status codes below, mirrored in NativeSparseLDLTSolver.java.
+ */
+class NativeSparseLDLTSolverImpl
+{
+public:
+    static const int SUCCESS = 0;
+    static const int INCOMPATIBLE_DIMENSIONS = 1;
+    static const int NUMERICAL_ISSUE = 2;
+
+    NativeSparseLDLTSolverImpl();
+
+    int factor(NativeSparseMatrixImpl* A);
+
+    /**
+     * x = inverse(A) * b, b having as many rows as A. x can be b.
+     */
+    bool solve(NativeMatrixImpl* b, NativeMatrixImpl* x);
+
+    /**
+     * Number of times the sparsity pattern has been analyzed since this solver was created.
+     */
+    int getNumberOfSymbolicFactorizations();
+
+private:
+    bool samePattern(const Eigen::SparseMatrix<double>& A);
+
+    Eigen::SimplicialLDLT<Eigen::SparseMatrix<double>, Eigen::Upper> ldlt;
+
+    std::vector<int> outerIndices;
+    std::vector<int> innerIndices;
+    bool analyzed;
+    bool succeeded;
+    int size;
+    int symbolicFactorizations;
+
+    Eigen::MatrixXd rhs;
+};
+
+#endif // NATIVESPARSELDLTSOLVER_H
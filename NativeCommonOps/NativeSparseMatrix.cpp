@@ -0,0 +1,189 @@
+#include "NativeSparseMatrix.h"
+
+#include <limits>
+
+NativeSparseMatrixImpl::NativeSparseMatrixImpl(int rows, int cols) :
+    matrix(rows, cols)
+{
+}
+
+void NativeSparseMatrixImpl::resize(int rows, int cols)
+{
+    matrix.resize(rows, cols);
+    triplets.clear();
+}
+
+int NativeSparseMatrixImpl::rows()
+{
+    return matrix.rows();
+}
+
+int NativeSparseMatrixImpl::cols()
+{
+    return matrix.cols();
+}
+
+int NativeSparseMatrixImpl::nonZeros()
+{
+    return matrix.nonZeros();
+}
+
+double NativeSparseMatrixImpl::get(int row, int col)
+{
+    if(row >= rows() || col >= cols() || row < 0 || col < 0)
+    {
+        return std::numeric_limits<double>::quiet_NaN();
+    }
+
+    return matrix.coeff(row, col);
+}
+
+bool NativeSparseMatrixImpl::fits(int blockRows, int blockCols, int rowStart, int colStart)
+{
+    return rowStart >= 0 && colStart >= 0 && rowStart + blockRows <= rows() && colStart + blockCols <= cols();
+}
+
+bool NativeSparseMatrixImpl::add(int row, int col, double value)
+{
+    if(!fits(1, 1, row, col))
+    {
+        return false;
+    }
+
+    triplets.emplace_back(row, col, value);
+    return true;
+}
+
+bool NativeSparseMatrixImpl::addBlock(NativeMatrixImpl* block, int rowStart, int colStart)
+{
+    if(!fits(block->rows(), block->cols(), rowStart, colStart))
+    {
+        return false;
+    }
+
+    for(int col = 0; col < block->cols(); col++)
+    {
+        for(int row = 0; row < block->rows(); row++)
+        {
+            triplets.emplace_back(rowStart + row, colStart + col, block->matrix(row, col));
+        }
+    }
+    return true;
+}
+
+bool NativeSparseMatrixImpl::addBlockData(double* data, int rows, int cols, int rowStart, int colStart)
+{
+    if(data == nullptr || !fits(rows, cols, rowStart, colStart))
+    {
+        return false;
+    }
+
+    for(int row = 0; row < rows; row++)
+    {
+        for(int col = 0; col < cols; col++)
+        {
+            triplets.emplace_back(rowStart + row, colStart + col, data[row * cols + col]);
+        }
+    }
+    return true;
+}
+
+void NativeSparseMatrixImpl::build()
+{
+    matrix.setFromTriplets(triplets.begin(), triplets.end());
+    matrix.makeCompressed();
+    triplets.clear();
+}
+
+void NativeSparseMatrixImpl::setDense(NativeMatrixImpl* dense, double zeroTolerance)
+{
+    // sparseView keeps the elements that are not much smaller than the reference, i.e. |x| > reference * epsilon.
+    matrix = dense->matrix.sparseView(zeroTolerance, 1.0);
+    matrix.makeCompressed();
+    triplets.clear();
+}
+
+void NativeSparseMatrixImpl::getDense(NativeMatrixImpl* dense)
+{
+    dense->resize(rows(), cols());
+    dense->matrix = matrix;
+}
+
+bool NativeSparseMatrixImpl::mult(NativeMatrixImpl* b, NativeMatrixImpl* c)
+{
+    if(b->rows() != cols())
+    {
+        return false;
+    }
+
+    if(b == c)
+    {
+        temp.noalias() = matrix * b->matrix;
+        c->resize(rows(), temp.cols());
+        c->matrix = temp;
+    }
+    else
+    {
+        c->resize(rows(), b->cols());
+        c->matrix.noalias() = matrix * b->matrix;
+    }
+    return true;
+}
+
+bool NativeSparseMatrixImpl::multTransA(NativeMatrixImpl* b, NativeMatrixImpl* c)
+{
+    if(b->rows() != rows())
+    {
+        return false;
+    }
+
+    if(b == c)
+    {
+        temp.noalias() = matrix.transpose() * b->matrix;
+        c->resize(cols(), temp.cols());
+        c->matrix = temp;
+    }
+    else
+    {
+        c->resize(cols(), b->cols());
+        c->matrix.noalias() = matrix.transpose() * b->matrix;
+    }
+    return true;
+}
+
+bool NativeSparseMatrixImpl::multQuad(NativeMatrixImpl* w, NativeMatrixImpl* c)
+{
+    if(w->rows() != rows() || (w->cols() != 1 && w->cols() != rows()))
+    {
+        return false;
+    }
+
+    // w is fully read before c is resized, c can be w.
+    if(w->cols() == 1)
+    {
+        weighted = w->matrix.col(0).asDiagonal() * matrix;
+        c->resize(cols(), cols());
+        c->matrix = matrix.transpose() * weighted;
+    }
+    else
+    {
+        temp.noalias() = w->matrix * matrix;
+        c->resize(cols(), cols());
+        c->matrix.noalias() = matrix.transpose() * temp;
+    }
+    return true;
+}
+
+bool NativeSparseMatrixImpl::multQuadSparse(NativeMatrixImpl* w, NativeSparseMatrixImpl* c)
+{
+    if(c == this || w->rows() != rows() || w->cols() != 1)
+    {
+        return false;
+    }
+
+    weighted = w->matrix.col(0).asDiagonal() * matrix;
+    c->matrix = matrix.transpose() * weighted;
+    c->matrix.makeCompressed();
+    c->triplets.clear();
+    return true;
+}
@@ -0,0 +1,98 @@
+#ifndef NATIVESPARSEMATRIX_H
+#define NATIVESPARSEMATRIX_H
+
+#include <vector>
+#include <Eigen/Sparse>
+#include "NativeMatrix.h"
+
+/**
+ * Sparse matrix in compressed column storage, for Jacobians with many structural zeros.
+ *
+ * The matrix is assembled from entries and dense blocks which are only applied when build is called, duplicated
+ * entries being summed. All the entries of a block are stored, including its zeros, such that assembling the same
+ * blocks at each tick gives the same sparsity pattern and NativeSparseLDLTSolverImpl can reuse its symbolic
+ * factorization. The entry list keeps its capacity, rebuilding a matrix of constant structure does not allocate memory
+ * for the entries.
+ *
+ * The products with dense matrices write dense results. Products between sparse matrices allocate their result.
+ */
+class NativeSparseMatrixImpl
+{
+public:
+    NativeSparseMatrixImpl(int rows, int cols);
+
+    /**
+     * Resizes this matrix and removes all its entries and the pending ones.
+     */
+    void resize(int rows, int cols);
+
+    int rows();
+
+    int cols();
+
+    int nonZeros();
+
+    /**
+     * Value at (row, col), zero if the entry is not stored and NaN if out of bounds.
+     */
+    double get(int row, int col);
+
+    /**
+     * Adds a pending entry. Returns false if out of bounds.
+     */
+    bool add(int row, int col, double value);
+
+    /**
+     * Adds all the elements of block as pending entries starting at (rowStart, colStart). Returns false if the block
+     * does not fit.
+     */
+    bool addBlock(NativeMatrixImpl* block, int rowStart, int colStart);
+
+    /**
+     * Same as addBlock for a row-major array of size rows * cols.
+     */
+    bool addBlockData(double* data, int rows, int cols, int rowStart, int colStart);
+
+    /**
+     * Replaces the entries of this matrix by the pending entries.
+     */
+    void build();
+
+    /**
+     * this = dense, keeping only the elements with an absolute value greater than zeroTolerance.
+     */
+    void setDense(NativeMatrixImpl* dense, double zeroTolerance);
+
+    void getDense(NativeMatrixImpl* dense);
+
+    /**
+     * c = this * b
+     */
+    bool mult(NativeMatrixImpl* b, NativeMatrixImpl* c);
+
+    /**
+     * c = this' * b
+     */
+    bool multTransA(NativeMatrixImpl* b, NativeMatrixImpl* c);
+
+    /**
+     * c = this' * W * this, W being given by its diagonal w as a column vector, or as a square matrix.
+     */
+    bool multQuad(NativeMatrixImpl* w, NativeMatrixImpl* c);
+
+    /**
+     * c = this' * diag(w) * this, w being a column vector, computed as a sparse matrix. c cannot be this.
+     */
+    bool multQuadSparse(NativeMatrixImpl* w, NativeSparseMatrixImpl* c);
+
+    Eigen::SparseMatrix<double> matrix;
+
+private:
+    bool fits(int blockRows, int blockCols, int rowStart, int colStart);
+
+    std::vector<Eigen::Triplet<double>> triplets;
+    Eigen::SparseMatrix<double> weighted;
+    Eigen::MatrixXd temp;
+};
+
+#endif // NATIVESPARSEMATRIX_H
@@ -0,0 +1,248 @@
+#include "NativeSymmetricMatrix.h"
+
+#include <limits>
+
+NativeSymmetricMatrixImpl::NativeSymmetricMatrixImpl(int size) :
+    matrix(Eigen::MatrixXd::Zero(size, size)),
+    llt(size),
+    ldlt(size)
+{
+}
+
+void NativeSymmetricMatrixImpl::resize(int size)
+{
+    matrix.resize(size, size);
+}
+
+int NativeSymmetricMatrixImpl::size()
+{
+    return matrix.rows();
+}
+
+void NativeSymmetricMatrixImpl::zero()
+{
+    matrix.setZero();
+}
+
+double NativeSymmetricMatrixImpl::get(int row, int col)
+{
+    if(row >= size() || col >= size() || row < 0 || col < 0)
+    {
+        return std::numeric_limits<double>::quiet_NaN();
+    }
+
+    return row <= col ? matrix(row, col) : matrix(col, row);
+}
+
+bool NativeSymmetricMatrixImpl::set(int row, int col, double value)
+{
+    if(row >= size() || col >= size() || row < 0 || col < 0)
+    {
+        return false;
+    }
+
+    if(row <= col)
+    {
+        matrix(row, col) = value;
+    }
+    else
+    {
+        matrix(col, row) = value;
+    }
+
+    return true;
+}
+
+void NativeSymmetricMatrixImpl::copy(NativeSymmetricMatrixImpl* other)
+{
+    if(other == this)
+    {
+        return;
+    }
+
+    resize(other->size());
+    matrix.triangularView<Eigen::Upper>() = other->matrix;
+}
+
+bool NativeSymmetricMatrixImpl::setUpper(NativeMatrixImpl* a)
+{
+    if(a->rows() != a->cols())
+    {
+        return false;
+    }
+
+    resize(a->rows());
+    matrix.triangularView<Eigen::Upper>() = a->matrix;
+
+    return true;
+}
+
+void NativeSymmetricMatrixImpl::getFull(NativeMatrixImpl* full)
+{
+    full->resize(size(), size());
+    full->matrix = matrix.selfadjointView<Eigen::Upper>();
+}
+
+bool NativeSymmetricMatrixImpl::multQuad(NativeMatrixImpl* a, NativeSymmetricMatrixImpl* b)
+{
+    if(a->rows() != b->size())
+    {
+        return false;
+    }
+
+    // b is read before this is resized, this can be b.
+    temp.noalias() = b->matrix.selfadjointView<Eigen::Upper>() * a->matrix;
+    resize(a->cols());
+    matrix.triangularView<Eigen::Upper>() = a->matrix.transpose() * temp;
+
+    return true;
+}
+
+bool NativeSymmetricMatrixImpl::multAddQuad(NativeMatrixImpl* a, NativeSymmetricMatrixImpl* b)
+{
+    if(a->rows() != b->size() || a->cols() != size())
+    {
+        return false;
+    }
+
+    temp.noalias() = b->matrix.selfadjointView<Eigen::Upper>() * a->matrix;
+    matrix.triangularView<Eigen::Upper>() += a->matrix.transpose() * temp;
+
+    return true;
+}
+
+bool NativeSymmetricMatrixImpl::multQuadOuter(NativeMatrixImpl* a, NativeSymmetricMatrixImpl* b)
+{
+    if(a->cols() != b->size())
+    {
+        return false;
+    }
+
+    temp.noalias() = b->matrix.selfadjointView<Eigen::Upper>() * a->matrix.transpose();
+    resize(a->rows());
+    matrix.triangularView<Eigen::Upper>() = a->matrix * temp;
+
+    return true;
+}
+
+bool NativeSymmetricMatrixImpl::multAddQuadOuter(NativeMatrixImpl* a, NativeSymmetricMatrixImpl* b)
+{
+    if(a->cols() != b->size() || a->rows() != size())
+    {
+        return false;
+    }
+
+    temp.noalias() = b->matrix.selfadjointView<Eigen::Upper>() * a->matrix.transpose();
+    matrix.triangularView<Eigen::Upper>() += a->matrix * temp;
+
+    return true;
+}
+
+bool NativeSymmetricMatrixImpl::rankUpdate(double alpha, NativeMatrixImpl* a)
+{
+    if(a->cols() != size())
+    {
+        return false;
+    }
+
+    matrix.selfadjointView<Eigen::Upper>().rankUpdate(a->matrix.transpose(), alpha);
+
+    return true;
+}
+
+bool NativeSymmetricMatrixImpl::weightedRankUpdate(NativeMatrixImpl* a, NativeMatrixImpl* w)
+{
+    if(a->cols() != size() || w->rows() != a->rows() || w->cols() != 1)
+    {
+        return false;
+    }
+
+    temp.noalias() = w->matrix.col(0).asDiagonal() * a->matrix;
+    matrix.triangularView<Eigen::Upper>() += a->matrix.transpose() * temp;
+
+    return true;
+}
+
+bool NativeSymmetricMatrixImpl::add(NativeSymmetricMatrixImpl* a, NativeSymmetricMatrixImpl* b)
+{
+    if(a->size() != b->size())
+    {
+        return false;
+    }
+
+    resize(a->size());
+    matrix.triangularView<Eigen::Upper>() = a->matrix + b->matrix;
+
+    return true;
+}
+
+bool NativeSymmetricMatrixImpl::addEquals(double scale, NativeSymmetricMatrixImpl* a)
+{
+    if(a->size() != size())
+    {
+        return false;
+    }
+
+    matrix.triangularView<Eigen::Upper>() += scale * a->matrix;
+
+    return true;
+}
+
+void NativeSymmetricMatrixImpl::scale(double scale)
+{
+    matrix.triangularView<Eigen::Upper>() *= scale;
+}
+
+int NativeSymmetricMatrixImpl::solveLLT(NativeMatrixImpl* b, NativeMatrixImpl* x)
+{
+    if(b->rows() != size())
+    {
+        return INCOMPATIBLE_DIMENSIONS;
+    }
+
+    llt.compute(matrix);
+    if(llt.info() != Eigen::Success)
+    {
+        return NUMERICAL_ISSUE;
+    }
+
+    // LLT::solve copies b in x before solving in place, x can be b.
+    x->resize(size(), b->cols());
+    x->matrix = llt.solve(b->matrix);
+
+    return SUCCESS;
+}
+
+int NativeSymmetricMatrixImpl::solveLDLT(NativeMatrixImpl* b, NativeMatrixImpl* x)
+{
+    if(b->rows() != size())
+    {
+        return INCOMPATIBLE_DIMENSIONS;
+    }
+
+    ldlt.compute(matrix);
+    if(ldlt.info() != Eigen::Success)
+    {
+        return NUMERICAL_ISSUE;
+    }
+
+    x->resize(size(), b->cols());
+    x->matrix = ldlt.solve(b->matrix);
+
+    return SUCCESS;
+}
+
+int NativeSymmetricMatrixImpl::invert(NativeSymmetricMatrixImpl* inverse)
+{
+    llt.compute(matrix);
+    if(llt.info() != Eigen::Success)
+    {
+        return NUMERICAL_ISSUE;
+    }
+
+    inverse->resize(size());
+    inverse->matrix.setIdentity();
+    llt.solveInPlace(inverse->matrix);
+
+    return SUCCESS;
+}
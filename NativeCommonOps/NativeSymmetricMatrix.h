@@ -0,0 +1,122 @@
+#ifndef NATIVESYMMETRICMATRIX_H
+#define NATIVESYMMETRICMATRIX_H
+
+#include "NativeMatrix.h"
+
+/**
+ * Symmetric matrix storing only its upper triangle.
+ *
+ * The matrix is held in a dense size-by-size column-major array of which the strictly lower part is never read nor
+ * written. The products are evaluated with selfadjointView and triangularView such that only the upper triangle of the
+ * result is computed, which halves the flops and the memory traffic of the quadratic forms and the rank updates
+ * compared to their dense NativeMatrixImpl counterparts. The Cholesky decompositions read the upper triangle directly.
+ *
+ * The NativeMatrixImpl arguments are general dense matrices, only setUpper reads a single triangle of its argument.
+ * solveLLT, solveLDLT and invert return one of the status codes below, mirrored in NativeSymmetricMatrix.java.
+ */
+class NativeSymmetricMatrixImpl
+{
+public:
+    static const int SUCCESS = 0;
+    static const int INCOMPATIBLE_DIMENSIONS = 1;
+    static const int NUMERICAL_ISSUE = 2;
+
+    NativeSymmetricMatrixImpl(int size);
+
+    void resize(int size);
+
+    int size();
+
+    void zero();
+
+    /**
+     * Element (row, col) or (col, row), whichever is in the upper triangle. NaN if out of bounds.
+     */
+    double get(int row, int col);
+
+    /**
+     * Sets both (row, col) and (col, row). Returns false if out of bounds.
+     */
+    bool set(int row, int col, double value);
+
+    void copy(NativeSymmetricMatrixImpl* other);
+
+    /**
+     * this = upper triangle of the square matrix a, the strictly lower part of a is ignored.
+     */
+    bool setUpper(NativeMatrixImpl* a);
+
+    /**
+     * full = this, both triangles of full are written.
+     */
+    void getFull(NativeMatrixImpl* full);
+
+    /**
+     * this = a' * b * a
+     */
+    bool multQuad(NativeMatrixImpl* a, NativeSymmetricMatrixImpl* b);
+
+    /**
+     * this += a' * b * a
+     */
+    bool multAddQuad(NativeMatrixImpl* a, NativeSymmetricMatrixImpl* b);
+
+    /**
+     * this = a * b * a', e.g. the propagation of a covariance.
+     */
+    bool multQuadOuter(NativeMatrixImpl* a, NativeSymmetricMatrixImpl* b);
+
+    /**
+     * this += a * b * a'
+     */
+    bool multAddQuadOuter(NativeMatrixImpl* a, NativeSymmetricMatrixImpl* b);
+
+    /**
+     * this += alpha * a' * a
+     */
+    bool rankUpdate(double alpha, NativeMatrixImpl* a);
+
+    /**
+     * this += a' * diag(w) * a, w being a column vector with as many rows as a.
+     */
+    bool weightedRankUpdate(NativeMatrixImpl* a, NativeMatrixImpl* w);
+
+    /**
+     * this = a + b
+     */
+    bool add(NativeSymmetricMatrixImpl* a, NativeSymmetricMatrixImpl* b);
+
+    /**
+     * this += scale * a
+     */
+    bool addEquals(double scale, NativeSymmetricMatrixImpl* a);
+
+    /**
+     * this = scale * this
+     */
+    void scale(double scale);
+
+    /**
+     * x = inverse(this) * b using a Cholesky decomposition, b having as many rows as this. x can be b.
+     */
+    int solveLLT(NativeMatrixImpl* b, NativeMatrixImpl* x);
+
+    /**
+     * x = inverse(this) * b using a robust Cholesky decomposition with pivoting. x can be b.
+     */
+    int solveLDLT(NativeMatrixImpl* b, NativeMatrixImpl* x);
+
+    /**
+     * inverse = inverse(this) using a Cholesky decomposition. inverse can be this.
+     */
+    int invert(NativeSymmetricMatrixImpl* inverse);
+
+private:
+    Eigen::MatrixXd matrix;
+    Eigen::MatrixXd temp;
+
+    Eigen::LLT<Eigen::MatrixXd, Eigen::Upper> llt;
+    Eigen::LDLT<Eigen::MatrixXd, Eigen::Upper> ldlt;
+};
+
+#endif // NATIVESYMMETRICMATRIX_H
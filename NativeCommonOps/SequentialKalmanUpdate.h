@@ -0,0 +1,27 @@
+#ifndef SEQUENTIALKALMANUPDATE_H
+#define SEQUENTIALKALMANUPDATE_H
+
+#include <Eigen/Dense>
+
+/**
+ * Kalman update processing the measurements one at a time, for a diagonal measurement noise covariance R.
+ *
+ * Each row of H is a scalar update costing O(n^2), no matrix is inverted. The residual of each row is computed with the
+ * state updated by the previous rows, such that the result matches a batch update when no row is rejected:
+ * - if isResidual is false, measurement holds z and the residual of row i is z(i) - H(i) * x,
+ * - if isResidual is true, measurement holds a residual computed by the caller before the update, e.g. z - h(x) for an
+ *   extended Kalman filter, and it is corrected by -H(i) * dx, dx being the state change caused by the previous rows.
+ *
+ * When chiSquareThreshold is positive, a row is rejected if its normalized innovation squared r^2 / s exceeds the
+ * threshold, s being the innovation variance of the row. Rows with a non-positive innovation variance are also rejected.
+ *
+ * Only the lower triangle of P is read, the full matrix is written. x is a n-by-1 matrix, H a m-by-n matrix, R and
+ * measurement m-by-1 matrices. h, PHt and dx are workspaces resized to n.
+ *
+ * Returns the number of rejected rows.
+ */
+int sequentialKalmanUpdate(Eigen::Ref<Eigen::MatrixXd> x, Eigen::Ref<Eigen::MatrixXd> P, const Eigen::Ref<const Eigen::MatrixXd>& H,
+                           const Eigen::Ref<const Eigen::MatrixXd>& R, const Eigen::Ref<const Eigen::MatrixXd>& measurement, bool isResidual, double chiSquareThreshold,
+                           Eigen::VectorXd& h, Eigen::VectorXd& PHt, Eigen::VectorXd& dx);
+
+#endif // SEQUENTIALKALMANUPDATE_H
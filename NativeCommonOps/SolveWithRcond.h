@@ -0,0 +1,50 @@
+#ifndef SOLVEWITHRCOND_H
+#define SOLVEWITHRCOND_H
+
+#include <Eigen/Dense>
+#include <limits>
+
+/**
+ * Values returned by solveWithRcond when no estimate is available. Valid estimates are in [0, 1].
+ */
+const double SOLVE_INCOMPATIBLE_DIMENSIONS = -1.0;
+const double SOLVE_NOT_POSITIVE_DEFINITE = -2.0;
+
+/**
+ * Reciprocal condition number below which a matrix is considered singular by the solveCheck methods.
+ */
+const double SOLVE_MINIMUM_RCOND = std::numeric_limits<double>::epsilon();
+
+/**
+ * Solves A * x = b and returns an estimate of the reciprocal condition number of A in the 1-norm.
+ *
+ * A partial pivoting LU decomposition is used, or a LLT decomposition when positiveDefinite is true. The estimate costs
+ * O(n^2) on top of the factorization, whereas a full pivoting LU is several times slower to factorize than both for
+ * the only purpose of checking the invertibility. A singular matrix gives an estimate of zero or NaN.
+ *
+ * Returns SOLVE_NOT_POSITIVE_DEFINITE if the LLT decomposition failed, in which case x is not modified. x can be the
+ * same matrix as b.
+ */
+template<typename MatrixA, typename MatrixB, typename MatrixX>
+double solveWithRcond(const MatrixA& A, const MatrixB& b, MatrixX& x, bool positiveDefinite)
+{
+    static thread_local Eigen::PartialPivLU<Eigen::MatrixXd> lu;
+    static thread_local Eigen::LLT<Eigen::MatrixXd> llt;
+
+    if (positiveDefinite)
+    {
+        llt.compute(A);
+        if (llt.info() != Eigen::Success)
+        {
+            return SOLVE_NOT_POSITIVE_DEFINITE;
+        }
+        x = llt.solve(b);
+        return llt.rcond();
+    }
+
+    lu.compute(A);
+    x = lu.solve(b);
+    return lu.rcond();
+}
+
+#endif // SOLVEWITHRCOND_H
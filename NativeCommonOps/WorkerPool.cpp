@@ -0,0 +1,117 @@
+#include "WorkerPool.h"
+
+#include <algorithm>
+
+WorkerPool::WorkerPool(int numberOfThreads) :
+    task(nullptr),
+    numberOfTasks(0),
+    nextTask(0),
+    busyWorkers(0),
+    generation(0),
+    stopping(false)
+{
+    setNumberOfThreads(numberOfThreads);
+}
+
+WorkerPool::~WorkerPool()
+{
+    stopWorkers();
+}
+
+void WorkerPool::setNumberOfThreads(int numberOfThreads)
+{
+    numberOfThreads = std::max(numberOfThreads, 1);
+    if (numberOfThreads == getNumberOfThreads())
+    {
+        return;
+    }
+
+    stopWorkers();
+
+    stopping = false;
+    for (int i = 1; i < numberOfThreads; i++)
+    {
+        // The generation is passed at creation, a worker starting late must not miss the next call to run.
+        workers.emplace_back(&WorkerPool::work, this, generation);
+    }
+}
+
+int WorkerPool::getNumberOfThreads() const
+{
+    return (int) workers.size() + 1;
+}
+
+void WorkerPool::run(int numberOfTasks, const std::function<void(int)>& task)
+{
+    if (workers.empty() || numberOfTasks <= 1)
+    {
+        for (int i = 0; i < numberOfTasks; i++)
+        {
+            task(i);
+        }
+        return;
+    }
+
+    {
+        std::lock_guard<std::mutex> lock(mutex);
+        this->task = &task;
+        this->numberOfTasks = numberOfTasks;
+        nextTask = 0;
+        busyWorkers = (int) workers.size();
+        generation++;
+    }
+    start.notify_all();
+
+    processTasks();
+
+    std::unique_lock<std::mutex> lock(mutex);
+    done.wait(lock, [this] { return busyWorkers == 0; });
+    this->task = nullptr;
+}
+
+void WorkerPool::stopWorkers()
+{
+    {
+        std::lock_guard<std::mutex> lock(mutex);
+        stopping = true;
+    }
+    start.notify_all();
+
+    for (std::thread& worker : workers)
+    {
+        worker.join();
+    }
+    workers.clear();
+}
+
+void WorkerPool::work(unsigned long lastGeneration)
+{
+    while (true)
+    {
+        {
+            std::unique_lock<std::mutex> lock(mutex);
+            start.wait(lock, [&] { return stopping || generation != lastGeneration; });
+            if (stopping)
+            {
+                return;
+            }
+            lastGeneration = generation;
+        }
+
+        processTasks();
+
+        std::lock_guard<std::mutex> lock(mutex);
+        if (--busyWorkers == 0)
+        {
+            done.notify_one();
+        }
+    }
+}
+
+void WorkerPool::processTasks()
+{
+    for (int i = nextTask++; i < numberOfTasks; i = nextTask++)
+    {
+        (*task)(i);
+    }
+}
@@ -0,0 +1,55 @@
+#ifndef WORKERPOOL_H
+#define WORKERPOOL_H
+
+#include <atomic>
+#include <condition_variable>
+#include <functional>
+#include <mutex>
+#include <thread>
+#include <vector>
+
+/**
+ * Small pool of native threads used to split a native call across several cores.
+ *
+ * run(numberOfTasks, task) calls task(index) once for each index in [0, numberOfTasks) and returns once all the tasks
+ * are done. The calling thread takes part in the work, such that a pool of n threads owns n - 1 worker threads. A pool
+ * with a single thread runs all the tasks on the calling thread.
+ *
+ * The workers never call into the JVM. A pool is meant to be owned by a single object and is not thread safe: run and
+ * setNumberOfThreads must not be called concurrently.
+ */
+class WorkerPool
+{
+public:
+    explicit WorkerPool(int numberOfThreads = 1);
+
+    ~WorkerPool();
+
+    void setNumberOfThreads(int numberOfThreads);
+
+    int getNumberOfThreads() const;
+
+    void run(int numberOfTasks, const std::function<void(int)>& task);
+
+private:
+    WorkerPool(const WorkerPool&) = delete;
+    WorkerPool& operator=(const WorkerPool&) = delete;
+
+    void stopWorkers();
+    void work(unsigned long lastGeneration);
+    void processTasks();
+
+    std::vector<std::thread> workers;
+    std::mutex mutex;
+    std::condition_variable start;
+    std::condition_variable done;
+
+    const std::function<void(int)>* task;
+    int numberOfTasks;
+    std::atomic<int> nextTask;
+    int busyWorkers;
+    unsigned long generation;
+    bool stopping;
+};
+
+#endif // WORKERPOOL_H
@@ -47,6 +47,14 @@ JNIEXPORT void JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solve
 JNIEXPORT jboolean JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveCheck
   (JNIEnv *, jobject, jdoubleArray, jdoubleArray, jdoubleArray, jint);
 
+/*
+ * Class:     us_ihmc_matrixlib_NativeCommonOpsWrapper
+ * Method:    solveRcond
+ * Signature: ([D[D[DIIZ)D
+ */
+JNIEXPORT jdouble JNICALL Java_us_ihmc_matrixlib_NativeCommonOpsWrapper_solveRcond
+  (JNIEnv *, jobject, jdoubleArray, jdoubleArray, jdoubleArray, jint, jint, jboolean);
+
 /*
  * Class:     us_ihmc_matrixlib_NativeCommonOpsWrapper
  * Method:    solveRobust
@@ -28,3 +28,155 @@ testDependencies {
    api("us.ihmc:euclid-frame:0.19.1")
    api("org.ejml:ejml-simple:0.39")
 }
+
+panamaDependencies {
+   api(ihmc.sourceSetProject("main"))
+}
+
+// The Panama backend uses java.lang.foreign, final as of Java 22, the rest of the library stays compatible with Java 8.
+ihmc.sourceSetProject("panama").tasks.withType<JavaCompile> {
+   javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(22)) })
+   options.release.set(22)
+}
+
+panamaTestDependencies {
+   api(ihmc.sourceSetProject("test"))
+   api(ihmc.sourceSetProject("panama"))
+   api("org.junit.jupiter:junit-jupiter-api:5.7.0")
+   api("org.junit.jupiter:junit-jupiter-engine:5.7.0")
+}
+
+// The tests of the Panama backend are kept out of the test source set, which stays on the default toolchain.
+ihmc.sourceSetProject("panamaTest").tasks.withType<JavaCompile> {
+   javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(22)) })
+   options.release.set(22)
+}
+
+// gradle testPanama runs the Panama backend tests and the NativeMatrix tests of the test source set with the Panama backend.
+val testPanama = ihmc.sourceSetProject("panamaTest").tasks.register<Test>("testPanama") {
+   group = "verification"
+   description = "Runs the NativeMatrix tests with the Panama backend."
+   javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(22)) })
+   val panamaTestSourceSet = ihmc.sourceSetProject("panamaTest").the<SourceSetContainer>()["main"]
+   val testSourceSet = ihmc.sourceSetProject("test").the<SourceSetContainer>()["main"]
+   testClassesDirs = panamaTestSourceSet.output.classesDirs + testSourceSet.output.classesDirs
+   classpath = panamaTestSourceSet.runtimeClasspath
+   useJUnitPlatform()
+   filter {
+      includeTestsMatching("us.ihmc.matrixlib.panama.*")
+      includeTestsMatching("us.ihmc.matrixlib.NativeMatrixTest")
+      includeTestsMatching("us.ihmc.matrixlib.DirectNativeMatrixTest")
+   }
+   jvmArgs("--enable-native-access=ALL-UNNAMED")
+   systemProperty("us.ihmc.matrixlib.backend", "panama")
+}
+
+ihmc.sourceSetProject("panamaTest").tasks.named("check") {
+   dependsOn(testPanama)
+}
+
+vectorDependencies {
+   api(ihmc.sourceSetProject("main"))
+}
+
+// The SIMD kernels use the Vector API, still incubating, which has to be added explicitly at compile time and at runtime.
+ihmc.sourceSetProject("vector").tasks.withType<JavaCompile> {
+   javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(17)) })
+   options.release.set(17)
+   options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+vectorTestDependencies {
+   api(ihmc.sourceSetProject("test"))
+   api(ihmc.sourceSetProject("vector"))
+   api("org.junit.jupiter:junit-jupiter-api:5.7.0")
+   api("org.junit.jupiter:junit-jupiter-engine:5.7.0")
+}
+
+ihmc.sourceSetProject("vectorTest").tasks.withType<JavaCompile> {
+   javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(17)) })
+   options.release.set(17)
+   options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+// gradle testVector runs the Vector API kernel tests and the MatrixTools tests of the test source set, which use the kernels
+// when they are on the classpath.
+val testVector = ihmc.sourceSetProject("vectorTest").tasks.register<Test>("testVector") {
+   group = "verification"
+   description = "Runs the MatrixTools tests with the Vector API kernels."
+   javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(17)) })
+   val vectorTestSourceSet = ihmc.sourceSetProject("vectorTest").the<SourceSetContainer>()["main"]
+   val testSourceSet = ihmc.sourceSetProject("test").the<SourceSetContainer>()["main"]
+   testClassesDirs = vectorTestSourceSet.output.classesDirs + testSourceSet.output.classesDirs
+   classpath = vectorTestSourceSet.runtimeClasspath
+   useJUnitPlatform()
+   filter {
+      includeTestsMatching("us.ihmc.matrixlib.vector.*")
+      includeTestsMatching("us.ihmc.matrixlib.MatrixToolsTest")
+      includeTestsMatching("us.ihmc.matrixlib.DiagonalMatrixToolsTest")
+   }
+   jvmArgs("--add-modules", "jdk.incubator.vector")
+   systemProperty("us.ihmc.matrixlib.simd", "vector")
+}
+
+ihmc.sourceSetProject("vectorTest").tasks.named("check") {
+   dependsOn(testVector)
+}
+
+jfrDependencies {
+   api(ihmc.sourceSetProject("main"))
+}
+
+// The flight recorder events use jdk.jfr, available as of Java 11, NativeEvents loads them when they are on the classpath.
+ihmc.sourceSetProject("jfr").tasks.withType<JavaCompile> {
+   javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(11)) })
+   options.release.set(11)
+}
+
+jmhDependencies {
+   api(ihmc.sourceSetProject("main"))
+   api("org.openjdk.jmh:jmh-core:1.37")
+}
+
+// JMH generates the benchmark harness from the annotations at compile time.
+ihmc.sourceSetProject("jmh").dependencies {
+   add("annotationProcessor", "org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+// gradle jmh [-PjmhInclude=<regex>] [-PjmhSizes=3,50,500] runs the benchmarks, the CSV results and the crossovers between
+// the backends summarized by BenchmarkCrossovers are written to the reports/jmh directory of the jmh source set.
+val jmhReportDirectory = ihmc.sourceSetProject("jmh").layout.buildDirectory.dir("reports/jmh")
+
+val jmhCrossovers = ihmc.sourceSetProject("jmh").tasks.register<JavaExec>("jmhCrossovers") {
+   group = "benchmark"
+   description = "Summarizes the crossovers between the backends from the results of the jmh task."
+   classpath = ihmc.sourceSetProject("jmh").the<SourceSetContainer>()["main"].runtimeClasspath
+   mainClass.set("us.ihmc.matrixlib.jmh.BenchmarkCrossovers")
+   args(jmhReportDirectory.get().file("results.csv").asFile.absolutePath, jmhReportDirectory.get().asFile.absolutePath)
+}
+
+ihmc.sourceSetProject("jmh").tasks.register<JavaExec>("jmh") {
+   group = "benchmark"
+   description = "Runs the JMH benchmarks of NativeMatrix, NativeCommonOps, AutoCommonOps, MatrixTools and EJML."
+   classpath = ihmc.sourceSetProject("jmh").the<SourceSetContainer>()["main"].runtimeClasspath
+   mainClass.set("org.openjdk.jmh.Main")
+   args("-rf", "csv", "-rff", jmhReportDirectory.get().file("results.csv").asFile.absolutePath)
+   if (project.hasProperty("jmhSizes"))
+      args("-p", "size=" + project.property("jmhSizes"))
+   if (project.hasProperty("jmhInclude"))
+      args(project.property("jmhInclude").toString())
+   doFirst { jmhReportDirectory.get().asFile.mkdirs() }
+   finalizedBy(jmhCrossovers)
+}
+
+// gradle jmhReplay [-PreplayArgs="<ticks> <size> <period in us>"] replays the native operations of a control tick and prints
+// the percentiles of their latencies, the instrumentation latencies of NativeInstrumentation are printed as well.
+ihmc.sourceSetProject("jmh").tasks.register<JavaExec>("jmhReplay") {
+   group = "benchmark"
+   description = "Replays the native operations of a control loop and prints the distribution of their latencies."
+   classpath = ihmc.sourceSetProject("jmh").the<SourceSetContainer>()["main"].runtimeClasspath
+   mainClass.set("us.ihmc.matrixlib.jmh.ControlLoopReplay")
+   systemProperty("us.ihmc.matrixlib.instrumentation.latency", "true")
+   if (project.hasProperty("replayArgs"))
+      args(project.property("replayArgs").toString().split(" "))
+}
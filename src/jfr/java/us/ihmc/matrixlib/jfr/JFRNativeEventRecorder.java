@@ -0,0 +1,71 @@
+package us.ihmc.matrixlib.jfr;
+
+import jdk.jfr.EventType;
+import us.ihmc.matrixlib.NativeEventRecorder;
+
+/**
+ * {@link NativeEventRecorder} emitting a JDK Flight Recorder event per operation.
+ * <p>
+ * The events are only created when a recording has enabled their type, and only committed when
+ * the operation lasted longer than the threshold of the type, 1 ms by default. Outside of a
+ * recording, an operation costs the check of {@link EventType#isEnabled()} on the type of its
+ * category and does not allocate.
+ * </p>
+ */
+public final class JFRNativeEventRecorder implements NativeEventRecorder
+{
+   public static final String NAME = "jfr";
+
+   // Indexed by the categories of NativeEventRecorder.
+   private final EventType[] eventTypes = {EventType.getEventType(NativeSolveEvent.class),
+                                           EventType.getEventType(NativeInvertEvent.class),
+                                           EventType.getEventType(NativeKalmanFilterEvent.class),
+                                           EventType.getEventType(NativeNullspaceProjectionEvent.class),
+                                           EventType.getEventType(NativeCommonOpsEvent.class)};
+
+   @Override
+   public Object begin(int category)
+   {
+      if (category < 0 || category >= eventTypes.length)
+         throw new IllegalArgumentException("Unknown event category: " + category);
+      if (!eventTypes[category].isEnabled())
+         return null;
+
+      NativeMatrixEvent event = newEvent(category);
+      event.begin();
+      return event;
+   }
+
+   @Override
+   public void end(Object event, String operation, int rows, int cols)
+   {
+      NativeMatrixEvent nativeMatrixEvent = (NativeMatrixEvent) event;
+      nativeMatrixEvent.end();
+      if (nativeMatrixEvent.shouldCommit())
+      {
+         nativeMatrixEvent.operation = operation;
+         nativeMatrixEvent.rows = rows;
+         nativeMatrixEvent.cols = cols;
+         nativeMatrixEvent.commit();
+      }
+   }
+
+   private static NativeMatrixEvent newEvent(int category)
+   {
+      switch (category)
+      {
+         case SOLVE:
+            return new NativeSolveEvent();
+         case INVERT:
+            return new NativeInvertEvent();
+         case KALMAN_FILTER:
+            return new NativeKalmanFilterEvent();
+         case NULLSPACE_PROJECTION:
+            return new NativeNullspaceProjectionEvent();
+         case NATIVE_COMMON_OPS:
+            return new NativeCommonOpsEvent();
+         default:
+            throw new IllegalArgumentException("Unknown event category: " + category);
+      }
+   }
+}
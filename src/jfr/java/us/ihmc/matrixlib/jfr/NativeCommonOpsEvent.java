@@ -0,0 +1,14 @@
+package us.ihmc.matrixlib.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("us.ihmc.matrixlib.NativeCommonOps")
+@Label("Native Common Ops")
+@Description("NativeCommonOps operation on large matrices")
+@Threshold("1 ms")
+class NativeCommonOpsEvent extends NativeMatrixEvent
+{
+}
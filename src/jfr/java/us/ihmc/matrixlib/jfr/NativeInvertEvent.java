@@ -0,0 +1,14 @@
+package us.ihmc.matrixlib.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("us.ihmc.matrixlib.NativeInvert")
+@Label("Native Invert")
+@Description("Inversion of a NativeMatrix")
+@Threshold("1 ms")
+class NativeInvertEvent extends NativeMatrixEvent
+{
+}
@@ -0,0 +1,14 @@
+package us.ihmc.matrixlib.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("us.ihmc.matrixlib.NativeKalmanFilter")
+@Label("Native Kalman Filter")
+@Description("Step of a NativeKalmanFilter")
+@Threshold("1 ms")
+class NativeKalmanFilterEvent extends NativeMatrixEvent
+{
+}
@@ -0,0 +1,34 @@
+package us.ihmc.matrixlib.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Fields shared by the events of the native operations. The thread and the duration are recorded
+ * by the flight recorder.
+ * <p>
+ * Each category is a separate event type such that its threshold can be changed in a recording
+ * configuration, for instance {@code jdk.jfr.Recording.enable("us.ihmc.matrixlib.NativeSolve")
+ * .withThreshold(Duration.ofMillis(0))}. The stack traces are disabled by default, they are the
+ * most expensive part of an event and can be enabled the same way.
+ * </p>
+ */
+@Category({"IHMC Matrix Library"})
+@StackTrace(false)
+abstract class NativeMatrixEvent extends Event
+{
+   @Label("Operation")
+   @Description("Class and method of the native operation")
+   String operation;
+
+   @Label("Rows")
+   @Description("Number of rows of the main operand")
+   int rows;
+
+   @Label("Columns")
+   @Description("Number of columns of the main operand")
+   int cols;
+}
@@ -0,0 +1,14 @@
+package us.ihmc.matrixlib.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("us.ihmc.matrixlib.NativeNullspaceProjection")
+@Label("Native Nullspace Projection")
+@Description("Projection of a NativeNullspaceProjector")
+@Threshold("1 ms")
+class NativeNullspaceProjectionEvent extends NativeMatrixEvent
+{
+}
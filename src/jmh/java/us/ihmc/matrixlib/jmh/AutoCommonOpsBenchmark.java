@@ -0,0 +1,79 @@
+package us.ihmc.matrixlib.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.matrixlib.AutoCommonOps;
+
+/**
+ * Measures the operations of {@link AutoCommonOps}, which should be as fast as the fastest of
+ * {@link EJMLBenchmark} and {@link NativeCommonOpsBenchmark} at every size when its thresholds are
+ * well calibrated.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoCommonOpsBenchmark
+{
+   @Param({"3", "6", "12", "25", "50", "100", "250", "500"})
+   public int size;
+
+   private DMatrixRMaj a;
+   private DMatrixRMaj b;
+   private DMatrixRMaj invertible;
+   private DMatrixRMaj vector;
+   private DMatrixRMaj result;
+   private DMatrixRMaj solution;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(BenchmarkMatrices.SEED);
+      a = BenchmarkMatrices.rectangle(size, size, random);
+      b = BenchmarkMatrices.rectangle(size, size, random);
+      invertible = BenchmarkMatrices.invertible(size, random);
+      vector = BenchmarkMatrices.rectangle(size, 1, random);
+      result = new DMatrixRMaj(size, size);
+      solution = new DMatrixRMaj(size, 1);
+   }
+
+   @Benchmark
+   public void mult()
+   {
+      AutoCommonOps.mult(a, b, result);
+   }
+
+   @Benchmark
+   public void multQuad()
+   {
+      AutoCommonOps.multQuad(a, b, result);
+   }
+
+   @Benchmark
+   public void invert()
+   {
+      AutoCommonOps.invert(invertible, result);
+   }
+
+   @Benchmark
+   public void solve()
+   {
+      AutoCommonOps.solve(invertible, vector, solution);
+   }
+}
@@ -0,0 +1,195 @@
+package us.ihmc.matrixlib.jmh;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Summarizes the CSV results of the benchmarks to document the crossover points between the
+ * backends.
+ * <p>
+ * The benchmarks of the different classes measuring the same operation have the same name, the
+ * backend being the name of the class without the {@code Benchmark} suffix. Two files are written in
+ * the output directory:
+ * <ul>
+ * <li>{@code scores.csv}: one row per operation and size with the score of each backend and the
+ * fastest backend.
+ * <li>{@code crossovers.csv}: one row each time the fastest backend of an operation changes, with the
+ * first size at which the new backend is the fastest.
+ * </ul>
+ * {@code AutoCommonOps} is reported in the scores but is not a candidate for the fastest backend as it
+ * dispatches to the others.
+ * </p>
+ * <p>
+ * Usage: {@code BenchmarkCrossovers <results.csv> <output directory>}, the results being written by
+ * JMH with {@code -rf csv}.
+ * </p>
+ */
+public class BenchmarkCrossovers
+{
+   private static final String DISPATCHING_BACKEND = "AutoCommonOps";
+
+   public static void main(String[] args) throws IOException
+   {
+      if (args.length != 2)
+      {
+         System.err.println("Usage: BenchmarkCrossovers <results.csv> <output directory>");
+         System.exit(1);
+      }
+
+      // operation -> size -> backend -> score
+      Map<String, Map<Integer, Map<String, Double>>> scores = new TreeMap<>();
+      TreeSet<String> backends = new TreeSet<>();
+      String unit = readResults(Paths.get(args[0]), scores, backends);
+
+      Path outputDirectory = Paths.get(args[1]);
+      Files.createDirectories(outputDirectory);
+      writeScores(outputDirectory.resolve("scores.csv"), scores, backends, unit);
+      writeCrossovers(outputDirectory.resolve("crossovers.csv"), scores);
+   }
+
+   private static String readResults(Path results, Map<String, Map<Integer, Map<String, Double>>> scores, TreeSet<String> backends) throws IOException
+   {
+      List<String> lines = Files.readAllLines(results, StandardCharsets.UTF_8);
+      List<String> header = parseLine(lines.get(0));
+      int benchmarkIndex = header.indexOf("Benchmark");
+      int scoreIndex = header.indexOf("Score");
+      int unitIndex = header.indexOf("Unit");
+      int sizeIndex = header.indexOf("Param: size");
+      if (benchmarkIndex < 0 || scoreIndex < 0 || unitIndex < 0 || sizeIndex < 0)
+         throw new IllegalArgumentException("Not a JMH CSV result file with a size parameter: " + results);
+
+      String unit = null;
+
+      for (String line : lines.subList(1, lines.size()))
+      {
+         if (line.trim().isEmpty())
+            continue;
+
+         List<String> fields = parseLine(line);
+         String benchmark = fields.get(benchmarkIndex);
+         int operationIndex = benchmark.lastIndexOf('.');
+         String className = benchmark.substring(benchmark.lastIndexOf('.', operationIndex - 1) + 1, operationIndex);
+         String backend = className.endsWith("Benchmark") ? className.substring(0, className.length() - "Benchmark".length()) : className;
+         String operation = benchmark.substring(operationIndex + 1);
+         int size = Integer.parseInt(fields.get(sizeIndex));
+         // The locale of JMH may use a decimal comma.
+         double score = Double.parseDouble(fields.get(scoreIndex).replace(',', '.'));
+
+         if (unit == null)
+            unit = fields.get(unitIndex);
+         else if (!unit.equals(fields.get(unitIndex)))
+            throw new IllegalArgumentException("All the benchmarks have to be run with the same time unit.");
+
+         backends.add(backend);
+         scores.computeIfAbsent(operation, key -> new TreeMap<>()).computeIfAbsent(size, key -> new TreeMap<>()).put(backend, score);
+      }
+
+      return unit;
+   }
+
+   private static void writeScores(Path file, Map<String, Map<Integer, Map<String, Double>>> scores, TreeSet<String> backends, String unit)
+         throws IOException
+   {
+      try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8)))
+      {
+         StringBuilder header = new StringBuilder("operation,size");
+         for (String backend : backends)
+            header.append(',').append(backend).append(" (").append(unit).append(')');
+         writer.println(header.append(",fastest"));
+
+         for (Map.Entry<String, Map<Integer, Map<String, Double>>> operation : scores.entrySet())
+         {
+            for (Map.Entry<Integer, Map<String, Double>> size : operation.getValue().entrySet())
+            {
+               StringBuilder row = new StringBuilder(operation.getKey()).append(',').append(size.getKey());
+               for (String backend : backends)
+               {
+                  Double score = size.getValue().get(backend);
+                  row.append(',').append(score == null ? "" : score.toString());
+               }
+               String fastest = findFastest(size.getValue());
+               writer.println(row.append(',').append(fastest == null ? "" : fastest));
+            }
+         }
+      }
+   }
+
+   private static void writeCrossovers(Path file, Map<String, Map<Integer, Map<String, Double>>> scores) throws IOException
+   {
+      try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8)))
+      {
+         writer.println("operation,from,to,size");
+
+         for (Map.Entry<String, Map<Integer, Map<String, Double>>> operation : scores.entrySet())
+         {
+            String previousFastest = null;
+
+            for (Map.Entry<Integer, Map<String, Double>> size : operation.getValue().entrySet())
+            {
+               String fastest = findFastest(size.getValue());
+               if (fastest == null)
+                  continue;
+
+               if (previousFastest != null && !fastest.equals(previousFastest))
+                  writer.println(operation.getKey() + "," + previousFastest + "," + fastest + "," + size.getKey());
+               previousFastest = fastest;
+            }
+         }
+      }
+   }
+
+   private static String findFastest(Map<String, Double> scores)
+   {
+      String fastest = null;
+      double fastestScore = Double.POSITIVE_INFINITY;
+
+      for (Map.Entry<String, Double> score : scores.entrySet())
+      {
+         if (score.getKey().equals(DISPATCHING_BACKEND))
+            continue;
+
+         if (score.getValue() < fastestScore)
+         {
+            fastest = score.getKey();
+            fastestScore = score.getValue();
+         }
+      }
+
+      // An operation measured on a single backend has no crossover.
+      return scores.size() - (scores.containsKey(DISPATCHING_BACKEND) ? 1 : 0) > 1 ? fastest : null;
+   }
+
+   private static List<String> parseLine(String line)
+   {
+      List<String> fields = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      boolean quoted = false;
+
+      for (int i = 0; i < line.length(); i++)
+      {
+         char c = line.charAt(i);
+
+         if (c == '"')
+            quoted = !quoted;
+         else if (c == ',' && !quoted)
+         {
+            fields.add(field.toString());
+            field.setLength(0);
+         }
+         else
+            field.append(c);
+      }
+
+      fields.add(field.toString());
+      return fields;
+   }
+}
@@ -0,0 +1,45 @@
+package us.ihmc.matrixlib.jmh;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+
+import us.ihmc.matrixlib.DiagonalMatrix;
+
+/**
+ * Creates the random inputs shared by the benchmarks so that every backend is measured on the same
+ * matrices for a given size.
+ */
+final class BenchmarkMatrices
+{
+   static final long SEED = 40L;
+
+   private BenchmarkMatrices()
+   {
+   }
+
+   static DMatrixRMaj rectangle(int rows, int cols, Random random)
+   {
+      return RandomMatrices_DDRM.rectangle(rows, cols, -1.0, 1.0, random);
+   }
+
+   /**
+    * @return a diagonally dominant matrix, well conditioned for the inversions and the solves.
+    */
+   static DMatrixRMaj invertible(int size, Random random)
+   {
+      DMatrixRMaj matrix = rectangle(size, size, random);
+      for (int i = 0; i < size; i++)
+         matrix.add(i, i, size);
+      return matrix;
+   }
+
+   static DiagonalMatrix diagonal(int size, Random random)
+   {
+      DiagonalMatrix matrix = new DiagonalMatrix(size);
+      for (int i = 0; i < size; i++)
+         matrix.set(i, 0.5 + random.nextDouble());
+      return matrix;
+   }
+}
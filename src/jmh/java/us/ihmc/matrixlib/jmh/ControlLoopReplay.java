@@ -0,0 +1,208 @@
+package us.ihmc.matrixlib.jmh;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+
+import us.ihmc.matrixlib.LatencyHistogram;
+import us.ihmc.matrixlib.NativeInstrumentation;
+import us.ihmc.matrixlib.NativeKalmanFilter;
+import us.ihmc.matrixlib.NativeMatrix;
+import us.ihmc.matrixlib.NativeNullspaceProjector;
+
+/**
+ * Replays the same sequence of native operations once per control tick and reports the
+ * distribution of their latencies, which the average times measured by JMH do not show.
+ * <p>
+ * A tick runs the four steps of {@link NativeKalmanFilter} on a state of the given size and half as
+ * many measurements, a {@link NativeNullspaceProjector} constrained by a sixth as many rows, and a
+ * {@link NativeMatrix#solve(NativeMatrix, NativeMatrix)} of the given size. The inputs are the same
+ * for every tick. The p50, p99, p99.9 and max latencies and the standard deviation are printed for
+ * each operation and for the whole tick. With a period, the ticks are started at a fixed rate, as
+ * in a control loop, and the lateness of their start is reported as well.
+ * </p>
+ * <p>
+ * Usage: {@code ControlLoopReplay [ticks] [size] [period in us]}, the defaults being 100000 ticks of
+ * size 30 run back to back. When {@link NativeInstrumentation#LATENCY_PROPERTY} is set, the
+ * latencies recorded by the instrumentation are printed as well.
+ * </p>
+ */
+public class ControlLoopReplay
+{
+   private static final int WARMUP_TICKS = 10000;
+
+   private final NativeMatrix F;
+   private final NativeMatrix P;
+   private final NativeMatrix Q;
+   private final NativeMatrix H;
+   private final NativeMatrix R;
+   private final NativeMatrix x;
+   private final NativeMatrix r;
+   private final NativeMatrix predictedP;
+   private final NativeMatrix K;
+   private final NativeMatrix nextX;
+   private final NativeMatrix nextP;
+
+   private final NativeNullspaceProjector projector;
+   private final NativeMatrix constraint;
+   private final NativeMatrix task;
+   private final NativeMatrix projectedTask;
+
+   private final NativeMatrix system;
+   private final NativeMatrix rhs;
+   private final NativeMatrix solution;
+
+   private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+   private final LatencyHistogram predictLatency = newLatency("NativeKalmanFilter.predictErrorCovariance");
+   private final LatencyHistogram gainLatency = newLatency("NativeKalmanFilter.computeKalmanGain");
+   private final LatencyHistogram updateStateLatency = newLatency("NativeKalmanFilter.updateState");
+   private final LatencyHistogram updateCovarianceLatency = newLatency("NativeKalmanFilter.updateErrorCovariance");
+   private final LatencyHistogram setConstraintLatency = newLatency("NativeNullspaceProjector.setConstraint");
+   private final LatencyHistogram projectLatency = newLatency("NativeNullspaceProjector.project");
+   private final LatencyHistogram solveLatency = newLatency("NativeMatrix.solve");
+   private final LatencyHistogram tickLatency = newLatency("tick");
+   private final LatencyHistogram startLateness = new LatencyHistogram();
+
+   public ControlLoopReplay(int size)
+   {
+      Random random = new Random(BenchmarkMatrices.SEED);
+      int measurements = Math.max(1, size / 2);
+      int constraints = Math.max(1, size / 6);
+
+      DMatrixRMaj squareRoot = BenchmarkMatrices.rectangle(size, size, random);
+      DMatrixRMaj covariance = new DMatrixRMaj(size, size);
+      CommonOps_DDRM.multTransB(squareRoot, squareRoot, covariance);
+      F = new NativeMatrix(BenchmarkMatrices.invertible(size, random));
+      P = new NativeMatrix(covariance);
+      Q = new NativeMatrix(CommonOps_DDRM.identity(size));
+      H = new NativeMatrix(BenchmarkMatrices.rectangle(measurements, size, random));
+      // The measurement noise is passed as the vector of its diagonal.
+      R = new NativeMatrix(measurements, 1);
+      R.fill(1.0);
+      x = new NativeMatrix(BenchmarkMatrices.rectangle(size, 1, random));
+      r = new NativeMatrix(BenchmarkMatrices.rectangle(measurements, 1, random));
+      predictedP = new NativeMatrix(size, size);
+      K = new NativeMatrix(size, measurements);
+      nextX = new NativeMatrix(size, 1);
+      nextP = new NativeMatrix(size, size);
+
+      projector = new NativeNullspaceProjector(size);
+      constraint = new NativeMatrix(BenchmarkMatrices.rectangle(constraints, size, random));
+      task = new NativeMatrix(BenchmarkMatrices.rectangle(size, size, random));
+      projectedTask = new NativeMatrix(size, size);
+
+      system = new NativeMatrix(BenchmarkMatrices.invertible(size, random));
+      rhs = new NativeMatrix(BenchmarkMatrices.rectangle(size, 1, random));
+      solution = new NativeMatrix(size, 1);
+   }
+
+   private LatencyHistogram newLatency(String name)
+   {
+      LatencyHistogram latency = new LatencyHistogram();
+      latencies.put(name, latency);
+      return latency;
+   }
+
+   /**
+    * Runs one tick, recording the latencies when {@code record} is {@code true}.
+    */
+   private void tick(boolean record)
+   {
+      long tickStart = System.nanoTime();
+
+      long start = tickStart;
+      NativeKalmanFilter.predictErrorCovariance(predictedP, F, P, Q);
+      start = stop(predictLatency, start, record);
+      NativeKalmanFilter.computeKalmanGain(K, predictedP, H, R);
+      start = stop(gainLatency, start, record);
+      NativeKalmanFilter.updateState(nextX, x, K, r);
+      start = stop(updateStateLatency, start, record);
+      NativeKalmanFilter.updateErrorCovariance(nextP, K, H, predictedP);
+      start = stop(updateCovarianceLatency, start, record);
+
+      projector.setConstraint(constraint, 1.0e-6);
+      start = stop(setConstraintLatency, start, record);
+      projector.project(task, projectedTask);
+      start = stop(projectLatency, start, record);
+
+      solution.solve(system, rhs);
+      stop(solveLatency, start, record);
+
+      stop(tickLatency, tickStart, record);
+   }
+
+   private static long stop(LatencyHistogram latency, long start, boolean record)
+   {
+      long end = System.nanoTime();
+      if (record)
+         latency.record(end - start);
+      return end;
+   }
+
+   /**
+    * Runs the ticks back to back if {@code period} is 0, at a fixed rate otherwise.
+    */
+   public void run(int ticks, long period)
+   {
+      for (int i = 0; i < WARMUP_TICKS; i++)
+         tick(false);
+      if (NativeInstrumentation.isEnabled())
+         NativeInstrumentation.reset();
+
+      long nextStart = System.nanoTime();
+      for (int i = 0; i < ticks; i++)
+      {
+         if (period > 0L)
+         {
+            long now;
+            while ((now = System.nanoTime()) < nextStart)
+               LockSupport.parkNanos(Math.min(nextStart - now, 50000L));
+            startLateness.record(now - nextStart);
+            nextStart += period;
+         }
+         tick(true);
+      }
+   }
+
+   public void printStatistics(long period)
+   {
+      System.out.println(String.format("%-45s %10s %10s %10s %10s %10s %10s", "operation (us)", "p50", "p99", "p99.9", "max", "mean", "std dev"));
+      for (Map.Entry<String, LatencyHistogram> latency : latencies.entrySet())
+         printStatistics(latency.getKey(), latency.getValue());
+      if (period > 0L)
+         printStatistics("tick start lateness", startLateness);
+
+      if (NativeInstrumentation.isLatencyEnabled())
+      {
+         System.out.println();
+         System.out.println(NativeInstrumentation.snapshot());
+      }
+   }
+
+   private static void printStatistics(String name, LatencyHistogram latency)
+   {
+      System.out.println(String.format("%-45s %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f",
+                                       name,
+                                       latency.getValueAtPercentile(50.0) / 1.0e3,
+                                       latency.getValueAtPercentile(99.0) / 1.0e3,
+                                       latency.getValueAtPercentile(99.9) / 1.0e3,
+                                       latency.getMax() / 1.0e3,
+                                       latency.getMean() / 1.0e3,
+                                       latency.getStandardDeviation() / 1.0e3));
+   }
+
+   public static void main(String[] args)
+   {
+      int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+      int size = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+      long period = args.length > 2 ? Long.parseLong(args[2]) * 1000L : 0L;
+
+      ControlLoopReplay replay = new ControlLoopReplay(size);
+      replay.run(ticks, period);
+      replay.printStatistics(period);
+   }
+}
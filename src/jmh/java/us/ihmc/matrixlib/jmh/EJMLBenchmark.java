@@ -0,0 +1,187 @@
+package us.ihmc.matrixlib.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.factory.LinearSolverFactory_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverDense;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link CommonOps_DDRM} equivalents of the native operations. The benchmarks are named
+ * after the operations they are the equivalent of, see {@link BenchmarkCrossovers}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EJMLBenchmark
+{
+   @Param({"3", "6", "12", "25", "50", "100", "250", "500"})
+   public int size;
+
+   private DMatrixRMaj a;
+   private DMatrixRMaj b;
+   private DMatrixRMaj invertible;
+   private DMatrixRMaj vector;
+   private DMatrixRMaj result;
+   private DMatrixRMaj tempMatrix;
+   private DMatrixRMaj column;
+   private DMatrixRMaj solution;
+   private DMatrixRMaj blockResult;
+
+   private LinearSolverDense<DMatrixRMaj> luSolver;
+   private LinearSolverDense<DMatrixRMaj> qrSolver;
+   private LinearSolverDense<DMatrixRMaj> cholSolver;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(BenchmarkMatrices.SEED);
+      a = BenchmarkMatrices.rectangle(size, size, random);
+      b = BenchmarkMatrices.rectangle(size, size, random);
+      invertible = BenchmarkMatrices.invertible(size, random);
+      vector = BenchmarkMatrices.rectangle(size, 1, random);
+      result = new DMatrixRMaj(size, size);
+      tempMatrix = new DMatrixRMaj(size, size);
+      column = new DMatrixRMaj(size, 1);
+      solution = new DMatrixRMaj(size, 1);
+      blockResult = new DMatrixRMaj(2 * size, 2 * size);
+
+      luSolver = LinearSolverFactory_DDRM.lu(size);
+      qrSolver = LinearSolverFactory_DDRM.qr(size, size);
+      cholSolver = LinearSolverFactory_DDRM.chol(size);
+   }
+
+   @Benchmark
+   public void add()
+   {
+      CommonOps_DDRM.add(a, b, result);
+   }
+
+   @Benchmark
+   public void subtract()
+   {
+      CommonOps_DDRM.subtract(a, b, result);
+   }
+
+   @Benchmark
+   public void scale()
+   {
+      CommonOps_DDRM.scale(2.0, a, result);
+   }
+
+   @Benchmark
+   public void transpose()
+   {
+      CommonOps_DDRM.transpose(a, result);
+   }
+
+   @Benchmark
+   public void mult()
+   {
+      CommonOps_DDRM.mult(a, b, result);
+   }
+
+   @Benchmark
+   public void multTransA()
+   {
+      CommonOps_DDRM.multTransA(a, b, result);
+   }
+
+   @Benchmark
+   public void multTransB()
+   {
+      CommonOps_DDRM.multTransB(a, b, result);
+   }
+
+   @Benchmark
+   public void multAdd()
+   {
+      CommonOps_DDRM.multAdd(a, b, result);
+   }
+
+   @Benchmark
+   public void multAddTransA()
+   {
+      CommonOps_DDRM.multAddTransA(a, b, result);
+   }
+
+   @Benchmark
+   public void multAddTransB()
+   {
+      CommonOps_DDRM.multAddTransB(a, b, result);
+   }
+
+   @Benchmark
+   public void multVector()
+   {
+      CommonOps_DDRM.mult(a, vector, solution);
+   }
+
+   @Benchmark
+   public void multQuad()
+   {
+      CommonOps_DDRM.multTransA(a, b, tempMatrix);
+      CommonOps_DDRM.mult(tempMatrix, a, result);
+   }
+
+   @Benchmark
+   public void invert()
+   {
+      luSolver.setA(invertible);
+      luSolver.invert(result);
+   }
+
+   @Benchmark
+   public void solve()
+   {
+      luSolver.setA(invertible);
+      luSolver.solve(vector, solution);
+   }
+
+   @Benchmark
+   public void solveRobust()
+   {
+      qrSolver.setA(invertible);
+      qrSolver.solve(vector, solution);
+   }
+
+   @Benchmark
+   public void solveDamped()
+   {
+      // x = a' * inverse(a * a' + diag(alpha * alpha)) * b
+      CommonOps_DDRM.multTransB(a, a, result);
+      for (int i = 0; i < size; i++)
+         result.add(i, i, 0.01);
+      cholSolver.setA(result);
+      cholSolver.solve(vector, column);
+      CommonOps_DDRM.multTransA(a, column, solution);
+   }
+
+   @Benchmark
+   public void insert()
+   {
+      CommonOps_DDRM.insert(a, blockResult, size, size);
+   }
+
+   @Benchmark
+   public void extract()
+   {
+      CommonOps_DDRM.extract(blockResult, size, 2 * size, size, 2 * size, result, 0, 0);
+   }
+}
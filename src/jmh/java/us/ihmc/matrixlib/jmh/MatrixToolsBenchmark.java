@@ -0,0 +1,130 @@
+package us.ihmc.matrixlib.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.matrixlib.DiagonalMatrix;
+import us.ihmc.matrixlib.DiagonalMatrixTools;
+import us.ihmc.matrixlib.MatrixTools;
+
+/**
+ * Measures the kernels of {@link MatrixTools} and {@link DiagonalMatrixTools}. The benchmarks are
+ * named after the equivalent operations of {@link NativeMatrixBenchmark}.
+ * <p>
+ * The jmh source set does not depend on the vector source set, these are the scalar loops. The
+ * Vector API kernels are measured by {@code VectorAPIMatrixKernelsBenchmark}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixToolsBenchmark
+{
+   @Param({"3", "6", "12", "25", "50", "100", "250", "500"})
+   public int size;
+
+   private DMatrixRMaj a;
+   private DMatrixRMaj b;
+   private DiagonalMatrix w;
+   private DMatrixRMaj result;
+   private DMatrixRMaj blockResult;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(BenchmarkMatrices.SEED);
+      a = BenchmarkMatrices.rectangle(size, size, random);
+      b = BenchmarkMatrices.rectangle(size, size, random);
+      w = BenchmarkMatrices.diagonal(size, random);
+      result = new DMatrixRMaj(size, size);
+      blockResult = new DMatrixRMaj(2 * size, 2 * size);
+   }
+
+   @Benchmark
+   public void multAddBlock()
+   {
+      MatrixTools.multAddBlock(a, b, blockResult, size, size);
+   }
+
+   @Benchmark
+   public void multAddBlockTransA()
+   {
+      MatrixTools.multAddBlockTransA(a, b, blockResult, size, size);
+   }
+
+   @Benchmark
+   public void multAddInner()
+   {
+      MatrixTools.multAddInner(1.0, a, result);
+   }
+
+   @Benchmark
+   public void multAddBlockInner()
+   {
+      MatrixTools.multAddBlockInner(1.0, a, blockResult, size, size);
+   }
+
+   @Benchmark
+   public void multQuadDiagonal()
+   {
+      DiagonalMatrixTools.multInner(a, w, result);
+   }
+
+   @Benchmark
+   public void multOuterDiagonal()
+   {
+      DiagonalMatrixTools.multOuter(a, w, result);
+   }
+
+   @Benchmark
+   public void preMultDiagonal()
+   {
+      DiagonalMatrixTools.preMult(w, a, result);
+   }
+
+   @Benchmark
+   public void postMultDiagonal()
+   {
+      DiagonalMatrixTools.postMult(a, w, result);
+   }
+
+   @Benchmark
+   public void postMultTransADiagonal()
+   {
+      DiagonalMatrixTools.postMultTransA(a, w, result);
+   }
+
+   @Benchmark
+   public void innerDiagonalMult()
+   {
+      DiagonalMatrixTools.innerDiagonalMult(a, w, b, result);
+   }
+
+   @Benchmark
+   public void innerDiagonalMultTransA()
+   {
+      DiagonalMatrixTools.innerDiagonalMultTransA(a, w, b, result);
+   }
+
+   @Benchmark
+   public void innerDiagonalMultAddTransA()
+   {
+      DiagonalMatrixTools.innerDiagonalMultAddTransA(a, w, b, result);
+   }
+}
@@ -0,0 +1,116 @@
+package us.ihmc.matrixlib.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.matrixlib.NativeCommonOps;
+import us.ihmc.matrixlib.SolveDiagnostics;
+
+/**
+ * Measures the operations of {@link NativeCommonOps}, including the copies of the EJML matrices to
+ * and from the native library.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeCommonOpsBenchmark
+{
+   @Param({"3", "6", "12", "25", "50", "100", "250", "500"})
+   public int size;
+
+   private DMatrixRMaj a;
+   private DMatrixRMaj b;
+   private DMatrixRMaj invertible;
+   private DMatrixRMaj vector;
+   private DMatrixRMaj result;
+   private DMatrixRMaj solution;
+   private final SolveDiagnostics diagnostics = new SolveDiagnostics();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(BenchmarkMatrices.SEED);
+      a = BenchmarkMatrices.rectangle(size, size, random);
+      b = BenchmarkMatrices.rectangle(size, size, random);
+      invertible = BenchmarkMatrices.invertible(size, random);
+      vector = BenchmarkMatrices.rectangle(size, 1, random);
+      result = new DMatrixRMaj(size, size);
+      solution = new DMatrixRMaj(size, 1);
+   }
+
+   @Benchmark
+   public void mult()
+   {
+      NativeCommonOps.mult(a, b, result);
+   }
+
+   @Benchmark
+   public void multVector()
+   {
+      NativeCommonOps.mult(a, vector, solution);
+   }
+
+   @Benchmark
+   public void multQuad()
+   {
+      NativeCommonOps.multQuad(a, b, result);
+   }
+
+   @Benchmark
+   public void invert()
+   {
+      NativeCommonOps.invert(invertible, result);
+   }
+
+   @Benchmark
+   public void solve()
+   {
+      NativeCommonOps.solve(invertible, vector, solution);
+   }
+
+   @Benchmark
+   public boolean solveCheck()
+   {
+      return NativeCommonOps.solveCheck(invertible, vector, solution);
+   }
+
+   @Benchmark
+   public boolean solveCheckDiagnostics()
+   {
+      return NativeCommonOps.solveCheck(invertible, vector, solution, false, diagnostics);
+   }
+
+   @Benchmark
+   public void solveRobust()
+   {
+      NativeCommonOps.solveRobust(invertible, vector, solution);
+   }
+
+   @Benchmark
+   public void solveDamped()
+   {
+      NativeCommonOps.solveDamped(a, vector, 0.1, solution);
+   }
+
+   @Benchmark
+   public void projectOnNullspace()
+   {
+      NativeCommonOps.projectOnNullspace(a, b, result, 0.1);
+   }
+}
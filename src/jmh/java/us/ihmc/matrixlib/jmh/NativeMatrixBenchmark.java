@@ -0,0 +1,243 @@
+package us.ihmc.matrixlib.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.matrixlib.DiagonalMatrix;
+import us.ihmc.matrixlib.NativeMatrix;
+import us.ihmc.matrixlib.SolveDiagnostics;
+
+/**
+ * Measures the operations of {@link NativeMatrix}. The inputs stay in native memory, except for
+ * {@link #setAndGet()} which measures the copies to and from a {@link DMatrixRMaj}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeMatrixBenchmark
+{
+   @Param({"3", "6", "12", "25", "50", "100", "250", "500"})
+   public int size;
+
+   private DMatrixRMaj ejmlMatrix;
+   private DiagonalMatrix w;
+
+   private NativeMatrix a;
+   private NativeMatrix b;
+   private NativeMatrix invertible;
+   private NativeMatrix vector;
+   private NativeMatrix result;
+   private NativeMatrix blockResult;
+   private final SolveDiagnostics diagnostics = new SolveDiagnostics();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(BenchmarkMatrices.SEED);
+      ejmlMatrix = BenchmarkMatrices.rectangle(size, size, random);
+      a = new NativeMatrix(ejmlMatrix);
+      b = new NativeMatrix(BenchmarkMatrices.rectangle(size, size, random));
+      invertible = new NativeMatrix(BenchmarkMatrices.invertible(size, random));
+      vector = new NativeMatrix(BenchmarkMatrices.rectangle(size, 1, random));
+      w = BenchmarkMatrices.diagonal(size, random);
+      result = new NativeMatrix(size, size);
+      blockResult = new NativeMatrix(2 * size, 2 * size);
+   }
+
+   @Benchmark
+   public void setAndGet()
+   {
+      result.set(ejmlMatrix);
+      result.get(ejmlMatrix);
+   }
+
+   @Benchmark
+   public void add()
+   {
+      result.add(a, b);
+   }
+
+   @Benchmark
+   public void subtract()
+   {
+      result.subtract(a, b);
+   }
+
+   @Benchmark
+   public void scale()
+   {
+      result.scale(2.0, a);
+   }
+
+   @Benchmark
+   public void transpose()
+   {
+      result.transpose(a);
+   }
+
+   @Benchmark
+   public void mult()
+   {
+      result.mult(a, b);
+   }
+
+   @Benchmark
+   public void multTransA()
+   {
+      result.multTransA(a, b);
+   }
+
+   @Benchmark
+   public void multTransB()
+   {
+      result.multTransB(a, b);
+   }
+
+   @Benchmark
+   public void multAdd()
+   {
+      result.multAdd(a, b);
+   }
+
+   @Benchmark
+   public void multAddTransA()
+   {
+      result.multAddTransA(a, b);
+   }
+
+   @Benchmark
+   public void multAddTransB()
+   {
+      result.multAddTransB(a, b);
+   }
+
+   @Benchmark
+   public void multVector()
+   {
+      result.mult(a, vector);
+   }
+
+   @Benchmark
+   public void multAddBlock()
+   {
+      blockResult.multAddBlock(a, b, size, size);
+   }
+
+   @Benchmark
+   public void multAddBlockTransA()
+   {
+      blockResult.multAddBlockTransA(a, b, size, size);
+   }
+
+   @Benchmark
+   public void multQuad()
+   {
+      result.multQuad(a, b);
+   }
+
+   @Benchmark
+   public void multAddQuad()
+   {
+      result.multAddQuad(a, b);
+   }
+
+   @Benchmark
+   public void multQuadDiagonal()
+   {
+      result.multQuad(a, w);
+   }
+
+   @Benchmark
+   public void multOuterDiagonal()
+   {
+      result.multOuter(a, w);
+   }
+
+   @Benchmark
+   public void preMultDiagonal()
+   {
+      result.preMult(w, a);
+   }
+
+   @Benchmark
+   public void postMultDiagonal()
+   {
+      result.postMult(a, w);
+   }
+
+   @Benchmark
+   public void postMultTransADiagonal()
+   {
+      result.postMultTransA(a, w);
+   }
+
+   @Benchmark
+   public void innerDiagonalMult()
+   {
+      result.innerDiagonalMult(a, w, b);
+   }
+
+   @Benchmark
+   public void innerDiagonalMultTransA()
+   {
+      result.innerDiagonalMultTransA(a, w, b);
+   }
+
+   @Benchmark
+   public void innerDiagonalMultAddTransA()
+   {
+      result.innerDiagonalMultAddTransA(a, w, b);
+   }
+
+   @Benchmark
+   public void invert()
+   {
+      result.invert(invertible);
+   }
+
+   @Benchmark
+   public void solve()
+   {
+      result.solve(invertible, vector);
+   }
+
+   @Benchmark
+   public boolean solveCheck()
+   {
+      return result.solveCheck(invertible, vector);
+   }
+
+   @Benchmark
+   public boolean solveCheckDiagnostics()
+   {
+      return result.solveCheck(invertible, vector, false, diagnostics);
+   }
+
+   @Benchmark
+   public void insert()
+   {
+      blockResult.insert(a, size, size);
+   }
+
+   @Benchmark
+   public void extract()
+   {
+      result.insert(blockResult, size, 2 * size, size, 2 * size, 0, 0);
+   }
+}
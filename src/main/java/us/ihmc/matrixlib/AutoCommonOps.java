@@ -0,0 +1,508 @@
+package us.ihmc.matrixlib;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrix1Row;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.dense.row.factory.LinearSolverFactory_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverDense;
+
+/**
+ * Provides the operations of {@link NativeCommonOps} with the same signatures, each call being
+ * routed to the fastest implementation for the dimensions of its arguments:
+ * <ul>
+ * <li>{@link Backend#EJML}: {@link CommonOps_DDRM} and EJML's LU solver, used for small matrices
+ * where the copies to and from the native library cost more than the operation itself.
+ * <li>{@link Backend#NATIVE_COMMON_OPS}: {@link NativeCommonOps}, used once the size of the
+ * operation reaches the native threshold of the operation.
+ * <li>{@link Backend#NATIVE_MATRIX}: {@link NativeMatrix}, used for large matrices when the calling
+ * thread enabled the multi-threaded operations with {@link NativeMatrix#setNumberOfThreads(int)} and
+ * the size of the operation reaches {@link NativeMatrix#getParallelThreshold()}.
+ * </ul>
+ * <p>
+ * The size of a product is the size of the square product requiring the same number of
+ * floating-point operations, the size of an inversion or of a solve is the size of the matrix
+ * {@code a}. The native thresholds default to crossovers measured on a x86-64 Linux machine. They can be
+ * set for each operation with the system properties {@code us.ihmc.matrixlib.auto.<operation>}, for
+ * instance {@code -Dus.ihmc.matrixlib.auto.mult=12}, with
+ * {@link #setNativeThreshold(Operation, int)}, or measured on the running machine with
+ * {@link #calibrate()}.
+ * </p>
+ * <p>
+ * The EJML backend uses thread local workspaces and does not create garbage once they are
+ * allocated.
+ * </p>
+ */
+public class AutoCommonOps
+{
+   /**
+    * The operations dispatched by this class.
+    */
+   public enum Operation
+   {
+      MULT("mult", 12), MULT_QUAD("multQuad", 8), INVERT("invert", 12), SOLVE("solve", 24);
+
+      private final String name;
+      private final int defaultThreshold;
+
+      private Operation(String name, int defaultThreshold)
+      {
+         this.name = name;
+         this.defaultThreshold = defaultThreshold;
+      }
+
+      /**
+       * @return the name of this operation, as used for its system property.
+       */
+      public String getName()
+      {
+         return name;
+      }
+
+      /**
+       * @return the system property overriding the native threshold of this operation.
+       */
+      public String getProperty()
+      {
+         return "us.ihmc.matrixlib.auto." + name;
+      }
+   }
+
+   /**
+    * The implementations an operation can be routed to.
+    */
+   public enum Backend
+   {
+      EJML, NATIVE_COMMON_OPS, NATIVE_MATRIX
+   }
+
+   private static final Operation[] operations = Operation.values();
+   private static final int[] nativeThresholds = new int[operations.length];
+
+   private static final ThreadLocal<Workspace> workspace = ThreadLocal.withInitial(Workspace::new);
+
+   static
+   {
+      for (Operation operation : operations)
+      {
+         nativeThresholds[operation.ordinal()] = Integer.getInteger(operation.getProperty(), operation.defaultThreshold);
+      }
+   }
+
+   private static class Workspace
+   {
+      private final DMatrixRMaj tempMatrix = new DMatrixRMaj(0, 0);
+      private final DMatrixRMaj tempResult = new DMatrixRMaj(0, 0);
+      private final LinearSolverDense<DMatrixRMaj> luSolver = LinearSolverFactory_DDRM.lu(0);
+
+      private NativeMatrix nativeA;
+      private NativeMatrix nativeB;
+      private NativeMatrix nativeResult;
+
+      private void createNativeMatrices()
+      {
+         if (nativeResult == null)
+         {
+            nativeA = new NativeMatrix(0, 0);
+            nativeB = new NativeMatrix(0, 0);
+            nativeResult = new NativeMatrix(0, 0);
+         }
+      }
+   }
+
+   /**
+    * Sets the size from which the given operation is routed to the native library.
+    *
+    * @param operation the operation to set the threshold of.
+    * @param threshold the minimum size of the operation to use the native library.
+    */
+   public static void setNativeThreshold(Operation operation, int threshold)
+   {
+      nativeThresholds[operation.ordinal()] = threshold;
+   }
+
+   /**
+    * @param operation the operation to get the threshold of.
+    * @return the size from which the given operation is routed to the native library.
+    */
+   public static int getNativeThreshold(Operation operation)
+   {
+      return nativeThresholds[operation.ordinal()];
+   }
+
+   /**
+    * Returns the backend an operation of the given size is routed to when called from this thread.
+    *
+    * @param operation the operation.
+    * @param size      the size of the operation, see the class documentation.
+    * @return the backend the operation is routed to.
+    */
+   public static Backend selectBackend(Operation operation, int size)
+   {
+      if (size < nativeThresholds[operation.ordinal()])
+         return Backend.EJML;
+      if (size >= NativeMatrix.getParallelThreshold() && NativeMatrix.getNumberOfThreads() > 1)
+         return Backend.NATIVE_MATRIX;
+      return Backend.NATIVE_COMMON_OPS;
+   }
+
+   /**
+    * Computes the matrix multiplication</br>
+    * c = a * b
+    *
+    * @param a matrix in multiplication
+    * @param b matrix in multiplication
+    * @param c where the result is stored (modified)
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public static void mult(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   {
+      if (a.getNumCols() != b.getNumRows())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      switch (selectBackend(Operation.MULT, multSize(a.getNumRows(), a.getNumCols(), b.getNumCols()), a, b, c))
+      {
+         case EJML:
+            multEJML(a, b, c);
+            break;
+         case NATIVE_MATRIX:
+            multNativeMatrix((DMatrixRMaj) a, (DMatrixRMaj) b, (DMatrixRMaj) c);
+            break;
+         default:
+            NativeCommonOps.mult(a, b, c);
+            break;
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * c = a' * b * a
+    *
+    * @param a matrix in multiplication
+    * @param b matrix in multiplication
+    * @param c where the result is stored (modified)
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public static void multQuad(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   {
+      if (a.getNumRows() != b.getNumCols() || b.getNumCols() != b.getNumRows())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      switch (selectBackend(Operation.MULT_QUAD, multQuadSize(a.getNumRows(), a.getNumCols()), a, b, c))
+      {
+         case EJML:
+            multQuadEJML(a, b, c);
+            break;
+         case NATIVE_MATRIX:
+            multQuadNativeMatrix((DMatrixRMaj) a, (DMatrixRMaj) b, (DMatrixRMaj) c);
+            break;
+         default:
+            NativeCommonOps.multQuad(a, b, c);
+            break;
+      }
+   }
+
+   /**
+    * Inverts a matrix.</br>
+    * This method requires that the matrix is square and invertible and uses a LU decomposition.
+    *
+    * @param a   matrix to invert
+    * @param inv where the result is stored (modified)
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public static void invert(DMatrix1Row a, DMatrix1Row inv)
+   {
+      if (a == inv)
+      {
+         throw new IllegalArgumentException("Can not invert in place. The result matrix needs to be different from the matrix to invert.");
+      }
+      if (a.getNumRows() != a.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      switch (selectBackend(Operation.INVERT, a.getNumRows(), a, null, inv))
+      {
+         case EJML:
+            invertEJML((DMatrixRMaj) a, (DMatrixRMaj) inv);
+            break;
+         case NATIVE_MATRIX:
+            invertNativeMatrix((DMatrixRMaj) a, (DMatrixRMaj) inv);
+            break;
+         default:
+            NativeCommonOps.invert(a, inv);
+            break;
+      }
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * x == b</br>
+    * This method requires that the matrix a is square and invertible and uses a LU decomposition.
+    *
+    * @param a matrix in equation
+    * @param b matrix in equation
+    * @param x where the result is stored (modified)
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public static void solve(DMatrix1Row a, DMatrix1Row b, DMatrix1Row x)
+   {
+      if (a.getNumRows() != b.getNumRows() || b.getNumCols() != 1 || a.getNumCols() != a.getNumRows())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      switch (selectBackend(Operation.SOLVE, a.getNumRows(), a, b, x))
+      {
+         case EJML:
+            solveEJML((DMatrixRMaj) a, (DMatrixRMaj) b, (DMatrixRMaj) x);
+            break;
+         case NATIVE_MATRIX:
+            solveNativeMatrix((DMatrixRMaj) a, (DMatrixRMaj) b, (DMatrixRMaj) x);
+            break;
+         default:
+            NativeCommonOps.solve(a, b, x);
+            break;
+      }
+   }
+
+   /**
+    * Measures the crossover between EJML and {@link NativeCommonOps} of each operation on this
+    * machine and uses them as native thresholds.
+    * <p>
+    * Both implementations are timed on random matrices of increasing sizes, the threshold being the
+    * first size from which the native library is faster for two consecutive sizes. This takes a few
+    * seconds and is meant to be called once at startup, before any real-time thread uses this class.
+    * </p>
+    */
+   public static void calibrate()
+   {
+      for (Operation operation : operations)
+      {
+         setNativeThreshold(operation, calibrate(operation, new Random(3216L)));
+      }
+   }
+
+   private static final int[] calibrationSizes = {2, 3, 4, 5, 6, 8, 10, 12, 14, 16, 20, 24, 28, 32, 40, 48, 64};
+   private static final int calibrationWarmupIterations = 200;
+   private static final int calibrationRuns = 5;
+   private static final long calibrationRunDuration = 2_000_000L;
+
+   static int calibrate(Operation operation, Random random)
+   {
+      int previousNativeFasterSize = -1;
+
+      for (int size : calibrationSizes)
+      {
+         DMatrixRMaj a = RandomMatrices_DDRM.rectangle(size, size, -1.0, 1.0, random);
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(size, operation == Operation.SOLVE ? 1 : size, -1.0, 1.0, random);
+         DMatrixRMaj c = new DMatrixRMaj(size, size);
+         // Keeps the matrix to invert well conditioned.
+         CommonOps_DDRM.addEquals(a, CommonOps_DDRM.identity(size, size));
+
+         double ejmlTime = timePerCall(operation, Backend.EJML, a, b, c);
+         double nativeTime = timePerCall(operation, Backend.NATIVE_COMMON_OPS, a, b, c);
+
+         if (nativeTime < ejmlTime)
+         {
+            if (previousNativeFasterSize != -1)
+               return previousNativeFasterSize;
+            previousNativeFasterSize = size;
+         }
+         else
+         {
+            previousNativeFasterSize = -1;
+         }
+      }
+
+      return previousNativeFasterSize == -1 ? Integer.MAX_VALUE : previousNativeFasterSize;
+   }
+
+   private static double timePerCall(Operation operation, Backend backend, DMatrixRMaj a, DMatrixRMaj b, DMatrixRMaj c)
+   {
+      for (int i = 0; i < calibrationWarmupIterations; i++)
+         call(operation, backend, a, b, c);
+
+      // The fastest of several runs filters out the interruptions by the OS and the GC.
+      double bestTime = Double.POSITIVE_INFINITY;
+
+      for (int run = 0; run < calibrationRuns; run++)
+      {
+         int iterations = 0;
+         long start = System.nanoTime();
+         long time;
+         do
+         {
+            call(operation, backend, a, b, c);
+            iterations++;
+            time = System.nanoTime() - start;
+         }
+         while (time < calibrationRunDuration);
+
+         bestTime = Math.min(bestTime, (double) time / iterations);
+      }
+
+      return bestTime;
+   }
+
+   private static void call(Operation operation, Backend backend, DMatrixRMaj a, DMatrixRMaj b, DMatrixRMaj c)
+   {
+      boolean ejml = backend == Backend.EJML;
+
+      switch (operation)
+      {
+         case MULT:
+            if (ejml)
+               multEJML(a, b, c);
+            else
+               NativeCommonOps.mult(a, b, c);
+            break;
+         case MULT_QUAD:
+            if (ejml)
+               multQuadEJML(a, b, c);
+            else
+               NativeCommonOps.multQuad(a, b, c);
+            break;
+         case INVERT:
+            if (ejml)
+               invertEJML(a, c);
+            else
+               NativeCommonOps.invert(a, c);
+            break;
+         default:
+            if (ejml)
+               solveEJML(a, b, c);
+            else
+               NativeCommonOps.solve(a, b, c);
+            break;
+      }
+   }
+
+   private static void multEJML(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   {
+      // EJML does not support aliasing of the result.
+      if (c == a || c == b)
+      {
+         DMatrixRMaj tempMatrix = workspace.get().tempMatrix;
+         tempMatrix.reshape(a.getNumRows(), b.getNumCols());
+         CommonOps_DDRM.mult(a, b, tempMatrix);
+         c.set(tempMatrix);
+         return;
+      }
+      c.reshape(a.getNumRows(), b.getNumCols());
+      CommonOps_DDRM.mult(a, b, c);
+   }
+
+   private static void multQuadEJML(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   {
+      Workspace workspace = AutoCommonOps.workspace.get();
+      DMatrixRMaj tempMatrix = workspace.tempMatrix;
+      tempMatrix.reshape(a.getNumCols(), b.getNumCols());
+      CommonOps_DDRM.multTransA(a, b, tempMatrix);
+
+      if (c == a || c == b)
+      {
+         DMatrixRMaj result = workspace.tempResult;
+         result.reshape(a.getNumCols(), a.getNumCols());
+         CommonOps_DDRM.mult(tempMatrix, a, result);
+         c.set(result);
+         return;
+      }
+      c.reshape(a.getNumCols(), a.getNumCols());
+      CommonOps_DDRM.mult(tempMatrix, a, c);
+   }
+
+   private static void invertEJML(DMatrixRMaj a, DMatrixRMaj inv)
+   {
+      LinearSolverDense<DMatrixRMaj> luSolver = workspace.get().luSolver;
+      inv.reshape(a.getNumRows(), a.getNumCols());
+      luSolver.setA(a);
+      luSolver.invert(inv);
+   }
+
+   private static void solveEJML(DMatrixRMaj a, DMatrixRMaj b, DMatrixRMaj x)
+   {
+      LinearSolverDense<DMatrixRMaj> luSolver = workspace.get().luSolver;
+      luSolver.setA(a);
+
+      if (x == b)
+      {
+         // The decomposition is stored in the solver, only b needs to be copied.
+         DMatrixRMaj tempMatrix = workspace.get().tempMatrix;
+         tempMatrix.set(b);
+         luSolver.solve(tempMatrix, x);
+         return;
+      }
+      x.reshape(a.getNumCols(), 1);
+      luSolver.solve(b, x);
+   }
+
+   private static void multNativeMatrix(DMatrixRMaj a, DMatrixRMaj b, DMatrixRMaj c)
+   {
+      Workspace workspace = AutoCommonOps.workspace.get();
+      workspace.nativeA.set(a);
+      workspace.nativeB.set(b);
+      workspace.nativeResult.mult(workspace.nativeA, workspace.nativeB);
+      workspace.nativeResult.get(c);
+   }
+
+   private static void multQuadNativeMatrix(DMatrixRMaj a, DMatrixRMaj b, DMatrixRMaj c)
+   {
+      Workspace workspace = AutoCommonOps.workspace.get();
+      workspace.nativeA.set(a);
+      workspace.nativeB.set(b);
+      workspace.nativeResult.multQuad(workspace.nativeA, workspace.nativeB);
+      workspace.nativeResult.get(c);
+   }
+
+   private static void invertNativeMatrix(DMatrixRMaj a, DMatrixRMaj inv)
+   {
+      Workspace workspace = AutoCommonOps.workspace.get();
+      workspace.nativeA.set(a);
+      workspace.nativeResult.invert(workspace.nativeA);
+      workspace.nativeResult.get(inv);
+   }
+
+   private static void solveNativeMatrix(DMatrixRMaj a, DMatrixRMaj b, DMatrixRMaj x)
+   {
+      Workspace workspace = AutoCommonOps.workspace.get();
+      workspace.nativeA.set(a);
+      workspace.nativeB.set(b);
+      workspace.nativeResult.solve(workspace.nativeA, workspace.nativeB);
+      workspace.nativeResult.get(x);
+   }
+
+   private static Backend selectBackend(Operation operation, int size, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   {
+      Backend backend = selectBackend(operation, size);
+
+      // NativeMatrix and EJML's solver only support row major matrices, which are all the DMatrix1Row in practice.
+      if (backend != Backend.NATIVE_COMMON_OPS && !(isRowMajor(a) && isRowMajor(b) && isRowMajor(c)))
+         return Backend.NATIVE_COMMON_OPS;
+      if (backend == Backend.NATIVE_MATRIX)
+         workspace.get().createNativeMatrices();
+      return backend;
+   }
+
+   private static boolean isRowMajor(DMatrix1Row matrix)
+   {
+      return matrix == null || matrix instanceof DMatrixRMaj;
+   }
+
+   static int multSize(int aRows, int aCols, int bCols)
+   {
+      return (int) Math.round(Math.cbrt((double) aRows * aCols * bCols));
+   }
+
+   static int multQuadSize(int aRows, int aCols)
+   {
+      // a' * b costs aCols * aRows * aRows, the product by a costs aCols * aRows * aCols.
+      return (int) Math.round(Math.cbrt(0.5 * aCols * aRows * (aRows + aCols)));
+   }
+}
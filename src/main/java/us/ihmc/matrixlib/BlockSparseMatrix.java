@@ -0,0 +1,273 @@
+package us.ihmc.matrixlib;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.DMatrix1Row;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+
+/**
+ * {@code BlockSparseMatrix} is a matrix with a fixed block structure where only the nonzero dense
+ * blocks are stored, such as a Jacobian made of one 6-by-n block per rigid-body.
+ * <p>
+ * The blocks are stored by reference: a block registered with
+ * {@link #addBlock(DMatrixRMaj, int, int)} can be updated in place at each tick without registering
+ * it again. The blocks are expected not to overlap. All the products only loop over the stored
+ * blocks and rely on {@link MatrixTools#multAddBlock(DMatrix1Row, DMatrix1Row, DMatrix1Row, int, int)}
+ * and {@link MatrixTools#multAddBlockTransA(DMatrix1Row, DMatrix1Row, DMatrix1Row, int, int)}, the
+ * zero blocks being skipped.
+ * </p>
+ * <p>
+ * See {@link NativeBlockSparseMatrix} for the equivalent using {@link NativeMatrix} blocks.
+ * </p>
+ */
+public class BlockSparseMatrix
+{
+   private final List<Block> blocks = new ArrayList<>();
+   private int numberOfBlocks = 0;
+   private int numRows;
+   private int numCols;
+
+   private final DMatrixRMaj tempRows = new DMatrixRMaj(0, 0);
+   private final DMatrixRMaj tempProduct = new DMatrixRMaj(0, 0);
+
+   /**
+    * Creates a new matrix without any block, i.e. a zero matrix.
+    *
+    * @param numRows the number of rows.
+    * @param numCols the number of columns.
+    */
+   public BlockSparseMatrix(int numRows, int numCols)
+   {
+      reshape(numRows, numCols);
+   }
+
+   /**
+    * Resizes this matrix and removes all its blocks.
+    *
+    * @param numRows the new number of rows.
+    * @param numCols the new number of columns.
+    */
+   public void reshape(int numRows, int numCols)
+   {
+      if (numRows < 0 || numCols < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      this.numRows = numRows;
+      this.numCols = numCols;
+      clear();
+   }
+
+   /**
+    * Removes all the blocks of this matrix, such that it is a zero matrix.
+    */
+   public void clear()
+   {
+      for (int i = 0; i < numberOfBlocks; i++)
+         blocks.get(i).matrix = null;
+      numberOfBlocks = 0;
+   }
+
+   /**
+    * Registers a nonzero block of this matrix.
+    *
+    * @param block    the dense block. The reference is kept, such that later modifications of the
+    *                 block are reflected in this matrix. The block size cannot change afterwards.
+    *                 Not modified.
+    * @param rowStart the row index of the first row of the block in this matrix.
+    * @param colStart the column index of the first column of the block in this matrix.
+    * @throws MatrixDimensionException if the block does not fit in this matrix.
+    */
+   public void addBlock(DMatrixRMaj block, int rowStart, int colStart)
+   {
+      if (rowStart < 0 || colStart < 0 || rowStart + block.getNumRows() > numRows || colStart + block.getNumCols() > numCols)
+         throw new MatrixDimensionException("The block does not fit in this matrix");
+
+      if (numberOfBlocks == blocks.size())
+         blocks.add(new Block());
+      Block newBlock = blocks.get(numberOfBlocks++);
+      newBlock.matrix = block;
+      newBlock.rowStart = rowStart;
+      newBlock.colStart = colStart;
+   }
+
+   /**
+    * @return the number of rows of this matrix.
+    */
+   public int getNumRows()
+   {
+      return numRows;
+   }
+
+   /**
+    * @return the number of columns of this matrix.
+    */
+   public int getNumCols()
+   {
+      return numCols;
+   }
+
+   /**
+    * @return the number of blocks stored in this matrix.
+    */
+   public int getNumberOfBlocks()
+   {
+      return numberOfBlocks;
+   }
+
+   /**
+    * Packs this matrix into a dense matrix.
+    *
+    * @param denseToPack where this matrix is stored. The matrix is reshaped to the size of this.
+    *                    Modified.
+    */
+   public void get(DMatrixRMaj denseToPack)
+   {
+      denseToPack.reshape(numRows, numCols);
+      denseToPack.zero();
+
+      for (int i = 0; i < numberOfBlocks; i++)
+      {
+         Block block = blocks.get(i);
+         CommonOps_DDRM.extract(block.matrix, 0, block.matrix.getNumRows(), 0, block.matrix.getNumCols(), denseToPack, block.rowStart, block.colStart);
+      }
+   }
+
+   /**
+    * Computes</br>
+    * c = this * b
+    *
+    * @param b dense matrix in multiplication. Not modified.
+    * @param c where the result is stored. The matrix is reshaped to a m-by-p matrix, m being the
+    *          number of rows of this and p the number of columns of {@code b}. Modified.
+    * @throws MatrixDimensionException if the matrix dimensions are incompatible.
+    * @throws IllegalArgumentException if {@code b} and {@code c} are the same instance.
+    */
+   public void mult(DMatrixRMaj b, DMatrixRMaj c)
+   {
+      if (b == c)
+         throw new IllegalArgumentException("'b' cannot be the same matrix as 'c'");
+      if (b.getNumRows() != numCols)
+         throw new MatrixDimensionException("The 'this' and 'b' matrices do not have compatible dimensions");
+
+      c.reshape(numRows, b.getNumCols());
+      c.zero();
+
+      for (int i = 0; i < numberOfBlocks; i++)
+      {
+         Block block = blocks.get(i);
+         extractRows(b, block.colStart, block.matrix.getNumCols(), tempRows);
+         MatrixTools.multAddBlock(block.matrix, tempRows, c, block.rowStart, 0);
+      }
+   }
+
+   /**
+    * Computes</br>
+    * c = this<sup>T</sup> * b
+    *
+    * @param b dense matrix in multiplication. Not modified.
+    * @param c where the result is stored. The matrix is reshaped to a n-by-p matrix, n being the
+    *          number of columns of this and p the number of columns of {@code b}. Modified.
+    * @throws MatrixDimensionException if the matrix dimensions are incompatible.
+    * @throws IllegalArgumentException if {@code b} and {@code c} are the same instance.
+    */
+   public void multTransA(DMatrixRMaj b, DMatrixRMaj c)
+   {
+      if (b == c)
+         throw new IllegalArgumentException("'b' cannot be the same matrix as 'c'");
+      if (b.getNumRows() != numRows)
+         throw new MatrixDimensionException("The 'this' and 'b' matrices do not have compatible dimensions");
+
+      c.reshape(numCols, b.getNumCols());
+      c.zero();
+
+      for (int i = 0; i < numberOfBlocks; i++)
+      {
+         Block block = blocks.get(i);
+         extractRows(b, block.rowStart, block.matrix.getNumRows(), tempRows);
+         MatrixTools.multAddBlockTransA(block.matrix, tempRows, c, block.colStart, 0);
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * c = this<sup>T</sup> * w * this
+    *
+    * @param w the m-by-m weight matrix, m being the number of rows of this. Not modified.
+    * @param c where the result is stored. The matrix is reshaped to a n-by-n matrix, n being the
+    *          number of columns of this. Modified.
+    * @throws MatrixDimensionException if the matrix dimensions are incompatible.
+    * @throws IllegalArgumentException if {@code w} and {@code c} are the same instance.
+    */
+   public void multQuad(DMatrixRMaj w, DMatrixRMaj c)
+   {
+      if (w == c)
+         throw new IllegalArgumentException("'w' cannot be the same matrix as 'c'");
+
+      c.reshape(numCols, numCols);
+      c.zero();
+      multAddQuadBlock(w, c, 0, 0);
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * c += this<sup>T</sup> * w * this</br>
+    * where only the n-by-n product is added to a block of same size in {@code c}, n being the number
+    * of columns of this.
+    *
+    * @param w        the m-by-m weight matrix, m being the number of rows of this. Not modified.
+    * @param c        the matrix to which the product is added. Modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    * @throws MatrixDimensionException if the matrix dimensions are incompatible.
+    * @throws IllegalArgumentException if {@code w} and {@code c} are the same instance.
+    */
+   public void multAddQuadBlock(DMatrixRMaj w, DMatrixRMaj c, int rowStart, int colStart)
+   {
+      if (w == c)
+         throw new IllegalArgumentException("'w' cannot be the same matrix as 'c'");
+      if (w.getNumRows() != numRows || w.getNumCols() != numRows)
+         throw new MatrixDimensionException("The 'this' and 'w' matrices do not have compatible dimensions");
+      if (rowStart < 0 || colStart < 0 || rowStart + numCols > c.getNumRows() || colStart + numCols > c.getNumCols())
+         throw new MatrixDimensionException("The product does not fit in 'c'");
+
+      for (int j = 0; j < numberOfBlocks; j++)
+      {
+         Block blockJ = blocks.get(j);
+         DMatrixRMaj matrixJ = blockJ.matrix;
+
+         // w * J_j only involves the columns of w that match the rows of the block j.
+         tempProduct.reshape(numRows, matrixJ.getNumCols());
+         tempProduct.zero();
+         extractColumns(w, blockJ.rowStart, matrixJ.getNumRows(), tempRows);
+         MatrixTools.multAddBlock(tempRows, matrixJ, tempProduct, 0, 0);
+
+         for (int i = 0; i < numberOfBlocks; i++)
+         {
+            Block blockI = blocks.get(i);
+            extractRows(tempProduct, blockI.rowStart, blockI.matrix.getNumRows(), tempRows);
+            MatrixTools.multAddBlockTransA(blockI.matrix, tempRows, c, rowStart + blockI.colStart, colStart + blockJ.colStart);
+         }
+      }
+   }
+
+   private static void extractRows(DMatrixRMaj source, int rowStart, int numberOfRows, DMatrixRMaj dest)
+   {
+      dest.reshape(numberOfRows, source.getNumCols());
+      System.arraycopy(source.data, rowStart * source.getNumCols(), dest.data, 0, numberOfRows * source.getNumCols());
+   }
+
+   private static void extractColumns(DMatrixRMaj source, int colStart, int numberOfCols, DMatrixRMaj dest)
+   {
+      dest.reshape(source.getNumRows(), numberOfCols);
+      CommonOps_DDRM.extract(source, 0, source.getNumRows(), colStart, colStart + numberOfCols, dest, 0, 0);
+   }
+
+   private static class Block
+   {
+      private DMatrixRMaj matrix;
+      private int rowStart;
+      private int colStart;
+   }
+}
@@ -0,0 +1,218 @@
+package us.ihmc.matrixlib;
+
+import java.util.Arrays;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.DMatrix1Row;
+import org.ejml.data.DMatrixRMaj;
+
+/**
+ * {@code DiagonalMatrix} is a square diagonal matrix that only stores its n diagonal elements, as is
+ * typically used for weight matrices.
+ * <p>
+ * It is meant to be used with the overloads of {@link DiagonalMatrixTools} taking a
+ * {@code DiagonalMatrix}, which do not need to find out at runtime whether the diagonal matrix is
+ * stored as a square matrix or as a vector.
+ * </p>
+ */
+public class DiagonalMatrix
+{
+   /** The diagonal elements of this matrix, only the first {@link #getSize()} elements are used. */
+   public double[] data;
+   private int size;
+
+   /**
+    * Creates a new diagonal matrix filled with zeros.
+    *
+    * @param size the number of rows and columns of the matrix.
+    */
+   public DiagonalMatrix(int size)
+   {
+      if (size < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      data = new double[size];
+      this.size = size;
+   }
+
+   /**
+    * Creates a new diagonal matrix from its diagonal elements.
+    *
+    * @param diagonal the diagonal elements. Not modified.
+    */
+   public DiagonalMatrix(double... diagonal)
+   {
+      data = Arrays.copyOf(diagonal, diagonal.length);
+      size = diagonal.length;
+   }
+
+   /**
+    * Creates a new diagonal matrix with the same diagonal as {@code other}.
+    *
+    * @param other the matrix to copy. Not modified.
+    */
+   public DiagonalMatrix(DiagonalMatrix other)
+   {
+      this(other.size);
+      set(other);
+   }
+
+   /**
+    * Changes the size of this matrix. The data array is only reallocated when it is too small, the
+    * values of the diagonal are not preserved.
+    *
+    * @param size the new number of rows and columns of the matrix.
+    */
+   public void reshape(int size)
+   {
+      if (size < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      if (data.length < size)
+         data = new double[size];
+      this.size = size;
+   }
+
+   /**
+    * @return the number of rows and columns of this matrix.
+    */
+   public int getSize()
+   {
+      return size;
+   }
+
+   /**
+    * Returns the i<sup>th</sup> element of the diagonal.
+    *
+    * @param index the index of the element.
+    * @return the value of the element.
+    */
+   public double get(int index)
+   {
+      checkIndex(index);
+      return data[index];
+   }
+
+   /**
+    * Sets the i<sup>th</sup> element of the diagonal.
+    *
+    * @param index the index of the element.
+    * @param value the new value of the element.
+    */
+   public void set(int index, double value)
+   {
+      checkIndex(index);
+      data[index] = value;
+   }
+
+   /**
+    * Sets this matrix to {@code other}, reshaping this if necessary.
+    *
+    * @param other the matrix to copy. Not modified.
+    */
+   public void set(DiagonalMatrix other)
+   {
+      reshape(other.size);
+      System.arraycopy(other.data, 0, data, 0, size);
+   }
+
+   /**
+    * Sets this matrix from either a square matrix, of which only the diagonal is read, or a column
+    * vector of the diagonal elements, reshaping this if necessary.
+    *
+    * @param matrix the square matrix or the column vector to copy. Not modified.
+    * @throws MatrixDimensionException if {@code matrix} is neither square nor a column vector.
+    */
+   public void set(DMatrix1Row matrix)
+   {
+      if (matrix.numCols == 1)
+      {
+         reshape(matrix.numRows);
+         System.arraycopy(matrix.data, 0, data, 0, size);
+      }
+      else if (matrix.numRows == matrix.numCols)
+      {
+         reshape(matrix.numRows);
+         for (int i = 0; i < size; i++)
+            data[i] = matrix.data[i * (matrix.numCols + 1)];
+      }
+      else
+      {
+         throw new MatrixDimensionException("The matrix is neither square nor a column vector");
+      }
+   }
+
+   /**
+    * Packs this matrix into a dense square matrix.
+    *
+    * @param denseToPack where this matrix is stored. The matrix is reshaped to a n-by-n matrix, n
+    *                    being the size of this. Modified.
+    */
+   public void get(DMatrixRMaj denseToPack)
+   {
+      denseToPack.reshape(size, size);
+      denseToPack.zero();
+      for (int i = 0; i < size; i++)
+         denseToPack.data[i * (size + 1)] = data[i];
+   }
+
+   /**
+    * Sets all the elements of the diagonal to zero.
+    */
+   public void zero()
+   {
+      Arrays.fill(data, 0, size, 0.0);
+   }
+
+   /**
+    * Sets all the elements of the diagonal to {@code value}.
+    *
+    * @param value the value of the diagonal elements.
+    */
+   public void fill(double value)
+   {
+      Arrays.fill(data, 0, size, value);
+   }
+
+   /**
+    * Multiplies all the elements of the diagonal by {@code scale}.
+    *
+    * @param scale the scaling factor.
+    */
+   public void scale(double scale)
+   {
+      for (int i = 0; i < size; i++)
+         data[i] *= scale;
+   }
+
+   /**
+    * Inverts this matrix in place.
+    */
+   public void invert()
+   {
+      for (int i = 0; i < size; i++)
+         data[i] = 1.0 / data[i];
+   }
+
+   /**
+    * Sets this matrix to the inverse of {@code other}, reshaping this if necessary.
+    *
+    * @param other the matrix to invert. Can be the same instance as this. Not modified.
+    */
+   public void invert(DiagonalMatrix other)
+   {
+      reshape(other.size);
+      for (int i = 0; i < size; i++)
+         data[i] = 1.0 / other.data[i];
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= size)
+         throw new IllegalArgumentException("Index out of bounds. Requested " + index + ". Size " + size + ".");
+   }
+
+   @Override
+   public String toString()
+   {
+      return "Diagonal " + Arrays.toString(Arrays.copyOf(data, size));
+   }
+}
@@ -88,7 +88,7 @@ public class DiagonalMatrixTools
       if (a.numCols > 1)
          preMult_matrix(a, b, c);
       else
-         preMult_vector(a, b, c);
+         preMult_vector(a.data, a.numRows, b, c);
    }
 
    private static void preMult_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
@@ -105,17 +105,40 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void preMult_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   private static void preMult_vector(double[] a, int aSize, DMatrix1Row b, DMatrix1Row c)
    {
-      for (int row = 0; row < Math.min(a.numRows, b.numRows); row++)
+      for (int row = 0; row < Math.min(aSize, b.numRows); row++)
       {
          for (int col = 0; col < b.numCols; col++)
          {
-            c.unsafe_set(row, col, a.data[row] * b.unsafe_get(row, col));
+            c.unsafe_set(row, col, a[row] * b.unsafe_get(row, col));
          }
       }
    }
 
+   /**
+    * <p>
+    * Performs the following operation:<br>
+    * <br>
+    * c = a * b <br>
+    * </p>
+    * 
+    * @param a The left diagonal matrix in the multiplication operation. Not modified.
+    * @param b The right matrix in the multiplication operation. Not modified.
+    * @param c Where the results of the operation are stored. Modified.
+    */
+   public static void preMult(DiagonalMatrix a, DMatrix1Row b, DMatrix1Row c)
+   {
+      if (b == c)
+         throw new IllegalArgumentException("'b' cannot be the same matrix as 'c'");
+      else if (a.getSize() != b.numRows)
+         throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+      else if (a.getSize() != c.numRows || b.numCols != c.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      preMult_vector(a.data, a.getSize(), b, c);
+   }
+
    /**
     * <p>
     * Performs the following operation:<br>
@@ -152,7 +175,7 @@ public class DiagonalMatrixTools
       if (a.numCols > 1)
          preMultAddBlock_matrix(a, b, c, startRow, startCol);
       else
-         preMultAddBlock_vector(a, b, c, startRow, startCol);
+         preMultAddBlock_vector(a.data, a.numRows, b, c, startRow, startCol);
    }
 
    private static void preMultAddBlock_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, int startRow, int startCol)
@@ -169,17 +192,45 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void preMultAddBlock_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, int startRow, int startCol)
+   private static void preMultAddBlock_vector(double[] a, int aSize, DMatrix1Row b, DMatrix1Row c, int startRow, int startCol)
    {
-      for (int row = 0; row < Math.min(a.numRows, b.numRows); row++)
+      for (int row = 0; row < Math.min(aSize, b.numRows); row++)
       {
          for (int col = 0; col < b.numCols; col++)
          {
-            c.unsafe_set(startRow + row, startCol + col, c.unsafe_get(startRow + row, startCol + col) + a.data[row] * b.unsafe_get(row, col));
+            c.unsafe_set(startRow + row, startCol + col, c.unsafe_get(startRow + row, startCol + col) + a[row] * b.unsafe_get(row, col));
          }
       }
    }
 
+   /**
+    * <p>
+    * Performs the following operation:<br>
+    * <br>
+    * c = c + a * b <br>
+    * </p>
+    * <p>
+    * The block is added to matrix c starting at startRow, startCol
+    * </p>
+    * 
+    * @param a        The left diagonal matrix in the multiplication operation. Not modified.
+    * @param b        The right matrix in the multiplication operation. Not modified.
+    * @param c        Where the results of the operation are stored. Modified.
+    * @param startRow The row index to start writing to in the block 'c'.
+    * @param startCol The col index to start writing to in the block 'c'.
+    */
+   public static void preMultAddBlock(DiagonalMatrix a, DMatrix1Row b, DMatrix1Row c, int startRow, int startCol)
+   {
+      if (b == c)
+         throw new IllegalArgumentException("'b' cannot be the same matrix as 'c'");
+      else if (a.getSize() != b.numRows)
+         throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+      else if (a.getSize() + startRow > c.numRows || b.numCols + startCol > c.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      preMultAddBlock_vector(a.data, a.getSize(), b, c, startRow, startCol);
+   }
+
    /**
     * p>Performs the following operation:<br>
     * <br>
@@ -215,7 +266,7 @@ public class DiagonalMatrixTools
       if (a.numCols > 1)
          preMultAddBlock_matrix(d, a, b, c, startRow, startCol);
       else
-         preMultAddBlock_vector(d, a, b, c, startRow, startCol);
+         preMultAddBlock_vector(d, a.data, a.numRows, b, c, startRow, startCol);
    }
 
    private static void preMultAddBlock_matrix(double d, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, int startRow, int startCol)
@@ -232,17 +283,46 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void preMultAddBlock_vector(double d, DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, int startRow, int startCol)
+   private static void preMultAddBlock_vector(double d, double[] a, int aSize, DMatrix1Row b, DMatrix1Row c, int startRow, int startCol)
    {
-      for (int row = 0; row < Math.min(a.numRows, b.numRows); row++)
+      for (int row = 0; row < Math.min(aSize, b.numRows); row++)
       {
          for (int col = 0; col < b.numCols; col++)
          {
-            c.unsafe_set(startRow + row, startCol + col, c.unsafe_get(startRow + row, startCol + col) + d * a.data[row] * b.unsafe_get(row, col));
+            c.unsafe_set(startRow + row, startCol + col, c.unsafe_get(startRow + row, startCol + col) + d * a[row] * b.unsafe_get(row, col));
          }
       }
    }
 
+   /**
+    * <p>
+    * Performs the following operation:<br>
+    * <br>
+    * c = c + d * a * b <br>
+    * </p>
+    * <p>
+    * The block is added to matrix c starting at startRow, startCol
+    * </p>
+    * 
+    * @param d        The scalar multiplier of the multiplication operation.
+    * @param a        The left diagonal matrix in the multiplication operation. Not modified.
+    * @param b        The right matrix in the multiplication operation. Not modified.
+    * @param c        Where the results of the operation are stored. Modified.
+    * @param startRow The row index to start writing to in the block 'c'.
+    * @param startCol The col index to start writing to in the block 'c'.
+    */
+   public static void preMultAddBlock(double d, DiagonalMatrix a, DMatrix1Row b, DMatrix1Row c, int startRow, int startCol)
+   {
+      if (b == c)
+         throw new IllegalArgumentException("'b' cannot be the same matrix as 'c'");
+      else if (a.getSize() != b.numRows)
+         throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+      else if (a.getSize() + startRow > c.numRows || b.numCols + startCol > c.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      preMultAddBlock_vector(d, a.data, a.getSize(), b, c, startRow, startCol);
+   }
+
    /**
     * <p>
     * Performs the following operation:<br>
@@ -271,7 +351,7 @@ public class DiagonalMatrixTools
       if (b.numCols > 1)
          postMult_matrix(a, b, c);
       else
-         postMult_vector(a, b, c);
+         postMult_vector(a, b.data, b.numRows, c);
    }
 
    private static void postMult_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
@@ -290,17 +370,40 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void postMult_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   private static void postMult_vector(DMatrix1Row a, double[] b, int bSize, DMatrix1Row c)
    {
       for (int row = 0; row < a.numRows; row++)
       {
-         for (int col = 0; col < Math.min(b.numRows, c.numCols); col++)
+         for (int col = 0; col < Math.min(bSize, c.numCols); col++)
          {
-            c.unsafe_set(row, col, b.data[col] * a.unsafe_get(row, col));
+            c.unsafe_set(row, col, b[col] * a.unsafe_get(row, col));
          }
       }
    }
 
+   /**
+    * <p>
+    * Performs the following operation:<br>
+    * <br>
+    * c = a * b </br>
+    * </p>
+    * 
+    * @param a The left matrix in the multiplication operation. Not modified.
+    * @param b The right diagonal matrix in the multiplication operation. Not modified.
+    * @param c Where the results of the operation are stored. Modified.
+    */
+   public static void postMult(DMatrix1Row a, DiagonalMatrix b, DMatrix1Row c)
+   {
+      if (a == c)
+         throw new IllegalArgumentException("'a' cannot be the same matrix as 'c'");
+      else if (a.numCols != b.getSize())
+         throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+      else if (a.numRows != c.numRows || b.getSize() != c.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      postMult_vector(a, b.data, b.getSize(), c);
+   }
+
    /**
     * <p>
     * Performs the following operation:<br>
@@ -327,8 +430,8 @@ public class DiagonalMatrixTools
 
       if (b.numCols > 1)
          postMultTransA_matrix(a, b, c);
-      else
-         postMultTransA_vector(a, b, c);
+      else // Only the first columns of 'c' are computed when it is narrower than the diagonal, the vector form always allowed it.
+         postMultTransA_vector(a, b.data, Math.min(c.numCols, b.numRows), c);
    }
 
    private static void postMultTransA_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
@@ -353,28 +456,50 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void postMultTransA_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   private static void postMultTransA_vector(DMatrix1Row a, double[] b, int numberOfColumns, DMatrix1Row c)
    {
       if (a.numCols != c.numRows)
          throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
 
       int index = 0;
       int bIndex = 0;
-      int maxValue = Math.min(c.numCols, b.numRows); // fix this
-      for (int i = 0; i < maxValue; i++)
+      for (int i = 0; i < numberOfColumns; i++)
       {
          int index2 = i;
 
          int end = index + a.numCols;
          while (index < end)
          {
-            c.data[index2] = b.data[bIndex] * a.data[index++];
+            c.data[index2] = b[bIndex] * a.data[index++];
             index2 += c.numCols;
          }
          bIndex++;
       }
    }
 
+   /**
+    * <p>
+    * Performs the following operation:<br>
+    * <br>
+    * c = a<sup>T</sup> * b </br>
+    * </p>
+    * 
+    * @param a The left matrix in the multiplication operation. Not modified.
+    * @param b The right diagonal matrix in the multiplication operation. Not modified.
+    * @param c Where the results of the operation are stored. Modified.
+    */
+   public static void postMultTransA(DMatrix1Row a, DiagonalMatrix b, DMatrix1Row c)
+   {
+      if (a == c)
+         throw new IllegalArgumentException("'a' cannot be the same matrix as 'c'");
+      else if (a.numRows != b.getSize())
+         throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+      else if (a.numCols != c.numRows || b.getSize() != c.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      postMultTransA_vector(a, b.data, b.getSize(), c);
+   }
+
    /**
     * <p>
     * Computes the matrix multiplication inner product:<br>
@@ -409,7 +534,7 @@ public class DiagonalMatrixTools
       if (b.numCols > 1)
          multInner_matrix(a, b, c);
       else
-         multInner_vector(a, b, c);
+         multInner_vector(a, b.data, c);
    }
 
    private static void multInner_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
@@ -437,8 +562,15 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void multInner_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   private static void multInner_vector(DMatrix1Row a, double[] b, DMatrix1Row c)
    {
+      if (MatrixTools.useSIMDKernels(a.numCols))
+      {
+         Arrays.fill(c.data, 0, c.getNumElements(), 0.0);
+         MatrixTools.simdKernels.multAddBlockTransA(1.0, a.data, a.numRows, a.numCols, b, a.data, a.numCols, c.data, c.numCols, 0, 0);
+         return;
+      }
+
       for (int i = 0; i < a.numCols; i++)
       {
          for (int j = i; j < a.numCols; j++)
@@ -452,13 +584,39 @@ public class DiagonalMatrixTools
             int end = indexA + a.numRows * a.numCols;
             for (; indexA < end; indexA += a.numCols, indexB += a.numCols, indexC++)
             {
-               sum += a.data[indexA] * a.data[indexB] * b.data[indexC];
+               sum += a.data[indexA] * a.data[indexB] * b[indexC];
             }
             c.data[indexC1] = c.data[indexC2] = sum;
          }
       }
    }
 
+   /**
+    * <p>
+    * Computes the matrix multiplication inner product:<br>
+    * <br>
+    * c = a<sup>T</sup> * b * a <br>
+    * </p>
+    * <p>
+    * Is faster than using a generic matrix multiplication by taking advantage of symmetry.
+    * </p>
+    * 
+    * @param a The matrix being multiplied. Not modified.
+    * @param b The inner diagonal matrix in the multiplication. Not Modified.
+    * @param c Where the results of the operation are stored. Modified.
+    */
+   public static void multInner(DMatrix1Row a, DiagonalMatrix b, DMatrix1Row c)
+   {
+      if (a == c)
+         throw new IllegalArgumentException("'a' cannot be the same matrix as 'c'");
+      else if (a.numRows != b.getSize())
+         throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+      else if (a.numCols != c.numRows || a.numCols != c.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      multInner_vector(a, b.data, c);
+   }
+
    /**
     * <p>
     * Computes the matrix multiplication inner product:<br>
@@ -494,7 +652,7 @@ public class DiagonalMatrixTools
       if (b.numCols > 1)
          multAddInner_matrix(a, b, c);
       else
-         multAddInner_vector(a, b, c);
+         multAddInner_vector(a, b.data, c);
    }
 
    private static void multAddInner_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
@@ -536,8 +694,14 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void multAddInner_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   private static void multAddInner_vector(DMatrix1Row a, double[] b, DMatrix1Row c)
    {
+      if (MatrixTools.useSIMDKernels(a.numCols))
+      {
+         MatrixTools.simdKernels.multAddBlockTransA(1.0, a.data, a.numRows, a.numCols, b, a.data, a.numCols, c.data, c.numCols, 0, 0);
+         return;
+      }
+
       for (int i = 0; i < a.numCols; i++)
       {
          int j = i;
@@ -548,7 +712,7 @@ public class DiagonalMatrixTools
          int end = indexA + a.numRows * a.numCols;
          for (; indexA < end; indexA += a.numCols, indexC++)
          {
-            sum += a.data[indexA] * a.data[indexA] * b.data[indexC];
+            sum += a.data[indexA] * a.data[indexA] * b[indexC];
          }
          c.data[indexC1] += sum;
          j++;
@@ -564,7 +728,7 @@ public class DiagonalMatrixTools
             end = indexA + a.numRows * a.numCols;
             for (; indexA < end; indexA += a.numCols, indexB += a.numCols, indexC++)
             {
-               sum += a.data[indexA] * a.data[indexB] * b.data[indexC];
+               sum += a.data[indexA] * a.data[indexB] * b[indexC];
             }
             c.data[indexC1] += sum;
             c.data[indexC2] += sum;
@@ -572,6 +736,32 @@ public class DiagonalMatrixTools
       }
    }
 
+   /**
+    * <p>
+    * Computes the matrix multiplication inner product:<br>
+    * <br>
+    * c = c + a<sup>T</sup> * b * a <br>
+    * </p>
+    * <p>
+    * Is faster than using a generic matrix multiplication by taking advantage of symmetry.
+    * </p>
+    * 
+    * @param a The matrix being multiplied. Not modified.
+    * @param b The inner diagonal matrix in the multiplication. Not Modified.
+    * @param c Where the results of the operation are stored. Modified.
+    */
+   public static void multAddInner(DMatrix1Row a, DiagonalMatrix b, DMatrix1Row c)
+   {
+      if (a == c)
+         throw new IllegalArgumentException("'a' cannot be the same matrix as 'c'");
+      else if (a.numRows != b.getSize())
+         throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+      else if (a.numCols != c.numRows || a.numCols != c.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      multAddInner_vector(a, b.data, c);
+   }
+
    /**
     * <p>
     * Computes the matrix multiplication inner product:<br>
@@ -613,7 +803,7 @@ public class DiagonalMatrixTools
       if (b.numCols > 1)
          multAddBlockInner_matrix(a, b, c, cRowStart, cColStart);
       else
-         multAddBlockInner_vector(a, b, c, cRowStart, cColStart);
+         multAddBlockInner_vector(a, b.data, c, cRowStart, cColStart);
    }
 
    private static void multAddBlockInner_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, int cRowStart, int cColStart)
@@ -655,8 +845,14 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void multAddBlockInner_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, int cRowStart, int cColStart)
+   private static void multAddBlockInner_vector(DMatrix1Row a, double[] b, DMatrix1Row c, int cRowStart, int cColStart)
    {
+      if (MatrixTools.useSIMDKernels(a.numCols))
+      {
+         MatrixTools.simdKernels.multAddBlockTransA(1.0, a.data, a.numRows, a.numCols, b, a.data, a.numCols, c.data, c.numCols, cRowStart, cColStart);
+         return;
+      }
+
       for (int i = 0; i < a.numCols; i++)
       {
          int j = i;
@@ -666,7 +862,7 @@ public class DiagonalMatrixTools
          int end = indexA + a.numRows * a.numCols;
          for (; indexA < end; indexA += a.numCols, indexC++)
          {
-            sum += a.data[indexA] * a.data[indexA] * b.data[indexC];
+            sum += a.data[indexA] * a.data[indexA] * b[indexC];
          }
          int indexC1 = (i + cRowStart) * c.numCols + j + cColStart;
          c.data[indexC1] += sum;
@@ -681,7 +877,7 @@ public class DiagonalMatrixTools
             end = indexA + a.numRows * a.numCols;
             for (; indexA < end; indexA += a.numCols, indexB += a.numCols, indexC++)
             {
-               sum += a.data[indexA] * a.data[indexB] * b.data[indexC];
+               sum += a.data[indexA] * a.data[indexB] * b[indexC];
             }
             indexC1 = (i + cRowStart) * c.numCols + j + cColStart;
             int indexC2 = (j + cRowStart) * c.numCols + i + cColStart; // this one is wrong
@@ -691,6 +887,34 @@ public class DiagonalMatrixTools
       }
    }
 
+   /**
+    * <p>
+    * Computes the matrix multiplication inner product:<br>
+    * <br>
+    * c = c + a<sup>T</sup> * b * a <br>
+    * </p>
+    * <p>
+    * The block is added to matrix 'c' starting at cStartRow, cStartCol
+    * </p>
+    * 
+    * @param a         The matrix being multiplied. Not modified.
+    * @param b         The inner diagonal matrix in the multiplication. Not modified.
+    * @param c         Where the results of the operation are stored. Modified.
+    * @param cRowStart The row index to start writing to in the block 'c'.
+    * @param cColStart The col index to start writing to in the block 'c'.
+    */
+   public static void multAddBlockInner(DMatrix1Row a, DiagonalMatrix b, DMatrix1Row c, int cRowStart, int cColStart)
+   {
+      if (a == c)
+         throw new IllegalArgumentException("'a' cannot be the same matrix as 'c'");
+      else if (a.numRows != b.getSize())
+         throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+      else if (a.numCols + cRowStart > c.numRows || a.numCols + cColStart > c.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      multAddBlockInner_vector(a, b.data, c, cRowStart, cColStart);
+   }
+
    /**
     * <p>
     * Computes the matrix multiplication inner product:<br>
@@ -727,7 +951,7 @@ public class DiagonalMatrixTools
       if (c.numCols > 1)
          multAddInner_matrix(a, b, c, d);
       else
-         multAddInner_vector(a, b, c, d);
+         multAddInner_vector(a, b, c.data, d);
    }
 
    private static void multAddInner_matrix(double a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d)
@@ -769,8 +993,14 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void multAddInner_vector(double a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d)
+   private static void multAddInner_vector(double a, DMatrix1Row b, double[] c, DMatrix1Row d)
    {
+      if (MatrixTools.useSIMDKernels(b.numCols))
+      {
+         MatrixTools.simdKernels.multAddBlockTransA(a, b.data, b.numRows, b.numCols, c, b.data, b.numCols, d.data, d.numCols, 0, 0);
+         return;
+      }
+
       for (int i = 0; i < b.numCols; i++)
       {
          int j = i;
@@ -781,7 +1011,7 @@ public class DiagonalMatrixTools
          int end = indexA + b.numRows * b.numCols;
          for (; indexA < end; indexA += b.numCols, indexC++)
          {
-            sum += b.data[indexA] * b.data[indexA] * c.data[indexC];
+            sum += b.data[indexA] * b.data[indexA] * c[indexC];
          }
          d.data[indexC1] += a * sum;
          j++;
@@ -797,7 +1027,7 @@ public class DiagonalMatrixTools
             end = indexA + b.numRows * b.numCols;
             for (; indexA < end; indexA += b.numCols, indexB += b.numCols, indexC++)
             {
-               sum += b.data[indexA] * b.data[indexB] * c.data[indexC];
+               sum += b.data[indexA] * b.data[indexB] * c[indexC];
             }
             d.data[indexC1] += a * sum;
             d.data[indexC2] += a * sum;
@@ -805,6 +1035,33 @@ public class DiagonalMatrixTools
       }
    }
 
+   /**
+    * <p>
+    * Computes the matrix multiplication inner product:<br>
+    * <br>
+    * d = d + a * b<sup>T</sup> * c * b <br>
+    * </p>
+    * <p>
+    * Is faster than using a generic matrix multiplication by taking advantage of symmetry.
+    * </p>
+    * 
+    * @param a The scalar multiplying the inner operation.
+    * @param b The matrix being multiplied. Not modified.
+    * @param c The inner diagonal matrix in the multiplication. Not modified.
+    * @param d Where the results of the operation are stored. Modified.
+    */
+   public static void multAddInner(double a, DMatrix1Row b, DiagonalMatrix c, DMatrix1Row d)
+   {
+      if (b == d)
+         throw new IllegalArgumentException("'b' cannot be the same matrix as 'd'");
+      else if (b.numRows != c.getSize())
+         throw new MatrixDimensionException("The 'b' and 'c' matrices do not have compatible dimensions");
+      else if (b.numCols != d.numRows || b.numCols != d.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      multAddInner_vector(a, b, c.data, d);
+   }
+
    /**
     * <p>
     * Computes the matrix multiplication inner product:<br>
@@ -881,7 +1138,7 @@ public class DiagonalMatrixTools
       if (b.numCols > 1)
          multOuter_matrix(a, b, c);
       else
-         multOuter_vector(a, b, c);
+         multOuter_vector(a, b.data, c);
    }
 
    private static void multOuter_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
@@ -909,7 +1166,7 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void multOuter_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c)
+   private static void multOuter_vector(DMatrix1Row a, double[] b, DMatrix1Row c)
    {
       for (int i = 0; i < a.numRows; i++)
       {
@@ -924,13 +1181,39 @@ public class DiagonalMatrixTools
             int end = indexA + a.numCols;
             for (; indexA < end; indexA++, indexB++, indexC++)
             {
-               sum += a.data[indexA] * a.data[indexB] * b.data[indexC];
+               sum += a.data[indexA] * a.data[indexB] * b[indexC];
             }
             c.data[indexC2] = c.data[indexC1++] = sum;
          }
       }
    }
 
+   /**
+    * <p>
+    * Computes the matrix multiplication outer product:<br>
+    * <br>
+    * c = a * b * a<sup>T</sup> <br>
+    * </p>
+    * <p>
+    * Is faster than using a generic matrix multiplication by taking advantage of symmetry.
+    * </p>
+    * 
+    * @param a The matrix being multiplied. Not modified.
+    * @param b The inner diagonal matrix in the multiplication. Not modified.
+    * @param c Where the results of the operation are stored. Modified.
+    */
+   public static void multOuter(DMatrix1Row a, DiagonalMatrix b, DMatrix1Row c)
+   {
+      if (a == c)
+         throw new IllegalArgumentException("'a' cannot be the same matrix as 'c'");
+      else if (a.numCols != b.getSize())
+         throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+      else if (a.numRows != c.numRows || a.numRows != c.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      multOuter_vector(a, b.data, c);
+   }
+
    /**
     * <p>
     * Computes the matrix multiplication inner product:<br>
@@ -1003,7 +1286,7 @@ public class DiagonalMatrixTools
       if (b.numCols > 1)
          innerDiagonalMult_matrix(a, b, c, d);
       else
-         innerDiagonalMult_vector(a, b, c, d);
+         innerDiagonalMult_vector(a, b.data, c, d);
    }
 
    private static void innerDiagonalMult_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d)
@@ -1037,11 +1320,18 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void innerDiagonalMult_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d)
+   private static void innerDiagonalMult_vector(DMatrix1Row a, double[] b, DMatrix1Row c, DMatrix1Row d)
    {
       if (a.numCols != c.numRows)
          throw new MatrixDimensionException("The 'a' and 'c' matrices do not have compatible dimensions");
 
+      if (MatrixTools.useSIMDKernels(c.numCols))
+      {
+         Arrays.fill(d.data, 0, d.getNumElements(), 0.0);
+         MatrixTools.simdKernels.multAddBlock(1.0, a.data, a.numRows, a.numCols, b, c.data, c.numCols, d.data, d.numCols, 0, 0);
+         return;
+      }
+
       int aIndexStart = 0;
       int dIndex = 0;
 
@@ -1057,7 +1347,7 @@ public class DiagonalMatrixTools
             int end = indexA + c.numRows;
             while (indexA < end)
             {
-               total += a.data[indexA++] * c.data[indexC] * b.data[indexB];
+               total += a.data[indexA++] * c.data[indexC] * b[indexB];
                indexC += c.numCols;
                indexB++;
             }
@@ -1068,6 +1358,30 @@ public class DiagonalMatrixTools
       }
    }
 
+   /**
+    * <p>
+    * Performs the following operation:<br>
+    * <br>
+    * d = a * b * c </br>
+    * </p>
+    * 
+    * @param a The left matrix in the multiplication operation. Not modified.
+    * @param b The middle diagonal matrix in the multiplication operation. Not modified.
+    * @param c The right matrix in the multiplication operation. Not modified.
+    * @param d Where the results of the operation are stored. Modified.
+    */
+   public static void innerDiagonalMult(DMatrix1Row a, DiagonalMatrix b, DMatrix1Row c, DMatrix1Row d)
+   {
+      if (a == d || c == d)
+         throw new IllegalArgumentException("Neither 'a' or 'c' can be the same matrix as 'd'");
+      else if (a.numCols != b.getSize() || b.getSize() != c.numRows)
+         throw new MatrixDimensionException("The 'a', 'b', and 'c' matrices do not have compatible dimensions");
+      else if (a.numRows != d.numRows || c.numCols != d.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      innerDiagonalMult_vector(a, b.data, c, d);
+   }
+
    /**
     * <p>
     * Performs the following operation:<br>
@@ -1098,7 +1412,7 @@ public class DiagonalMatrixTools
       if (b.numCols > 1)
          innerDiagonalMultTransA_matrix(a, b, c, d);
       else
-         innerDiagonalMultTransA_vector(a, b, c, d);
+         innerDiagonalMultTransA_vector(a, b.data, c, d);
    }
 
    private static void innerDiagonalMultTransA_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d)
@@ -1133,11 +1447,18 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void innerDiagonalMultTransA_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d)
+   private static void innerDiagonalMultTransA_vector(DMatrix1Row a, double[] b, DMatrix1Row c, DMatrix1Row d)
    {
       if (a.numRows != c.numRows)
          throw new MatrixDimensionException("The 'a' and 'c' matrices do not have compatible dimensions");
 
+      if (MatrixTools.useSIMDKernels(c.numCols))
+      {
+         Arrays.fill(d.data, 0, d.getNumElements(), 0.0);
+         MatrixTools.simdKernels.multAddBlockTransA(1.0, a.data, a.numRows, a.numCols, b, c.data, c.numCols, d.data, d.numCols, 0, 0);
+         return;
+      }
+
       int dIndex = 0;
 
       for (int i = 0; i < a.numCols; i++)
@@ -1155,7 +1476,7 @@ public class DiagonalMatrixTools
             // loop for k
             for (; indexC < end; indexC += c.numCols)
             {
-               total += a.data[indexA] * c.data[indexC] * b.data[indexB];
+               total += a.data[indexA] * c.data[indexC] * b[indexB];
                indexA += a.numCols;
                indexB++;
             }
@@ -1165,6 +1486,30 @@ public class DiagonalMatrixTools
       }
    }
 
+   /**
+    * <p>
+    * Performs the following operation:<br>
+    * <br>
+    * d = a<sup>T</sup> * b * c </br>
+    * </p>
+    * 
+    * @param a The left matrix in the multiplication operation. Not modified.
+    * @param b The middle diagonal matrix in the multiplication operation. Not modified.
+    * @param c The right matrix in the multiplication operation. Not modified.
+    * @param d Where the results of the operation are stored. Modified.
+    */
+   public static void innerDiagonalMultTransA(DMatrix1Row a, DiagonalMatrix b, DMatrix1Row c, DMatrix1Row d)
+   {
+      if (a == d || c == d)
+         throw new IllegalArgumentException("Neither 'a' or 'c' can be the same matrix as 'd'");
+      else if (a.numRows != b.getSize() || b.getSize() != c.numRows)
+         throw new MatrixDimensionException("The 'a', 'b', and 'c' matrices do not have compatible dimensions");
+      else if (a.numCols != d.numRows || c.numCols != d.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      innerDiagonalMultTransA_vector(a, b.data, c, d);
+   }
+
    /**
     * <p>
     * Performs the following operation:<br>
@@ -1195,7 +1540,7 @@ public class DiagonalMatrixTools
       if (b.numCols > 1)
          innerDiagonalMultAddTransA_matrix(a, b, c, d);
       else
-         innerDiagonalMultAddTransA_vector(a, b, c, d);
+         innerDiagonalMultAddTransA_vector(a, b.data, c, d);
    }
 
    private static void innerDiagonalMultAddTransA_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d)
@@ -1230,11 +1575,17 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void innerDiagonalMultAddTransA_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d)
+   private static void innerDiagonalMultAddTransA_vector(DMatrix1Row a, double[] b, DMatrix1Row c, DMatrix1Row d)
    {
       if (a.numRows != c.numRows)
          throw new MatrixDimensionException("The 'b' and 'c' matrices do not have compatible dimensions");
 
+      if (MatrixTools.useSIMDKernels(c.numCols))
+      {
+         MatrixTools.simdKernels.multAddBlockTransA(1.0, a.data, a.numRows, a.numCols, b, c.data, c.numCols, d.data, d.numCols, 0, 0);
+         return;
+      }
+
       int dIndex = 0;
 
       for (int i = 0; i < a.numCols; i++)
@@ -1252,7 +1603,7 @@ public class DiagonalMatrixTools
             // loop for k
             for (; indexC < end; indexC += c.numCols)
             {
-               total += a.data[indexA] * c.data[indexC] * b.data[indexB];
+               total += a.data[indexA] * c.data[indexC] * b[indexB];
                indexA += a.numCols;
                indexB++;
             }
@@ -1262,6 +1613,30 @@ public class DiagonalMatrixTools
       }
    }
 
+   /**
+    * <p>
+    * Performs the following operation:<br>
+    * <br>
+    * d = d + a<sup>T</sup> * b * c </br>
+    * </p>
+    * 
+    * @param a The left matrix in the multiplication operation. Not modified.
+    * @param b The middle diagonal matrix in the multiplication operation. Not modified.
+    * @param c The right matrix in the multiplication operation. Not modified.
+    * @param d Where the results of the operation are stored. Modified.
+    */
+   public static void innerDiagonalMultAddTransA(DMatrix1Row a, DiagonalMatrix b, DMatrix1Row c, DMatrix1Row d)
+   {
+      if (a == d || c == d)
+         throw new IllegalArgumentException("Neither 'a' or 'c' can be the same matrix as 'd'");
+      else if (a.numRows != b.getSize() || b.getSize() != c.numRows)
+         throw new MatrixDimensionException("The 'a', 'b', and 'c' matrices do not have compatible dimensions");
+      else if (a.numCols != d.numRows || c.numCols != d.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      innerDiagonalMultAddTransA_vector(a, b.data, c, d);
+   }
+
    /**
     * <p>
     * Performs the following operation:<br>
@@ -1295,7 +1670,7 @@ public class DiagonalMatrixTools
       if (b.numCols > 1)
          innerDiagonalMultAddBlockTransA_matrix(a, b, c, d, rowStart, colStart);
       else
-         innerDiagonalMultAddBlockTransA_vector(a, b, c, d, rowStart, colStart);
+         innerDiagonalMultAddBlockTransA_vector(a, b.data, c, d, rowStart, colStart);
    }
 
    private static void innerDiagonalMultAddBlockTransA_matrix(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d, int rowStart,
@@ -1330,11 +1705,17 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void innerDiagonalMultAddBlockTransA_vector(DMatrix1Row a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d, int rowStart, int colStart)
+   private static void innerDiagonalMultAddBlockTransA_vector(DMatrix1Row a, double[] b, DMatrix1Row c, DMatrix1Row d, int rowStart, int colStart)
    {
       if (a.numRows != c.numRows)
          throw new MatrixDimensionException("The 'b' and 'c' matrices do not have compatible dimensions");
 
+      if (MatrixTools.useSIMDKernels(c.numCols))
+      {
+         MatrixTools.simdKernels.multAddBlockTransA(1.0, a.data, a.numRows, a.numCols, b, c.data, c.numCols, d.data, d.numCols, rowStart, colStart);
+         return;
+      }
+
       for (int i = 0; i < a.numCols; i++)
       {
          for (int j = 0; j < c.numCols; j++)
@@ -1350,7 +1731,7 @@ public class DiagonalMatrixTools
             // loop for k
             for (; indexC < end; indexC += c.numCols)
             {
-               total += a.data[indexA] * c.data[indexC] * b.data[indexB];
+               total += a.data[indexA] * c.data[indexC] * b[indexB];
                indexA += a.numCols;
                indexB++;
             }
@@ -1361,6 +1742,32 @@ public class DiagonalMatrixTools
       }
    }
 
+   /**
+    * <p>
+    * Performs the following operation:<br>
+    * <br>
+    * d = d + a<sup>T</sup> * b * c </br>
+    * </p>
+    * 
+    * @param a        The left matrix in the multiplication operation. Not modified.
+    * @param b        The middle diagonal matrix in the multiplication operation. Not modified.
+    * @param c        The right matrix in the multiplication operation. Not modified.
+    * @param d        Where the results of the operation are stored. Modified.
+    * @param rowStart the start row to write to of the 'd' matrix.
+    * @param colStart the start column to write to of the 'd' matrix.
+    */
+   public static void innerDiagonalMultAddBlockTransA(DMatrix1Row a, DiagonalMatrix b, DMatrix1Row c, DMatrix1Row d, int rowStart, int colStart)
+   {
+      if (a == d || c == d)
+         throw new IllegalArgumentException("Neither 'a' or 'c' can be the same matrix as 'd'");
+      else if (a.numRows != b.getSize() || b.getSize() != c.numRows)
+         throw new MatrixDimensionException("The 'a', 'b', and 'c' matrices do not have compatible dimensions");
+      else if (a.numCols + rowStart > d.numRows || c.numCols + colStart > d.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      innerDiagonalMultAddBlockTransA_vector(a, b.data, c, d, rowStart, colStart);
+   }
+
    /**
     * <p>
     * Performs the following operation:<br>
@@ -1396,7 +1803,7 @@ public class DiagonalMatrixTools
       if (c.numCols > 1)
          innerDiagonalMultAddBlockTransA_matrix(a, b, c, d, e, rowStart, colStart);
       else
-         innerDiagonalMultAddBlockTransA_vector(a, b, c, d, e, rowStart, colStart);
+         innerDiagonalMultAddBlockTransA_vector(a, b, c.data, d, e, rowStart, colStart);
    }
 
    private static void innerDiagonalMultAddBlockTransA_matrix(double a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d, DMatrix1Row e, int rowStart,
@@ -1431,12 +1838,18 @@ public class DiagonalMatrixTools
       }
    }
 
-   private static void innerDiagonalMultAddBlockTransA_vector(double a, DMatrix1Row b, DMatrix1Row c, DMatrix1Row d, DMatrix1Row e, int rowStart,
+   private static void innerDiagonalMultAddBlockTransA_vector(double a, DMatrix1Row b, double[] c, DMatrix1Row d, DMatrix1Row e, int rowStart,
                                                               int colStart)
    {
       if (b.numRows != d.numRows)
          throw new MatrixDimensionException("The 'c' and 'd' matrices do not have compatible dimensions");
 
+      if (MatrixTools.useSIMDKernels(d.numCols))
+      {
+         MatrixTools.simdKernels.multAddBlockTransA(a, b.data, b.numRows, b.numCols, c, d.data, d.numCols, e.data, e.numCols, rowStart, colStart);
+         return;
+      }
+
       for (int i = 0; i < b.numCols; i++)
       {
          for (int j = 0; j < d.numCols; j++)
@@ -1452,7 +1865,7 @@ public class DiagonalMatrixTools
             // loop for k
             for (; indexC < end; indexC += d.numCols)
             {
-               total += b.data[indexA] * d.data[indexC] * c.data[indexB];
+               total += b.data[indexA] * d.data[indexC] * c[indexB];
                indexA += b.numCols;
                indexB++;
             }
@@ -1462,4 +1875,32 @@ public class DiagonalMatrixTools
          }
       }
    }
+
+   /**
+    * <p>
+    * Performs the following operation:<br>
+    * <br>
+    * e = e + a * b<sup>T</sup> * c * d </br>
+    * </p>
+    * 
+    * @param a        The scalar multiplier of the matrix operation.
+    * @param b        The left matrix in the multiplication operation. Not modified.
+    * @param c        The middle diagonal matrix in the multiplication operation. Not modified.
+    * @param d        The right matrix in the multiplication operation. Not modified.
+    * @param e        Where the results of the operation are stored. Modified.
+    * @param rowStart The start row of matrix 'e' to write to.
+    * @param colStart The start col of matrix 'e' to write to.
+    */
+   public static void innerDiagonalMultAddBlockTransA(double a, DMatrix1Row b, DiagonalMatrix c, DMatrix1Row d, DMatrix1Row e, int rowStart,
+                                                      int colStart)
+   {
+      if (b == e || d == e)
+         throw new IllegalArgumentException("Neither 'b' or 'd' can be the same matrix as 'e'");
+      else if (b.numRows != c.getSize() || c.getSize() != d.numRows)
+         throw new MatrixDimensionException("The 'b', 'c', and 'd' matrices do not have compatible dimensions");
+      else if (b.numCols + rowStart > e.numRows || d.numCols + colStart > e.numCols)
+         throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+
+      innerDiagonalMultAddBlockTransA_vector(a, b, c.data, d, e, rowStart, colStart);
+   }
 }
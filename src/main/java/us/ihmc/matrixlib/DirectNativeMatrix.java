@@ -0,0 +1,268 @@
+package us.ihmc.matrixlib;
+
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * {@code DirectNativeMatrix} is a {@link NativeMatrix} whose native storage is also visible from
+ * Java as a direct {@link DoubleBuffer}.
+ * <p>
+ * Data can be written to or read from the buffer without going through the JNI layer, for instance
+ * to fill a measurement vector used by a native solver or to read the result of a native operation.
+ * The shape of the matrix is also read from a buffer shared with the native side, such that
+ * {@link #getNumRows()}, {@link #getNumCols()}, {@link #get(int, int)} and
+ * {@link #set(int, int, double)} do not cross the JNI boundary.
+ * </p>
+ * <p>
+ * Like for {@link NativeMatrix}, the data is stored in a column-major format, the element (row, col)
+ * is located at the index {@code row + col * getNumRows()} of the buffer.
+ * </p>
+ * <p>
+ * The native storage is reallocated when the matrix is reshaped to a number of elements larger than
+ * its capacity. When this happens, the buffer previously returned by {@link #getDataBuffer()} does
+ * not reflect the data of this matrix anymore and should not be used. Use
+ * {@link #reserve(int)} or {@link #DirectNativeMatrix(int, int, int)} to allocate the storage once
+ * for the largest expected size.
+ * </p>
+ * <p>
+ * Closing the matrix releases the native storage: the buffers previously returned by
+ * {@link #getDataBuffer()} must not be used anymore, accessing them would read freed memory.
+ * </p>
+ */
+public class DirectNativeMatrix extends NativeMatrix
+{
+   private static final long serialVersionUID = 5412367783094586711L;
+
+   private static final int ROWS = 0;
+   private static final int COLS = 1;
+   private static final int STORAGE_VERSION = 2;
+
+   private final IntBuffer dims;
+   private DoubleBuffer data;
+   private int dataVersion;
+
+   /**
+    * Creates a new matrix with the specified shape whose elements initially have the value of zero.
+    *
+    * @param rows The number of rows in the matrix.
+    * @param cols The number of columns in the matrix.
+    */
+   public DirectNativeMatrix(int rows, int cols)
+   {
+      this(rows, cols, rows * cols);
+   }
+
+   /**
+    * Creates a new matrix with the specified shape whose elements initially have the value of zero.
+    *
+    * @param rows     The number of rows in the matrix.
+    * @param cols     The number of columns in the matrix.
+    * @param capacity The number of elements to allocate the storage for.
+    */
+   public DirectNativeMatrix(int rows, int cols, int capacity)
+   {
+      super(rows, cols);
+      backend.reserve(impl(), capacity);
+      dims = impl().dims().order(ByteOrder.nativeOrder()).asIntBuffer();
+      updateDataBuffer();
+   }
+
+   /**
+    * Creates a new matrix which is equivalent to the provided matrix.
+    *
+    * @param matrix The matrix which is to be copied. This is not modified or saved.
+    */
+   public DirectNativeMatrix(NativeMatrix matrix)
+   {
+      this(matrix.getNumRows(), matrix.getNumCols());
+      set(matrix);
+   }
+
+   /**
+    * Ensures the native storage can hold at least the given number of elements without being
+    * reallocated. The data and shape of this matrix are preserved.
+    *
+    * @param numberOfElements the minimum capacity of the storage.
+    */
+   public void reserve(int numberOfElements)
+   {
+      backend.reserve(impl(), numberOfElements);
+   }
+
+   /**
+    * Returns the number of elements the native storage can hold without being reallocated.
+    *
+    * @return the capacity of the storage.
+    */
+   public int getCapacity()
+   {
+      return backend.capacity(impl());
+   }
+
+   /**
+    * Returns a buffer backed by the native storage of this matrix.
+    * <p>
+    * The buffer covers the full capacity of the storage, only the first {@link #getNumElements()}
+    * elements are part of the matrix. The element (row, col) is located at the index
+    * {@code row + col * getNumRows()}.
+    * </p>
+    * <p>
+    * The returned buffer is invalidated when the storage is reallocated, see
+    * {@link #isDataBufferValid(DoubleBuffer)}.
+    * </p>
+    *
+    * @return the buffer backed by the storage of this matrix.
+    */
+   public DoubleBuffer getDataBuffer()
+   {
+      checkNotClosed();
+      if (dataVersion != dims.get(STORAGE_VERSION))
+         updateDataBuffer();
+      return data;
+   }
+
+   /**
+    * Tests whether the given buffer, previously obtained with {@link #getDataBuffer()}, is still
+    * backed by the storage of this matrix.
+    *
+    * @param buffer the buffer to test.
+    * @return {@code true} if the buffer can still be used to access this matrix, {@code false} if
+    *         the matrix has been closed.
+    */
+   public boolean isDataBufferValid(DoubleBuffer buffer)
+   {
+      return !isClosed() && buffer == data && dataVersion == dims.get(STORAGE_VERSION);
+   }
+
+   private void checkNotClosed()
+   {
+      // The shape and the data buffers point to the native storage, released when closing.
+      if (isClosed())
+         throw new IllegalStateException("The matrix has been closed.");
+   }
+
+   private void updateDataBuffer()
+   {
+      dataVersion = dims.get(STORAGE_VERSION);
+      data = impl().data().order(ByteOrder.nativeOrder()).asDoubleBuffer();
+   }
+
+   /**
+    * Returns the number of rows in this matrix.
+    * <p>
+    * The shape is read from memory shared with the native side and does not go through the JNI layer.
+    * </p>
+    *
+    * @return Number of rows.
+    */
+   @Override
+   public int getNumRows()
+   {
+      checkNotClosed();
+      return dims.get(ROWS);
+   }
+
+   /**
+    * Returns the number of columns in this matrix.
+    * <p>
+    * The shape is read from memory shared with the native side and does not go through the JNI layer.
+    * </p>
+    *
+    * @return Number of columns.
+    */
+   @Override
+   public int getNumCols()
+   {
+      checkNotClosed();
+      return dims.get(COLS);
+   }
+
+   @Override
+   public int getNumElements()
+   {
+      return getNumRows() * getNumCols();
+   }
+
+   /**
+    * Returns the value of the specified matrix element, read directly from the native storage.
+    *
+    * @param row The row of the element.
+    * @param col The column of the element.
+    * @return The value of the element.
+    * @throws IllegalArgumentException if either index is out of bound.
+    */
+   @Override
+   public double get(int row, int col)
+   {
+      int numRows = getNumRows();
+
+      if (row < 0 || col < 0 || row >= numRows || col >= getNumCols())
+      {
+         throw new IllegalArgumentException("Index out of bounds. Requested (" + row + ", " + col + "). Dimension (" + numRows + ", " + getNumCols() + ").");
+      }
+
+      return getDataBuffer().get(row + col * numRows);
+   }
+
+   /**
+    * Assigns the element in the Matrix to the specified value, written directly in the native
+    * storage.
+    *
+    * @param row   The row of the element.
+    * @param col   The column of the element.
+    * @param value The element's new value.
+    * @throws IllegalArgumentException if either index is out of bound.
+    */
+   @Override
+   public void set(int row, int col, double value)
+   {
+      int numRows = getNumRows();
+
+      if (row < 0 || col < 0 || row >= numRows || col >= getNumCols())
+      {
+         throw new IllegalArgumentException("Index out of bounds. Requested (" + row + ", " + col + "). Dimension (" + numRows + ", " + getNumCols() + ").");
+      }
+
+      getDataBuffer().put(row + col * numRows, value);
+   }
+
+   /**
+    * Unsafe get an element at row,col. If the index is out of bounds, the result is undefined.
+    */
+   @Override
+   public double unsafe_get(int row, int col)
+   {
+      return getDataBuffer().get(row + col * getNumRows());
+   }
+
+   /**
+    * Unsafe set an element at row,col. If the index is out of bounds, the result is undefined.
+    */
+   @Override
+   public void unsafe_set(int row, int col, double value)
+   {
+      getDataBuffer().put(row + col * getNumRows(), value);
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public DirectNativeMatrix copy()
+   {
+      return new DirectNativeMatrix(this);
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public DirectNativeMatrix createLike()
+   {
+      return new DirectNativeMatrix(getNumRows(), getNumCols());
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public DirectNativeMatrix create(int numRows, int numCols)
+   {
+      return new DirectNativeMatrix(numRows, numCols);
+   }
+}
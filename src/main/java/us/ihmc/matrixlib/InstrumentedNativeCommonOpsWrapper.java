@@ -0,0 +1,92 @@
+package us.ihmc.matrixlib;
+
+/**
+ * {@link NativeCommonOpsWrapper} counting and timing its native calls, used by
+ * {@link NativeCommonOps} when the {@link NativeInstrumentation} is enabled.
+ */
+class InstrumentedNativeCommonOpsWrapper extends NativeCommonOpsWrapper
+{
+   private static final int MULT = NativeInstrumentation.registerOperation("NativeCommonOps.mult");
+   private static final int MULT_QUAD = NativeInstrumentation.registerOperation("NativeCommonOps.multQuad");
+   private static final int INVERT = NativeInstrumentation.registerOperation("NativeCommonOps.invert");
+   private static final int SOLVE = NativeInstrumentation.registerOperation("NativeCommonOps.solve");
+   private static final int SOLVE_CHECK = NativeInstrumentation.registerOperation("NativeCommonOps.solveCheck");
+   private static final int SOLVE_RCOND = NativeInstrumentation.registerOperation("NativeCommonOps.solveRcond");
+   private static final int SOLVE_ROBUST = NativeInstrumentation.registerOperation("NativeCommonOps.solveRobust");
+   private static final int SOLVE_DAMPED = NativeInstrumentation.registerOperation("NativeCommonOps.solveDamped");
+   private static final int PROJECT_ON_NULLSPACE = NativeInstrumentation.registerOperation("NativeCommonOps.projectOnNullspace");
+
+   @Override
+   public void mult(double[] result, double[] aData, double[] bData, int aRows, int aCols, int bCols)
+   {
+      long startTime = NativeInstrumentation.start();
+      super.mult(result, aData, bData, aRows, aCols, bCols);
+      NativeInstrumentation.stop(MULT, startTime);
+   }
+
+   @Override
+   public void multQuad(double[] result, double[] aData, double[] bData, int aRows, int aCols)
+   {
+      long startTime = NativeInstrumentation.start();
+      super.multQuad(result, aData, bData, aRows, aCols);
+      NativeInstrumentation.stop(MULT_QUAD, startTime);
+   }
+
+   @Override
+   public void invert(double[] result, double[] aData, int aRows)
+   {
+      long startTime = NativeInstrumentation.start();
+      super.invert(result, aData, aRows);
+      NativeInstrumentation.stop(INVERT, startTime);
+   }
+
+   @Override
+   public void solve(double[] result, double[] aData, double[] bData, int aRows)
+   {
+      long startTime = NativeInstrumentation.start();
+      super.solve(result, aData, bData, aRows);
+      NativeInstrumentation.stop(SOLVE, startTime);
+   }
+
+   @Override
+   public boolean solveCheck(double[] result, double[] aData, double[] bData, int aRows)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean success = super.solveCheck(result, aData, bData, aRows);
+      NativeInstrumentation.stop(SOLVE_CHECK, startTime);
+      return success;
+   }
+
+   @Override
+   public double solveRcond(double[] result, double[] aData, double[] bData, int aRows, int bCols, boolean positiveDefinite)
+   {
+      long startTime = NativeInstrumentation.start();
+      double rcond = super.solveRcond(result, aData, bData, aRows, bCols, positiveDefinite);
+      NativeInstrumentation.stop(SOLVE_RCOND, startTime);
+      return rcond;
+   }
+
+   @Override
+   public void solveRobust(double[] result, double[] aData, double[] bData, int aRows, int aCols)
+   {
+      long startTime = NativeInstrumentation.start();
+      super.solveRobust(result, aData, bData, aRows, aCols);
+      NativeInstrumentation.stop(SOLVE_ROBUST, startTime);
+   }
+
+   @Override
+   public void solveDamped(double[] result, double[] aData, double[] bData, int aRows, int aCols, double alpha)
+   {
+      long startTime = NativeInstrumentation.start();
+      super.solveDamped(result, aData, bData, aRows, aCols, alpha);
+      NativeInstrumentation.stop(SOLVE_DAMPED, startTime);
+   }
+
+   @Override
+   public void projectOnNullspace(double[] result, double[] aData, double[] bData, int aRows, int aCols, int bRows, double alpha)
+   {
+      long startTime = NativeInstrumentation.start();
+      super.projectOnNullspace(result, aData, bData, aRows, aCols, bRows, alpha);
+      NativeInstrumentation.stop(PROJECT_ON_NULLSPACE, startTime);
+   }
+}
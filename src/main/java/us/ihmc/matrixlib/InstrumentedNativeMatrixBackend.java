@@ -0,0 +1,886 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeMatrixImpl;
+
+/**
+ * {@link NativeMatrixBackend} counting and timing the calls made to another backend, used by
+ * {@link NativeMatrix} when the {@link NativeInstrumentation} is enabled. The overloads of a method
+ * are counted as one operation.
+ */
+final class InstrumentedNativeMatrixBackend implements NativeMatrixBackend
+{
+   private static final int RESIZE = NativeInstrumentation.registerOperation("NativeMatrix.resize");
+   private static final int GROW_ROWS = NativeInstrumentation.registerOperation("NativeMatrix.growRows");
+   private static final int RESERVE = NativeInstrumentation.registerOperation("NativeMatrix.reserve");
+   private static final int SET = NativeInstrumentation.registerOperation("NativeMatrix.set");
+   private static final int ADD = NativeInstrumentation.registerOperation("NativeMatrix.add");
+   private static final int ADD_EQUALS = NativeInstrumentation.registerOperation("NativeMatrix.addEquals");
+   private static final int SUBTRACT = NativeInstrumentation.registerOperation("NativeMatrix.subtract");
+   private static final int MULT = NativeInstrumentation.registerOperation("NativeMatrix.mult");
+   private static final int MULT_ADD = NativeInstrumentation.registerOperation("NativeMatrix.multAdd");
+   private static final int MULT_TRANS_A = NativeInstrumentation.registerOperation("NativeMatrix.multTransA");
+   private static final int MULT_ADD_TRANS_A = NativeInstrumentation.registerOperation("NativeMatrix.multAddTransA");
+   private static final int MULT_TRANS_B = NativeInstrumentation.registerOperation("NativeMatrix.multTransB");
+   private static final int MULT_ADD_TRANS_B = NativeInstrumentation.registerOperation("NativeMatrix.multAddTransB");
+   private static final int ADD_BLOCK = NativeInstrumentation.registerOperation("NativeMatrix.addBlock");
+   private static final int SUBTRACT_BLOCK = NativeInstrumentation.registerOperation("NativeMatrix.subtractBlock");
+   private static final int MULT_ADD_BLOCK = NativeInstrumentation.registerOperation("NativeMatrix.multAddBlock");
+   private static final int MULT_ADD_BLOCK_TRANS_A = NativeInstrumentation.registerOperation("NativeMatrix.multAddBlockTransA");
+   private static final int MULT_QUAD = NativeInstrumentation.registerOperation("NativeMatrix.multQuad");
+   private static final int MULT_ADD_QUAD = NativeInstrumentation.registerOperation("NativeMatrix.multAddQuad");
+   private static final int MULT_QUAD_BLOCK = NativeInstrumentation.registerOperation("NativeMatrix.multQuadBlock");
+   private static final int MULT_ADD_QUAD_BLOCK = NativeInstrumentation.registerOperation("NativeMatrix.multAddQuadBlock");
+   private static final int MULT_QUAD_DIAGONAL = NativeInstrumentation.registerOperation("NativeMatrix.multQuadDiagonal");
+   private static final int MULT_ADD_QUAD_DIAGONAL = NativeInstrumentation.registerOperation("NativeMatrix.multAddQuadDiagonal");
+   private static final int MULT_ADD_QUAD_DIAGONAL_BLOCK = NativeInstrumentation.registerOperation("NativeMatrix.multAddQuadDiagonalBlock");
+   private static final int PRE_MULT_DIAGONAL = NativeInstrumentation.registerOperation("NativeMatrix.preMultDiagonal");
+   private static final int PRE_MULT_ADD_DIAGONAL_BLOCK = NativeInstrumentation.registerOperation("NativeMatrix.preMultAddDiagonalBlock");
+   private static final int POST_MULT_DIAGONAL = NativeInstrumentation.registerOperation("NativeMatrix.postMultDiagonal");
+   private static final int POST_MULT_TRANS_ADIAGONAL = NativeInstrumentation.registerOperation("NativeMatrix.postMultTransADiagonal");
+   private static final int MULT_OUTER_DIAGONAL = NativeInstrumentation.registerOperation("NativeMatrix.multOuterDiagonal");
+   private static final int INNER_DIAGONAL_MULT = NativeInstrumentation.registerOperation("NativeMatrix.innerDiagonalMult");
+   private static final int INNER_DIAGONAL_MULT_TRANS_A = NativeInstrumentation.registerOperation("NativeMatrix.innerDiagonalMultTransA");
+   private static final int INNER_DIAGONAL_MULT_ADD_BLOCK_TRANS_A = NativeInstrumentation.registerOperation("NativeMatrix.innerDiagonalMultAddBlockTransA");
+   private static final int INVERT = NativeInstrumentation.registerOperation("NativeMatrix.invert");
+   private static final int SOLVE = NativeInstrumentation.registerOperation("NativeMatrix.solve");
+   private static final int SOLVE_CHECK = NativeInstrumentation.registerOperation("NativeMatrix.solveCheck");
+   private static final int SOLVE_RCOND = NativeInstrumentation.registerOperation("NativeMatrix.solveRcond");
+   private static final int INSERT = NativeInstrumentation.registerOperation("NativeMatrix.insert");
+   private static final int INSERT_TUPLE_ROW = NativeInstrumentation.registerOperation("NativeMatrix.insertTupleRow");
+   private static final int INSERT_SCALED = NativeInstrumentation.registerOperation("NativeMatrix.insertScaled");
+   private static final int EXTRACT = NativeInstrumentation.registerOperation("NativeMatrix.extract");
+   private static final int TRANSPOSE = NativeInstrumentation.registerOperation("NativeMatrix.transpose");
+   private static final int REMOVE_ROW = NativeInstrumentation.registerOperation("NativeMatrix.removeRow");
+   private static final int REMOVE_COLUMN = NativeInstrumentation.registerOperation("NativeMatrix.removeColumn");
+   private static final int ZERO = NativeInstrumentation.registerOperation("NativeMatrix.zero");
+   private static final int CONTAINS_NA_N = NativeInstrumentation.registerOperation("NativeMatrix.containsNaN");
+   private static final int SCALE = NativeInstrumentation.registerOperation("NativeMatrix.scale");
+   private static final int SCALE_BLOCK = NativeInstrumentation.registerOperation("NativeMatrix.scaleBlock");
+   private static final int IS_APRROX = NativeInstrumentation.registerOperation("NativeMatrix.isApprox");
+   private static final int GET = NativeInstrumentation.registerOperation("NativeMatrix.get");
+   private static final int ADD_DIAGONAL = NativeInstrumentation.registerOperation("NativeMatrix.addDiagonal");
+   private static final int FILL = NativeInstrumentation.registerOperation("NativeMatrix.fill");
+   private static final int FILL_DIAGONAL = NativeInstrumentation.registerOperation("NativeMatrix.fillDiagonal");
+   private static final int FILL_BLOCK = NativeInstrumentation.registerOperation("NativeMatrix.fillBlock");
+   private static final int SET_ELEMENT = NativeInstrumentation.registerOperation("NativeMatrix.setElement");
+   private static final int ZERO_BLOCK = NativeInstrumentation.registerOperation("NativeMatrix.zeroBlock");
+   private static final int MIN = NativeInstrumentation.registerOperation("NativeMatrix.min");
+   private static final int MAX = NativeInstrumentation.registerOperation("NativeMatrix.max");
+   private static final int SUM = NativeInstrumentation.registerOperation("NativeMatrix.sum");
+   private static final int PROD = NativeInstrumentation.registerOperation("NativeMatrix.prod");
+   private static final int ROWS = NativeInstrumentation.registerOperation("NativeMatrix.rows");
+   private static final int COLS = NativeInstrumentation.registerOperation("NativeMatrix.cols");
+   private static final int SIZE = NativeInstrumentation.registerOperation("NativeMatrix.size");
+   private static final int CAPACITY = NativeInstrumentation.registerOperation("NativeMatrix.capacity");
+   private static final int ZERO_ROW = NativeInstrumentation.registerOperation("NativeMatrix.zeroRow");
+   private static final int ZERO_COL = NativeInstrumentation.registerOperation("NativeMatrix.zeroCol");
+
+   private final NativeMatrixBackend backend;
+
+   InstrumentedNativeMatrixBackend(NativeMatrixBackend backend)
+   {
+      this.backend = backend;
+   }
+
+   @Override
+   public String getName()
+   {
+      return backend.getName();
+   }
+
+   @Override
+   public void resize(NativeMatrixImpl self, int numRows, int numCols)
+   {
+      long startTime = NativeInstrumentation.start();
+      backend.resize(self, numRows, numCols);
+      NativeInstrumentation.stop(RESIZE, startTime);
+   }
+
+   @Override
+   public void growRows(NativeMatrixImpl self, int numRowsToGrow)
+   {
+      long startTime = NativeInstrumentation.start();
+      backend.growRows(self, numRowsToGrow);
+      NativeInstrumentation.stop(GROW_ROWS, startTime);
+   }
+
+   @Override
+   public void reserve(NativeMatrixImpl self, int numberOfElements)
+   {
+      long startTime = NativeInstrumentation.start();
+      backend.reserve(self, numberOfElements);
+      NativeInstrumentation.stop(RESERVE, startTime);
+   }
+
+   @Override
+   public boolean set(NativeMatrixImpl self, NativeMatrixImpl a)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.set(self, a);
+      NativeInstrumentation.stop(SET, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.add(self, a, b);
+      NativeInstrumentation.stop(ADD, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, NativeMatrixImpl a, double scale, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.add(self, a, scale, b);
+      NativeInstrumentation.stop(ADD, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, double scale1, NativeMatrixImpl a, double scale2, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.add(self, scale1, a, scale2, b);
+      NativeInstrumentation.stop(ADD, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean addEquals(NativeMatrixImpl self, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.addEquals(self, b);
+      NativeInstrumentation.stop(ADD_EQUALS, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean addEquals(NativeMatrixImpl self, double scale, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.addEquals(self, scale, b);
+      NativeInstrumentation.stop(ADD_EQUALS, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, int row, int col, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.add(self, row, col, value);
+      NativeInstrumentation.stop(ADD, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean subtract(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.subtract(self, a, b);
+      NativeInstrumentation.stop(SUBTRACT, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean mult(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.mult(self, a, b);
+      NativeInstrumentation.stop(MULT, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean mult(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.mult(self, scale, a, b);
+      NativeInstrumentation.stop(MULT, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAdd(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAdd(self, a, b);
+      NativeInstrumentation.stop(MULT_ADD, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAdd(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAdd(self, scale, a, b);
+      NativeInstrumentation.stop(MULT_ADD, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multTransA(self, a, b);
+      NativeInstrumentation.stop(MULT_TRANS_A, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multTransA(self, scale, a, b);
+      NativeInstrumentation.stop(MULT_TRANS_A, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddTransA(self, a, b);
+      NativeInstrumentation.stop(MULT_ADD_TRANS_A, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddTransA(self, scale, a, b);
+      NativeInstrumentation.stop(MULT_ADD_TRANS_A, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multTransB(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multTransB(self, a, b);
+      NativeInstrumentation.stop(MULT_TRANS_B, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multTransB(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multTransB(self, scale, a, b);
+      NativeInstrumentation.stop(MULT_TRANS_B, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddTransB(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddTransB(self, a, b);
+      NativeInstrumentation.stop(MULT_ADD_TRANS_B, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddTransB(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddTransB(self, scale, a, b);
+      NativeInstrumentation.stop(MULT_ADD_TRANS_B, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean addBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns, double scale)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.addBlock(self, a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, scale);
+      NativeInstrumentation.stop(ADD_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean addBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.addBlock(self, a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns);
+      NativeInstrumentation.stop(ADD_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean subtractBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.subtractBlock(self, a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns);
+      NativeInstrumentation.stop(SUBTRACT_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddBlock(self, a, b, rowStart, colStart);
+      NativeInstrumentation.stop(MULT_ADD_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddBlock(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddBlock(self, scale, a, b, rowStart, colStart);
+      NativeInstrumentation.stop(MULT_ADD_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddBlockTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddBlockTransA(self, a, b, rowStart, colStart);
+      NativeInstrumentation.stop(MULT_ADD_BLOCK_TRANS_A, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddBlockTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddBlockTransA(self, scale, a, b, rowStart, colStart);
+      NativeInstrumentation.stop(MULT_ADD_BLOCK_TRANS_A, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multQuad(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multQuad(self, a, b);
+      NativeInstrumentation.stop(MULT_QUAD, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddQuad(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddQuad(self, a, b);
+      NativeInstrumentation.stop(MULT_ADD_QUAD, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multQuadBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multQuadBlock(self, a, b, rowStart, colStart);
+      NativeInstrumentation.stop(MULT_QUAD_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddQuadBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddQuadBlock(self, a, b, rowStart, colStart);
+      NativeInstrumentation.stop(MULT_ADD_QUAD_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multQuadDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multQuadDiagonal(self, a, w, size);
+      NativeInstrumentation.stop(MULT_QUAD_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddQuadDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddQuadDiagonal(self, a, w, size);
+      NativeInstrumentation.stop(MULT_ADD_QUAD_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multAddQuadDiagonalBlock(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, int rowStart, int colStart)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multAddQuadDiagonalBlock(self, a, w, size, rowStart, colStart);
+      NativeInstrumentation.stop(MULT_ADD_QUAD_DIAGONAL_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean preMultDiagonal(NativeMatrixImpl self, double[] w, int size, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.preMultDiagonal(self, w, size, b);
+      NativeInstrumentation.stop(PRE_MULT_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean preMultAddDiagonalBlock(NativeMatrixImpl self, double scale, double[] w, int size, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.preMultAddDiagonalBlock(self, scale, w, size, b, rowStart, colStart);
+      NativeInstrumentation.stop(PRE_MULT_ADD_DIAGONAL_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean postMultDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.postMultDiagonal(self, a, w, size);
+      NativeInstrumentation.stop(POST_MULT_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean postMultTransADiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.postMultTransADiagonal(self, a, w, size);
+      NativeInstrumentation.stop(POST_MULT_TRANS_ADIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean multOuterDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.multOuterDiagonal(self, a, w, size);
+      NativeInstrumentation.stop(MULT_OUTER_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean innerDiagonalMult(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.innerDiagonalMult(self, a, w, size, c);
+      NativeInstrumentation.stop(INNER_DIAGONAL_MULT, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean innerDiagonalMultTransA(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.innerDiagonalMultTransA(self, a, w, size, c);
+      NativeInstrumentation.stop(INNER_DIAGONAL_MULT_TRANS_A, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean innerDiagonalMultAddBlockTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c, int rowStart, int colStart)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.innerDiagonalMultAddBlockTransA(self, scale, a, w, size, c, rowStart, colStart);
+      NativeInstrumentation.stop(INNER_DIAGONAL_MULT_ADD_BLOCK_TRANS_A, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean invert(NativeMatrixImpl self, NativeMatrixImpl a)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.invert(self, a);
+      NativeInstrumentation.stop(INVERT, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean solve(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.solve(self, a, b);
+      NativeInstrumentation.stop(SOLVE, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean solveCheck(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.solveCheck(self, a, b);
+      NativeInstrumentation.stop(SOLVE_CHECK, startTime);
+      return result;
+   }
+
+   @Override
+   public double solveRcond(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, boolean positiveDefinite)
+   {
+      long startTime = NativeInstrumentation.start();
+      double result = backend.solveRcond(self, a, b, positiveDefinite);
+      NativeInstrumentation.stop(SOLVE_RCOND, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean insert(NativeMatrixImpl self, NativeMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.insert(self, src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
+      NativeInstrumentation.stop(INSERT, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean insert(NativeMatrixImpl self, double[] src, int rows, int cols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.insert(self, src, rows, cols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
+      NativeInstrumentation.stop(INSERT, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean insert(NativeMatrixImpl self, int startRow, int startCol, double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.insert(self, startRow, startCol, m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      NativeInstrumentation.stop(INSERT, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean insertTupleRow(NativeMatrixImpl self, int startRow, int startCol, double x, double y, double z)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.insertTupleRow(self, startRow, startCol, x, y, z);
+      NativeInstrumentation.stop(INSERT_TUPLE_ROW, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean insertScaled(NativeMatrixImpl self, NativeMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.insertScaled(self, src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale);
+      NativeInstrumentation.stop(INSERT_SCALED, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean insertScaled(NativeMatrixImpl self, double[] src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.insertScaled(self, src, srcRows, srcCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale);
+      NativeInstrumentation.stop(INSERT_SCALED, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean extract(NativeMatrixImpl self, int srcY0, int srcY1, int srcX0, int srcX1, double[] dst, int dstRows, int dstCols, int dstY0, int dstX0)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.extract(self, srcY0, srcY1, srcX0, srcX1, dst, dstRows, dstCols, dstY0, dstX0);
+      NativeInstrumentation.stop(EXTRACT, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean transpose(NativeMatrixImpl self, NativeMatrixImpl a)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.transpose(self, a);
+      NativeInstrumentation.stop(TRANSPOSE, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean removeRow(NativeMatrixImpl self, int indexToRemove)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.removeRow(self, indexToRemove);
+      NativeInstrumentation.stop(REMOVE_ROW, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean removeColumn(NativeMatrixImpl self, int indexToRemove)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.removeColumn(self, indexToRemove);
+      NativeInstrumentation.stop(REMOVE_COLUMN, startTime);
+      return result;
+   }
+
+   @Override
+   public void zero(NativeMatrixImpl self)
+   {
+      long startTime = NativeInstrumentation.start();
+      backend.zero(self);
+      NativeInstrumentation.stop(ZERO, startTime);
+   }
+
+   @Override
+   public boolean containsNaN(NativeMatrixImpl self)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.containsNaN(self);
+      NativeInstrumentation.stop(CONTAINS_NA_N, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean scale(NativeMatrixImpl self, double scale, NativeMatrixImpl src)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.scale(self, scale, src);
+      NativeInstrumentation.stop(SCALE, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean scaleBlock(NativeMatrixImpl self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.scaleBlock(self, startRow, startCol, numberOfRows, numberOfCols, value);
+      NativeInstrumentation.stop(SCALE_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean isAprrox(NativeMatrixImpl self, NativeMatrixImpl other, double precision)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.isAprrox(self, other, precision);
+      NativeInstrumentation.stop(IS_APRROX, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean set(NativeMatrixImpl self, double[] data, int rows, int cols)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.set(self, data, rows, cols);
+      NativeInstrumentation.stop(SET, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean get(NativeMatrixImpl self, double[] data, int rows, int cols)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.get(self, data, rows, cols);
+      NativeInstrumentation.stop(GET, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean addDiagonal(NativeMatrixImpl self, int startRow, int startCol, int rows, int cols, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.addDiagonal(self, startRow, startCol, rows, cols, value);
+      NativeInstrumentation.stop(ADD_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean fill(NativeMatrixImpl self, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.fill(self, value);
+      NativeInstrumentation.stop(FILL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean fillDiagonal(NativeMatrixImpl self, int startRow, int startCol, int rows, int cols, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.fillDiagonal(self, startRow, startCol, rows, cols, value);
+      NativeInstrumentation.stop(FILL_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean fillBlock(NativeMatrixImpl self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.fillBlock(self, startRow, startCol, numberOfRows, numberOfCols, value);
+      NativeInstrumentation.stop(FILL_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean setElement(NativeMatrixImpl self, int dstRow, int dstCol, NativeMatrixImpl src, int srcRow, int srcCol)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.setElement(self, dstRow, dstCol, src, srcRow, srcCol);
+      NativeInstrumentation.stop(SET_ELEMENT, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean zeroBlock(NativeMatrixImpl self, int srcY0, int srcY1, int srcX0, int srcX1)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.zeroBlock(self, srcY0, srcY1, srcX0, srcX1);
+      NativeInstrumentation.stop(ZERO_BLOCK, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean addDiagonal(NativeMatrixImpl self, int startRow, int startCol, int size, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.addDiagonal(self, startRow, startCol, size, value);
+      NativeInstrumentation.stop(ADD_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean addDiagonal(NativeMatrixImpl self, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.addDiagonal(self, value);
+      NativeInstrumentation.stop(ADD_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean fillDiagonal(NativeMatrixImpl self, int startRow, int startCol, int size, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.fillDiagonal(self, startRow, startCol, size, value);
+      NativeInstrumentation.stop(FILL_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean fillDiagonal(NativeMatrixImpl self, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.fillDiagonal(self, value);
+      NativeInstrumentation.stop(FILL_DIAGONAL, startTime);
+      return result;
+   }
+
+   @Override
+   public double min(NativeMatrixImpl self)
+   {
+      long startTime = NativeInstrumentation.start();
+      double result = backend.min(self);
+      NativeInstrumentation.stop(MIN, startTime);
+      return result;
+   }
+
+   @Override
+   public double max(NativeMatrixImpl self)
+   {
+      long startTime = NativeInstrumentation.start();
+      double result = backend.max(self);
+      NativeInstrumentation.stop(MAX, startTime);
+      return result;
+   }
+
+   @Override
+   public double sum(NativeMatrixImpl self)
+   {
+      long startTime = NativeInstrumentation.start();
+      double result = backend.sum(self);
+      NativeInstrumentation.stop(SUM, startTime);
+      return result;
+   }
+
+   @Override
+   public double prod(NativeMatrixImpl self)
+   {
+      long startTime = NativeInstrumentation.start();
+      double result = backend.prod(self);
+      NativeInstrumentation.stop(PROD, startTime);
+      return result;
+   }
+
+   @Override
+   public void scale(NativeMatrixImpl self, double scale)
+   {
+      long startTime = NativeInstrumentation.start();
+      backend.scale(self, scale);
+      NativeInstrumentation.stop(SCALE, startTime);
+   }
+
+   @Override
+   public boolean set(NativeMatrixImpl self, int row, int col, double value)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.set(self, row, col, value);
+      NativeInstrumentation.stop(SET, startTime);
+      return result;
+   }
+
+   @Override
+   public double get(NativeMatrixImpl self, int row, int col)
+   {
+      long startTime = NativeInstrumentation.start();
+      double result = backend.get(self, row, col);
+      NativeInstrumentation.stop(GET, startTime);
+      return result;
+   }
+
+   @Override
+   public int rows(NativeMatrixImpl self)
+   {
+      long startTime = NativeInstrumentation.start();
+      int result = backend.rows(self);
+      NativeInstrumentation.stop(ROWS, startTime);
+      return result;
+   }
+
+   @Override
+   public int cols(NativeMatrixImpl self)
+   {
+      long startTime = NativeInstrumentation.start();
+      int result = backend.cols(self);
+      NativeInstrumentation.stop(COLS, startTime);
+      return result;
+   }
+
+   @Override
+   public int size(NativeMatrixImpl self)
+   {
+      long startTime = NativeInstrumentation.start();
+      int result = backend.size(self);
+      NativeInstrumentation.stop(SIZE, startTime);
+      return result;
+   }
+
+   @Override
+   public int capacity(NativeMatrixImpl self)
+   {
+      long startTime = NativeInstrumentation.start();
+      int result = backend.capacity(self);
+      NativeInstrumentation.stop(CAPACITY, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean zeroRow(NativeMatrixImpl self, int rowToZero)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.zeroRow(self, rowToZero);
+      NativeInstrumentation.stop(ZERO_ROW, startTime);
+      return result;
+   }
+
+   @Override
+   public boolean zeroCol(NativeMatrixImpl self, int colToZero)
+   {
+      long startTime = NativeInstrumentation.start();
+      boolean result = backend.zeroCol(self, colToZero);
+      NativeInstrumentation.stop(ZERO_COL, startTime);
+      return result;
+   }
+}
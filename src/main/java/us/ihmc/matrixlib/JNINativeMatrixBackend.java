@@ -0,0 +1,552 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeMatrixImpl;
+
+/**
+ * Default {@link NativeMatrixBackend} which calls the native library through the SWIG-generated
+ * JNI stubs.
+ */
+public final class JNINativeMatrixBackend implements NativeMatrixBackend
+{
+   public static final String NAME = "jni";
+
+   @Override
+   public String getName()
+   {
+      return NAME;
+   }
+
+   @Override
+   public void resize(NativeMatrixImpl self, int numRows, int numCols)
+   {
+      self.resize(numRows, numCols);
+   }
+
+   @Override
+   public void growRows(NativeMatrixImpl self, int numRowsToGrow)
+   {
+      self.growRows(numRowsToGrow);
+   }
+
+   @Override
+   public void reserve(NativeMatrixImpl self, int numberOfElements)
+   {
+      self.reserve(numberOfElements);
+   }
+
+   @Override
+   public boolean set(NativeMatrixImpl self, NativeMatrixImpl a)
+   {
+      return self.set(a);
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.add(a, b);
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, NativeMatrixImpl a, double scale, NativeMatrixImpl b)
+   {
+      return self.add(a, scale, b);
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, double scale1, NativeMatrixImpl a, double scale2, NativeMatrixImpl b)
+   {
+      return self.add(scale1, a, scale2, b);
+   }
+
+   @Override
+   public boolean addEquals(NativeMatrixImpl self, NativeMatrixImpl b)
+   {
+      return self.addEquals(b);
+   }
+
+   @Override
+   public boolean addEquals(NativeMatrixImpl self, double scale, NativeMatrixImpl b)
+   {
+      return self.addEquals(scale, b);
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, int row, int col, double value)
+   {
+      return self.add(row, col, value);
+   }
+
+   @Override
+   public boolean subtract(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.subtract(a, b);
+   }
+
+   @Override
+   public boolean mult(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.mult(a, b);
+   }
+
+   @Override
+   public boolean mult(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.mult(scale, a, b);
+   }
+
+   @Override
+   public boolean multAdd(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multAdd(a, b);
+   }
+
+   @Override
+   public boolean multAdd(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multAdd(scale, a, b);
+   }
+
+   @Override
+   public boolean multTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multTransA(a, b);
+   }
+
+   @Override
+   public boolean multTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multTransA(scale, a, b);
+   }
+
+   @Override
+   public boolean multAddTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multAddTransA(a, b);
+   }
+
+   @Override
+   public boolean multAddTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multAddTransA(scale, a, b);
+   }
+
+   @Override
+   public boolean multTransB(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multTransB(a, b);
+   }
+
+   @Override
+   public boolean multTransB(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multTransB(scale, a, b);
+   }
+
+   @Override
+   public boolean multAddTransB(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multAddTransB(a, b);
+   }
+
+   @Override
+   public boolean multAddTransB(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multAddTransB(scale, a, b);
+   }
+
+   @Override
+   public boolean addBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns, double scale)
+   {
+      return self.addBlock(a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, scale);
+   }
+
+   @Override
+   public boolean addBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+   {
+      return self.addBlock(a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns);
+   }
+
+   @Override
+   public boolean subtractBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+   {
+      return self.subtractBlock(a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns);
+   }
+
+   @Override
+   public boolean multAddBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      return self.multAddBlock(a, b, rowStart, colStart);
+   }
+
+   @Override
+   public boolean multAddBlock(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      return self.multAddBlock(scale, a, b, rowStart, colStart);
+   }
+
+   @Override
+   public boolean multAddBlockTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      return self.multAddBlockTransA(a, b, rowStart, colStart);
+   }
+
+   @Override
+   public boolean multAddBlockTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      return self.multAddBlockTransA(scale, a, b, rowStart, colStart);
+   }
+
+   @Override
+   public boolean multQuad(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multQuad(a, b);
+   }
+
+   @Override
+   public boolean multAddQuad(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.multAddQuad(a, b);
+   }
+
+   @Override
+   public boolean multQuadBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      return self.multQuadBlock(a, b, rowStart, colStart);
+   }
+
+   @Override
+   public boolean multAddQuadBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      return self.multAddQuadBlock(a, b, rowStart, colStart);
+   }
+
+   @Override
+   public boolean multQuadDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      return self.multQuadDiagonal(a, w, size);
+   }
+
+   @Override
+   public boolean multAddQuadDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      return self.multAddQuadDiagonal(a, w, size);
+   }
+
+   @Override
+   public boolean multAddQuadDiagonalBlock(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, int rowStart, int colStart)
+   {
+      return self.multAddQuadDiagonalBlock(a, w, size, rowStart, colStart);
+   }
+
+   @Override
+   public boolean preMultDiagonal(NativeMatrixImpl self, double[] w, int size, NativeMatrixImpl b)
+   {
+      return self.preMultDiagonal(w, size, b);
+   }
+
+   @Override
+   public boolean preMultAddDiagonalBlock(NativeMatrixImpl self, double scale, double[] w, int size, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      return self.preMultAddDiagonalBlock(scale, w, size, b, rowStart, colStart);
+   }
+
+   @Override
+   public boolean postMultDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      return self.postMultDiagonal(a, w, size);
+   }
+
+   @Override
+   public boolean postMultTransADiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      return self.postMultTransADiagonal(a, w, size);
+   }
+
+   @Override
+   public boolean multOuterDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      return self.multOuterDiagonal(a, w, size);
+   }
+
+   @Override
+   public boolean innerDiagonalMult(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c)
+   {
+      return self.innerDiagonalMult(a, w, size, c);
+   }
+
+   @Override
+   public boolean innerDiagonalMultTransA(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c)
+   {
+      return self.innerDiagonalMultTransA(a, w, size, c);
+   }
+
+   @Override
+   public boolean innerDiagonalMultAddBlockTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c, int rowStart, int colStart)
+   {
+      return self.innerDiagonalMultAddBlockTransA(scale, a, w, size, c, rowStart, colStart);
+   }
+
+   @Override
+   public boolean invert(NativeMatrixImpl self, NativeMatrixImpl a)
+   {
+      return self.invert(a);
+   }
+
+   @Override
+   public boolean solve(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.solve(a, b);
+   }
+
+   @Override
+   public boolean solveCheck(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      return self.solveCheck(a, b);
+   }
+
+   @Override
+   public double solveRcond(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, boolean positiveDefinite)
+   {
+      return self.solveRcond(a, b, positiveDefinite);
+   }
+
+   @Override
+   public boolean insert(NativeMatrixImpl self, NativeMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+   {
+      return self.insert(src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
+   }
+
+   @Override
+   public boolean insert(NativeMatrixImpl self, double[] src, int rows, int cols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+   {
+      return self.insert(src, rows, cols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
+   }
+
+   @Override
+   public boolean insert(NativeMatrixImpl self, int startRow, int startCol, double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22)
+   {
+      return self.insert(startRow, startCol, m00, m01, m02, m10, m11, m12, m20, m21, m22);
+   }
+
+   @Override
+   public boolean insertTupleRow(NativeMatrixImpl self, int startRow, int startCol, double x, double y, double z)
+   {
+      return self.insertTupleRow(startRow, startCol, x, y, z);
+   }
+
+   @Override
+   public boolean insertScaled(NativeMatrixImpl self, NativeMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+   {
+      return self.insertScaled(src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale);
+   }
+
+   @Override
+   public boolean insertScaled(NativeMatrixImpl self, double[] src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+   {
+      return self.insertScaled(src, srcRows, srcCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale);
+   }
+
+   @Override
+   public boolean extract(NativeMatrixImpl self, int srcY0, int srcY1, int srcX0, int srcX1, double[] dst, int dstRows, int dstCols, int dstY0, int dstX0)
+   {
+      return self.extract(srcY0, srcY1, srcX0, srcX1, dst, dstRows, dstCols, dstY0, dstX0);
+   }
+
+   @Override
+   public boolean transpose(NativeMatrixImpl self, NativeMatrixImpl a)
+   {
+      return self.transpose(a);
+   }
+
+   @Override
+   public boolean removeRow(NativeMatrixImpl self, int indexToRemove)
+   {
+      return self.removeRow(indexToRemove);
+   }
+
+   @Override
+   public boolean removeColumn(NativeMatrixImpl self, int indexToRemove)
+   {
+      return self.removeColumn(indexToRemove);
+   }
+
+   @Override
+   public void zero(NativeMatrixImpl self)
+   {
+      self.zero();
+   }
+
+   @Override
+   public boolean containsNaN(NativeMatrixImpl self)
+   {
+      return self.containsNaN();
+   }
+
+   @Override
+   public boolean scale(NativeMatrixImpl self, double scale, NativeMatrixImpl src)
+   {
+      return self.scale(scale, src);
+   }
+
+   @Override
+   public boolean scaleBlock(NativeMatrixImpl self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
+   {
+      return self.scaleBlock(startRow, startCol, numberOfRows, numberOfCols, value);
+   }
+
+   @Override
+   public boolean isAprrox(NativeMatrixImpl self, NativeMatrixImpl other, double precision)
+   {
+      return self.isAprrox(other, precision);
+   }
+
+   @Override
+   public boolean set(NativeMatrixImpl self, double[] data, int rows, int cols)
+   {
+      return self.set(data, rows, cols);
+   }
+
+   @Override
+   public boolean get(NativeMatrixImpl self, double[] data, int rows, int cols)
+   {
+      return self.get(data, rows, cols);
+   }
+
+   @Override
+   public boolean addDiagonal(NativeMatrixImpl self, int startRow, int startCol, int rows, int cols, double value)
+   {
+      return self.addDiagonal(startRow, startCol, rows, cols, value);
+   }
+
+   @Override
+   public boolean fill(NativeMatrixImpl self, double value)
+   {
+      return self.fill(value);
+   }
+
+   @Override
+   public boolean fillDiagonal(NativeMatrixImpl self, int startRow, int startCol, int rows, int cols, double value)
+   {
+      return self.fillDiagonal(startRow, startCol, rows, cols, value);
+   }
+
+   @Override
+   public boolean fillBlock(NativeMatrixImpl self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
+   {
+      return self.fillBlock(startRow, startCol, numberOfRows, numberOfCols, value);
+   }
+
+   @Override
+   public boolean setElement(NativeMatrixImpl self, int dstRow, int dstCol, NativeMatrixImpl src, int srcRow, int srcCol)
+   {
+      return self.setElement(dstRow, dstCol, src, srcRow, srcCol);
+   }
+
+   @Override
+   public boolean zeroBlock(NativeMatrixImpl self, int srcY0, int srcY1, int srcX0, int srcX1)
+   {
+      return self.zeroBlock(srcY0, srcY1, srcX0, srcX1);
+   }
+
+   @Override
+   public boolean addDiagonal(NativeMatrixImpl self, int startRow, int startCol, int size, double value)
+   {
+      return self.addDiagonal(startRow, startCol, size, value);
+   }
+
+   @Override
+   public boolean addDiagonal(NativeMatrixImpl self, double value)
+   {
+      return self.addDiagonal(value);
+   }
+
+   @Override
+   public boolean fillDiagonal(NativeMatrixImpl self, int startRow, int startCol, int size, double value)
+   {
+      return self.fillDiagonal(startRow, startCol, size, value);
+   }
+
+   @Override
+   public boolean fillDiagonal(NativeMatrixImpl self, double value)
+   {
+      return self.fillDiagonal(value);
+   }
+
+   @Override
+   public double min(NativeMatrixImpl self)
+   {
+      return self.min();
+   }
+
+   @Override
+   public double max(NativeMatrixImpl self)
+   {
+      return self.max();
+   }
+
+   @Override
+   public double sum(NativeMatrixImpl self)
+   {
+      return self.sum();
+   }
+
+   @Override
+   public double prod(NativeMatrixImpl self)
+   {
+      return self.prod();
+   }
+
+   @Override
+   public void scale(NativeMatrixImpl self, double scale)
+   {
+      self.scale(scale);
+   }
+
+   @Override
+   public boolean set(NativeMatrixImpl self, int row, int col, double value)
+   {
+      return self.set(row, col, value);
+   }
+
+   @Override
+   public double get(NativeMatrixImpl self, int row, int col)
+   {
+      return self.get(row, col);
+   }
+
+   @Override
+   public int rows(NativeMatrixImpl self)
+   {
+      return self.rows();
+   }
+
+   @Override
+   public int cols(NativeMatrixImpl self)
+   {
+      return self.cols();
+   }
+
+   @Override
+   public int size(NativeMatrixImpl self)
+   {
+      return self.size();
+   }
+
+   @Override
+   public int capacity(NativeMatrixImpl self)
+   {
+      return self.capacity();
+   }
+
+   @Override
+   public boolean zeroRow(NativeMatrixImpl self, int rowToZero)
+   {
+      return self.zeroRow(rowToZero);
+   }
+
+   @Override
+   public boolean zeroCol(NativeMatrixImpl self, int colToZero)
+   {
+      return self.zeroCol(colToZero);
+   }
+}
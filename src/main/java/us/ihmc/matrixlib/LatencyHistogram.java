@@ -0,0 +1,235 @@
+package us.ihmc.matrixlib;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in nanoseconds with log-bucketed, fixed-size storage in the style of
+ * HdrHistogram.
+ * <p>
+ * The values below {@value #SUB_BUCKET_COUNT} ns are counted exactly. Above, each power of two is
+ * split into {@value #SUB_BUCKET_HALF_COUNT} linear buckets, which bounds the relative error of the
+ * reported values to 1/{@value #SUB_BUCKET_HALF_COUNT}. Values larger than
+ * {@link #MAX_TRACKABLE_VALUE}, about a minute, are counted in the last bucket.
+ * </p>
+ * <p>
+ * {@link #record(long)} increments a single counter and does not allocate, such that it can be
+ * called from a control loop. A histogram has a single writer, the other threads can read it while
+ * it is being recorded into.
+ * </p>
+ */
+public final class LatencyHistogram
+{
+   private static final int SUB_BUCKET_BITS = 8;
+   static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+   static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+   private static final int MAX_MAGNITUDE = 35;
+   /** Largest value in nanoseconds that is counted in its own bucket, 2<sup>36</sup> - 1. */
+   public static final long MAX_TRACKABLE_VALUE = (1L << (MAX_MAGNITUDE + 1)) - 1;
+   static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF_COUNT;
+
+   private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+   public LatencyHistogram()
+   {
+   }
+
+   /**
+    * Creates a copy of the given histogram.
+    */
+   public LatencyHistogram(LatencyHistogram other)
+   {
+      add(other);
+   }
+
+   /**
+    * Counts a value, to be called by a single thread.
+    *
+    * @param value the latency in nanoseconds, negative values are counted as 0.
+    */
+   public void record(long value)
+   {
+      int index = bucketIndex(value);
+      // Single writer: an ordered store is enough for the readers to see consistent values.
+      counts.lazySet(index, counts.get(index) + 1);
+   }
+
+   /**
+    * Adds the counts of the given histogram to this one.
+    */
+   public void add(LatencyHistogram other)
+   {
+      for (int i = 0; i < BUCKET_COUNT; i++)
+         counts.lazySet(i, counts.get(i) + other.counts.get(i));
+   }
+
+   /**
+    * Removes the counts of the given histogram, which has to be an earlier copy of this one.
+    */
+   void subtract(LatencyHistogram other)
+   {
+      for (int i = 0; i < BUCKET_COUNT; i++)
+         counts.lazySet(i, counts.get(i) - other.counts.get(i));
+   }
+
+   /**
+    * Clears all the counts, not to be called while another thread is recording.
+    */
+   public void reset()
+   {
+      for (int i = 0; i < BUCKET_COUNT; i++)
+         counts.lazySet(i, 0L);
+   }
+
+   /**
+    * @return the number of recorded values.
+    */
+   public long getTotalCount()
+   {
+      long total = 0L;
+      for (int i = 0; i < BUCKET_COUNT; i++)
+         total += counts.get(i);
+      return total;
+   }
+
+   /**
+    * Computes the value below which the given percentage of the recorded values fall.
+    *
+    * @param percentile the percentage in [0, 100], for instance 99.9.
+    * @return the largest value equivalent to the percentile, within the precision of the histogram,
+    *         0 if no value has been recorded.
+    */
+   public long getValueAtPercentile(double percentile)
+   {
+      if (percentile < 0.0 || percentile > 100.0)
+         throw new IllegalArgumentException("The percentile has to be in [0, 100]: " + percentile);
+
+      long totalCount = getTotalCount();
+      if (totalCount == 0L)
+         return 0L;
+
+      long countAtPercentile = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+      long count = 0L;
+      for (int i = 0; i < BUCKET_COUNT; i++)
+      {
+         count += counts.get(i);
+         if (count >= countAtPercentile)
+            return highestEquivalentValue(i);
+      }
+      return highestEquivalentValue(BUCKET_COUNT - 1);
+   }
+
+   /**
+    * @return the smallest recorded value within the precision of the histogram, 0 if no value has
+    *         been recorded.
+    */
+   public long getMin()
+   {
+      for (int i = 0; i < BUCKET_COUNT; i++)
+      {
+         if (counts.get(i) > 0L)
+            return lowestEquivalentValue(i);
+      }
+      return 0L;
+   }
+
+   /**
+    * @return the largest recorded value within the precision of the histogram, 0 if no value has
+    *         been recorded.
+    */
+   public long getMax()
+   {
+      for (int i = BUCKET_COUNT - 1; i >= 0; i--)
+      {
+         if (counts.get(i) > 0L)
+            return highestEquivalentValue(i);
+      }
+      return 0L;
+   }
+
+   /**
+    * @return the mean of the recorded values, computed from the middle of their buckets, 0 if no
+    *         value has been recorded.
+    */
+   public double getMean()
+   {
+      long totalCount = 0L;
+      double sum = 0.0;
+      for (int i = 0; i < BUCKET_COUNT; i++)
+      {
+         long count = counts.get(i);
+         totalCount += count;
+         sum += count * medianEquivalentValue(i);
+      }
+      return totalCount == 0L ? 0.0 : sum / totalCount;
+   }
+
+   /**
+    * @return the standard deviation of the recorded values, the jitter of the latency, 0 if no value
+    *         has been recorded.
+    */
+   public double getStandardDeviation()
+   {
+      double mean = getMean();
+      long totalCount = 0L;
+      double sum = 0.0;
+      for (int i = 0; i < BUCKET_COUNT; i++)
+      {
+         long count = counts.get(i);
+         double deviation = medianEquivalentValue(i) - mean;
+         totalCount += count;
+         sum += count * deviation * deviation;
+      }
+      return totalCount == 0L ? 0.0 : Math.sqrt(sum / totalCount);
+   }
+
+   static int bucketIndex(long value)
+   {
+      if (value < SUB_BUCKET_COUNT)
+         return value < 0L ? 0 : (int) value;
+
+      int magnitude = 63 - Long.numberOfLeadingZeros(value);
+      if (magnitude > MAX_MAGNITUDE)
+         return BUCKET_COUNT - 1;
+
+      // Keeps the SUB_BUCKET_BITS most significant bits of the value.
+      int shift = magnitude - SUB_BUCKET_BITS + 1;
+      int subBucket = (int) (value >>> shift) - SUB_BUCKET_HALF_COUNT;
+      return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + subBucket;
+   }
+
+   static long lowestEquivalentValue(int index)
+   {
+      if (index < SUB_BUCKET_COUNT)
+         return index;
+      int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+      long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+      return subBucket << shift;
+   }
+
+   static long highestEquivalentValue(int index)
+   {
+      if (index < SUB_BUCKET_COUNT)
+         return index;
+      int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+      return lowestEquivalentValue(index) + (1L << shift) - 1;
+   }
+
+   private static double medianEquivalentValue(int index)
+   {
+      return 0.5 * (lowestEquivalentValue(index) + highestEquivalentValue(index));
+   }
+
+   /**
+    * Summarizes the histogram with its count, p50, p99, p99.9 and max in microseconds.
+    */
+   @Override
+   public String toString()
+   {
+      return String.format("count = %d, p50 = %.1f us, p99 = %.1f us, p99.9 = %.1f us, max = %.1f us",
+                           getTotalCount(),
+                           getValueAtPercentile(50.0) / 1.0e3,
+                           getValueAtPercentile(99.0) / 1.0e3,
+                           getValueAtPercentile(99.9) / 1.0e3,
+                           getMax() / 1.0e3);
+   }
+}
@@ -30,6 +30,72 @@ public class MatrixTools
       IDENTITY.setIdentity();
    }
 
+   /**
+    * System property selecting the implementation of the dense multiplication kernels of
+    * {@code MatrixTools} and {@link DiagonalMatrixTools}: {@code "vector"}, {@code "scalar"} or
+    * {@code "auto"}. With {@code "auto"}, the default, the Vector API kernels are used when they are
+    * on the classpath and supported by the running JVM, the scalar loops otherwise.
+    */
+   public static final String SIMD_PROPERTY = "us.ihmc.matrixlib.simd";
+   private static final String VECTOR_KERNELS_CLASS = "us.ihmc.matrixlib.vector.VectorAPIMatrixKernels";
+
+   /** The vectorized kernels, {@code null} when the scalar loops are used. */
+   static final SIMDMatrixKernels simdKernels = loadSIMDKernels(System.getProperty(SIMD_PROPERTY, "auto"));
+
+   private static SIMDMatrixKernels loadSIMDKernels(String requestedKernels)
+   {
+      switch (requestedKernels)
+      {
+         case "scalar":
+            return null;
+         case "vector":
+            return loadVectorKernels();
+         case "auto":
+            try
+            {
+               return loadVectorKernels();
+            }
+            catch (IllegalStateException e)
+            {
+               return null;
+            }
+         default:
+            throw new IllegalArgumentException("Unknown kernels for " + SIMD_PROPERTY + ": " + requestedKernels);
+      }
+   }
+
+   private static SIMDMatrixKernels loadVectorKernels()
+   {
+      try
+      {
+         return (SIMDMatrixKernels) Class.forName(VECTOR_KERNELS_CLASS).getConstructor().newInstance();
+      }
+      catch (ReflectiveOperationException | LinkageError e)
+      {
+         throw new IllegalStateException("The Vector API kernels are not available, they require --add-modules jdk.incubator.vector and the vector source set.", e);
+      }
+   }
+
+   /**
+    * Returns the name of the implementation used for the dense multiplication kernels of
+    * {@code MatrixTools} and {@link DiagonalMatrixTools}.
+    *
+    * @return the name of the active kernels, {@code "scalar"} or the name of the vectorized kernels.
+    * @see #SIMD_PROPERTY
+    */
+   public static String getKernelsName()
+   {
+      return simdKernels == null ? "scalar" : simdKernels.getName();
+   }
+
+   /**
+    * Whether the vectorized kernels should be used for a product with {@code numCols} columns.
+    */
+   static boolean useSIMDKernels(int numCols)
+   {
+      return simdKernels != null && numCols >= simdKernels.getMinimumLength();
+   }
+
    /**
     * Sets all the entries of a matrix to NaN
     *
@@ -1232,6 +1298,12 @@ public class MatrixTools
          throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
       }
 
+      if (useSIMDKernels(b.numCols))
+      {
+         simdKernels.multAddBlock(1.0, a.data, a.numRows, a.numCols, null, b.data, b.numCols, c.data, c.numCols, rowStart, colStart);
+         return;
+      }
+
       int aIndexStart = 0;
 
       for (int i = 0; i < a.numRows; i++)
@@ -1277,6 +1349,12 @@ public class MatrixTools
          throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
       }
 
+      if (useSIMDKernels(b.numCols))
+      {
+         simdKernels.multAddBlock(scalar, a.data, a.numRows, a.numCols, null, b.data, b.numCols, c.data, c.numCols, rowStart, colStart);
+         return;
+      }
+
       int aIndexStart = 0;
 
       for (int i = 0; i < a.numRows; i++)
@@ -1324,6 +1402,12 @@ public class MatrixTools
       else if (b.numCols != c.numRows || b.numCols != c.numCols)
          throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
 
+      if (useSIMDKernels(b.numCols))
+      {
+         simdKernels.multAddBlockTransA(a, b.data, b.numRows, b.numCols, null, b.data, b.numCols, c.data, c.numCols, 0, 0);
+         return;
+      }
+
       for (int i = 0; i < b.numCols; i++)
       {
          int j = i;
@@ -1386,6 +1470,12 @@ public class MatrixTools
       else if (b.numCols + cRowStart > c.numRows || b.numCols + cColStart > c.numCols)
          throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
 
+      if (useSIMDKernels(b.numCols))
+      {
+         simdKernels.multAddBlockTransA(a, b.data, b.numRows, b.numCols, null, b.data, b.numCols, c.data, c.numCols, cRowStart, cColStart);
+         return;
+      }
+
       for (int i = 0; i < b.numCols; i++)
       {
          int j = i;
@@ -1440,6 +1530,12 @@ public class MatrixTools
          throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
       }
 
+      if (useSIMDKernels(b.numCols))
+      {
+         simdKernels.multAddBlockTransA(1.0, a.data, a.numRows, a.numCols, null, b.data, b.numCols, c.data, c.numCols, rowStart, colStart);
+         return;
+      }
+
       for (int i = 0; i < a.numCols; i++)
       {
          for (int j = 0; j < b.numCols; j++)
@@ -1484,6 +1580,12 @@ public class MatrixTools
          throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
       }
 
+      if (useSIMDKernels(b.numCols))
+      {
+         simdKernels.multAddBlockTransA(scalar, a.data, a.numRows, a.numCols, null, b.data, b.numCols, c.data, c.numCols, rowStart, colStart);
+         return;
+      }
+
       for (int i = 0; i < a.numCols; i++)
       {
          for (int j = 0; j < b.numCols; j++)
@@ -0,0 +1,258 @@
+package us.ihmc.matrixlib;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code NativeBlockSparseMatrix} is a matrix with a fixed block structure where only the nonzero
+ * {@link NativeMatrix} blocks are stored, such as a Jacobian made of one 6-by-n block per
+ * rigid-body.
+ * <p>
+ * The blocks are stored by reference: a block registered with
+ * {@link #addBlock(NativeMatrix, int, int)} can be updated in place at each tick without registering
+ * it again. The blocks are expected not to overlap. All the products only loop over the stored
+ * blocks and rely on {@link NativeMatrix#multAddBlock(NativeMatrix, NativeMatrix, int, int)},
+ * {@link NativeMatrix#multAddBlockTransA(NativeMatrix, NativeMatrix, int, int)} and
+ * {@link NativeMatrix#mult(NativeMatrix, NativeMatrix)}, the zero blocks being skipped.
+ * </p>
+ * <p>
+ * See {@link BlockSparseMatrix} for the equivalent using EJML blocks.
+ * </p>
+ */
+public class NativeBlockSparseMatrix
+{
+   private final List<Block> blocks = new ArrayList<>();
+   private int numberOfBlocks = 0;
+   private int numRows;
+   private int numCols;
+
+   private final NativeMatrix tempBlock = new NativeMatrix(0, 0);
+   private final NativeMatrix tempProduct = new NativeMatrix(0, 0);
+
+   /**
+    * Creates a new matrix without any block, i.e. a zero matrix.
+    *
+    * @param numRows the number of rows.
+    * @param numCols the number of columns.
+    */
+   public NativeBlockSparseMatrix(int numRows, int numCols)
+   {
+      reshape(numRows, numCols);
+   }
+
+   /**
+    * Resizes this matrix and removes all its blocks.
+    *
+    * @param numRows the new number of rows.
+    * @param numCols the new number of columns.
+    */
+   public void reshape(int numRows, int numCols)
+   {
+      if (numRows < 0 || numCols < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      this.numRows = numRows;
+      this.numCols = numCols;
+      clear();
+   }
+
+   /**
+    * Removes all the blocks of this matrix, such that it is a zero matrix.
+    */
+   public void clear()
+   {
+      for (int i = 0; i < numberOfBlocks; i++)
+         blocks.get(i).matrix = null;
+      numberOfBlocks = 0;
+   }
+
+   /**
+    * Registers a nonzero block of this matrix.
+    *
+    * @param block    the dense block. The reference is kept, such that later modifications of the
+    *                 block are reflected in this matrix. The block size cannot change afterwards.
+    *                 Not modified.
+    * @param rowStart the row index of the first row of the block in this matrix.
+    * @param colStart the column index of the first column of the block in this matrix.
+    * @throws IllegalArgumentException if the block does not fit in this matrix.
+    */
+   public void addBlock(NativeMatrix block, int rowStart, int colStart)
+   {
+      if (rowStart < 0 || colStart < 0 || rowStart + block.getNumRows() > numRows || colStart + block.getNumCols() > numCols)
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+
+      if (numberOfBlocks == blocks.size())
+         blocks.add(new Block());
+      Block newBlock = blocks.get(numberOfBlocks++);
+      newBlock.matrix = block;
+      newBlock.rowStart = rowStart;
+      newBlock.colStart = colStart;
+   }
+
+   /**
+    * @return the number of rows of this matrix.
+    */
+   public int getNumRows()
+   {
+      return numRows;
+   }
+
+   /**
+    * @return the number of columns of this matrix.
+    */
+   public int getNumCols()
+   {
+      return numCols;
+   }
+
+   /**
+    * @return the number of blocks stored in this matrix.
+    */
+   public int getNumberOfBlocks()
+   {
+      return numberOfBlocks;
+   }
+
+   /**
+    * Packs this matrix into a dense matrix.
+    *
+    * @param denseToPack where this matrix is stored. The matrix is resized to the size of this.
+    *                    Modified.
+    */
+   public void get(NativeMatrix denseToPack)
+   {
+      denseToPack.reshape(numRows, numCols);
+      denseToPack.zero();
+
+      for (int i = 0; i < numberOfBlocks; i++)
+      {
+         Block block = blocks.get(i);
+         denseToPack.insert(block.matrix, block.rowStart, block.colStart);
+      }
+   }
+
+   /**
+    * Computes</br>
+    * c = this * b
+    *
+    * @param b dense matrix in multiplication. Not modified.
+    * @param c where the result is stored. The matrix is resized to a m-by-p matrix, m being the
+    *          number of rows of this and p the number of columns of {@code b}. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code b} and
+    *                                  {@code c} are the same instance.
+    */
+   public void mult(NativeMatrix b, NativeMatrix c)
+   {
+      if (b == c || b.getNumRows() != numCols)
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+
+      c.reshape(numRows, b.getNumCols());
+      c.zero();
+
+      for (int i = 0; i < numberOfBlocks; i++)
+      {
+         Block block = blocks.get(i);
+         extractRows(b, block.colStart, block.matrix.getNumCols(), tempBlock);
+         c.multAddBlock(block.matrix, tempBlock, block.rowStart, 0);
+      }
+   }
+
+   /**
+    * Computes</br>
+    * c = this<sup>T</sup> * b
+    *
+    * @param b dense matrix in multiplication. Not modified.
+    * @param c where the result is stored. The matrix is resized to a n-by-p matrix, n being the
+    *          number of columns of this and p the number of columns of {@code b}. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code b} and
+    *                                  {@code c} are the same instance.
+    */
+   public void multTransA(NativeMatrix b, NativeMatrix c)
+   {
+      if (b == c || b.getNumRows() != numRows)
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+
+      c.reshape(numCols, b.getNumCols());
+      c.zero();
+
+      for (int i = 0; i < numberOfBlocks; i++)
+      {
+         Block block = blocks.get(i);
+         extractRows(b, block.rowStart, block.matrix.getNumRows(), tempBlock);
+         c.multAddBlockTransA(block.matrix, tempBlock, block.colStart, 0);
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * c = this<sup>T</sup> * w * this
+    *
+    * @param w the m-by-m weight matrix, m being the number of rows of this. Not modified.
+    * @param c where the result is stored. The matrix is resized to a n-by-n matrix, n being the
+    *          number of columns of this. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code w} and
+    *                                  {@code c} are the same instance.
+    */
+   public void multQuad(NativeMatrix w, NativeMatrix c)
+   {
+      if (w == c)
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+
+      c.reshape(numCols, numCols);
+      c.zero();
+      multAddQuadBlock(w, c, 0, 0);
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * c += this<sup>T</sup> * w * this</br>
+    * where only the n-by-n product is added to a block of same size in {@code c}, n being the number
+    * of columns of this.
+    *
+    * @param w        the m-by-m weight matrix, m being the number of rows of this. Not modified.
+    * @param c        the matrix to which the product is added. Modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code w} and
+    *                                  {@code c} are the same instance.
+    */
+   public void multAddQuadBlock(NativeMatrix w, NativeMatrix c, int rowStart, int colStart)
+   {
+      if (w == c || w.getNumRows() != numRows || w.getNumCols() != numRows)
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      if (rowStart < 0 || colStart < 0 || rowStart + numCols > c.getNumRows() || colStart + numCols > c.getNumCols())
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+
+      for (int j = 0; j < numberOfBlocks; j++)
+      {
+         Block blockJ = blocks.get(j);
+         NativeMatrix matrixJ = blockJ.matrix;
+
+         for (int i = 0; i < numberOfBlocks; i++)
+         {
+            Block blockI = blocks.get(i);
+            NativeMatrix matrixI = blockI.matrix;
+            extractBlock(w, blockI.rowStart, matrixI.getNumRows(), blockJ.rowStart, matrixJ.getNumRows(), tempBlock);
+            tempProduct.mult(tempBlock, matrixJ);
+            c.multAddBlockTransA(matrixI, tempProduct, rowStart + blockI.colStart, colStart + blockJ.colStart);
+         }
+      }
+   }
+
+   private static void extractRows(NativeMatrix source, int rowStart, int numberOfRows, NativeMatrix dest)
+   {
+      extractBlock(source, rowStart, numberOfRows, 0, source.getNumCols(), dest);
+   }
+
+   private static void extractBlock(NativeMatrix source, int rowStart, int numberOfRows, int colStart, int numberOfCols, NativeMatrix dest)
+   {
+      dest.reshape(numberOfRows, numberOfCols);
+      dest.insert(source, rowStart, rowStart + numberOfRows, colStart, colStart + numberOfCols, 0, 0);
+   }
+
+   private static class Block
+   {
+      private NativeMatrix matrix;
+      private int rowStart;
+      private int colStart;
+   }
+}
@@ -0,0 +1,19 @@
+package us.ihmc.matrixlib;
+
+/**
+ * JNI binding of the small {@code NativeCPUFeatures} library, compiled without any instruction set
+ * flag, which probes the CPU with cpuid.
+ */
+class NativeCPUFeatures
+{
+   static final int NONE = 0;
+   static final int AVX = 1;
+   static final int AVX2 = 2;
+   static final int AVX512 = 3;
+
+   /**
+    * @return the most recent instruction set supported by both the CPU and the operating system, one
+    *         of {@link #NONE}, {@link #AVX}, {@link #AVX2} (including FMA) or {@link #AVX512}.
+    */
+   static native int getSupportedInstructionSet();
+}
@@ -3,8 +3,6 @@ package us.ihmc.matrixlib;
 import org.ejml.data.DMatrix1Row;
 import org.ejml.dense.row.CommonOps_DDRM;
 
-import us.ihmc.tools.nativelibraries.NativeLibraryLoader;
-
 public class NativeCommonOps
 {
    private static final NativeCommonOpsWrapper nativeCommonOpsWrapper = loadNativeOps();
@@ -13,14 +11,14 @@ public class NativeCommonOps
    {
       try
       {
-         NativeLibraryLoader.loadLibrary("", "NativeCommonOps");
+         NativeCommonOpsLibrary.load();
       }
       catch (UnsatisfiedLinkError e)
       {
          System.out.println("See IHMC Matrix Tools README.");
          throw e; 
       }
-      return new NativeCommonOpsWrapper();
+      return NativeInstrumentation.isEnabled() ? new InstrumentedNativeCommonOpsWrapper() : new NativeCommonOpsWrapper();
    }
 
    public static void ensureNativeOpsIsLoaded()
@@ -44,7 +42,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       c.reshape(a.getNumRows(), b.getNumCols());
+      Object event = NativeEvents.beginCommonOps(Math.max(Math.max(a.getNumRows(), a.getNumCols()), b.getNumCols()));
       nativeCommonOpsWrapper.mult(c.data, a.data, b.data, a.getNumRows(), a.getNumCols(), b.getNumCols());
+      NativeEvents.end(event, "NativeCommonOps.mult", a.getNumRows(), a.getNumCols());
    }
 
    /**
@@ -63,7 +63,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       c.reshape(a.getNumCols(), a.getNumCols());
+      Object event = NativeEvents.beginCommonOps(Math.max(a.getNumRows(), a.getNumCols()));
       nativeCommonOpsWrapper.multQuad(c.data, a.data, b.data, a.getNumRows(), a.getNumCols());
+      NativeEvents.end(event, "NativeCommonOps.multQuad", a.getNumRows(), a.getNumCols());
    }
 
    /**
@@ -85,7 +87,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       inv.reshape(a.getNumRows(), a.getNumCols());
+      Object event = NativeEvents.beginCommonOps(a.getNumRows());
       nativeCommonOpsWrapper.invert(inv.data, a.data, a.getNumRows());
+      NativeEvents.end(event, "NativeCommonOps.invert", a.getNumRows(), a.getNumCols());
    }
 
    /**
@@ -105,7 +109,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       x.reshape(a.getNumCols(), 1);
+      Object event = NativeEvents.beginCommonOps(a.getNumRows());
       nativeCommonOpsWrapper.solve(x.data, a.data, b.data, a.getNumRows());
+      NativeEvents.end(event, "NativeCommonOps.solve", a.getNumRows(), a.getNumCols());
    }
 
    /**
@@ -127,7 +133,46 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       x.reshape(a.getNumCols(), 1);
-      if (nativeCommonOpsWrapper.solveCheck(x.data, a.data, b.data, a.getNumRows()))
+      Object event = NativeEvents.beginCommonOps(a.getNumRows());
+      boolean success = nativeCommonOpsWrapper.solveCheck(x.data, a.data, b.data, a.getNumRows());
+      NativeEvents.end(event, "NativeCommonOps.solveCheck", a.getNumRows(), a.getNumCols());
+      if (success)
+      {
+         return true;
+      }
+      CommonOps_DDRM.fill(x, Double.NaN);
+      return false;
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * x == b</br>
+    * This method requires that {@code a} is square and reports how well conditioned it is through
+    * {@code diagnostics}. It uses a LLT decomposition if {@code positiveDefinite} is {@code true} and a
+    * LU decomposition with partial pivoting otherwise, the reciprocal condition number of {@code a}
+    * being estimated from the decomposition. When the solution is not valid, {@code x} is filled with
+    * {@code NaN}.
+    * 
+    * @param a                matrix in equation
+    * @param b                matrix in equation, it can have any number of columns
+    * @param x                where the result is stored (modified)
+    * @param positiveDefinite whether {@code a} is known to be symmetric positive definite
+    * @param diagnostics      where the status and the reciprocal condition number are stored
+    *                         (modified)
+    * @return whether a solution was found
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public static boolean solveCheck(DMatrix1Row a, DMatrix1Row b, DMatrix1Row x, boolean positiveDefinite, SolveDiagnostics diagnostics)
+   {
+      if (a.getNumRows() != b.getNumRows() || a.getNumCols() != a.getNumRows())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      x.reshape(a.getNumCols(), b.getNumCols());
+      Object event = NativeEvents.beginCommonOps(a.getNumRows());
+      double rcond = nativeCommonOpsWrapper.solveRcond(x.data, a.data, b.data, a.getNumRows(), b.getNumCols(), positiveDefinite);
+      NativeEvents.end(event, "NativeCommonOps.solveCheck", a.getNumRows(), a.getNumCols());
+      if (diagnostics.update(rcond))
       {
          return true;
       }
@@ -153,7 +198,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       x.reshape(a.getNumCols(), 1);
+      Object event = NativeEvents.beginCommonOps(Math.max(a.getNumRows(), a.getNumCols()));
       nativeCommonOpsWrapper.solveRobust(x.data, a.data, b.data, a.getNumRows(), a.getNumCols());
+      NativeEvents.end(event, "NativeCommonOps.solveRobust", a.getNumRows(), a.getNumCols());
    }
 
    /**
@@ -175,7 +222,9 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       x.reshape(a.getNumCols(), 1);
+      Object event = NativeEvents.beginCommonOps(Math.max(a.getNumRows(), a.getNumCols()));
       nativeCommonOpsWrapper.solveDamped(x.data, a.data, b.data, a.getNumRows(), a.getNumCols(), alpha);
+      NativeEvents.end(event, "NativeCommonOps.solveDamped", a.getNumRows(), a.getNumCols());
    }
 
    /**
@@ -201,6 +250,8 @@ public class NativeCommonOps
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
       c.reshape(a.getNumRows(), a.getNumCols());
+      Object event = NativeEvents.beginCommonOps(Math.max(Math.max(a.getNumRows(), a.getNumCols()), b.getNumRows()));
       nativeCommonOpsWrapper.projectOnNullspace(c.data, a.data, b.data, a.getNumRows(), a.getNumCols(), b.getNumRows(), alpha);
+      NativeEvents.end(event, "NativeCommonOps.projectOnNullspace", b.getNumRows(), b.getNumCols());
    }
 }
@@ -0,0 +1,190 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeLibraryVersion;
+import us.ihmc.tools.nativelibraries.NativeLibraryLoader;
+
+/**
+ * Loads the NativeCommonOps library used by all the native classes of this library.
+ * <p>
+ * The library is built in several variants, each compiled for a different instruction set. When
+ * loading, the instruction sets supported by the CPU are probed with cpuid and the most recent
+ * variant that is supported and packaged is picked. The variant can be forced with the system
+ * property {@link #VARIANT_PROPERTY}.
+ * </p>
+ * <p>
+ * The baseline variant is always the fallback: it is loaded when the cpuid probe is not packaged,
+ * fails or reports none of the instruction sets of the other variants. Only the baseline variant is
+ * packaged for now, the AVX2 and AVX-512 variants and the cpuid probe are built by the CMake project
+ * but their libraries are not in the resources yet.
+ * </p>
+ */
+public final class NativeCommonOpsLibrary
+{
+   /**
+    * System property selecting the variant of the native library: {@code "baseline"},
+    * {@code "avx2"}, {@code "avx512"} or {@code "auto"}. With {@code "auto"}, the default, the most
+    * recent variant supported by the CPU is used.
+    */
+   public static final String VARIANT_PROPERTY = "us.ihmc.matrixlib.nativeVariant";
+
+   /**
+    * The variants of the native library.
+    */
+   public enum Variant
+   {
+      /** Baseline variant compiled with AVX, loaded when no other variant is supported. */
+      BASELINE("baseline", "NativeCommonOps", NativeCPUFeatures.NONE),
+      /** Variant compiled with AVX2 and FMA. */
+      AVX2("avx2", "NativeCommonOps_avx2", NativeCPUFeatures.AVX2),
+      /** Variant compiled with AVX-512 (F and DQ), AVX2 and FMA. */
+      AVX512("avx512", "NativeCommonOps_avx512", NativeCPUFeatures.AVX512);
+
+      private final String name;
+      private final String libraryName;
+      private final int instructionSet;
+
+      private Variant(String name, String libraryName, int instructionSet)
+      {
+         this.name = name;
+         this.libraryName = libraryName;
+         this.instructionSet = instructionSet;
+      }
+
+      /**
+       * @return the name of this variant, as used for {@link NativeCommonOpsLibrary#VARIANT_PROPERTY}.
+       */
+      public String getName()
+      {
+         return name;
+      }
+
+      /**
+       * @return the name of the native library of this variant.
+       */
+      public String getLibraryName()
+      {
+         return libraryName;
+      }
+   }
+
+   private static Variant activeVariant = null;
+
+   private NativeCommonOpsLibrary()
+   {
+   }
+
+   /**
+    * Loads the native library if it has not been loaded yet.
+    *
+    * @throws UnsatisfiedLinkError if no variant of the library can be loaded.
+    */
+   public static synchronized void load()
+   {
+      if (activeVariant != null)
+         return;
+
+      String requestedVariant = System.getProperty(VARIANT_PROPERTY, "auto");
+
+      if (requestedVariant.equals("auto"))
+      {
+         int supportedInstructionSet = getSupportedInstructionSet();
+         Variant[] variants = Variant.values();
+         UnsatisfiedLinkError error = null;
+
+         // The variants of more recent instruction sets are optional, fall back to the next one when a variant is not packaged.
+         for (int i = variants.length - 1; i >= 0; i--)
+         {
+            Variant variant = variants[i];
+            if (variant != Variant.BASELINE && variant.instructionSet > supportedInstructionSet)
+               continue;
+
+            try
+            {
+               // The loader returns false when the library of the variant is not packaged for this platform.
+               if (NativeLibraryLoader.loadLibrary("", variant.libraryName))
+               {
+                  setActiveVariant(variant);
+                  return;
+               }
+            }
+            catch (UnsatisfiedLinkError e)
+            {
+               error = e;
+            }
+         }
+
+         if (error != null)
+            throw error;
+         throw new UnsatisfiedLinkError("Unable to load the native library " + Variant.BASELINE.libraryName + ".");
+      }
+      else
+      {
+         Variant variant = findVariant(requestedVariant);
+         if (!NativeLibraryLoader.loadLibrary("", variant.libraryName))
+            throw new UnsatisfiedLinkError("The native library " + variant.libraryName + " of the variant " + variant.name + " is not packaged.");
+         setActiveVariant(variant);
+      }
+   }
+
+   /**
+    * Returns the variant of the native library that is loaded, loading it if needed.
+    *
+    * @return the active variant.
+    * @see #VARIANT_PROPERTY
+    */
+   public static Variant getActiveVariant()
+   {
+      load();
+      return activeVariant;
+   }
+
+   private static void setActiveVariant(Variant variant)
+   {
+      activeVariant = variant;
+      System.out.println("Loaded the native library " + variant.libraryName + " (" + variant.name + " variant).");
+
+      int libraryVersion = getLibraryVersion();
+      if (libraryVersion != NativeLibraryVersion.SOURCE_VERSION)
+         System.err.println("The native library " + variant.libraryName + " has the version " + libraryVersion + " but the sources have the version "
+               + NativeLibraryVersion.SOURCE_VERSION + ", the operations added since may throw UnsatisfiedLinkError. Rebuild the native libraries.");
+   }
+
+   private static int getLibraryVersion()
+   {
+      try
+      {
+         return NativeLibraryVersion.getLibraryVersion();
+      }
+      catch (UnsatisfiedLinkError e)
+      {
+         // The libraries built before the version was added do not have the function.
+         return 0;
+      }
+   }
+
+   private static int getSupportedInstructionSet()
+   {
+      try
+      {
+         if (NativeLibraryLoader.loadLibrary("", "NativeCPUFeatures"))
+            return NativeCPUFeatures.getSupportedInstructionSet();
+      }
+      catch (UnsatisfiedLinkError e)
+      {
+         // The probe has been packaged without being built for this platform.
+      }
+
+      // Without the probe, only the baseline variant is loaded.
+      return NativeCPUFeatures.NONE;
+   }
+
+   private static Variant findVariant(String name)
+   {
+      for (Variant variant : Variant.values())
+      {
+         if (variant.name.equals(name))
+            return variant;
+      }
+      throw new IllegalArgumentException("Unknown variant for " + VARIANT_PROPERTY + ": " + name);
+   }
+}
@@ -12,6 +12,8 @@ public class NativeCommonOpsWrapper
 
    public native boolean solveCheck(double[] result, double[] aData, double[] bData, int aRows);
 
+   public native double solveRcond(double[] result, double[] aData, double[] bData, int aRows, int bCols, boolean positiveDefinite);
+
    public native void solveRobust(double[] result, double[] aData, double[] bData, int aRows, int aCols);
 
    public native void solveDamped(double[] result, double[] aData, double[] bData, int aRows, int aCols, double alpha);
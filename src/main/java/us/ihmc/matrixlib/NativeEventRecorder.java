@@ -0,0 +1,44 @@
+package us.ihmc.matrixlib;
+
+/**
+ * Records the duration and the dimensions of the expensive native operations as events, so that
+ * they can be correlated with GC pauses and controller jitter.
+ * <p>
+ * The only implementation, {@code us.ihmc.matrixlib.jfr.JFRNativeEventRecorder}, emits JDK Flight
+ * Recorder events and is provided by the {@code jfr} source set. It is picked when the first
+ * instrumented operation is called, see {@link NativeEvents#PROPERTY}.
+ * </p>
+ */
+public interface NativeEventRecorder
+{
+   /** {@link NativeMatrix#solve(NativeMatrix, NativeMatrix)} and the {@code solveCheck} variants. */
+   int SOLVE = 0;
+   /** {@link NativeMatrix#invert(NativeMatrix)}. */
+   int INVERT = 1;
+   /** The steps of {@link NativeKalmanFilter}. */
+   int KALMAN_FILTER = 2;
+   /** The projections of {@link NativeNullspaceProjector}. */
+   int NULLSPACE_PROJECTION = 3;
+   /** The operations of {@link NativeCommonOps}. */
+   int NATIVE_COMMON_OPS = 4;
+
+   /**
+    * Starts timing an operation.
+    *
+    * @param category the category of the operation, for instance {@link #SOLVE}.
+    * @return the event to pass to {@link #end(Object, String, int, int)}, or {@code null} if no
+    *         recording is interested in the category.
+    */
+   Object begin(int category);
+
+   /**
+    * Stops timing an operation and records it if it lasted longer than the threshold of its
+    * category.
+    *
+    * @param event     the event returned by {@link #begin(int)}, not {@code null}.
+    * @param operation the name of the operation, for instance {@code "NativeMatrix.solve"}.
+    * @param rows      the number of rows of the main operand.
+    * @param cols      the number of columns of the main operand.
+    */
+   void end(Object event, String operation, int rows, int cols);
+}
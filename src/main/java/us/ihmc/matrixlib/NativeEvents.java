@@ -0,0 +1,116 @@
+package us.ihmc.matrixlib;
+
+/**
+ * Entry point of the instrumented operations to the {@link NativeEventRecorder}.
+ * <p>
+ * The recorder is loaded with this class. When it is not available, {@link #begin(int)} returns
+ * {@code null} and the operations are not recorded.
+ * </p>
+ */
+public final class NativeEvents
+{
+   /**
+    * System property selecting the event recorder: {@code "jfr"}, {@code "none"} or {@code "auto"}.
+    * With {@code "auto"}, the default, JDK Flight Recorder events are emitted when the {@code jfr}
+    * source set is on the classpath and the running JVM supports them.
+    */
+   public static final String PROPERTY = "us.ihmc.matrixlib.events";
+   /**
+    * System property setting the minimum size, the largest dimension of the operands, of the
+    * {@link NativeCommonOps} calls to record. Defaults to {@value #DEFAULT_COMMON_OPS_MINIMUM_SIZE}.
+    */
+   public static final String COMMON_OPS_MINIMUM_SIZE_PROPERTY = "us.ihmc.matrixlib.events.commonOpsMinimumSize";
+   public static final int DEFAULT_COMMON_OPS_MINIMUM_SIZE = 20;
+   private static final String JFR_RECORDER_CLASS = "us.ihmc.matrixlib.jfr.JFRNativeEventRecorder";
+
+   private static final NativeEventRecorder recorder = loadRecorder(System.getProperty(PROPERTY, "auto"));
+   private static final int commonOpsMinimumSize = Integer.getInteger(COMMON_OPS_MINIMUM_SIZE_PROPERTY, DEFAULT_COMMON_OPS_MINIMUM_SIZE);
+
+   private NativeEvents()
+   {
+   }
+
+   private static NativeEventRecorder loadRecorder(String requestedRecorder)
+   {
+      switch (requestedRecorder)
+      {
+         case "none":
+            return null;
+         case "jfr":
+            return loadJFRRecorder();
+         case "auto":
+            try
+            {
+               return loadJFRRecorder();
+            }
+            catch (IllegalStateException e)
+            {
+               return null;
+            }
+         default:
+            throw new IllegalArgumentException("Unknown recorder for " + PROPERTY + ": " + requestedRecorder);
+      }
+   }
+
+   private static NativeEventRecorder loadJFRRecorder()
+   {
+      try
+      {
+         return (NativeEventRecorder) Class.forName(JFR_RECORDER_CLASS).getConstructor().newInstance();
+      }
+      catch (ReflectiveOperationException | LinkageError e)
+      {
+         throw new IllegalStateException("The JFR events are not available, they require Java 11+ and the jfr source set on the classpath.", e);
+      }
+   }
+
+   /**
+    * @return the name of the active recorder, {@code "jfr"} or {@code "none"}.
+    * @see #PROPERTY
+    */
+   public static String getRecorderName()
+   {
+      return recorder == null ? "none" : "jfr";
+   }
+
+   /**
+    * @param category the category of the operation, for instance {@link NativeEventRecorder#SOLVE}.
+    * @return the event to pass to {@link #end(Object, String, int, int)}, or {@code null} if the
+    *         operation is not recorded.
+    */
+   static Object begin(int category)
+   {
+      return recorder == null ? null : recorder.begin(category);
+   }
+
+   /**
+    * Same as {@link #begin(int)} for a {@link NativeCommonOps} call, which is only recorded when its
+    * size reaches {@link #COMMON_OPS_MINIMUM_SIZE_PROPERTY}.
+    *
+    * @param size the largest dimension of the operands.
+    * @return the event or {@code null} if the call is not recorded.
+    */
+   static Object beginCommonOps(int size)
+   {
+      return size < commonOpsMinimumSize ? null : begin(NativeEventRecorder.NATIVE_COMMON_OPS);
+   }
+
+   /**
+    * Ends the given event, does nothing when it is {@code null}.
+    */
+   static void end(Object event, String operation, int rows, int cols)
+   {
+      if (event != null)
+         recorder.end(event, operation, rows, cols);
+   }
+
+   /**
+    * Ends the given event with the dimensions of {@code a}, does nothing when it is {@code null}.
+    */
+   static void end(Object event, String operation, NativeMatrix a)
+   {
+      // Reading the dimensions takes native calls, only done when the operation is recorded.
+      if (event != null)
+         recorder.end(event, operation, a.getNumRows(), a.getNumCols());
+   }
+}
@@ -0,0 +1,257 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeFusedKalmanFilterImpl;
+
+/**
+ * {@code NativeFusedKalmanFilter} is a Kalman filter that keeps its state and error covariance in
+ * C++ and performs an entire prediction and update step in a single native call.
+ * <p>
+ * Unlike {@link NativeKalmanFilter}, the state size and measurement size are fixed at construction
+ * and all the intermediate results are preallocated, such that a step does not allocate memory.
+ * The innovation covariance {@code H * P * H' + R} is factorized with a Cholesky decomposition,
+ * falling back to a LDLT decomposition when it is not numerically positive definite, and the error
+ * covariance is updated with the Joseph form {@code (I - K * H) * P * (I - K * H)' + K * R * K'}
+ * which keeps it symmetric positive semi-definite.
+ * </p>
+ * <p>
+ * The process noise covariance {@code Q} and measurement noise covariance {@code R} can either be
+ * given as full square matrices or as column vectors holding their diagonal.
+ * </p>
+ * <p>
+ * The state is initialized to zero and the error covariance to identity.
+ * </p>
+ */
+public class NativeFusedKalmanFilter
+{
+   private final NativeFusedKalmanFilterImpl impl;
+
+   /**
+    * Creates a new filter for the given problem size.
+    *
+    * @param stateSize       the size of the state vector.
+    * @param measurementSize the size of the measurement vector.
+    */
+   public NativeFusedKalmanFilter(int stateSize, int measurementSize)
+   {
+      if (stateSize < 0 || measurementSize < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      impl = new NativeFusedKalmanFilterImpl(stateSize, measurementSize);
+   }
+
+   /**
+    * Sets the state of this filter.
+    *
+    * @param x the new state, a column vector. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void setState(NativeMatrix x)
+   {
+      if (!impl.setState(x.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs the current state of this filter.
+    *
+    * @param xToPack where the state is stored. The matrix is resized to a column vector. Modified.
+    */
+   public void getState(NativeMatrix xToPack)
+   {
+      impl.getState(xToPack.impl());
+   }
+
+   /**
+    * Sets the error covariance of this filter.
+    *
+    * @param P the new error covariance, a symmetric square matrix. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void setErrorCovariance(NativeMatrix P)
+   {
+      if (!impl.setErrorCovariance(P.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs the current error covariance of this filter.
+    *
+    * @param PToPack where the error covariance is stored. The matrix is resized to a square matrix.
+    *                Modified.
+    */
+   public void getErrorCovariance(NativeMatrix PToPack)
+   {
+      impl.getErrorCovariance(PToPack.impl());
+   }
+
+   /**
+    * Predicts the state and error covariance:
+    * <p>
+    * x = F * x<br>
+    * P = F * P * F' + Q
+    * </p>
+    *
+    * @param F the state transition matrix. Not modified.
+    * @param Q the process noise covariance, square or diagonal. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void predict(NativeMatrix F, NativeMatrix Q)
+   {
+      checkStatus(impl.predict(F.impl(), Q.impl()));
+   }
+
+   /**
+    * Predicts the error covariance only, {@code P = F * P * F' + Q}. This is meant for extended
+    * Kalman filters where the state is predicted by the caller and set with
+    * {@link #setState(NativeMatrix)}.
+    *
+    * @param F the Jacobian of the state transition. Not modified.
+    * @param Q the process noise covariance, square or diagonal. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void predictErrorCovariance(NativeMatrix F, NativeMatrix Q)
+   {
+      checkStatus(impl.predictErrorCovariance(F.impl(), Q.impl()));
+   }
+
+   /**
+    * Updates the state and error covariance with the measurement {@code z}, the residual being
+    * {@code z - H * x}.
+    * <p>
+    * If the innovation covariance is singular, the filter is left unchanged and this method returns
+    * {@code false}.
+    * </p>
+    *
+    * @param H the measurement matrix. Not modified.
+    * @param R the measurement noise covariance, square or diagonal. Not modified.
+    * @param z the measurement, a column vector. Not modified.
+    * @return whether the update succeeded.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean update(NativeMatrix H, NativeMatrix R, NativeMatrix z)
+   {
+      return checkStatus(impl.update(H.impl(), R.impl(), z.impl()));
+   }
+
+   /**
+    * Updates the state and error covariance with a residual computed by the caller, for instance
+    * {@code z - h(x)} for an extended Kalman filter.
+    * <p>
+    * If the innovation covariance is singular, the filter is left unchanged and this method returns
+    * {@code false}.
+    * </p>
+    *
+    * @param H        the measurement matrix or the Jacobian of the measurement function. Not
+    *                 modified.
+    * @param R        the measurement noise covariance, square or diagonal. Not modified.
+    * @param residual the measurement residual, a column vector. Not modified.
+    * @return whether the update succeeded.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean updateWithResidual(NativeMatrix H, NativeMatrix R, NativeMatrix residual)
+   {
+      return checkStatus(impl.updateWithResidual(H.impl(), R.impl(), residual.impl()));
+   }
+
+   /**
+    * Performs {@link #predict(NativeMatrix, NativeMatrix)} followed by
+    * {@link #update(NativeMatrix, NativeMatrix, NativeMatrix)} in a single native call.
+    * <p>
+    * If the innovation covariance is singular, the prediction is kept and this method returns
+    * {@code false}.
+    * </p>
+    *
+    * @param F the state transition matrix. Not modified.
+    * @param Q the process noise covariance, square or diagonal. Not modified.
+    * @param H the measurement matrix. Not modified.
+    * @param R the measurement noise covariance, square or diagonal. Not modified.
+    * @param z the measurement, a column vector. Not modified.
+    * @return whether the update succeeded.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible, in which case the
+    *                                  filter is left unchanged.
+    */
+   public boolean predictAndUpdate(NativeMatrix F, NativeMatrix Q, NativeMatrix H, NativeMatrix R, NativeMatrix z)
+   {
+      return checkStatus(impl.predictAndUpdate(F.impl(), Q.impl(), H.impl(), R.impl(), z.impl()));
+   }
+
+   /**
+    * Updates the state and error covariance processing the rows of {@code H} one at a time, see
+    * {@link NativeKalmanFilter#sequentialUpdate(NativeMatrix, NativeMatrix, NativeMatrix, NativeMatrix, NativeMatrix, double)}.
+    * <p>
+    * The number of rows of {@code H} is not limited to the measurement size of this filter.
+    * </p>
+    *
+    * @param H                  the measurement matrix. Not modified.
+    * @param R                  the diagonal of the measurement noise covariance, a column vector. Not
+    *                           modified.
+    * @param z                  the measurement, a column vector. Not modified.
+    * @param chiSquareThreshold gate on the normalized innovation squared of each row, the gate is
+    *                           disabled when the threshold is not positive.
+    * @return the number of rows that have been skipped.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public int sequentialUpdate(NativeMatrix H, NativeMatrix R, NativeMatrix z, double chiSquareThreshold)
+   {
+      return checkRejected(impl.sequentialUpdate(H.impl(), R.impl(), z.impl(), chiSquareThreshold));
+   }
+
+   /**
+    * Same as {@link #sequentialUpdate(NativeMatrix, NativeMatrix, NativeMatrix, double)} with a
+    * residual computed by the caller before the update, for instance {@code z - h(x)} for an extended
+    * Kalman filter.
+    *
+    * @param H                  the measurement matrix or the Jacobian of the measurement function. Not
+    *                           modified.
+    * @param R                  the diagonal of the measurement noise covariance, a column vector. Not
+    *                           modified.
+    * @param residual           the measurement residual, a column vector. Not modified.
+    * @param chiSquareThreshold gate on the normalized innovation squared of each row, the gate is
+    *                           disabled when the threshold is not positive.
+    * @return the number of rows that have been skipped.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public int sequentialUpdateWithResidual(NativeMatrix H, NativeMatrix R, NativeMatrix residual, double chiSquareThreshold)
+   {
+      return checkRejected(impl.sequentialUpdateWithResidual(H.impl(), R.impl(), residual.impl(), chiSquareThreshold));
+   }
+
+   /**
+    * @return the size of the state vector.
+    */
+   public int getStateSize()
+   {
+      return impl.getStateSize();
+   }
+
+   /**
+    * @return the size of the measurement vector.
+    */
+   public int getMeasurementSize()
+   {
+      return impl.getMeasurementSize();
+   }
+
+   private static boolean checkStatus(int status)
+   {
+      if (status == NativeFusedKalmanFilterImpl.INCOMPATIBLE_DIMENSIONS)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return status == NativeFusedKalmanFilterImpl.SUCCESS;
+   }
+
+   private static int checkRejected(int rejected)
+   {
+      if (rejected < 0)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      return rejected;
+   }
+}
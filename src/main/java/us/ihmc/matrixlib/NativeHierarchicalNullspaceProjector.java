@@ -0,0 +1,157 @@
+package us.ihmc.matrixlib;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import us.ihmc.matrixlib.jni.NativeHierarchicalNullspaceProjectorImpl;
+
+/**
+ * {@code NativeHierarchicalNullspaceProjector} computes the nullspace projectors of an ordered list
+ * of tasks in a single native call, such that each task can be projected onto the combined
+ * nullspace of the tasks of higher priority.
+ * <p>
+ * The tasks are added once in decreasing order of priority with
+ * {@link #addTask(NativeMatrix, double)}. The hierarchy holds a reference to their Jacobian, which
+ * can be updated in place before each call to {@link #compute()} and cannot be
+ * {@link NativeMatrix#close() closed} until the hierarchy is {@link #clear() cleared}. The
+ * projectors are computed recursively:</br>
+ * &Nu;<sub>0</sub> = I</br>
+ * J&#770;<sub>i</sub> = J<sub>i</sub> &Nu;<sub>i</sub></br>
+ * &Nu;<sub>i+1</sub> = &Nu;<sub>i</sub> - J&#770;<sub>i</sub><sup>T</sup> ( J&#770;<sub>i</sub>
+ * J&#770;<sub>i</sub><sup>T</sup> + &alpha;<sub>i</sub><sup>2</sup> I)<sup>-1</sup>
+ * J&#770;<sub>i</sub></br>
+ * where &Nu;<sub>k</sub> is the projector onto the combined nullspace of the tasks 0 to k-1.
+ * </p>
+ * <p>
+ * The projectors are allocated at construction for the maximum number of tasks, computing the
+ * hierarchy does not allocate memory as long as no task has more rows than the number of degrees of
+ * freedom.
+ * </p>
+ */
+public class NativeHierarchicalNullspaceProjector
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private final NativeHierarchicalNullspaceProjectorImpl impl;
+   private final List<NativeMatrix> jacobians = new ArrayList<>();
+   private int computedTasks = 0;
+
+   /**
+    * Creates a new empty hierarchy.
+    *
+    * @param degreesOfFreedom     the number of columns of the task Jacobians.
+    * @param maximumNumberOfTasks the maximum number of tasks that can be added.
+    */
+   public NativeHierarchicalNullspaceProjector(int degreesOfFreedom, int maximumNumberOfTasks)
+   {
+      if (degreesOfFreedom < 0 || maximumNumberOfTasks < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      impl = new NativeHierarchicalNullspaceProjectorImpl(degreesOfFreedom, maximumNumberOfTasks);
+   }
+
+   /**
+    * Adds a task with a lower priority than the tasks already added.
+    *
+    * @param jacobian the task Jacobian, a p-by-m matrix where p is unconstrained and m is the number
+    *                 of degrees of freedom. It is read each time {@link #compute()} is called. Not
+    *                 modified.
+    * @param alpha    damping value used for the pseudo-inverse of the projected Jacobian.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or the maximum number
+    *                                  of tasks is reached.
+    */
+   public void addTask(NativeMatrix jacobian, double alpha)
+   {
+      if (!impl.addTask(jacobian.impl(), alpha))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      jacobian.addUser();
+      jacobians.add(jacobian);
+   }
+
+   /**
+    * Removes all the tasks.
+    */
+   public void clear()
+   {
+      impl.clear();
+      for (int i = 0; i < jacobians.size(); i++)
+         jacobians.get(i).removeUser();
+      jacobians.clear();
+      computedTasks = 0;
+   }
+
+   /**
+    * @return the number of tasks added to this hierarchy.
+    */
+   public int getNumberOfTasks()
+   {
+      return jacobians.size();
+   }
+
+   /**
+    * Computes the projectors of all the tasks from the current value of their Jacobian.
+    *
+    * @throws IllegalArgumentException if a Jacobian has been reshaped to an incompatible number of
+    *                                  columns.
+    */
+   public void compute()
+   {
+      if (!impl.compute())
+      {
+         computedTasks = 0;
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      computedTasks = jacobians.size();
+   }
+
+   /**
+    * Projects the matrix {@code a} onto the combined nullspace of the tasks of priority lower than
+    * {@code level}:</br>
+    * c = a * &Nu;<sub>level</sub></br>
+    * Projecting the Jacobian of the task {@code i} at the level {@code i} gives the Jacobian of this
+    * task restricted to the nullspace of the tasks with a higher priority.
+    *
+    * @param level the number of tasks whose nullspace {@code a} is projected onto, in [0,
+    *              {@link #getNumberOfTasks()}].
+    * @param a     matrix to project. The matrix size is n-by-m where n is unconstrained and m is the
+    *              number of degrees of freedom. Not modified.
+    * @param c     where the result is stored. The matrix is resized to a n-by-m matrix. Can be the
+    *              same instance as {@code a}. Modified.
+    * @throws IllegalStateException    if the level has not been computed.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void project(int level, NativeMatrix a, NativeMatrix c)
+   {
+      checkLevel(level);
+      if (!impl.project(level, a.impl(), c.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs the projector onto the combined nullspace of the tasks of priority lower than
+    * {@code level}.
+    *
+    * @param level   the number of tasks, in [0, {@link #getNumberOfTasks()}]. The level 0 is the
+    *                identity.
+    * @param nToPack where the projector is stored. The matrix is resized to a m-by-m matrix.
+    *                Modified.
+    * @throws IllegalStateException if the level has not been computed.
+    */
+   public void getProjector(int level, NativeMatrix nToPack)
+   {
+      checkLevel(level);
+      impl.getProjector(level, nToPack.impl());
+   }
+
+   private void checkLevel(int level)
+   {
+      if (level < 0 || level > computedTasks)
+         throw new IllegalStateException("The level " + level + " has not been computed, number of computed tasks: " + computedTasks + ".");
+   }
+}
@@ -0,0 +1,320 @@
+package us.ihmc.matrixlib;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Opt-in instrumentation of the calls to the native library made by {@link NativeMatrix},
+ * {@link NativeCommonOps}, {@link NativeKalmanFilter} and {@link NativeNullspaceProjector}.
+ * <p>
+ * When enabled with the system property {@link #PROPERTY}, each call is counted and timed per
+ * operation. The time is measured around the native call and includes the cost of the transition.
+ * The counters are owned by the calling thread and updated without locks or contention. They are
+ * aggregated by {@link #snapshot()} and {@link #snapshotCurrentThread()} and cleared by
+ * {@link #reset()}.
+ * </p>
+ * <p>
+ * The system property {@link #LATENCY_PROPERTY} also records the latency of each call in a
+ * {@link LatencyHistogram} per operation and per thread, reported with the percentiles by the
+ * snapshots. The histogram of an operation is allocated by the first call of a thread, the
+ * following calls do not allocate.
+ * </p>
+ * <p>
+ * The counters of the threads that have terminated are folded into a shared total and released the
+ * next time a thread makes its first call or the counters are read or reset.
+ * </p>
+ * <p>
+ * The properties are read once when this class is loaded. When it is not set, the instrumented classes
+ * use the plain implementations and {@link #start()} and {@link #stop(int, long)} compile down to
+ * nothing.
+ * </p>
+ */
+public final class NativeInstrumentation
+{
+   /**
+    * System property enabling the instrumentation, {@code -Dus.ihmc.matrixlib.instrumentation=true}.
+    */
+   public static final String PROPERTY = "us.ihmc.matrixlib.instrumentation";
+
+   /**
+    * System property enabling the instrumentation and the latency histograms,
+    * {@code -Dus.ihmc.matrixlib.instrumentation.latency=true}.
+    */
+   public static final String LATENCY_PROPERTY = "us.ihmc.matrixlib.instrumentation.latency";
+
+   static final boolean LATENCY_ENABLED = Boolean.getBoolean(LATENCY_PROPERTY);
+   static final boolean ENABLED = LATENCY_ENABLED || Boolean.getBoolean(PROPERTY);
+
+   /** Maximum number of operations that can be registered. */
+   static final int MAX_OPERATIONS = 256;
+
+   private static final List<String> operationNames = new ArrayList<>();
+   private static final Queue<ThreadCounters> allThreadCounters = new ConcurrentLinkedQueue<>();
+   /** Counts of the threads that have terminated, only accessed while holding the lock. */
+   private static final ThreadCounters terminatedThreadCounters = new ThreadCounters(null);
+   private static final ThreadLocal<ThreadCounters> threadCounters = ThreadLocal.withInitial(() ->
+   {
+      ThreadCounters counters = new ThreadCounters(Thread.currentThread());
+      synchronized (NativeInstrumentation.class)
+      {
+         pruneTerminatedThreads();
+         allThreadCounters.add(counters);
+      }
+      return counters;
+   });
+
+   private NativeInstrumentation()
+   {
+   }
+
+   /**
+    * Counters written only by their owning thread. The baselines are written by {@link #reset()} and
+    * only read while holding the lock of {@link NativeInstrumentation}.
+    */
+   private static class ThreadCounters
+   {
+      private final WeakReference<Thread> owner;
+      private final AtomicLongArray callCounts = new AtomicLongArray(MAX_OPERATIONS);
+      private final AtomicLongArray times = new AtomicLongArray(MAX_OPERATIONS);
+      private final long[] callCountBaselines = new long[MAX_OPERATIONS];
+      private final long[] timeBaselines = new long[MAX_OPERATIONS];
+      private final AtomicReferenceArray<LatencyHistogram> latencies = new AtomicReferenceArray<>(MAX_OPERATIONS);
+      private final LatencyHistogram[] latencyBaselines = new LatencyHistogram[MAX_OPERATIONS];
+
+      private ThreadCounters(Thread owner)
+      {
+         this.owner = new WeakReference<>(owner);
+      }
+
+      private boolean isOwnerTerminated()
+      {
+         Thread thread = owner.get();
+         return thread == null || !thread.isAlive();
+      }
+
+      private void record(int operation, long time)
+      {
+         // Single writer: an ordered store is enough for the readers to see consistent values.
+         callCounts.lazySet(operation, callCounts.get(operation) + 1);
+         times.lazySet(operation, times.get(operation) + time);
+      }
+
+      private void recordLatency(int operation, long time)
+      {
+         LatencyHistogram latency = latencies.get(operation);
+         if (latency == null)
+         {
+            latency = new LatencyHistogram();
+            latencies.lazySet(operation, latency);
+         }
+         latency.record(time);
+      }
+   }
+
+   /**
+    * @return whether the instrumentation has been enabled with {@link #PROPERTY} or
+    *         {@link #LATENCY_PROPERTY}.
+    */
+   public static boolean isEnabled()
+   {
+      return ENABLED;
+   }
+
+   /**
+    * @return whether the latency histograms have been enabled with {@link #LATENCY_PROPERTY}.
+    */
+   public static boolean isLatencyEnabled()
+   {
+      return LATENCY_ENABLED;
+   }
+
+   /**
+    * Registers an operation, called once by each instrumented class when it is loaded.
+    *
+    * @param name the name of the operation, prefixed by the name of the class.
+    * @return the identifier of the operation to pass to {@link #stop(int, long)}.
+    */
+   static synchronized int registerOperation(String name)
+   {
+      int index = operationNames.indexOf(name);
+      if (index != -1)
+         return index;
+      if (operationNames.size() == MAX_OPERATIONS)
+         throw new IllegalStateException("Too many instrumented operations, increase NativeInstrumentation.MAX_OPERATIONS.");
+      operationNames.add(name);
+      return operationNames.size() - 1;
+   }
+
+   /**
+    * To be called before a native call.
+    *
+    * @return the start time to pass to {@link #stop(int, long)}.
+    */
+   static long start()
+   {
+      return ENABLED ? System.nanoTime() : 0L;
+   }
+
+   /**
+    * To be called after a native call, counts the call and its time for the current thread.
+    *
+    * @param operation the identifier returned by {@link #registerOperation(String)}.
+    * @param startTime the time returned by {@link #start()}.
+    */
+   static void stop(int operation, long startTime)
+   {
+      if (ENABLED)
+         record(operation, System.nanoTime() - startTime);
+   }
+
+   static void record(int operation, long time)
+   {
+      ThreadCounters counters = threadCounters.get();
+      counters.record(operation, time);
+      if (LATENCY_ENABLED)
+         counters.recordLatency(operation, time);
+   }
+
+   static void recordLatency(int operation, long time)
+   {
+      threadCounters.get().recordLatency(operation, time);
+   }
+
+   /**
+    * Aggregates the counters of all the threads since the last {@link #reset()}.
+    *
+    * @return the counts, times and latencies per operation, zero if the instrumentation is disabled.
+    */
+   public static synchronized NativeInstrumentationSnapshot snapshot()
+   {
+      long[] callCounts = new long[operationNames.size()];
+      long[] times = new long[operationNames.size()];
+      LatencyHistogram[] latencies = new LatencyHistogram[operationNames.size()];
+      pruneTerminatedThreads();
+      accumulate(terminatedThreadCounters, callCounts, times, latencies);
+      for (ThreadCounters counters : allThreadCounters)
+         accumulate(counters, callCounts, times, latencies);
+      return new NativeInstrumentationSnapshot(new ArrayList<>(operationNames), callCounts, times, latencies);
+   }
+
+   /**
+    * Collects the counters of the current thread since the last {@link #reset()}, for instance to
+    * count the native calls of one control tick.
+    *
+    * @return the counts, times and latencies per operation, zero if the instrumentation is disabled.
+    */
+   public static synchronized NativeInstrumentationSnapshot snapshotCurrentThread()
+   {
+      long[] callCounts = new long[operationNames.size()];
+      long[] times = new long[operationNames.size()];
+      LatencyHistogram[] latencies = new LatencyHistogram[operationNames.size()];
+      accumulate(threadCounters.get(), callCounts, times, latencies);
+      return new NativeInstrumentationSnapshot(new ArrayList<>(operationNames), callCounts, times, latencies);
+   }
+
+   /**
+    * Clears the counters of all the threads.
+    */
+   public static synchronized void reset()
+   {
+      pruneTerminatedThreads();
+      clear(terminatedThreadCounters);
+
+      // The counters can only be written by their owner, the current values become the baselines.
+      for (ThreadCounters counters : allThreadCounters)
+      {
+         for (int i = 0; i < MAX_OPERATIONS; i++)
+         {
+            counters.callCountBaselines[i] = counters.callCounts.get(i);
+            counters.timeBaselines[i] = counters.times.get(i);
+
+            LatencyHistogram latency = counters.latencies.get(i);
+            if (latency != null)
+            {
+               if (counters.latencyBaselines[i] == null)
+                  counters.latencyBaselines[i] = new LatencyHistogram();
+               else
+                  counters.latencyBaselines[i].reset();
+               counters.latencyBaselines[i].add(latency);
+            }
+         }
+      }
+   }
+
+   /**
+    * Folds the counts of the threads that have terminated into {@link #terminatedThreadCounters} and
+    * stops referencing their counters. To be called while holding the lock.
+    */
+   private static void pruneTerminatedThreads()
+   {
+      for (Iterator<ThreadCounters> iterator = allThreadCounters.iterator(); iterator.hasNext();)
+      {
+         ThreadCounters counters = iterator.next();
+         if (!counters.isOwnerTerminated())
+            continue;
+
+         // The owner is gone, the counters are no longer written.
+         ThreadCounters total = terminatedThreadCounters;
+         for (int i = 0; i < MAX_OPERATIONS; i++)
+         {
+            total.callCounts.lazySet(i, total.callCounts.get(i) + counters.callCounts.get(i) - counters.callCountBaselines[i]);
+            total.times.lazySet(i, total.times.get(i) + counters.times.get(i) - counters.timeBaselines[i]);
+
+            LatencyHistogram latency = counters.latencies.get(i);
+            if (latency != null)
+            {
+               if (counters.latencyBaselines[i] != null)
+                  latency.subtract(counters.latencyBaselines[i]);
+               if (total.latencies.get(i) == null)
+                  total.latencies.lazySet(i, new LatencyHistogram());
+               total.latencies.get(i).add(latency);
+            }
+         }
+         iterator.remove();
+      }
+   }
+
+   /**
+    * @return the number of threads whose counters are referenced, for testing.
+    */
+   static synchronized int getNumberOfThreadCounters()
+   {
+      pruneTerminatedThreads();
+      return allThreadCounters.size();
+   }
+
+   private static void clear(ThreadCounters counters)
+   {
+      for (int i = 0; i < MAX_OPERATIONS; i++)
+      {
+         counters.callCounts.lazySet(i, 0L);
+         counters.times.lazySet(i, 0L);
+         counters.latencies.lazySet(i, null);
+      }
+   }
+
+   private static void accumulate(ThreadCounters counters, long[] callCounts, long[] times, LatencyHistogram[] latencies)
+   {
+      for (int i = 0; i < callCounts.length; i++)
+      {
+         callCounts[i] += counters.callCounts.get(i) - counters.callCountBaselines[i];
+         times[i] += counters.times.get(i) - counters.timeBaselines[i];
+
+         LatencyHistogram latency = counters.latencies.get(i);
+         if (latency != null)
+         {
+            if (latencies[i] == null)
+               latencies[i] = new LatencyHistogram();
+            latencies[i].add(latency);
+            if (counters.latencyBaselines[i] != null)
+               latencies[i].subtract(counters.latencyBaselines[i]);
+         }
+      }
+   }
+}
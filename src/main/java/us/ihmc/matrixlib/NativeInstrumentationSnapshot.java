@@ -0,0 +1,133 @@
+package us.ihmc.matrixlib;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable counts, times and latencies of the native calls per operation, created by
+ * {@link NativeInstrumentation#snapshot()} and {@link NativeInstrumentation#snapshotCurrentThread()}.
+ * <p>
+ * The operations are named after the class and the method making the native call, for instance
+ * {@code "NativeMatrix.mult"}, the overloads of a method being counted together.
+ * </p>
+ */
+public final class NativeInstrumentationSnapshot
+{
+   private final List<String> operationNames;
+   private final long[] callCounts;
+   private final long[] times;
+   private final LatencyHistogram[] latencies;
+
+   NativeInstrumentationSnapshot(List<String> operationNames, long[] callCounts, long[] times, LatencyHistogram[] latencies)
+   {
+      this.operationNames = Collections.unmodifiableList(operationNames);
+      this.callCounts = callCounts;
+      this.times = times;
+      this.latencies = latencies;
+   }
+
+   /**
+    * @return the names of all the registered operations, called or not.
+    */
+   public List<String> getOperationNames()
+   {
+      return operationNames;
+   }
+
+   /**
+    * @param operationName the name of the operation.
+    * @return the number of native calls made for the given operation, 0 if it is unknown.
+    */
+   public long getCallCount(String operationName)
+   {
+      int index = operationNames.indexOf(operationName);
+      return index == -1 ? 0L : callCounts[index];
+   }
+
+   /**
+    * @param operationName the name of the operation.
+    * @return the time spent in the native calls of the given operation in nanoseconds, 0 if it is
+    *         unknown.
+    */
+   public long getTime(String operationName)
+   {
+      int index = operationNames.indexOf(operationName);
+      return index == -1 ? 0L : times[index];
+   }
+
+   /**
+    * @param operationName the name of the operation.
+    * @return the latencies of the native calls of the given operation, empty if it is unknown or if
+    *         the latencies are not recorded, see {@link NativeInstrumentation#LATENCY_PROPERTY}.
+    */
+   public LatencyHistogram getLatency(String operationName)
+   {
+      int index = operationNames.indexOf(operationName);
+      return index == -1 || latencies[index] == null ? new LatencyHistogram() : new LatencyHistogram(latencies[index]);
+   }
+
+   /**
+    * @return the number of native calls made for all the operations.
+    */
+   public long getTotalCallCount()
+   {
+      long total = 0L;
+      for (long callCount : callCounts)
+         total += callCount;
+      return total;
+   }
+
+   /**
+    * @return the time spent in the native calls of all the operations in nanoseconds.
+    */
+   public long getTotalTime()
+   {
+      long total = 0L;
+      for (long time : times)
+         total += time;
+      return total;
+   }
+
+   /**
+    * Lists the operations that have been called, the most time consuming first, with the
+    * percentiles of their latencies when they are recorded.
+    */
+   @Override
+   public String toString()
+   {
+      List<Integer> calledOperations = new ArrayList<>();
+      for (int i = 0; i < callCounts.length; i++)
+      {
+         if (callCounts[i] > 0)
+            calledOperations.add(i);
+      }
+      calledOperations.sort((a, b) -> Long.compare(times[b], times[a]));
+
+      boolean hasLatencies = false;
+      for (LatencyHistogram latency : latencies)
+         hasLatencies |= latency != null;
+
+      StringBuilder builder = new StringBuilder();
+      builder.append(String.format("%-50s %12s %14s %12s", "operation", "calls", "time (us)", "mean (ns)"));
+      if (hasLatencies)
+         builder.append(String.format(" %12s %12s %12s %12s", "p50 (ns)", "p99 (ns)", "p99.9 (ns)", "max (ns)"));
+      builder.append(String.format("%n"));
+      for (int i : calledOperations)
+      {
+         builder.append(String.format("%-50s %12d %14.1f %12.1f", operationNames.get(i), callCounts[i], times[i] / 1.0e3, (double) times[i] / callCounts[i]));
+         if (latencies[i] != null)
+         {
+            LatencyHistogram latency = latencies[i];
+            builder.append(String.format(" %12d %12d %12d %12d",
+                                         latency.getValueAtPercentile(50.0),
+                                         latency.getValueAtPercentile(99.0),
+                                         latency.getValueAtPercentile(99.9),
+                                         latency.getMax()));
+         }
+         builder.append(String.format("%n"));
+      }
+      builder.append(String.format("%-50s %12d %14.1f%n", "total", getTotalCallCount(), getTotalTime() / 1.0e3));
+      return builder.toString();
+   }
+}
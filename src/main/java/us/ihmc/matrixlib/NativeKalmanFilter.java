@@ -4,6 +4,12 @@ import us.ihmc.matrixlib.jni.NativeKalmanFilterImpl;
 
 public class NativeKalmanFilter
 {
+   private static final int PREDICT_ERROR_COVARIANCE = NativeInstrumentation.registerOperation("NativeKalmanFilter.predictErrorCovariance");
+   private static final int COMPUTE_KALMAN_GAIN = NativeInstrumentation.registerOperation("NativeKalmanFilter.computeKalmanGain");
+   private static final int UPDATE_STATE = NativeInstrumentation.registerOperation("NativeKalmanFilter.updateState");
+   private static final int UPDATE_ERROR_COVARIANCE = NativeInstrumentation.registerOperation("NativeKalmanFilter.updateErrorCovariance");
+   private static final int SEQUENTIAL_UPDATE = NativeInstrumentation.registerOperation("NativeKalmanFilter.sequentialUpdate");
+
    /**
     * Computes {@code F * P * F' + Q} and stores the result in errorCovariance.
     * 
@@ -14,7 +20,12 @@ public class NativeKalmanFilter
     */
    public static void predictErrorCovariance(NativeMatrix errorCovariance, NativeMatrix F, NativeMatrix P, NativeMatrix Q)
    {
-      if (!NativeKalmanFilterImpl.predictErrorCovariance(errorCovariance.impl, F.impl, P.impl, Q.impl))
+      Object event = NativeEvents.begin(NativeEventRecorder.KALMAN_FILTER);
+      long startTime = NativeInstrumentation.start();
+      boolean success = NativeKalmanFilterImpl.predictErrorCovariance(errorCovariance.impl(), F.impl(), P.impl(), Q.impl());
+      NativeInstrumentation.stop(PREDICT_ERROR_COVARIANCE, startTime);
+      NativeEvents.end(event, "NativeKalmanFilter.predictErrorCovariance", F);
+      if (!success)
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -31,10 +42,15 @@ public class NativeKalmanFilter
     */
    public static void computeKalmanGain(NativeMatrix gain, NativeMatrix P, NativeMatrix H, NativeMatrix R)
    {
-         if(!NativeKalmanFilterImpl.computeKalmanGain(gain.impl, P.impl, H.impl, R.impl))
-         {
-            throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
-         }
+      Object event = NativeEvents.begin(NativeEventRecorder.KALMAN_FILTER);
+      long startTime = NativeInstrumentation.start();
+      boolean success = NativeKalmanFilterImpl.computeKalmanGain(gain.impl(), P.impl(), H.impl(), R.impl());
+      NativeInstrumentation.stop(COMPUTE_KALMAN_GAIN, startTime);
+      NativeEvents.end(event, "NativeKalmanFilter.computeKalmanGain", H);
+      if (!success)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
    }
    
    /**
@@ -47,7 +63,12 @@ public class NativeKalmanFilter
     */
    public static void updateState(NativeMatrix nextState, NativeMatrix x, NativeMatrix K , NativeMatrix r)
    {
-      if(!NativeKalmanFilterImpl.updateState(nextState.impl, x.impl, K.impl, r.impl))
+      Object event = NativeEvents.begin(NativeEventRecorder.KALMAN_FILTER);
+      long startTime = NativeInstrumentation.start();
+      boolean success = NativeKalmanFilterImpl.updateState(nextState.impl(), x.impl(), K.impl(), r.impl());
+      NativeInstrumentation.stop(UPDATE_STATE, startTime);
+      NativeEvents.end(event, "NativeKalmanFilter.updateState", K);
+      if (!success)
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -63,9 +84,70 @@ public class NativeKalmanFilter
     */
    public static void updateErrorCovariance(NativeMatrix nextError, NativeMatrix K, NativeMatrix H, NativeMatrix P)
    {
-      if(!NativeKalmanFilterImpl.updateErrorCovariance(nextError.impl, K.impl, H.impl, P.impl))
+      Object event = NativeEvents.begin(NativeEventRecorder.KALMAN_FILTER);
+      long startTime = NativeInstrumentation.start();
+      boolean success = NativeKalmanFilterImpl.updateErrorCovariance(nextError.impl(), K.impl(), H.impl(), P.impl());
+      NativeInstrumentation.stop(UPDATE_ERROR_COVARIANCE, startTime);
+      NativeEvents.end(event, "NativeKalmanFilter.updateErrorCovariance", H);
+      if (!success)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Updates {@code x} and {@code P} in place processing the rows of {@code H} one at a time.
+    * <p>
+    * The measurements have to be uncorrelated, the measurement noise covariance being given by its
+    * diagonal {@code R}. Each row is a scalar update, no matrix is inverted and the cost is
+    * {@code O(m * n^2)} instead of the {@code O(m^3)} of the batch update. The result is the same as
+    * with {@link #computeKalmanGain(NativeMatrix, NativeMatrix, NativeMatrix, NativeMatrix)},
+    * {@link #updateState(NativeMatrix, NativeMatrix, NativeMatrix, NativeMatrix)} and
+    * {@link #updateErrorCovariance(NativeMatrix, NativeMatrix, NativeMatrix, NativeMatrix)}.
+    * </p>
+    *
+    * @param x State, column vector. Modified.
+    * @param P Square, symmetric matrix. Only the lower triangle is read, the full matrix is written.
+    *          Modified.
+    * @param H System jacobian
+    * @param R Diagonal of the measurement noise covariance, column vector
+    * @param r Residual computed before the update, column vector
+    */
+   public static void sequentialUpdate(NativeMatrix x, NativeMatrix P, NativeMatrix H, NativeMatrix R, NativeMatrix r)
+   {
+      sequentialUpdate(x, P, H, R, r, 0.0);
+   }
+
+   /**
+    * Same as {@link #sequentialUpdate(NativeMatrix, NativeMatrix, NativeMatrix, NativeMatrix, NativeMatrix)}
+    * skipping the outliers.
+    * <p>
+    * A row is skipped when its normalized innovation squared {@code r^2 / (h * P * h' + R)} exceeds the
+    * given threshold, which is a chi-square value with one degree of freedom, for instance 3.84 to
+    * accept 95% of the valid measurements or 6.63 for 99%.
+    * </p>
+    *
+    * @param x                  State, column vector. Modified.
+    * @param P                  Square, symmetric matrix. Only the lower triangle is read, the full
+    *                           matrix is written. Modified.
+    * @param H                  System jacobian
+    * @param R                  Diagonal of the measurement noise covariance, column vector
+    * @param r                  Residual computed before the update, column vector
+    * @param chiSquareThreshold Gate on the normalized innovation squared of each row, the gate is
+    *                           disabled when the threshold is not positive.
+    * @return the number of rows that have been skipped.
+    */
+   public static int sequentialUpdate(NativeMatrix x, NativeMatrix P, NativeMatrix H, NativeMatrix R, NativeMatrix r, double chiSquareThreshold)
+   {
+      Object event = NativeEvents.begin(NativeEventRecorder.KALMAN_FILTER);
+      long startTime = NativeInstrumentation.start();
+      int rejected = NativeKalmanFilterImpl.sequentialUpdate(x.impl(), P.impl(), H.impl(), R.impl(), r.impl(), chiSquareThreshold);
+      NativeInstrumentation.stop(SEQUENTIAL_UPDATE, startTime);
+      NativeEvents.end(event, "NativeKalmanFilter.sequentialUpdate", H);
+      if (rejected < 0)
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      return rejected;
    }
 }
@@ -0,0 +1,271 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeKalmanFilterBankImpl;
+
+/**
+ * {@code NativeKalmanFilterBank} holds many small independent Kalman filters of the same size and
+ * predicts or updates all of them in a single native call.
+ * <p>
+ * This is meant for groups of small filters, for instance one velocity estimator per joint, where
+ * calling {@link NativeKalmanFilter} for each filter would mostly measure the cost of the JNI
+ * layer. All the filters share their model, the matrices {@code F}, {@code Q}, {@code H} and
+ * {@code R}, while each filter has its own state, error covariance and measurement.
+ * </p>
+ * <p>
+ * The filters are stored in a single native allocation in a structure-of-arrays layout: the same
+ * element of the state or error covariance of all the filters is contiguous, such that each
+ * operation of a step is vectorized over the filters. The states and measurements of all the
+ * filters are exchanged as matrices with one column per filter.
+ * </p>
+ * <p>
+ * A subset of the filters can be processed by passing a mask, a column vector with one element per
+ * filter where the filters with a non-zero element are selected. The other filters are left
+ * unchanged. A {@link DirectNativeMatrix} can be used to change the mask without going through the
+ * JNI layer.
+ * </p>
+ * <p>
+ * Large banks can be split across a small pool of native threads, see
+ * {@link #setNumberOfThreads(int)}. The filters are initialized with a zero state and an identity
+ * error covariance.
+ * </p>
+ */
+public class NativeKalmanFilterBank
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private final NativeKalmanFilterBankImpl impl;
+
+   /**
+    * Creates a new bank of filters.
+    *
+    * @param numberOfFilters the number of filters in this bank.
+    * @param stateSize       the size of the state vector of each filter.
+    * @param measurementSize the size of the measurement vector of each filter.
+    */
+   public NativeKalmanFilterBank(int numberOfFilters, int stateSize, int measurementSize)
+   {
+      if (numberOfFilters < 0 || stateSize < 0 || measurementSize < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      impl = new NativeKalmanFilterBankImpl(numberOfFilters, stateSize, measurementSize);
+   }
+
+   /**
+    * Sets the state of one filter.
+    *
+    * @param filter the index of the filter.
+    * @param x      the new state, a column vector. Not modified.
+    * @throws IllegalArgumentException if the index is out of bounds or the matrix dimensions are
+    *                                  incompatible.
+    */
+   public void setState(int filter, NativeMatrix x)
+   {
+      if (!impl.setState(filter, x.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs the state of one filter.
+    *
+    * @param filter  the index of the filter.
+    * @param xToPack where the state is stored. The matrix is resized to a column vector. Modified.
+    * @throws IllegalArgumentException if the index is out of bounds.
+    */
+   public void getState(int filter, NativeMatrix xToPack)
+   {
+      if (!impl.getState(filter, xToPack.impl()))
+      {
+         throw new IllegalArgumentException("Index out of bounds.");
+      }
+   }
+
+   /**
+    * Sets the error covariance of one filter.
+    *
+    * @param filter the index of the filter.
+    * @param P      the new error covariance, a symmetric square matrix. Not modified.
+    * @throws IllegalArgumentException if the index is out of bounds or the matrix dimensions are
+    *                                  incompatible.
+    */
+   public void setErrorCovariance(int filter, NativeMatrix P)
+   {
+      if (!impl.setErrorCovariance(filter, P.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs the error covariance of one filter.
+    *
+    * @param filter  the index of the filter.
+    * @param PToPack where the error covariance is stored. The matrix is resized to a square matrix.
+    *                Modified.
+    * @throws IllegalArgumentException if the index is out of bounds.
+    */
+   public void getErrorCovariance(int filter, NativeMatrix PToPack)
+   {
+      if (!impl.getErrorCovariance(filter, PToPack.impl()))
+      {
+         throw new IllegalArgumentException("Index out of bounds.");
+      }
+   }
+
+   /**
+    * Sets the states of all the filters.
+    *
+    * @param X the new states, a stateSize-by-numberOfFilters matrix where the column {@code i} is the
+    *          state of the filter {@code i}. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void setStates(NativeMatrix X)
+   {
+      if (!impl.setStates(X.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs the states of all the filters.
+    *
+    * @param XToPack where the states are stored. The matrix is resized to a
+    *                stateSize-by-numberOfFilters matrix where the column {@code i} is the state of
+    *                the filter {@code i}. Modified.
+    */
+   public void getStates(NativeMatrix XToPack)
+   {
+      impl.getStates(XToPack.impl());
+   }
+
+   /**
+    * Predicts the state and error covariance of all the filters:
+    * <p>
+    * x = F * x<br>
+    * P = F * P * F' + Q
+    * </p>
+    *
+    * @param F the state transition matrix. Not modified.
+    * @param Q the process noise covariance, square or diagonal. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void predict(NativeMatrix F, NativeMatrix Q)
+   {
+      predict(F, Q, null);
+   }
+
+   /**
+    * Predicts the state and error covariance of the filters selected by the mask, see
+    * {@link #predict(NativeMatrix, NativeMatrix)}.
+    *
+    * @param F    the state transition matrix. Not modified.
+    * @param Q    the process noise covariance, square or diagonal. Not modified.
+    * @param mask a column vector with one element per filter, only the filters with a non-zero
+    *             element are predicted. If {@code null}, all the filters are predicted. Not
+    *             modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void predict(NativeMatrix F, NativeMatrix Q, NativeMatrix mask)
+   {
+      if (!impl.predict(F.impl(), Q.impl(), mask == null ? null : mask.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Updates the state and error covariance of all the filters with their measurement, the residual
+    * being {@code z - H * x}.
+    * <p>
+    * A filter whose innovation covariance {@code H * P * H' + R} is not positive definite is left
+    * unchanged.
+    * </p>
+    *
+    * @param H the measurement matrix. Not modified.
+    * @param R the measurement noise covariance, square or diagonal. Not modified.
+    * @param Z the measurements, a measurementSize-by-numberOfFilters matrix where the column
+    *          {@code i} is the measurement of the filter {@code i}. Not modified.
+    * @return the number of filters that have been left unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public int update(NativeMatrix H, NativeMatrix R, NativeMatrix Z)
+   {
+      return update(H, R, Z, null);
+   }
+
+   /**
+    * Updates the state and error covariance of the filters selected by the mask, see
+    * {@link #update(NativeMatrix, NativeMatrix, NativeMatrix)}.
+    *
+    * @param H    the measurement matrix. Not modified.
+    * @param R    the measurement noise covariance, square or diagonal. Not modified.
+    * @param Z    the measurements, a measurementSize-by-numberOfFilters matrix where the column
+    *             {@code i} is the measurement of the filter {@code i}. The columns of the filters
+    *             that are not selected are not read. Not modified.
+    * @param mask a column vector with one element per filter, only the filters with a non-zero
+    *             element are updated. If {@code null}, all the filters are updated. Not modified.
+    * @return the number of selected filters that have been left unchanged.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public int update(NativeMatrix H, NativeMatrix R, NativeMatrix Z, NativeMatrix mask)
+   {
+      int skipped = impl.update(H.impl(), R.impl(), Z.impl(), mask == null ? null : mask.impl());
+      if (skipped < 0)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      return skipped;
+   }
+
+   /**
+    * Sets the number of threads used to process this bank, including the calling thread.
+    * <p>
+    * The filters are split in chunks of at least {@value NativeKalmanFilterBankImpl#MINIMUM_FILTERS_PER_THREAD}
+    * filters, such that small banks are processed on the calling thread regardless of this setting.
+    * The worker threads are native threads owned by this bank, they are started by this method and
+    * are idle between calls. The default is one thread, meaning no worker thread.
+    * </p>
+    *
+    * @param numberOfThreads the number of threads, values less than one are treated as one.
+    */
+   public void setNumberOfThreads(int numberOfThreads)
+   {
+      impl.setNumberOfThreads(numberOfThreads);
+   }
+
+   /**
+    * @return the number of threads used to process this bank, including the calling thread.
+    */
+   public int getNumberOfThreads()
+   {
+      return impl.getNumberOfThreads();
+   }
+
+   /**
+    * @return the number of filters in this bank.
+    */
+   public int getNumberOfFilters()
+   {
+      return impl.getNumberOfFilters();
+   }
+
+   /**
+    * @return the size of the state vector of each filter.
+    */
+   public int getStateSize()
+   {
+      return impl.getStateSize();
+   }
+
+   /**
+    * @return the size of the measurement vector of each filter.
+    */
+   public int getMeasurementSize()
+   {
+      return impl.getMeasurementSize();
+   }
+}
@@ -0,0 +1,229 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeLinearSolverImpl;
+
+/**
+ * {@code NativeLinearSolver} factorizes a matrix once and then solves the associated linear
+ * equations for any number of right-hand sides.
+ * <p>
+ * Unlike {@link NativeMatrix#solve(NativeMatrix, NativeMatrix)} which factorizes {@code a} at each
+ * call, the factorization is kept until the next call to {@link #factor(NativeMatrix)} such that the
+ * same matrix can be used for all the equations of a control tick. The right-hand sides can have
+ * any number of columns.
+ * </p>
+ * <p>
+ * The solvers are created with the static factory methods, one per decomposition. The decomposition
+ * is preallocated for the maximum size given at creation, factorizing matrices of the same size
+ * does not allocate memory.
+ * </p>
+ */
+public class NativeLinearSolver
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private final NativeLinearSolverImpl impl;
+   private boolean factored = false;
+
+   /**
+    * Creates a solver using a LU decomposition with partial pivoting, for square and invertible
+    * matrices.
+    *
+    * @param maxSize the maximum size of the matrices to factorize.
+    * @return the new solver.
+    */
+   public static NativeLinearSolver lu(int maxSize)
+   {
+      return new NativeLinearSolver(NativeLinearSolverImpl.LU, maxSize, maxSize);
+   }
+
+   /**
+    * Creates a solver using a Cholesky decomposition, for symmetric positive definite matrices.
+    *
+    * @param maxSize the maximum size of the matrices to factorize.
+    * @return the new solver.
+    */
+   public static NativeLinearSolver llt(int maxSize)
+   {
+      return new NativeLinearSolver(NativeLinearSolverImpl.LLT, maxSize, maxSize);
+   }
+
+   /**
+    * Creates a solver using a robust Cholesky decomposition with pivoting, for symmetric positive or
+    * negative semi-definite matrices.
+    *
+    * @param maxSize the maximum size of the matrices to factorize.
+    * @return the new solver.
+    */
+   public static NativeLinearSolver ldlt(int maxSize)
+   {
+      return new NativeLinearSolver(NativeLinearSolverImpl.LDLT, maxSize, maxSize);
+   }
+
+   /**
+    * Creates a solver using a Householder QR decomposition. The solution is the least-squares
+    * solution, the matrices must have at least as many rows as columns.
+    *
+    * @param maxRows the maximum number of rows of the matrices to factorize.
+    * @param maxCols the maximum number of columns of the matrices to factorize.
+    * @return the new solver.
+    */
+   public static NativeLinearSolver qr(int maxRows, int maxCols)
+   {
+      return new NativeLinearSolver(NativeLinearSolverImpl.HOUSEHOLDER_QR, maxRows, maxCols);
+   }
+
+   /**
+    * Creates a solver using a complete orthogonal decomposition. The solution is the minimum norm
+    * least-squares solution, the matrices can be rank deficient.
+    *
+    * @param maxRows the maximum number of rows of the matrices to factorize.
+    * @param maxCols the maximum number of columns of the matrices to factorize.
+    * @return the new solver.
+    */
+   public static NativeLinearSolver cod(int maxRows, int maxCols)
+   {
+      return new NativeLinearSolver(NativeLinearSolverImpl.COMPLETE_ORTHOGONAL_DECOMPOSITION, maxRows, maxCols);
+   }
+
+   private NativeLinearSolver(int decomposition, int maxRows, int maxCols)
+   {
+      if (maxRows < 0 || maxCols < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      impl = new NativeLinearSolverImpl(decomposition, maxRows, maxCols);
+   }
+
+   /**
+    * Factorizes the matrix {@code a}, replacing the previous factorization.
+    * <p>
+    * For the Cholesky decompositions, this method returns {@code false} if the matrix is not positive
+    * definite, respectively semi-definite, in which case the solutions are not valid.
+    * </p>
+    *
+    * @param a the matrix to factorize. Not modified.
+    * @return whether the factorization succeeded.
+    * @throws IllegalArgumentException if the matrix is larger than the maximum size of this solver or
+    *                                  its shape is not supported by the decomposition.
+    */
+   public boolean factor(NativeMatrix a)
+   {
+      int status = impl.factor(a.impl());
+      if (status == NativeLinearSolverImpl.INCOMPATIBLE_DIMENSIONS)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      factored = true;
+      return status == NativeLinearSolverImpl.SUCCESS;
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * x == b</br>
+    * where {@code a} is the last matrix factorized.
+    *
+    * @param b the right-hand side, with as many rows as {@code a} and any number of columns. Not
+    *          modified.
+    * @param x where the solution is stored. The matrix is resized to have as many rows as {@code a}
+    *          has columns. Can be the same instance as {@code b}. Modified.
+    * @throws IllegalStateException    if no matrix has been factorized.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void solve(NativeMatrix b, NativeMatrix x)
+   {
+      checkFactored();
+      if (!impl.solve(b.impl(), x.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a<sup>T</sup> * x == b</br>
+    * where {@code a} is the last matrix factorized. When {@code a} is not square, {@code x} is the
+    * minimum norm solution.
+    *
+    * @param b the right-hand side, with as many rows as {@code a} has columns and any number of
+    *          columns. Not modified.
+    * @param x where the solution is stored. The matrix is resized to have as many rows as {@code a}.
+    *          Can be the same instance as {@code b}. Modified.
+    * @throws IllegalStateException    if no matrix has been factorized.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void solveTranspose(NativeMatrix b, NativeMatrix x)
+   {
+      checkFactored();
+      if (!impl.solveTranspose(b.impl(), x.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Returns the determinant of the last matrix factorized, computed from its factorization.
+    *
+    * @return the determinant, or {@code NaN} if the matrix is not square or the factorization failed.
+    * @throws IllegalStateException if no matrix has been factorized.
+    */
+   public double determinant()
+   {
+      checkFactored();
+      return impl.determinant();
+   }
+
+   /**
+    * Returns an estimate of the reciprocal condition number of the last matrix factorized, a value
+    * close to zero indicating a matrix close to singular.
+    * <p>
+    * The LU and Cholesky decompositions estimate the reciprocal condition number in the 1-norm. The QR
+    * and complete orthogonal decompositions use the ratio of the smallest to the largest diagonal
+    * element of their triangular factor, which is cheaper but less accurate.
+    * </p>
+    *
+    * @return the reciprocal condition number estimate, zero if the factorization failed.
+    * @throws IllegalStateException if no matrix has been factorized.
+    */
+   public double rcond()
+   {
+      checkFactored();
+      return impl.rcond();
+   }
+
+   /**
+    * Returns the numerical rank of the last matrix factorized when using a complete orthogonal
+    * decomposition. The other decompositions assume full rank and return the smallest dimension of
+    * the matrix.
+    *
+    * @return the rank of the last matrix factorized.
+    * @throws IllegalStateException if no matrix has been factorized.
+    */
+   public int rank()
+   {
+      checkFactored();
+      return impl.rank();
+   }
+
+   /**
+    * @return the maximum number of rows of the matrices this solver can factorize.
+    */
+   public int getMaxRows()
+   {
+      return impl.getMaxRows();
+   }
+
+   /**
+    * @return the maximum number of columns of the matrices this solver can factorize.
+    */
+   public int getMaxCols()
+   {
+      return impl.getMaxCols();
+   }
+
+   private void checkFactored()
+   {
+      if (!factored)
+         throw new IllegalStateException("No matrix has been factorized.");
+   }
+}
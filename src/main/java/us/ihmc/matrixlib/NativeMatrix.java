@@ -13,7 +13,7 @@ import org.ejml.ops.MatrixIO;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.matrixlib.jni.NativeMatrixImpl;
-import us.ihmc.tools.nativelibraries.NativeLibraryLoader;
+import us.ihmc.matrixlib.jni.NativeParallelism;
 
 /**
  * {@code NativeMatrix} is dense matrix with real elements that are 64-bits floats. Unlike
@@ -39,12 +39,126 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
 {
    private static final long serialVersionUID = -6143897236850269840L;
 
+   /**
+    * System property selecting the backend used to call the native library: {@code "jni"},
+    * {@code "panama"} or {@code "auto"}. With {@code "auto"}, the default, the Panama backend is used
+    * when it is on the classpath and supported by the running JVM, the JNI backend otherwise.
+    */
+   public static final String BACKEND_PROPERTY = "us.ihmc.matrixlib.backend";
+   private static final String PANAMA_BACKEND_CLASS = "us.ihmc.matrixlib.panama.PanamaNativeMatrixBackend";
+
+   static final NativeMatrixBackend backend;
+
    static
    {
-      NativeLibraryLoader.loadLibrary("", "NativeCommonOps");
+      NativeCommonOpsLibrary.load();
+      NativeMatrixBackend requestedBackend = loadBackend(System.getProperty(BACKEND_PROPERTY, "auto"));
+      backend = NativeInstrumentation.isEnabled() ? new InstrumentedNativeMatrixBackend(requestedBackend) : requestedBackend;
+   }
+
+   private static NativeMatrixBackend loadBackend(String requestedBackend)
+   {
+      switch (requestedBackend)
+      {
+         case JNINativeMatrixBackend.NAME:
+            return new JNINativeMatrixBackend();
+         case "panama":
+            return loadPanamaBackend();
+         case "auto":
+            try
+            {
+               return loadPanamaBackend();
+            }
+            catch (IllegalStateException e)
+            {
+               return new JNINativeMatrixBackend();
+            }
+         default:
+            throw new IllegalArgumentException("Unknown backend for " + BACKEND_PROPERTY + ": " + requestedBackend);
+      }
+   }
+
+   private static NativeMatrixBackend loadPanamaBackend()
+   {
+      try
+      {
+         return (NativeMatrixBackend) Class.forName(PANAMA_BACKEND_CLASS).getConstructor().newInstance();
+      }
+      catch (ReflectiveOperationException | LinkageError e)
+      {
+         throw new IllegalStateException("The Panama backend is not available, it requires Java 22+ and the panama source set on the classpath.", e);
+      }
+   }
+
+   /**
+    * Returns the name of the backend used by all the {@code NativeMatrix} instances to call the
+    * native library.
+    *
+    * @return the name of the active backend, {@code "jni"} or {@code "panama"}.
+    * @see #BACKEND_PROPERTY
+    */
+   public static String getBackendName()
+   {
+      return backend.getName();
+   }
+
+   /**
+    * Sets the number of threads used to compute the large {@link #mult(NativeMatrix, NativeMatrix)},
+    * {@link #multTransA(NativeMatrix, NativeMatrix)}, {@link #invert(NativeMatrix)} and
+    * {@link #solve(NativeMatrix, NativeMatrix)} operations called from the current thread.
+    * <p>
+    * The setting is thread-local and defaults to one, i.e. the operations are computed sequentially
+    * on the calling thread: enabling it on an offline optimization thread does not affect a real-time
+    * control thread. Each thread enabling it owns a pool of native worker threads, released when the
+    * thread terminates. An operation is only parallelized when its largest dimension is at least
+    * {@link #getParallelThreshold()}.
+    * </p>
+    *
+    * @param numberOfThreads the number of threads, the calling thread included. Values less than one
+    *                        are treated as one.
+    */
+   public static void setNumberOfThreads(int numberOfThreads)
+   {
+      NativeParallelism.setNumberOfThreads(numberOfThreads);
+   }
+
+   /**
+    * @return the number of threads used by the current thread for the large operations.
+    * @see #setNumberOfThreads(int)
+    */
+   public static int getNumberOfThreads()
+   {
+      return NativeParallelism.getNumberOfThreads();
+   }
+
+   /**
+    * Sets the minimum size of the largest dimension of an operation called from the current thread
+    * for it to be parallelized, {@value NativeParallelism#DEFAULT_THRESHOLD} by default. The setting
+    * is thread-local.
+    *
+    * @param threshold the minimum number of rows or columns of the matrices involved.
+    * @see #setNumberOfThreads(int)
+    */
+   public static void setParallelThreshold(int threshold)
+   {
+      NativeParallelism.setThreshold(threshold);
+   }
+
+   /**
+    * @return the minimum size of an operation called from the current thread for it to be
+    *         parallelized.
+    * @see #setParallelThreshold(int)
+    */
+   public static int getParallelThreshold()
+   {
+      return NativeParallelism.getThreshold();
    }
 
-   final NativeMatrixImpl impl;
+   private final NativeMatrixImpl impl;
+   private final Object allocationSite;
+   private boolean closed = false;
+   /** Number of references held by the programs and the projectors using this matrix. */
+   private int users = 0;
 
    /**
     * Creates a new matrix with the specified shape whose elements initially have the value of zero.
@@ -55,6 +169,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
    public NativeMatrix(int rows, int cols)
    {
       impl = new NativeMatrixImpl(rows, cols);
+      allocationSite = NativeMemory.track(this, rows, cols);
       zero();
    }
 
@@ -80,6 +195,68 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
       set(matrix);
    }
 
+   /**
+    * Releases the native memory of this matrix without waiting for it to be garbage collected.
+    * <p>
+    * Any use of the matrix after it has been closed throws an {@link IllegalStateException}. Closing
+    * it again has no effect.
+    * </p>
+    * <p>
+    * A matrix recorded in a {@link NativeMatrixProgram} or added as a task to a
+    * {@link NativeHierarchicalNullspaceProjector} cannot be closed until the program or the projector
+    * has been cleared.
+    * </p>
+    *
+    * @throws IllegalStateException if the matrix is still used by a program or a projector.
+    * @see NativeMemory
+    */
+   public void close()
+   {
+      if (closed)
+         return;
+      if (users > 0)
+         throw new IllegalStateException("The matrix is still used by a NativeMatrixProgram or a NativeHierarchicalNullspaceProjector, clear them first.");
+
+      closed = true;
+      NativeMemory.untrack(allocationSite);
+      impl.delete();
+   }
+
+   /**
+    * @return whether this matrix has been closed.
+    * @see #close()
+    */
+   public boolean isClosed()
+   {
+      return closed;
+   }
+
+   /**
+    * @return the native matrix, to be used for every call to the native library.
+    * @throws IllegalStateException if this matrix has been closed.
+    */
+   final NativeMatrixImpl impl()
+   {
+      if (closed)
+         throw new IllegalStateException("The matrix has been closed.");
+      return impl;
+   }
+
+   /**
+    * Called by the classes keeping a pointer to the native matrix, which prevents it from being closed
+    * until {@link #removeUser()} is called.
+    */
+   final void addUser()
+   {
+      impl();
+      users++;
+   }
+
+   final void removeUser()
+   {
+      users--;
+   }
+
    /**
     * Changes the number of rows and columns in the matrix, allowing its size to grow or shrink.
     * <p>
@@ -99,7 +276,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
    @Override
    public void reshape(int rows, int cols)
    {
-      impl.resize(rows, cols);
+      backend.resize(impl(), rows, cols);
    }
 
    /**
@@ -110,7 +287,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void growRows(int rowsToGrow)
    {
-      impl.growRows(rowsToGrow);
+      backend.growRows(impl(), rowsToGrow);
    }
 
    /**
@@ -139,7 +316,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void scale(double alpha, NativeMatrix matrix)
    {
-      if (!impl.scale(alpha, matrix.impl))
+      if (!backend.scale(impl(), alpha, matrix.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -167,7 +344,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void scaleBlock(int startRow, int startCol, int numberOfRows, int numberOfCols, double alpha)
    {
-      if (!impl.scaleBlock(startRow, startCol, numberOfRows, numberOfCols, alpha))
+      if (!backend.scaleBlock(impl(), startRow, startCol, numberOfRows, numberOfCols, alpha))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -183,7 +360,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void set(DMatrixRMaj matrix)
    {
-      if (!impl.set(matrix.data, matrix.numRows, matrix.numCols))
+      if (!backend.set(impl(), matrix.data, matrix.numRows, matrix.numCols))
       {
          throw new IllegalArgumentException("Cannot set matrix.");
       }
@@ -199,7 +376,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void set(NativeMatrix matrix)
    {
-      if (!impl.set(matrix.impl))
+      if (!backend.set(impl(), matrix.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -214,7 +391,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
    {
       matrixToPack.reshape(getNumRows(), getNumCols());
 
-      if (!impl.get(matrixToPack.data, matrixToPack.numRows, matrixToPack.numCols))
+      if (!backend.get(impl(), matrixToPack.data, matrixToPack.numRows, matrixToPack.numCols))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -233,7 +410,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void add(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.add(a.impl, b.impl))
+      if (!backend.add(impl(), a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -252,7 +429,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void add(NativeMatrix a, double scale, NativeMatrix b)
    {
-      if (!impl.add(a.impl, scale, b.impl))
+      if (!backend.add(impl(), a.impl(), scale, b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -271,7 +448,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void add(double scale1, NativeMatrix a, double scale2, NativeMatrix b)
    {
-      if (!impl.add(scale1, a.impl, scale2, b.impl))
+      if (!backend.add(impl(), scale1, a.impl(), scale2, b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -287,7 +464,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void add(int row, int col, double value)
    {
-      if (!impl.add(row, col, value))
+      if (!backend.add(impl(), row, col, value))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -301,7 +478,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void addEquals(NativeMatrix b)
    {
-      if (!impl.addEquals(b.impl))
+      if (!backend.addEquals(impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -315,7 +492,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void addEquals(double scale, NativeMatrix b)
    {
-      if (!impl.addEquals(scale, b.impl))
+      if (!backend.addEquals(impl(), scale, b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -334,7 +511,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void subtract(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.subtract(a.impl, b.impl))
+      if (!backend.subtract(impl(), a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -353,7 +530,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void mult(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.mult(a.impl, b.impl))
+      if (!backend.mult(impl(), a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -373,7 +550,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void mult(double scale, NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.mult(scale, a.impl, b.impl))
+      if (!backend.mult(impl(), scale, a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -389,7 +566,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAdd(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multAdd(a.impl, b.impl))
+      if (!backend.multAdd(impl(), a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -406,7 +583,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAdd(double scale, NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multAdd(scale, a.impl, b.impl))
+      if (!backend.multAdd(impl(), scale, a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -422,7 +599,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddTransA(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multAddTransA(a.impl, b.impl))
+      if (!backend.multAddTransA(impl(), a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -439,7 +616,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddTransA(double scale, NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multAddTransA(scale, a.impl, b.impl))
+      if (!backend.multAddTransA(impl(), scale, a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -455,7 +632,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddTransB(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multAddTransB(a.impl, b.impl))
+      if (!backend.multAddTransB(impl(), a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -472,7 +649,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddTransB(double scale, NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multAddTransB(scale, a.impl, b.impl))
+      if (!backend.multAddTransB(impl(), scale, a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -490,7 +667,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddBlock(NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
-      if (!impl.multAddBlock(a.impl, b.impl, rowStart, colStart))
+      if (!backend.multAddBlock(impl(), a.impl(), b.impl(), rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -509,7 +686,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddBlock(double scale, NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
-      if (!impl.multAddBlock(scale, a.impl, b.impl, rowStart, colStart))
+      if (!backend.multAddBlock(impl(), scale, a.impl(), b.impl(), rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -527,7 +704,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddBlockTransA(NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
-      if (!impl.multAddBlockTransA(a.impl, b.impl, rowStart, colStart))
+      if (!backend.multAddBlockTransA(impl(), a.impl(), b.impl(), rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -546,7 +723,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddBlockTransA(double scale, NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
-      if (!impl.multAddBlockTransA(scale, a.impl, b.impl, rowStart, colStart))
+      if (!backend.multAddBlockTransA(impl(), scale, a.impl(), b.impl(), rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -574,7 +751,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
                         int numberOfColumns,
                         double scale)
    {
-      if (!impl.addBlock(a.impl, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, scale))
+      if (!backend.addBlock(impl(), a.impl(), destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, scale))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -595,7 +772,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void addBlock(NativeMatrix a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
    {
-      if (!impl.addBlock(a.impl, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns))
+      if (!backend.addBlock(impl(), a.impl(), destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -616,7 +793,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void subtractBlock(NativeMatrix a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
    {
-      if (!impl.subtractBlock(a.impl, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns))
+      if (!backend.subtractBlock(impl(), a.impl(), destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -635,7 +812,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multTransB(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multTransB(a.impl, b.impl))
+      if (!backend.multTransB(impl(), a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -655,7 +832,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multTransB(double scale, NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multTransB(scale, a.impl, b.impl))
+      if (!backend.multTransB(impl(), scale, a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -674,7 +851,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multTransA(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multTransA(a.impl, b.impl))
+      if (!backend.multTransA(impl(), a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -694,7 +871,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multTransA(double scale, NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multTransA(scale, a.impl, b.impl))
+      if (!backend.multTransA(impl(), scale, a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -713,7 +890,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multQuad(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multQuad(a.impl, b.impl))
+      if (!backend.multQuad(impl(), a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -732,7 +909,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddQuad(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.multAddQuad(a.impl, b.impl))
+      if (!backend.multAddQuad(impl(), a.impl(), b.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -751,7 +928,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multQuadBlock(NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
-      if (!impl.multQuadBlock(a.impl, b.impl, rowStart, colStart))
+      if (!backend.multQuadBlock(impl(), a.impl(), b.impl(), rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -770,7 +947,306 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void multAddQuadBlock(NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
    {
-      if (!impl.multAddQuadBlock(a.impl, b.impl, rowStart, colStart))
+      if (!backend.multAddQuadBlock(impl(), a.impl(), b.impl(), rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this = a<sup>T</sup> * w * a</br>
+    * where {@code w} is a diagonal matrix.
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param w diagonal matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code a} is this.
+    */
+   public void multQuad(NativeMatrix a, DiagonalMatrix w)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not compute the quadratic form in place. The result matrix needs to be different from a.");
+      }
+
+      if (!backend.multQuadDiagonal(impl(), a.impl(), w.data, w.getSize()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this += a<sup>T</sup> * w * a</br>
+    * where {@code w} is a diagonal matrix.
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param w diagonal matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code a} is this.
+    */
+   public void multAddQuad(NativeMatrix a, DiagonalMatrix w)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not compute the quadratic form in place. The result matrix needs to be different from a.");
+      }
+
+      if (!backend.multAddQuadDiagonal(impl(), a.impl(), w.data, w.getSize()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this += a<sup>T</sup> * w * a where {@code w} is a diagonal matrix and only the square block
+    * product is added to a block of same size in this.
+    *
+    * @param a        matrix in multiplication. Not modified.
+    * @param w        diagonal matrix in multiplication. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code a} is this.
+    */
+   public void multAddQuadBlock(NativeMatrix a, DiagonalMatrix w, int rowStart, int colStart)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not compute the quadratic form in place. The result matrix needs to be different from a.");
+      }
+
+      if (!backend.multAddQuadDiagonalBlock(impl(), a.impl(), w.data, w.getSize(), rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this = a * b
+    *
+    * @param a diagonal matrix in multiplication. Not modified.
+    * @param b matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code b} is this.
+    */
+   public void preMult(DiagonalMatrix a, NativeMatrix b)
+   {
+      if (b == this)
+      {
+         throw new IllegalArgumentException("Can not multiply in place. The result matrix needs to be different from the matrices to multiply.");
+      }
+
+      if (!backend.preMultDiagonal(impl(), a.data, a.getSize(), b.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += a * b <br>
+    * where we are only modifying a block of this matrix, starting a rowStart, colStart
+    *
+    * @param a        diagonal matrix in multiplication. Not modified.
+    * @param b        matrix in multiplication. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code b} is this.
+    */
+   public void preMultAddBlock(DiagonalMatrix a, NativeMatrix b, int rowStart, int colStart)
+   {
+      preMultAddBlock(1.0, a, b, rowStart, colStart);
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += scale * a * b <br>
+    * where we are only modifying a block of this matrix, starting a rowStart, colStart
+    *
+    * @param scale    the scaling factor to apply to every element of the multiplication result.
+    * @param a        diagonal matrix in multiplication. Not modified.
+    * @param b        matrix in multiplication. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code b} is this.
+    */
+   public void preMultAddBlock(double scale, DiagonalMatrix a, NativeMatrix b, int rowStart, int colStart)
+   {
+      if (b == this)
+      {
+         throw new IllegalArgumentException("Can not multiply in place. The result matrix needs to be different from the matrices to multiply.");
+      }
+
+      if (!backend.preMultAddDiagonalBlock(impl(), scale, a.data, a.getSize(), b.impl(), rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this = a * b
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b diagonal matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code a} is this.
+    */
+   public void postMult(NativeMatrix a, DiagonalMatrix b)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not multiply in place. The result matrix needs to be different from the matrices to multiply.");
+      }
+
+      if (!backend.postMultDiagonal(impl(), a.impl(), b.data, b.getSize()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this = a<sup>T</sup> * b
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b diagonal matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or if {@code a} is
+    *                                  this matrix.
+    */
+   public void postMultTransA(NativeMatrix a, DiagonalMatrix b)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not transpose in place. The result matrix needs to be different from the matrix to transpose.");
+      }
+
+      if (!backend.postMultTransADiagonal(impl(), a.impl(), b.data, b.getSize()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the outer product</br>
+    * this = a * b * a<sup>T</sup>
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b diagonal matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code a} is this.
+    */
+   public void multOuter(NativeMatrix a, DiagonalMatrix b)
+   {
+      if (a == this)
+      {
+         throw new IllegalArgumentException("Can not multiply in place. The result matrix needs to be different from the matrices to multiply.");
+      }
+
+      if (!backend.multOuterDiagonal(impl(), a.impl(), b.data, b.getSize()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this = a * b * c
+    *
+    * @param a left matrix in multiplication. Not modified.
+    * @param b middle diagonal matrix in multiplication. Not modified.
+    * @param c right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code a} or {@code c} is this.
+    */
+   public void innerDiagonalMult(NativeMatrix a, DiagonalMatrix b, NativeMatrix c)
+   {
+      if (a == this || c == this)
+      {
+         throw new IllegalArgumentException("Can not multiply in place. The result matrix needs to be different from the matrices to multiply.");
+      }
+
+      if (!backend.innerDiagonalMult(impl(), a.impl(), b.data, b.getSize(), c.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this = a<sup>T</sup> * b * c
+    *
+    * @param a left matrix in multiplication. Not modified.
+    * @param b middle diagonal matrix in multiplication. Not modified.
+    * @param c right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code a} or {@code c} is this.
+    */
+   public void innerDiagonalMultTransA(NativeMatrix a, DiagonalMatrix b, NativeMatrix c)
+   {
+      if (a == this || c == this)
+      {
+         throw new IllegalArgumentException("Can not multiply in place. The result matrix needs to be different from the matrices to multiply.");
+      }
+
+      if (!backend.innerDiagonalMultTransA(impl(), a.impl(), b.data, b.getSize(), c.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += a<sup>T</sup> * b * c
+    *
+    * @param a left matrix in multiplication. Not modified.
+    * @param b middle diagonal matrix in multiplication. Not modified.
+    * @param c right matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code a} or {@code c} is this.
+    */
+   public void innerDiagonalMultAddTransA(NativeMatrix a, DiagonalMatrix b, NativeMatrix c)
+   {
+      if (getNumRows() != a.getNumCols() || getNumCols() != c.getNumCols())
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      innerDiagonalMultAddBlockTransA(1.0, a, b, c, 0, 0);
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += a<sup>T</sup> * b * c <br>
+    * where we are only modifying a block of this matrix, starting a rowStart, colStart
+    *
+    * @param a        left matrix in multiplication. Not modified.
+    * @param b        middle diagonal matrix in multiplication. Not modified.
+    * @param c        right matrix in multiplication. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code a} or {@code c} is this.
+    */
+   public void innerDiagonalMultAddBlockTransA(NativeMatrix a, DiagonalMatrix b, NativeMatrix c, int rowStart, int colStart)
+   {
+      innerDiagonalMultAddBlockTransA(1.0, a, b, c, rowStart, colStart);
+   }
+
+   /**
+    * Performs the following operation:<br>
+    * this += scale * a<sup>T</sup> * b * c <br>
+    * where we are only modifying a block of this matrix, starting a rowStart, colStart
+    *
+    * @param scale    the scaling factor to apply to every element of the multiplication result.
+    * @param a        left matrix in multiplication. Not modified.
+    * @param b        middle diagonal matrix in multiplication. Not modified.
+    * @param c        right matrix in multiplication. Not modified.
+    * @param rowStart first row index of the block to process.
+    * @param colStart first column index of the block to process.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code a} or {@code c} is this.
+    */
+   public void innerDiagonalMultAddBlockTransA(double scale, NativeMatrix a, DiagonalMatrix b, NativeMatrix c, int rowStart, int colStart)
+   {
+      if (a == this || c == this)
+      {
+         throw new IllegalArgumentException("Can not multiply in place. The result matrix needs to be different from the matrices to multiply.");
+      }
+
+      if (!backend.innerDiagonalMultAddBlockTransA(impl(), scale, a.impl(), b.data, b.getSize(), c.impl(), rowStart, colStart))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -793,7 +1269,10 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
          throw new IllegalArgumentException("Can not invert in place. The result matrix needs to be different from the matrix to invert.");
       }
 
-      if (!impl.invert(a.impl))
+      Object event = NativeEvents.begin(NativeEventRecorder.INVERT);
+      boolean success = backend.invert(impl(), a.impl());
+      NativeEvents.end(event, "NativeMatrix.invert", a);
+      if (!success)
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -815,7 +1294,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
          throw new IllegalArgumentException("Can not transpose in place. The result matrix needs to be different from the matrix to transpose.");
       }
 
-      if (!impl.transpose(a.impl))
+      if (!backend.transpose(impl(), a.impl()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -832,7 +1311,10 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void solve(NativeMatrix a, NativeMatrix b)
    {
-      if (!impl.solve(a.impl, b.impl))
+      Object event = NativeEvents.begin(NativeEventRecorder.SOLVE);
+      boolean success = backend.solve(impl(), a.impl(), b.impl());
+      NativeEvents.end(event, "NativeMatrix.solve", a);
+      if (!success)
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -851,7 +1333,42 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public boolean solveCheck(NativeMatrix a, NativeMatrix b)
    {
-      return impl.solveCheck(a.impl, b.impl);
+      Object event = NativeEvents.begin(NativeEventRecorder.SOLVE);
+      boolean success = backend.solveCheck(impl(), a.impl(), b.impl());
+      NativeEvents.end(event, "NativeMatrix.solveCheck", a);
+      return success;
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * this == b</br>
+    * This method requires that the matrix a is square and reports how well conditioned it is through
+    * {@code diagnostics}. It uses a LLT decomposition if {@code positiveDefinite} is {@code true} and a
+    * LU decomposition with partial pivoting otherwise, the reciprocal condition number of a being
+    * estimated from the decomposition.
+    * <p>
+    * When the solution is not valid, this matrix is filled with {@code NaN}.
+    * </p>
+    *
+    * @param a                matrix in equation. Not modified.
+    * @param b                matrix in equation, it can have any number of columns. Not modified.
+    * @param positiveDefinite whether a is known to be symmetric positive definite.
+    * @param diagnostics      where the status and the reciprocal condition number are stored.
+    *                         Modified.
+    * @return whether a solution was found.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveCheck(NativeMatrix a, NativeMatrix b, boolean positiveDefinite, SolveDiagnostics diagnostics)
+   {
+      Object event = NativeEvents.begin(NativeEventRecorder.SOLVE);
+      double rcond = backend.solveRcond(impl(), a.impl(), b.impl(), positiveDefinite);
+      NativeEvents.end(event, "NativeMatrix.solveCheck", a);
+      if (diagnostics.update(rcond))
+      {
+         return true;
+      }
+      fill(Double.NaN);
+      return false;
    }
 
    /**
@@ -863,17 +1380,18 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void insert(Matrix3DReadOnly src, int startRow, int startCol)
    {
-      if (!impl.insert(startRow,
-                       startCol,
-                       src.getM00(),
-                       src.getM01(),
-                       src.getM02(),
-                       src.getM10(),
-                       src.getM11(),
-                       src.getM12(),
-                       src.getM20(),
-                       src.getM21(),
-                       src.getM22()))
+      if (!backend.insert(impl(),
+                          startRow,
+                          startCol,
+                          src.getM00(),
+                          src.getM01(),
+                          src.getM02(),
+                          src.getM10(),
+                          src.getM11(),
+                          src.getM12(),
+                          src.getM20(),
+                          src.getM21(),
+                          src.getM22()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -889,17 +1407,18 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void insertScaled(Matrix3DReadOnly src, int startRow, int startCol, double scale)
    {
-      if (!impl.insert(startRow,
-                       startCol,
-                       scale * src.getM00(),
-                       scale * src.getM01(),
-                       scale * src.getM02(),
-                       scale * src.getM10(),
-                       scale * src.getM11(),
-                       scale * src.getM12(),
-                       scale * src.getM20(),
-                       scale * src.getM21(),
-                       scale * src.getM22()))
+      if (!backend.insert(impl(),
+                          startRow,
+                          startCol,
+                          scale * src.getM00(),
+                          scale * src.getM01(),
+                          scale * src.getM02(),
+                          scale * src.getM10(),
+                          scale * src.getM11(),
+                          scale * src.getM12(),
+                          scale * src.getM20(),
+                          scale * src.getM21(),
+                          scale * src.getM22()))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -916,7 +1435,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void insertTupleRow(int startRow, int startCol, double x, double y, double z)
    {
-      if (!impl.insertTupleRow(startRow, startCol, x, y, z))
+      if (!backend.insertTupleRow(impl(), startRow, startCol, x, y, z))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -948,7 +1467,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void insert(NativeMatrix src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
    {
-      if (!impl.insert(src.impl, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0))
+      if (!backend.insert(impl(), src.impl(), srcY0, srcY1, srcX0, srcX1, dstY0, dstX0))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -984,7 +1503,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void insertScaled(NativeMatrix src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
    {
-      if (!impl.insertScaled(src.impl, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale))
+      if (!backend.insertScaled(impl(), src.impl(), srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -1020,7 +1539,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void insert(DMatrixRMaj src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
    {
-      if (!impl.insert(src.data, src.numRows, src.numCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0))
+      if (!backend.insert(impl(), src.data, src.numRows, src.numCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -1056,7 +1575,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void insertScaled(DMatrixRMaj src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
    {
-      if (!impl.insertScaled(src.data, src.numRows, src.numCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale))
+      if (!backend.insertScaled(impl(), src.data, src.numRows, src.numCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
@@ -1091,7 +1610,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void extract(int srcY0, int srcY1, int srcX0, int srcX1, DMatrixRMaj dst, int dstY0, int dstX0)
    {
-      if (!impl.extract(srcY0, srcY1, srcX0, srcX1, dst.data, dst.numRows, dst.numCols, dstY0, dstX0))
+      if (!backend.extract(impl(), srcY0, srcY1, srcX0, srcX1, dst.data, dst.numRows, dst.numCols, dstY0, dstX0))
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions");
       }
@@ -1134,7 +1653,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
          throwIndexOutOfBoundsException(row, col);
       }
 
-      double value = impl.get(row, col);
+      double value = backend.get(impl(), row, col);
 
       // When the index is out-of-bounds, the native layer will return NaN.
       // By performing this second check only if the result is NaN, we can reduce the overhead due to getNumRows() and getNumCols().
@@ -1168,7 +1687,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
    @Override
    public void set(int row, int col, double value)
    {
-      if (!impl.set(row, col, value))
+      if (!backend.set(impl(), row, col, value))
       {
          throwIndexOutOfBoundsException(row, col);
       }
@@ -1181,7 +1700,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void removeRow(int row)
    {
-      if (!impl.removeRow(row))
+      if (!backend.removeRow(impl(), row))
       {
          throw new IllegalArgumentException("Row out of bounds.");
       }
@@ -1194,7 +1713,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void removeColumn(int col)
    {
-      if (!impl.removeColumn(col))
+      if (!backend.removeColumn(impl(), col))
       {
          throw new IllegalArgumentException("Col out of bounds.");
       }
@@ -1206,7 +1725,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
    @Override
    public void zero()
    {
-      impl.zero();
+      backend.zero(impl());
    }
 
    /**
@@ -1216,7 +1735,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public boolean containsNaN()
    {
-      return impl.containsNaN();
+      return backend.containsNaN(impl());
    }
 
    /**
@@ -1227,7 +1746,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
    @Override
    public int getNumRows()
    {
-      return impl.rows();
+      return backend.rows(impl());
    }
 
    /**
@@ -1238,7 +1757,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
    @Override
    public int getNumCols()
    {
-      return impl.cols();
+      return backend.cols(impl());
    }
 
    /**
@@ -1248,7 +1767,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public double min()
    {
-      return impl.min();
+      return backend.min(impl());
    }
 
    /**
@@ -1258,7 +1777,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public double max()
    {
-      return impl.max();
+      return backend.max(impl());
    }
 
    /**
@@ -1268,7 +1787,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public double sum()
    {
-      return impl.sum();
+      return backend.sum(impl());
    }
 
    /**
@@ -1278,7 +1797,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public double prod()
    {
-      return impl.prod();
+      return backend.prod(impl());
    }
 
    /**
@@ -1290,7 +1809,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
    @Override
    public int getNumElements()
    {
-      return impl.size();
+      return backend.size(impl());
    }
 
    /**
@@ -1300,7 +1819,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void scale(double scale)
    {
-      impl.scale(scale);
+      backend.scale(impl(), scale);
    }
 
    /**
@@ -1310,7 +1829,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void addDiagonal(double value)
    {
-      if (!impl.addDiagonal(value))
+      if (!backend.addDiagonal(impl(), value))
       {
          throw new RuntimeException("Invalid matrix dimensions");
       }
@@ -1326,7 +1845,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void addDiagonal(int startRow, int startCol, int rows, int cols, double value)
    {
-      if (!impl.addDiagonal(startRow, startCol, rows, cols, value))
+      if (!backend.addDiagonal(impl(), startRow, startCol, rows, cols, value))
       {
          throw new RuntimeException("Invalid matrix dimensions");
       }
@@ -1342,7 +1861,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void addDiagonal(int startRow, int startCol, int size, double value)
    {
-      if (!impl.addDiagonal(startRow, startCol, size, value))
+      if (!backend.addDiagonal(impl(), startRow, startCol, size, value))
       {
          throw new RuntimeException("Invalid matrix dimensions");
       }
@@ -1355,7 +1874,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void fillDiagonal(double value)
    {
-      if (!impl.fillDiagonal(value))
+      if (!backend.fillDiagonal(impl(), value))
       {
          throw new RuntimeException("Invalid matrix dimensions");
       }
@@ -1371,7 +1890,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void fillDiagonal(int startRow, int startCol, int rows, int cols, double value)
    {
-      if (!impl.fillDiagonal(startRow, startCol, rows, cols, value))
+      if (!backend.fillDiagonal(impl(), startRow, startCol, rows, cols, value))
       {
          throw new RuntimeException("Invalid matrix dimensions");
       }
@@ -1387,7 +1906,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void fillDiagonal(int startRow, int startCol, int size, double value)
    {
-      if (!impl.fillDiagonal(startRow, startCol, size, value))
+      if (!backend.fillDiagonal(impl(), startRow, startCol, size, value))
       {
          throw new RuntimeException("Invalid matrix dimensions");
       }
@@ -1400,7 +1919,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void fill(double value)
    {
-      if (!impl.fill(value))
+      if (!backend.fill(impl(), value))
       {
          throw new RuntimeException("Invalid matrix dimensions.");
       }
@@ -1417,7 +1936,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void fillBlock(int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
    {
-      if (!impl.fillBlock(startRow, startCol, numberOfRows, numberOfCols, value))
+      if (!backend.fillBlock(impl(), startRow, startCol, numberOfRows, numberOfCols, value))
       {
          throw new RuntimeException("Invalid matrix dimensions");
       }
@@ -1434,7 +1953,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public boolean isApprox(NativeMatrix other, double precision)
    {
-      return impl.isAprrox(other.impl, precision);
+      return backend.isAprrox(impl(), other.impl(), precision);
    }
 
    /**
@@ -1444,7 +1963,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void zeroRow(int rowToZero)
    {
-      if (!impl.zeroRow(rowToZero))
+      if (!backend.zeroRow(impl(), rowToZero))
       {
          throw new RuntimeException("Invalid matrix dimensions.");
       }
@@ -1457,7 +1976,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void zeroColumn(int colToZero)
    {
-      if (!impl.zeroCol(colToZero))
+      if (!backend.zeroCol(impl(), colToZero))
       {
          throw new RuntimeException("Invalid matrix dimensions.");
       }
@@ -1478,7 +1997,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void setElement(int dstRow, int dstCol, NativeMatrix src, int srcRow, int srcCol)
    {
-      if (!impl.setElement(dstRow, dstCol, src.impl, srcRow, srcCol))
+      if (!backend.setElement(impl(), dstRow, dstCol, src.impl(), srcRow, srcCol))
       {
          throw new RuntimeException("Invalid matrix dimensions.");
       }
@@ -1494,7 +2013,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
     */
    public void zeroBlock(int srcY0, int srcY1, int srcX0, int srcX1)
    {
-      if (!impl.zeroBlock(srcY0, srcY1, srcX0, srcX1))
+      if (!backend.zeroBlock(impl(), srcY0, srcY1, srcX0, srcX1))
       {
          throw new RuntimeException("Invalid matrix dimensions.");
       }
@@ -1584,7 +2103,7 @@ public class NativeMatrix implements ReshapeMatrix, DMatrix
    @Override
    public double unsafe_get(int row, int col)
    {
-      return impl.get(row, col);
+      return backend.get(impl(), row, col);
    }
 
    /**
@@ -0,0 +1,208 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeMatrixImpl;
+
+/**
+ * Dispatches the operations of {@link NativeMatrix} to the native library.
+ * <p>
+ * The methods mirror the ones of {@link NativeMatrixImpl}, the native object being passed as the
+ * first argument. The native objects are always created and owned by the SWIG proxies, a backend
+ * only decides how the calls are made:
+ * </p>
+ * <ul>
+ * <li>{@link JNINativeMatrixBackend} goes through the SWIG-generated JNI stubs, it is always
+ * available.
+ * <li>{@code us.ihmc.matrixlib.panama.PanamaNativeMatrixBackend} binds the plain C entry points
+ * with downcall handles from {@code java.lang.foreign}, avoiding the JNI transition cost for small
+ * matrices. It requires Java 22+ and the {@code panama} source set on the classpath.
+ * </ul>
+ * <p>
+ * The backend is picked by {@link NativeMatrix} when it is loaded, see
+ * {@link NativeMatrix#BACKEND_PROPERTY}.
+ * </p>
+ */
+public interface NativeMatrixBackend
+{
+   /**
+    * @return the name of this backend, used for reporting.
+    */
+   String getName();
+
+   void resize(NativeMatrixImpl self, int numRows, int numCols);
+
+   void growRows(NativeMatrixImpl self, int numRowsToGrow);
+
+   void reserve(NativeMatrixImpl self, int numberOfElements);
+
+   boolean set(NativeMatrixImpl self, NativeMatrixImpl a);
+
+   boolean add(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean add(NativeMatrixImpl self, NativeMatrixImpl a, double scale, NativeMatrixImpl b);
+
+   boolean add(NativeMatrixImpl self, double scale1, NativeMatrixImpl a, double scale2, NativeMatrixImpl b);
+
+   boolean addEquals(NativeMatrixImpl self, NativeMatrixImpl b);
+
+   boolean addEquals(NativeMatrixImpl self, double scale, NativeMatrixImpl b);
+
+   boolean add(NativeMatrixImpl self, int row, int col, double value);
+
+   boolean subtract(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean mult(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean mult(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multAdd(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multAdd(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multAddTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multAddTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multTransB(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multTransB(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multAddTransB(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multAddTransB(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean addBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns, double scale);
+
+   boolean addBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns);
+
+   boolean subtractBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns);
+
+   boolean multAddBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart);
+
+   boolean multAddBlock(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart);
+
+   boolean multAddBlockTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart);
+
+   boolean multAddBlockTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart);
+
+   boolean multQuad(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multAddQuad(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean multQuadBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart);
+
+   boolean multAddQuadBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart);
+
+   boolean multQuadDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size);
+
+   boolean multAddQuadDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size);
+
+   boolean multAddQuadDiagonalBlock(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, int rowStart, int colStart);
+
+   boolean preMultDiagonal(NativeMatrixImpl self, double[] w, int size, NativeMatrixImpl b);
+
+   boolean preMultAddDiagonalBlock(NativeMatrixImpl self, double scale, double[] w, int size, NativeMatrixImpl b, int rowStart, int colStart);
+
+   boolean postMultDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size);
+
+   boolean postMultTransADiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size);
+
+   boolean multOuterDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size);
+
+   boolean innerDiagonalMult(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c);
+
+   boolean innerDiagonalMultTransA(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c);
+
+   boolean innerDiagonalMultAddBlockTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c, int rowStart, int colStart);
+
+   boolean invert(NativeMatrixImpl self, NativeMatrixImpl a);
+
+   boolean solve(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   boolean solveCheck(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b);
+
+   double solveRcond(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, boolean positiveDefinite);
+
+   boolean insert(NativeMatrixImpl self, NativeMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0);
+
+   boolean insert(NativeMatrixImpl self, double[] src, int rows, int cols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0);
+
+   boolean insert(NativeMatrixImpl self, int startRow, int startCol, double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22);
+
+   boolean insertTupleRow(NativeMatrixImpl self, int startRow, int startCol, double x, double y, double z);
+
+   boolean insertScaled(NativeMatrixImpl self, NativeMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale);
+
+   boolean insertScaled(NativeMatrixImpl self, double[] src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale);
+
+   boolean extract(NativeMatrixImpl self, int srcY0, int srcY1, int srcX0, int srcX1, double[] dst, int dstRows, int dstCols, int dstY0, int dstX0);
+
+   boolean transpose(NativeMatrixImpl self, NativeMatrixImpl a);
+
+   boolean removeRow(NativeMatrixImpl self, int indexToRemove);
+
+   boolean removeColumn(NativeMatrixImpl self, int indexToRemove);
+
+   void zero(NativeMatrixImpl self);
+
+   boolean containsNaN(NativeMatrixImpl self);
+
+   boolean scale(NativeMatrixImpl self, double scale, NativeMatrixImpl src);
+
+   boolean scaleBlock(NativeMatrixImpl self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value);
+
+   boolean isAprrox(NativeMatrixImpl self, NativeMatrixImpl other, double precision);
+
+   boolean set(NativeMatrixImpl self, double[] data, int rows, int cols);
+
+   boolean get(NativeMatrixImpl self, double[] data, int rows, int cols);
+
+   boolean addDiagonal(NativeMatrixImpl self, int startRow, int startCol, int rows, int cols, double value);
+
+   boolean fill(NativeMatrixImpl self, double value);
+
+   boolean fillDiagonal(NativeMatrixImpl self, int startRow, int startCol, int rows, int cols, double value);
+
+   boolean fillBlock(NativeMatrixImpl self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value);
+
+   boolean setElement(NativeMatrixImpl self, int dstRow, int dstCol, NativeMatrixImpl src, int srcRow, int srcCol);
+
+   boolean zeroBlock(NativeMatrixImpl self, int srcY0, int srcY1, int srcX0, int srcX1);
+
+   boolean addDiagonal(NativeMatrixImpl self, int startRow, int startCol, int size, double value);
+
+   boolean addDiagonal(NativeMatrixImpl self, double value);
+
+   boolean fillDiagonal(NativeMatrixImpl self, int startRow, int startCol, int size, double value);
+
+   boolean fillDiagonal(NativeMatrixImpl self, double value);
+
+   double min(NativeMatrixImpl self);
+
+   double max(NativeMatrixImpl self);
+
+   double sum(NativeMatrixImpl self);
+
+   double prod(NativeMatrixImpl self);
+
+   void scale(NativeMatrixImpl self, double scale);
+
+   boolean set(NativeMatrixImpl self, int row, int col, double value);
+
+   double get(NativeMatrixImpl self, int row, int col);
+
+   int rows(NativeMatrixImpl self);
+
+   int cols(NativeMatrixImpl self);
+
+   int size(NativeMatrixImpl self);
+
+   int capacity(NativeMatrixImpl self);
+
+   boolean zeroRow(NativeMatrixImpl self, int rowToZero);
+
+   boolean zeroCol(NativeMatrixImpl self, int colToZero);
+}
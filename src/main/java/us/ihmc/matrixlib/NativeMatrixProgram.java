@@ -0,0 +1,583 @@
+package us.ihmc.matrixlib;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import gnu.trove.list.array.TIntArrayList;
+import us.ihmc.matrixlib.jni.NativeMatrixImpl;
+import us.ihmc.matrixlib.jni.NativeMatrixProgramImpl;
+
+/**
+ * {@code NativeMatrixProgram} records a sequence of {@link NativeMatrix} operations once and
+ * executes the entire sequence in a single native call.
+ * <p>
+ * This is meant for computations that are repeated every control tick on the same matrices, for
+ * instance the assembly of a QP, where doing each operation separately would cost one JNI
+ * transition per operation. The operations are recorded on the matrices themselves, not on their
+ * content: the matrices can be modified and reshaped between two executions, each execution uses
+ * their current values.
+ * </p>
+ * <p>
+ * Each recording method is named after the {@link NativeMatrix} method it records, the matrix the
+ * method would be called on being passed as the first argument. For instance
+ * {@code program.multTransA(result, a, b)} records {@code result.multTransA(a, b)}.
+ * </p>
+ * <p>
+ * The program holds a reference to the matrices it uses until it is {@link #clear() cleared}, they
+ * cannot be {@link NativeMatrix#close() closed} before.
+ * </p>
+ */
+public class NativeMatrixProgram
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   // The operation codes are generated by SWIG from NativeMatrixProgram.h
+   private static final int SET = NativeMatrixProgramImpl.SET;
+   private static final int ADD = NativeMatrixProgramImpl.ADD;
+   private static final int ADD_SCALED = NativeMatrixProgramImpl.ADD_SCALED;
+   private static final int ADD_WEIGHTED = NativeMatrixProgramImpl.ADD_WEIGHTED;
+   private static final int ADD_EQUALS = NativeMatrixProgramImpl.ADD_EQUALS;
+   private static final int ADD_EQUALS_SCALED = NativeMatrixProgramImpl.ADD_EQUALS_SCALED;
+   private static final int SUBTRACT = NativeMatrixProgramImpl.SUBTRACT;
+   private static final int MULT = NativeMatrixProgramImpl.MULT;
+   private static final int MULT_SCALED = NativeMatrixProgramImpl.MULT_SCALED;
+   private static final int MULT_ADD = NativeMatrixProgramImpl.MULT_ADD;
+   private static final int MULT_ADD_SCALED = NativeMatrixProgramImpl.MULT_ADD_SCALED;
+   private static final int MULT_TRANS_A = NativeMatrixProgramImpl.MULT_TRANS_A;
+   private static final int MULT_TRANS_A_SCALED = NativeMatrixProgramImpl.MULT_TRANS_A_SCALED;
+   private static final int MULT_ADD_TRANS_A = NativeMatrixProgramImpl.MULT_ADD_TRANS_A;
+   private static final int MULT_ADD_TRANS_A_SCALED = NativeMatrixProgramImpl.MULT_ADD_TRANS_A_SCALED;
+   private static final int MULT_TRANS_B = NativeMatrixProgramImpl.MULT_TRANS_B;
+   private static final int MULT_TRANS_B_SCALED = NativeMatrixProgramImpl.MULT_TRANS_B_SCALED;
+   private static final int MULT_ADD_TRANS_B = NativeMatrixProgramImpl.MULT_ADD_TRANS_B;
+   private static final int MULT_ADD_TRANS_B_SCALED = NativeMatrixProgramImpl.MULT_ADD_TRANS_B_SCALED;
+   private static final int ADD_BLOCK = NativeMatrixProgramImpl.ADD_BLOCK;
+   private static final int ADD_BLOCK_SCALED = NativeMatrixProgramImpl.ADD_BLOCK_SCALED;
+   private static final int SUBTRACT_BLOCK = NativeMatrixProgramImpl.SUBTRACT_BLOCK;
+   private static final int MULT_ADD_BLOCK = NativeMatrixProgramImpl.MULT_ADD_BLOCK;
+   private static final int MULT_ADD_BLOCK_SCALED = NativeMatrixProgramImpl.MULT_ADD_BLOCK_SCALED;
+   private static final int MULT_ADD_BLOCK_TRANS_A = NativeMatrixProgramImpl.MULT_ADD_BLOCK_TRANS_A;
+   private static final int MULT_ADD_BLOCK_TRANS_A_SCALED = NativeMatrixProgramImpl.MULT_ADD_BLOCK_TRANS_A_SCALED;
+   private static final int MULT_QUAD = NativeMatrixProgramImpl.MULT_QUAD;
+   private static final int MULT_ADD_QUAD = NativeMatrixProgramImpl.MULT_ADD_QUAD;
+   private static final int MULT_QUAD_BLOCK = NativeMatrixProgramImpl.MULT_QUAD_BLOCK;
+   private static final int MULT_ADD_QUAD_BLOCK = NativeMatrixProgramImpl.MULT_ADD_QUAD_BLOCK;
+   private static final int INVERT = NativeMatrixProgramImpl.INVERT;
+   private static final int SOLVE = NativeMatrixProgramImpl.SOLVE;
+   private static final int TRANSPOSE = NativeMatrixProgramImpl.TRANSPOSE;
+   private static final int INSERT = NativeMatrixProgramImpl.INSERT;
+   private static final int INSERT_SCALED = NativeMatrixProgramImpl.INSERT_SCALED;
+   private static final int SCALE = NativeMatrixProgramImpl.SCALE;
+   private static final int SCALE_BLOCK = NativeMatrixProgramImpl.SCALE_BLOCK;
+   private static final int ZERO = NativeMatrixProgramImpl.ZERO;
+   private static final int FILL = NativeMatrixProgramImpl.FILL;
+   private static final int FILL_BLOCK = NativeMatrixProgramImpl.FILL_BLOCK;
+   private static final int ZERO_BLOCK = NativeMatrixProgramImpl.ZERO_BLOCK;
+   private static final int ADD_DIAGONAL = NativeMatrixProgramImpl.ADD_DIAGONAL;
+   private static final int FILL_DIAGONAL = NativeMatrixProgramImpl.FILL_DIAGONAL;
+   private static final int RESHAPE = NativeMatrixProgramImpl.RESHAPE;
+
+   // Indexed by the operation codes
+   static final String[] operationNames = {"set", "add", "add", "add", "addEquals", "addEquals", "subtract", "mult", "mult", "multAdd",
+                                                   "multAdd", "multTransA", "multTransA", "multAddTransA", "multAddTransA", "multTransB",
+                                                   "multTransB", "multAddTransB", "multAddTransB", "addBlock", "addBlock", "subtractBlock",
+                                                   "multAddBlock", "multAddBlock", "multAddBlockTransA", "multAddBlockTransA", "multQuad",
+                                                   "multAddQuad", "multQuadBlock", "multAddQuadBlock", "invert", "solve", "transpose", "insert",
+                                                   "insertScaled", "scale", "scaleBlock", "zero", "fill", "fillBlock", "zeroBlock", "addDiagonal",
+                                                   "fillDiagonal", "reshape"};
+
+   private final NativeMatrixProgramImpl impl = new NativeMatrixProgramImpl();
+   private final TIntArrayList operations = new TIntArrayList();
+   private final List<NativeMatrix> operands = new ArrayList<>();
+
+   /**
+    * Creates a new empty program.
+    */
+   public NativeMatrixProgram()
+   {
+   }
+
+   /**
+    * Records {@link NativeMatrix#set(NativeMatrix) result.set(a)}.
+    */
+   public void set(NativeMatrix result, NativeMatrix a)
+   {
+      record(SET, result, a, null, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#add(NativeMatrix, NativeMatrix) result.add(a, b)}.
+    */
+   public void add(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(ADD, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#add(NativeMatrix, double, NativeMatrix) result.add(a, scale, b)}.
+    */
+   public void add(NativeMatrix result, NativeMatrix a, double scale, NativeMatrix b)
+   {
+      record(ADD_SCALED, result, a, b, 0, 0, 0, 0, 0, 0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#add(double, NativeMatrix, double, NativeMatrix)
+    * result.add(scale1, a, scale2, b)}.
+    */
+   public void add(NativeMatrix result, double scale1, NativeMatrix a, double scale2, NativeMatrix b)
+   {
+      record(ADD_WEIGHTED, result, a, b, 0, 0, 0, 0, 0, 0, scale1, scale2);
+   }
+
+   /**
+    * Records {@link NativeMatrix#addEquals(NativeMatrix) result.addEquals(b)}.
+    */
+   public void addEquals(NativeMatrix result, NativeMatrix b)
+   {
+      record(ADD_EQUALS, result, b, null, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#addEquals(double, NativeMatrix) result.addEquals(scale, b)}.
+    */
+   public void addEquals(NativeMatrix result, double scale, NativeMatrix b)
+   {
+      record(ADD_EQUALS_SCALED, result, b, null, 0, 0, 0, 0, 0, 0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#subtract(NativeMatrix, NativeMatrix) result.subtract(a, b)}.
+    */
+   public void subtract(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(SUBTRACT, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#mult(NativeMatrix, NativeMatrix) result.mult(a, b)}.
+    */
+   public void mult(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#mult(double, NativeMatrix, NativeMatrix)
+    * result.mult(scale, a, b)}.
+    */
+   public void mult(NativeMatrix result, double scale, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_SCALED, result, a, b, 0, 0, 0, 0, 0, 0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAdd(NativeMatrix, NativeMatrix) result.multAdd(a, b)}.
+    */
+   public void multAdd(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_ADD, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAdd(double, NativeMatrix, NativeMatrix)
+    * result.multAdd(scale, a, b)}.
+    */
+   public void multAdd(NativeMatrix result, double scale, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_ADD_SCALED, result, a, b, 0, 0, 0, 0, 0, 0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multTransA(NativeMatrix, NativeMatrix) result.multTransA(a, b)}.
+    */
+   public void multTransA(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_TRANS_A, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multTransA(double, NativeMatrix, NativeMatrix)
+    * result.multTransA(scale, a, b)}.
+    */
+   public void multTransA(NativeMatrix result, double scale, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_TRANS_A_SCALED, result, a, b, 0, 0, 0, 0, 0, 0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAddTransA(NativeMatrix, NativeMatrix)
+    * result.multAddTransA(a, b)}.
+    */
+   public void multAddTransA(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_ADD_TRANS_A, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAddTransA(double, NativeMatrix, NativeMatrix)
+    * result.multAddTransA(scale, a, b)}.
+    */
+   public void multAddTransA(NativeMatrix result, double scale, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_ADD_TRANS_A_SCALED, result, a, b, 0, 0, 0, 0, 0, 0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multTransB(NativeMatrix, NativeMatrix) result.multTransB(a, b)}.
+    */
+   public void multTransB(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_TRANS_B, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multTransB(double, NativeMatrix, NativeMatrix)
+    * result.multTransB(scale, a, b)}.
+    */
+   public void multTransB(NativeMatrix result, double scale, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_TRANS_B_SCALED, result, a, b, 0, 0, 0, 0, 0, 0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAddTransB(NativeMatrix, NativeMatrix)
+    * result.multAddTransB(a, b)}.
+    */
+   public void multAddTransB(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_ADD_TRANS_B, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAddTransB(double, NativeMatrix, NativeMatrix)
+    * result.multAddTransB(scale, a, b)}.
+    */
+   public void multAddTransB(NativeMatrix result, double scale, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_ADD_TRANS_B_SCALED, result, a, b, 0, 0, 0, 0, 0, 0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#addBlock(NativeMatrix, int, int, int, int, int, int)
+    * result.addBlock(a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns)}.
+    */
+   public void addBlock(NativeMatrix result, NativeMatrix a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn,
+                        int numberOfRows, int numberOfColumns)
+   {
+      record(ADD_BLOCK, result, a, null, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#addBlock(NativeMatrix, int, int, int, int, int, int, double)
+    * result.addBlock(a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, scale)}.
+    */
+   public void addBlock(NativeMatrix result, NativeMatrix a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn,
+                        int numberOfRows, int numberOfColumns, double scale)
+   {
+      record(ADD_BLOCK_SCALED, result, a, null, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#subtractBlock(NativeMatrix, int, int, int, int, int, int)
+    * result.subtractBlock(a, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns)}.
+    */
+   public void subtractBlock(NativeMatrix result, NativeMatrix a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn,
+                             int numberOfRows, int numberOfColumns)
+   {
+      record(SUBTRACT_BLOCK, result, a, null, destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAddBlock(NativeMatrix, NativeMatrix, int, int)
+    * result.multAddBlock(a, b, rowStart, colStart)}.
+    */
+   public void multAddBlock(NativeMatrix result, NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
+   {
+      record(MULT_ADD_BLOCK, result, a, b, rowStart, colStart, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAddBlock(double, NativeMatrix, NativeMatrix, int, int)
+    * result.multAddBlock(scale, a, b, rowStart, colStart)}.
+    */
+   public void multAddBlock(NativeMatrix result, double scale, NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
+   {
+      record(MULT_ADD_BLOCK_SCALED, result, a, b, rowStart, colStart, 0, 0, 0, 0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAddBlockTransA(NativeMatrix, NativeMatrix, int, int)
+    * result.multAddBlockTransA(a, b, rowStart, colStart)}.
+    */
+   public void multAddBlockTransA(NativeMatrix result, NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
+   {
+      record(MULT_ADD_BLOCK_TRANS_A, result, a, b, rowStart, colStart, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAddBlockTransA(double, NativeMatrix, NativeMatrix, int, int)
+    * result.multAddBlockTransA(scale, a, b, rowStart, colStart)}.
+    */
+   public void multAddBlockTransA(NativeMatrix result, double scale, NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
+   {
+      record(MULT_ADD_BLOCK_TRANS_A_SCALED, result, a, b, rowStart, colStart, 0, 0, 0, 0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multQuad(NativeMatrix, NativeMatrix) result.multQuad(a, b)}.
+    */
+   public void multQuad(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_QUAD, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAddQuad(NativeMatrix, NativeMatrix) result.multAddQuad(a, b)}.
+    */
+   public void multAddQuad(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(MULT_ADD_QUAD, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multQuadBlock(NativeMatrix, NativeMatrix, int, int)
+    * result.multQuadBlock(a, b, rowStart, colStart)}.
+    */
+   public void multQuadBlock(NativeMatrix result, NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
+   {
+      record(MULT_QUAD_BLOCK, result, a, b, rowStart, colStart, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#multAddQuadBlock(NativeMatrix, NativeMatrix, int, int)
+    * result.multAddQuadBlock(a, b, rowStart, colStart)}.
+    */
+   public void multAddQuadBlock(NativeMatrix result, NativeMatrix a, NativeMatrix b, int rowStart, int colStart)
+   {
+      record(MULT_ADD_QUAD_BLOCK, result, a, b, rowStart, colStart, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#invert(NativeMatrix) result.invert(a)}.
+    *
+    * @throws IllegalArgumentException if {@code result} and {@code a} are the same matrix.
+    */
+   public void invert(NativeMatrix result, NativeMatrix a)
+   {
+      if (a == result)
+      {
+         throw new IllegalArgumentException("Can not invert in place. The result matrix needs to be different from the matrix to invert.");
+      }
+
+      record(INVERT, result, a, null, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#solve(NativeMatrix, NativeMatrix) result.solve(a, b)}.
+    */
+   public void solve(NativeMatrix result, NativeMatrix a, NativeMatrix b)
+   {
+      record(SOLVE, result, a, b, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#transpose(NativeMatrix) result.transpose(a)}.
+    *
+    * @throws IllegalArgumentException if {@code result} and {@code a} are the same matrix.
+    */
+   public void transpose(NativeMatrix result, NativeMatrix a)
+   {
+      if (a == result)
+      {
+         throw new IllegalArgumentException("Can not transpose in place. The result matrix needs to be different from the matrix to transpose.");
+      }
+
+      record(TRANSPOSE, result, a, null, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#insert(NativeMatrix, int, int, int, int, int, int)
+    * result.insert(src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0)}.
+    */
+   public void insert(NativeMatrix result, NativeMatrix src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+   {
+      record(INSERT, result, src, null, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#insertScaled(NativeMatrix, int, int, int, int, int, int, double)
+    * result.insertScaled(src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale)}.
+    */
+   public void insertScaled(NativeMatrix result, NativeMatrix src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+   {
+      record(INSERT_SCALED, result, src, null, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#scale(double, NativeMatrix) result.scale(alpha, a)}.
+    */
+   public void scale(NativeMatrix result, double alpha, NativeMatrix a)
+   {
+      record(SCALE, result, a, null, 0, 0, 0, 0, 0, 0, alpha, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#scaleBlock(int, int, int, int, double)
+    * result.scaleBlock(startRow, startCol, numberOfRows, numberOfCols, alpha)}.
+    */
+   public void scaleBlock(NativeMatrix result, int startRow, int startCol, int numberOfRows, int numberOfCols, double alpha)
+   {
+      record(SCALE_BLOCK, result, null, null, startRow, startCol, numberOfRows, numberOfCols, 0, 0, alpha, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#zero() result.zero()}.
+    */
+   public void zero(NativeMatrix result)
+   {
+      record(ZERO, result, null, null, 0, 0, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#fill(double) result.fill(value)}.
+    */
+   public void fill(NativeMatrix result, double value)
+   {
+      record(FILL, result, null, null, 0, 0, 0, 0, 0, 0, value, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#fillBlock(int, int, int, int, double)
+    * result.fillBlock(startRow, startCol, numberOfRows, numberOfCols, value)}.
+    */
+   public void fillBlock(NativeMatrix result, int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
+   {
+      record(FILL_BLOCK, result, null, null, startRow, startCol, numberOfRows, numberOfCols, 0, 0, value, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#zeroBlock(int, int, int, int)
+    * result.zeroBlock(srcY0, srcY1, srcX0, srcX1)}.
+    */
+   public void zeroBlock(NativeMatrix result, int srcY0, int srcY1, int srcX0, int srcX1)
+   {
+      record(ZERO_BLOCK, result, null, null, srcY0, srcY1, srcX0, srcX1, 0, 0, 0.0, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#addDiagonal(double) result.addDiagonal(value)}.
+    */
+   public void addDiagonal(NativeMatrix result, double value)
+   {
+      record(ADD_DIAGONAL, result, null, null, 0, 0, 0, 0, 0, 0, value, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#fillDiagonal(double) result.fillDiagonal(value)}.
+    */
+   public void fillDiagonal(NativeMatrix result, double value)
+   {
+      record(FILL_DIAGONAL, result, null, null, 0, 0, 0, 0, 0, 0, value, 0.0);
+   }
+
+   /**
+    * Records {@link NativeMatrix#reshape(int, int) result.reshape(rows, cols)}.
+    */
+   public void reshape(NativeMatrix result, int rows, int cols)
+   {
+      record(RESHAPE, result, null, null, rows, cols, 0, 0, 0, 0, 0.0, 0.0);
+   }
+
+   private void record(int operation, NativeMatrix result, NativeMatrix a, NativeMatrix b, int arg0, int arg1, int arg2, int arg3, int arg4, int arg5,
+                       double scale1, double scale2)
+   {
+      if (!impl.record(operation, result.impl(), implOf(a), implOf(b), arg0, arg1, arg2, arg3, arg4, arg5, scale1, scale2))
+      {
+         throw new IllegalArgumentException("Unable to record the operation " + operationNames[operation] + ".");
+      }
+
+      operations.add(operation);
+      addOperand(result);
+      if (a != null)
+         addOperand(a);
+      if (b != null)
+         addOperand(b);
+   }
+
+   private void addOperand(NativeMatrix operand)
+   {
+      operand.addUser();
+      operands.add(operand);
+   }
+
+   private static NativeMatrixImpl implOf(NativeMatrix matrix)
+   {
+      return matrix == null ? null : matrix.impl();
+   }
+
+   /**
+    * Executes all the recorded operations in order.
+    * <p>
+    * The execution stops at the first operation that fails, the previous operations having been
+    * applied.
+    * </p>
+    *
+    * @throws IllegalArgumentException if the matrix dimensions of an operation are incompatible. The
+    *                                  message indicates the index of the operation.
+    */
+   public void execute()
+   {
+      int failedOperation = tryExecute();
+
+      if (failedOperation != -1)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions in operation " + failedOperation + " (" + getOperationName(failedOperation) + ").");
+      }
+   }
+
+   /**
+    * Executes all the recorded operations in order, stopping at the first operation that fails.
+    *
+    * @return {@code -1} if all the operations succeeded, the index of the operation that failed
+    *         otherwise.
+    */
+   public int tryExecute()
+   {
+      return impl.execute();
+   }
+
+   /**
+    * Removes all the recorded operations and releases the references to the matrices they use.
+    */
+   public void clear()
+   {
+      impl.clear();
+      operations.reset();
+      for (int i = 0; i < operands.size(); i++)
+         operands.get(i).removeUser();
+      operands.clear();
+   }
+
+   /**
+    * @return the number of operations recorded in this program.
+    */
+   public int getNumberOfOperations()
+   {
+      return operations.size();
+   }
+
+   /**
+    * Returns the name of the {@link NativeMatrix} method recorded at the given index.
+    *
+    * @param index the index of the operation, in recording order.
+    * @return the name of the operation.
+    */
+   public String getOperationName(int index)
+   {
+      return operationNames[operations.get(index)];
+   }
+}
@@ -0,0 +1,191 @@
+package us.ihmc.matrixlib;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import us.ihmc.matrixlib.jni.NativeMemoryAccounting;
+
+/**
+ * Accounting of the native memory held by the {@link NativeMatrix} instances, which is not visible
+ * in the heap metrics of the JVM.
+ * <p>
+ * The storage of a matrix only grows when it is reshaped to a larger size and is released when the
+ * matrix is closed with {@link NativeMatrix#close()} or garbage collected. The counters are kept by
+ * the native library for all the matrices of the process and can be read from any thread.
+ * </p>
+ * <p>
+ * When enabled with the system property {@link #LEAK_DETECTION_PROPERTY}, the allocation site of
+ * every matrix is recorded, and the sites of the matrices garbage collected without being closed are
+ * reported by {@link #getLeakSites()}. Recording the sites takes a stack trace per matrix, this mode
+ * is meant for debugging.
+ * </p>
+ */
+public final class NativeMemory
+{
+   /**
+    * System property enabling the leak detection, {@code -Dus.ihmc.matrixlib.leakDetection=true}.
+    */
+   public static final String LEAK_DETECTION_PROPERTY = "us.ihmc.matrixlib.leakDetection";
+
+   static final boolean LEAK_DETECTION_ENABLED = Boolean.getBoolean(LEAK_DETECTION_PROPERTY);
+
+   /** Maximum number of leak sites kept, the following leaks are only counted. */
+   public static final int MAX_LEAK_SITES = 1000;
+
+   private static final ReferenceQueue<NativeMatrix> collectedMatrices = new ReferenceQueue<>();
+   private static final Set<AllocationSite> allocationSites = ConcurrentHashMap.newKeySet();
+   private static final List<Throwable> leakSites = new ArrayList<>();
+   private static long leakCount = 0L;
+
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private NativeMemory()
+   {
+   }
+
+   private static class AllocationSite extends PhantomReference<NativeMatrix>
+   {
+      private final Throwable site;
+
+      private AllocationSite(NativeMatrix matrix, Throwable site)
+      {
+         super(matrix, collectedMatrices);
+         this.site = site;
+      }
+   }
+
+   /**
+    * @return the number of bytes currently allocated in native memory by the matrices, their storage
+    *         included.
+    */
+   public static long getLiveBytes()
+   {
+      return NativeMemoryAccounting.getLiveBytes();
+   }
+
+   /**
+    * @return the largest number of bytes allocated by the matrices at once since the native library
+    *         was loaded or since the last call to {@link #resetHighWaterMark()}.
+    */
+   public static long getHighWaterMark()
+   {
+      return NativeMemoryAccounting.getHighWaterMark();
+   }
+
+   /**
+    * Sets the high-water mark to the number of bytes currently allocated.
+    */
+   public static void resetHighWaterMark()
+   {
+      NativeMemoryAccounting.resetHighWaterMark();
+   }
+
+   /**
+    * @return the number of matrices that have been created and neither closed nor garbage collected.
+    */
+   public static long getLiveMatrixCount()
+   {
+      return NativeMemoryAccounting.getLiveCount();
+   }
+
+   /**
+    * @return whether the leak detection has been enabled with {@link #LEAK_DETECTION_PROPERTY}.
+    */
+   public static boolean isLeakDetectionEnabled()
+   {
+      return LEAK_DETECTION_ENABLED;
+   }
+
+   /**
+    * @return the number of matrices garbage collected without being closed, 0 if the leak detection
+    *         is disabled.
+    */
+   public static synchronized long getLeakCount()
+   {
+      collectLeaks();
+      return leakCount;
+   }
+
+   /**
+    * Returns the allocation sites of the matrices garbage collected without being closed, at most
+    * {@link #MAX_LEAK_SITES}. A matrix is reported once the garbage collector has processed it, which
+    * can take several collections.
+    *
+    * @return the stack traces taken when the matrices were created, empty if the leak detection is
+    *         disabled.
+    */
+   public static synchronized List<Throwable> getLeakSites()
+   {
+      collectLeaks();
+      return new ArrayList<>(leakSites);
+   }
+
+   /**
+    * Forgets the leaks reported so far.
+    */
+   public static synchronized void clearLeaks()
+   {
+      collectLeaks();
+      leakSites.clear();
+      leakCount = 0L;
+   }
+
+   /**
+    * Records the allocation site of a new matrix if the leak detection is enabled.
+    *
+    * @return the site to pass to {@link #untrack(Object)} when the matrix is closed, or {@code null}.
+    */
+   static Object track(NativeMatrix matrix, int rows, int cols)
+   {
+      if (!LEAK_DETECTION_ENABLED)
+         return null;
+
+      synchronized (NativeMemory.class)
+      {
+         collectLeaks();
+      }
+      Throwable site = new Throwable("NativeMatrix of size " + rows + "x" + cols + " not closed");
+      // Starts the stack trace at the constructor of the matrix.
+      StackTraceElement[] stackTrace = site.getStackTrace();
+      site.setStackTrace(Arrays.copyOfRange(stackTrace, 1, stackTrace.length));
+      AllocationSite allocationSite = new AllocationSite(matrix, site);
+      allocationSites.add(allocationSite);
+      return allocationSite;
+   }
+
+   /**
+    * Stops tracking a matrix that has been closed.
+    */
+   static void untrack(Object allocationSite)
+   {
+      if (allocationSite == null)
+         return;
+
+      // A reference that is no longer reachable is not enqueued.
+      allocationSites.remove(allocationSite);
+      ((AllocationSite) allocationSite).clear();
+   }
+
+   private static void collectLeaks()
+   {
+      Reference<? extends NativeMatrix> reference;
+      while ((reference = collectedMatrices.poll()) != null)
+      {
+         if (allocationSites.remove(reference))
+         {
+            leakCount++;
+            if (leakSites.size() < MAX_LEAK_SITES)
+               leakSites.add(((AllocationSite) reference).site);
+         }
+      }
+   }
+}
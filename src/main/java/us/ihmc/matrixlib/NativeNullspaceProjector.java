@@ -5,12 +5,25 @@ import us.ihmc.matrixlib.jni.NativeNullspaceProjectorImpl;
 /**
  * {@code NativeNullspaceProjector} can be used to project a first matrix into the nullspace of a
  * second matrix. The entire operation is performed in C++ to maximize performance.
+ * <p>
+ * When several matrices are projected onto the nullspace of the same matrix, for instance several
+ * tasks projected onto the nullspace of the contact Jacobian in the same control tick, the
+ * projector can be computed once with {@link #setConstraint(NativeMatrix, double)} and then applied
+ * with {@link #project(NativeMatrix, NativeMatrix)} at the cost of a single matrix product.
+ * </p>
  * 
  * @author Jesper Smith
  */
 public class NativeNullspaceProjector
 {
+   private static final int PROJECT_ON_NULLSPACE = NativeInstrumentation.registerOperation("NativeNullspaceProjector.projectOnNullspace");
+   private static final int SET_CONSTRAINT = NativeInstrumentation.registerOperation("NativeNullspaceProjector.setConstraint");
+   private static final int PROJECT = NativeInstrumentation.registerOperation("NativeNullspaceProjector.project");
+   private static final int PROJECT_COLUMNS = NativeInstrumentation.registerOperation("NativeNullspaceProjector.projectColumns");
+   private static final int GET_PROJECTOR = NativeInstrumentation.registerOperation("NativeNullspaceProjector.getProjector");
+
    private final NativeNullspaceProjectorImpl impl;
+   private boolean hasConstraint = false;
 
    /**
     * Creates a new instance of a nullspace projector for a given problem size.
@@ -48,9 +61,121 @@ public class NativeNullspaceProjector
     */
    public void project(NativeMatrix a, NativeMatrix b, NativeMatrix c, double alpha)
    {
-      if (!impl.projectOnNullSpace(a.impl, b.impl, c.impl, alpha))
+      Object event = NativeEvents.begin(NativeEventRecorder.NULLSPACE_PROJECTION);
+      long startTime = NativeInstrumentation.start();
+      boolean success = impl.projectOnNullSpace(a.impl(), b.impl(), c.impl(), alpha);
+      NativeInstrumentation.stop(PROJECT_ON_NULLSPACE, startTime);
+      NativeEvents.end(event, "NativeNullspaceProjector.projectOnNullspace", b);
+      if (!success)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes and stores the projector onto the null-space of {@code b} such that the following
+    * calls to {@link #project(NativeMatrix, NativeMatrix)},
+    * {@link #projectColumns(NativeMatrix, NativeMatrix)} and {@link #getProjector(NativeMatrix)} do
+    * not need to factorize {@code b} again.
+    * <p>
+    * The projector is computed as in {@link #project(NativeMatrix, NativeMatrix, NativeMatrix, double)}:</br>
+    * &Nu; = I - b<sup>+</sup>b</br>
+    * When {@code b} has fewer rows than columns, the equivalent form
+    * b<sup>T</sup> ( b b<sup>T</sup> + &alpha;<sup>2</sup> I)<sup>-1</sup> b is used such that
+    * only a p-by-p matrix is factorized.
+    * </p>
+    *
+    * @param b     matrix to compute the null-space of. The matrix size is p-by-m where p is
+    *              unconstrained and m is constrained to the problem size of this calculator. Not
+    *              modified.
+    * @param alpha damping value.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void setConstraint(NativeMatrix b, double alpha)
+   {
+      Object event = NativeEvents.begin(NativeEventRecorder.NULLSPACE_PROJECTION);
+      long startTime = NativeInstrumentation.start();
+      boolean success = impl.setConstraint(b.impl(), alpha);
+      NativeInstrumentation.stop(SET_CONSTRAINT, startTime);
+      NativeEvents.end(event, "NativeNullspaceProjector.setConstraint", b);
+      if (!success)
       {
          throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
       }
+      hasConstraint = true;
+   }
+
+   /**
+    * Projects the matrix {@code a} onto the null-space of the matrix given to
+    * {@link #setConstraint(NativeMatrix, double)}:</br>
+    * c = a * &Nu;
+    *
+    * @param a matrix to project. The matrix size is n-by-m where n is unconstrained and m is
+    *          constrained to the problem size of this calculator. Not modified.
+    * @param c where the result is stored. The matrix is resized to a n-by-m matrix. Can be the same
+    *          instance as {@code a}. Modified.
+    * @throws IllegalStateException    if no constraint has been set.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void project(NativeMatrix a, NativeMatrix c)
+   {
+      checkConstraint();
+      Object event = NativeEvents.begin(NativeEventRecorder.NULLSPACE_PROJECTION);
+      long startTime = NativeInstrumentation.start();
+      boolean success = impl.project(a.impl(), c.impl());
+      NativeInstrumentation.stop(PROJECT, startTime);
+      NativeEvents.end(event, "NativeNullspaceProjector.project", a);
+      if (!success)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Projects the columns of the matrix {@code v} onto the null-space of the matrix given to
+    * {@link #setConstraint(NativeMatrix, double)}:</br>
+    * c = &Nu; * v</br>
+    * This is meant to project vectors such as joint velocities or torques.
+    *
+    * @param v matrix whose columns are projected. The matrix size is m-by-n where m is constrained to
+    *          the problem size of this calculator and n is unconstrained. Not modified.
+    * @param c where the result is stored. The matrix is resized to a m-by-n matrix. Can be the same
+    *          instance as {@code v}. Modified.
+    * @throws IllegalStateException    if no constraint has been set.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void projectColumns(NativeMatrix v, NativeMatrix c)
+   {
+      checkConstraint();
+      Object event = NativeEvents.begin(NativeEventRecorder.NULLSPACE_PROJECTION);
+      long startTime = NativeInstrumentation.start();
+      boolean success = impl.projectColumns(v.impl(), c.impl());
+      NativeInstrumentation.stop(PROJECT_COLUMNS, startTime);
+      NativeEvents.end(event, "NativeNullspaceProjector.projectColumns", v);
+      if (!success)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs the null-space projector &Nu; computed by {@link #setConstraint(NativeMatrix, double)}.
+    *
+    * @param nToPack where the projector is stored. The matrix is resized to a m-by-m matrix.
+    *                Modified.
+    * @throws IllegalStateException if no constraint has been set.
+    */
+   public void getProjector(NativeMatrix nToPack)
+   {
+      checkConstraint();
+      long startTime = NativeInstrumentation.start();
+      impl.getProjector(nToPack.impl());
+      NativeInstrumentation.stop(GET_PROJECTOR, startTime);
+   }
+
+   private void checkConstraint()
+   {
+      if (!hasConstraint)
+         throw new IllegalStateException("The constraint has not been set.");
    }
 }
@@ -0,0 +1,74 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeSparseLDLTSolverImpl;
+
+/**
+ * {@code NativeSparseLDLTSolver} solves linear equations with a symmetric sparse matrix using a
+ * simplicial LDL<sup>T</sup> Cholesky decomposition with a fill-reducing ordering. Only the upper
+ * triangle of the matrix is read.
+ * <p>
+ * The decomposition consists of a symbolic analysis of the sparsity pattern and a numerical
+ * factorization. The solver keeps the pattern of the last matrix analyzed and only recomputes the
+ * symbolic analysis when the pattern of the matrix to factorize differs, such that a matrix
+ * assembled with the same structure at each tick is only analyzed once.
+ * </p>
+ */
+public class NativeSparseLDLTSolver
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   private final NativeSparseLDLTSolverImpl impl = new NativeSparseLDLTSolverImpl();
+   private boolean factored = false;
+
+   /**
+    * Factorizes the matrix {@code a}, replacing the previous factorization.
+    *
+    * @param a the symmetric matrix to factorize. Not modified.
+    * @return whether the factorization succeeded, false if the matrix is singular.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public boolean factor(NativeSparseMatrix a)
+   {
+      int status = impl.factor(a.impl);
+      if (status == NativeSparseLDLTSolverImpl.INCOMPATIBLE_DIMENSIONS)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      factored = status == NativeSparseLDLTSolverImpl.SUCCESS;
+      return factored;
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * a * x == b</br>
+    * where {@code a} is the last matrix factorized.
+    *
+    * @param b the right-hand side, with as many rows as {@code a} and any number of columns. Not
+    *          modified.
+    * @param x where the solution is stored. Can be the same instance as {@code b}. Modified.
+    * @throws IllegalStateException    if the last factorization failed or no matrix has been
+    *                                  factorized.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void solve(NativeMatrix b, NativeMatrix x)
+   {
+      if (!factored)
+         throw new IllegalStateException("No matrix has been successfully factorized.");
+      if (!impl.solve(b.impl(), x.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * @return the number of times the symbolic factorization has been computed, i.e. the number of
+    *         changes of sparsity pattern.
+    */
+   public int getNumberOfSymbolicFactorizations()
+   {
+      return impl.getNumberOfSymbolicFactorizations();
+   }
+}
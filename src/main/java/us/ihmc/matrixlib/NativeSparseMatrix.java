@@ -0,0 +1,257 @@
+package us.ihmc.matrixlib;
+
+import org.ejml.data.DMatrixRMaj;
+
+import us.ihmc.matrixlib.jni.NativeSparseMatrixImpl;
+
+/**
+ * {@code NativeSparseMatrix} is a sparse matrix in compressed column storage, meant for Jacobians
+ * with many structural zeros such as contact and constraint Jacobians.
+ * <p>
+ * The matrix is assembled from single entries and dense blocks with {@link #add(int, int, double)}
+ * and {@link #addBlock(NativeMatrix, int, int)}. These entries are pending until {@link #build()} is
+ * called, which replaces the content of the matrix. All the elements of a block are stored,
+ * including its zeros, such that assembling the same blocks at each tick gives the same sparsity
+ * pattern. {@link NativeSparseLDLTSolver} then only computes its symbolic factorization once.
+ * </p>
+ * <p>
+ * The products with dense matrices write dense results and do not allocate memory once the result
+ * has been sized. The products between sparse matrices allocate their result.
+ * </p>
+ */
+public class NativeSparseMatrix
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   final NativeSparseMatrixImpl impl;
+
+   /**
+    * Creates a new sparse matrix without any entry.
+    *
+    * @param rows the number of rows.
+    * @param cols the number of columns.
+    */
+   public NativeSparseMatrix(int rows, int cols)
+   {
+      if (rows < 0 || cols < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      impl = new NativeSparseMatrixImpl(rows, cols);
+   }
+
+   /**
+    * Resizes this matrix and removes all its entries, including the pending ones.
+    *
+    * @param rows the new number of rows.
+    * @param cols the new number of columns.
+    */
+   public void reshape(int rows, int cols)
+   {
+      if (rows < 0 || cols < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      impl.resize(rows, cols);
+   }
+
+   /**
+    * @return the number of rows of this matrix.
+    */
+   public int getNumRows()
+   {
+      return impl.rows();
+   }
+
+   /**
+    * @return the number of columns of this matrix.
+    */
+   public int getNumCols()
+   {
+      return impl.cols();
+   }
+
+   /**
+    * @return the number of stored entries of this matrix, excluding the pending ones.
+    */
+   public int getNonZeros()
+   {
+      return impl.nonZeros();
+   }
+
+   /**
+    * Returns the value of the element at (row, col), zero if the element is not stored.
+    *
+    * @param row the row index.
+    * @param col the column index.
+    * @return the value of the element.
+    * @throws IllegalArgumentException if the index is out of bounds.
+    */
+   public double get(int row, int col)
+   {
+      double value = impl.get(row, col);
+
+      // When the index is out-of-bounds, the native layer will return NaN.
+      if (Double.isNaN(value) && (row < 0 || col < 0 || row >= getNumRows() || col >= getNumCols()))
+      {
+         throw new IllegalArgumentException("Index out of bounds. Requested (" + row + ", " + col + "). Dimension (" + getNumRows() + ", " + getNumCols()
+               + ").");
+      }
+      return value;
+   }
+
+   /**
+    * Adds a pending entry, applied at the next call to {@link #build()}. Entries added several times
+    * at the same index are summed.
+    *
+    * @param row   the row index.
+    * @param col   the column index.
+    * @param value the value of the entry.
+    * @throws IllegalArgumentException if the index is out of bounds.
+    */
+   public void add(int row, int col, double value)
+   {
+      if (!impl.add(row, col, value))
+      {
+         throw new IllegalArgumentException("Index out of bounds. Requested (" + row + ", " + col + "). Dimension (" + getNumRows() + ", " + getNumCols()
+               + ").");
+      }
+   }
+
+   /**
+    * Adds all the elements of {@code block} as pending entries, applied at the next call to
+    * {@link #build()}.
+    *
+    * @param block    the dense block to add. Not modified.
+    * @param rowStart the row index of the first row of the block in this matrix.
+    * @param colStart the column index of the first column of the block in this matrix.
+    * @throws IllegalArgumentException if the block does not fit in this matrix.
+    */
+   public void addBlock(NativeMatrix block, int rowStart, int colStart)
+   {
+      if (!impl.addBlock(block.impl(), rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Adds all the elements of {@code block} as pending entries, applied at the next call to
+    * {@link #build()}.
+    *
+    * @param block    the dense block to add. Not modified.
+    * @param rowStart the row index of the first row of the block in this matrix.
+    * @param colStart the column index of the first column of the block in this matrix.
+    * @throws IllegalArgumentException if the block does not fit in this matrix.
+    */
+   public void addBlock(DMatrixRMaj block, int rowStart, int colStart)
+   {
+      if (!impl.addBlockData(block.data, block.getNumRows(), block.getNumCols(), rowStart, colStart))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Replaces the entries of this matrix by the pending entries.
+    */
+   public void build()
+   {
+      impl.build();
+   }
+
+   /**
+    * Sets this matrix from a dense matrix, dropping the elements with an absolute value less than or
+    * equal to {@code zeroTolerance}. The pending entries are discarded.
+    * <p>
+    * Unlike assembling blocks, the sparsity pattern depends on the values of {@code dense}.
+    * </p>
+    *
+    * @param dense         the matrix to copy. Not modified.
+    * @param zeroTolerance the threshold below which an element is considered zero.
+    */
+   public void set(NativeMatrix dense, double zeroTolerance)
+   {
+      impl.setDense(dense.impl(), zeroTolerance);
+   }
+
+   /**
+    * Packs this matrix into a dense matrix.
+    *
+    * @param denseToPack where this matrix is stored. The matrix is resized to the size of this.
+    *                    Modified.
+    */
+   public void get(NativeMatrix denseToPack)
+   {
+      impl.getDense(denseToPack.impl());
+   }
+
+   /**
+    * Computes</br>
+    * c = this * b
+    *
+    * @param b dense matrix in multiplication. Not modified.
+    * @param c where the result is stored. Can be the same instance as {@code b}. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void mult(NativeMatrix b, NativeMatrix c)
+   {
+      if (!impl.mult(b.impl(), c.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes</br>
+    * c = this<sup>T</sup> * b
+    *
+    * @param b dense matrix in multiplication. Not modified.
+    * @param c where the result is stored. Can be the same instance as {@code b}. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multTransA(NativeMatrix b, NativeMatrix c)
+   {
+      if (!impl.multTransA(b.impl(), c.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * c = this<sup>T</sup> * W * this</br>
+    * where {@code W} is given either by its diagonal as a column vector or as a square matrix.
+    *
+    * @param w the weight matrix, a m-by-1 vector of diagonal weights or a m-by-m matrix, m being the
+    *          number of rows of this. Not modified.
+    * @param c where the result is stored. The matrix is resized to a n-by-n matrix, n being the
+    *          number of columns of this. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multQuad(NativeMatrix w, NativeMatrix c)
+   {
+      if (!impl.multQuad(w.impl(), c.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form as a sparse matrix</br>
+    * c = this<sup>T</sup> * diag(w) * this</br>
+    * The sparsity pattern of the result only depends on the pattern of this, such that it can be
+    * factorized with {@link NativeSparseLDLTSolver} without recomputing the symbolic factorization.
+    *
+    * @param w the m-by-1 vector of diagonal weights, m being the number of rows of this. Not
+    *          modified.
+    * @param c where the result is stored. Cannot be this. Modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible or {@code c} is this.
+    */
+   public void multQuad(NativeMatrix w, NativeSparseMatrix c)
+   {
+      if (!impl.multQuadSparse(w.impl(), c.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+}
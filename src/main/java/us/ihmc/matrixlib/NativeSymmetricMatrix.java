@@ -0,0 +1,370 @@
+package us.ihmc.matrixlib;
+
+import us.ihmc.matrixlib.jni.NativeSymmetricMatrixImpl;
+
+/**
+ * {@code NativeSymmetricMatrix} is a square symmetric matrix of which only the upper triangle is
+ * stored and computed.
+ * <p>
+ * The quadratic forms, the rank updates and the additions only evaluate the upper triangle of their
+ * result, which halves the number of operations and the memory traffic compared to the equivalent
+ * {@link NativeMatrix} operations when assembling Hessians or propagating covariances. The Cholesky
+ * decompositions read the upper triangle directly.
+ * </p>
+ * <p>
+ * The elements can be accessed with either index order, {@code get(i, j)} and {@code get(j, i)}
+ * return the same element. {@link #get(NativeMatrix)} packs the full symmetric matrix.
+ * </p>
+ */
+public class NativeSymmetricMatrix
+{
+   static
+   {
+      NativeCommonOpsLibrary.load();
+   }
+
+   final NativeSymmetricMatrixImpl impl;
+
+   /**
+    * Creates a new symmetric matrix filled with zeros.
+    *
+    * @param size the number of rows and columns.
+    */
+   public NativeSymmetricMatrix(int size)
+   {
+      if (size < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      impl = new NativeSymmetricMatrixImpl(size);
+   }
+
+   /**
+    * Creates a new symmetric matrix from the upper triangle of {@code matrix}.
+    *
+    * @param matrix the square matrix to copy the upper triangle of. Not modified.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public NativeSymmetricMatrix(NativeMatrix matrix)
+   {
+      this(0);
+      setUpper(matrix);
+   }
+
+   /**
+    * @return the number of rows and columns of this matrix.
+    */
+   public int getSize()
+   {
+      return impl.size();
+   }
+
+   /**
+    * Changes the size of this matrix. The values are undefined after a change of size.
+    *
+    * @param size the new number of rows and columns.
+    */
+   public void reshape(int size)
+   {
+      if (size < 0)
+         throw new IllegalArgumentException("Problem size cannot be negative");
+      impl.resize(size);
+   }
+
+   /**
+    * Sets all the elements to zero.
+    */
+   public void zero()
+   {
+      impl.zero();
+   }
+
+   /**
+    * Returns the element at (row, col), which is also the element at (col, row).
+    *
+    * @param row the row index.
+    * @param col the column index.
+    * @return the value of the element.
+    * @throws IllegalArgumentException if the index is out of bounds.
+    */
+   public double get(int row, int col)
+   {
+      double value = impl.get(row, col);
+
+      // When the index is out-of-bounds, the native layer will return NaN.
+      if (Double.isNaN(value) && (row < 0 || col < 0 || row >= getSize() || col >= getSize()))
+      {
+         throwIndexOutOfBoundsException(row, col);
+      }
+      return value;
+   }
+
+   /**
+    * Sets the elements at (row, col) and (col, row).
+    *
+    * @param row   the row index.
+    * @param col   the column index.
+    * @param value the new value.
+    * @throws IllegalArgumentException if the index is out of bounds.
+    */
+   public void set(int row, int col, double value)
+   {
+      if (!impl.set(row, col, value))
+      {
+         throwIndexOutOfBoundsException(row, col);
+      }
+   }
+
+   /**
+    * Sets this matrix to {@code other}.
+    *
+    * @param other the matrix to copy. Not modified.
+    */
+   public void set(NativeSymmetricMatrix other)
+   {
+      impl.copy(other.impl);
+   }
+
+   /**
+    * Sets this matrix to the upper triangle of {@code matrix}, the strictly lower triangle of
+    * {@code matrix} is ignored.
+    *
+    * @param matrix the square matrix to copy the upper triangle of. Not modified.
+    * @throws IllegalArgumentException if the matrix is not square.
+    */
+   public void setUpper(NativeMatrix matrix)
+   {
+      if (!impl.setUpper(matrix.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Packs the full symmetric matrix, both triangles, into {@code matrixToPack}.
+    *
+    * @param matrixToPack where the matrix is stored. The matrix is resized to a size-by-size matrix.
+    *                     Modified.
+    */
+   public void get(NativeMatrix matrixToPack)
+   {
+      impl.getFull(matrixToPack.impl());
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this = a<sup>T</sup> * b * a
+    * <p>
+    * This operation reshapes this to match the number of columns of {@code a}.
+    * </p>
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b symmetric matrix in multiplication. Can be the same instance as this. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multQuad(NativeMatrix a, NativeSymmetricMatrix b)
+   {
+      if (!impl.multQuad(a.impl(), b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Adds the quadratic form</br>
+    * this = this + a<sup>T</sup> * b * a
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b symmetric matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multAddQuad(NativeMatrix a, NativeSymmetricMatrix b)
+   {
+      if (!impl.multAddQuad(a.impl(), b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes the quadratic form</br>
+    * this = a * b * a<sup>T</sup></br>
+    * e.g. the propagation of the covariance {@code b} through the linear map {@code a}.
+    * <p>
+    * This operation reshapes this to match the number of rows of {@code a}.
+    * </p>
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b symmetric matrix in multiplication. Can be the same instance as this. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multQuadOuter(NativeMatrix a, NativeSymmetricMatrix b)
+   {
+      if (!impl.multQuadOuter(a.impl(), b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Adds the quadratic form</br>
+    * this = this + a * b * a<sup>T</sup>
+    *
+    * @param a matrix in multiplication. Not modified.
+    * @param b symmetric matrix in multiplication. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void multAddQuadOuter(NativeMatrix a, NativeSymmetricMatrix b)
+   {
+      if (!impl.multAddQuadOuter(a.impl(), b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the rank-k update</br>
+    * this = this + alpha * a<sup>T</sup> * a
+    *
+    * @param alpha the scale factor.
+    * @param a     a k-by-n matrix, n being the size of this. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void rankUpdate(double alpha, NativeMatrix a)
+   {
+      if (!impl.rankUpdate(alpha, a.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Performs the weighted rank-k update</br>
+    * this = this + a<sup>T</sup> * diag(w) * a</br>
+    * e.g. the Hessian of a weighted least-squares objective. The weights can be negative.
+    *
+    * @param a a k-by-n matrix, n being the size of this. Not modified.
+    * @param w the k-by-1 vector of weights. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void weightedRankUpdate(NativeMatrix a, NativeMatrix w)
+   {
+      if (!impl.weightedRankUpdate(a.impl(), w.impl()))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes</br>
+    * this = a + b
+    *
+    * @param a symmetric matrix in addition. Not modified.
+    * @param b symmetric matrix in addition. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void add(NativeSymmetricMatrix a, NativeSymmetricMatrix b)
+   {
+      if (!impl.add(a.impl, b.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes</br>
+    * this = this + a
+    *
+    * @param a symmetric matrix in addition. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void addEquals(NativeSymmetricMatrix a)
+   {
+      addEquals(1.0, a);
+   }
+
+   /**
+    * Computes</br>
+    * this = this + scale * a
+    *
+    * @param scale the scale factor applied to {@code a}.
+    * @param a     symmetric matrix in addition. Not modified.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public void addEquals(double scale, NativeSymmetricMatrix a)
+   {
+      if (!impl.addEquals(scale, a.impl))
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+   }
+
+   /**
+    * Computes</br>
+    * this = scale * this
+    *
+    * @param scale the scale factor.
+    */
+   public void scale(double scale)
+   {
+      impl.scale(scale);
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * this * x == b</br>
+    * using a Cholesky decomposition. This matrix has to be positive definite.
+    *
+    * @param b the right-hand side, with as many rows as this and any number of columns. Not modified.
+    * @param x where the solution is stored. Can be the same instance as {@code b}. Not modified if the
+    *          decomposition fails. Modified.
+    * @return whether the decomposition succeeded, false if this matrix is not positive definite.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveLLT(NativeMatrix b, NativeMatrix x)
+   {
+      return checkStatus(impl.solveLLT(b.impl(), x.impl()));
+   }
+
+   /**
+    * Computes the solution to the linear equation</br>
+    * this * x == b</br>
+    * using a robust Cholesky decomposition with pivoting. This matrix has to be positive or negative
+    * semi-definite.
+    *
+    * @param b the right-hand side, with as many rows as this and any number of columns. Not modified.
+    * @param x where the solution is stored. Can be the same instance as {@code b}. Not modified if the
+    *          decomposition fails. Modified.
+    * @return whether the decomposition succeeded.
+    * @throws IllegalArgumentException if the matrix dimensions are incompatible.
+    */
+   public boolean solveLDLT(NativeMatrix b, NativeMatrix x)
+   {
+      return checkStatus(impl.solveLDLT(b.impl(), x.impl()));
+   }
+
+   /**
+    * Computes the inverse of this matrix using a Cholesky decomposition. This matrix has to be
+    * positive definite.
+    *
+    * @param inverseToPack where the inverse is stored. Can be the same instance as this. Not modified
+    *                      if the decomposition fails. Modified.
+    * @return whether the decomposition succeeded, false if this matrix is not positive definite.
+    */
+   public boolean invert(NativeSymmetricMatrix inverseToPack)
+   {
+      return checkStatus(impl.invert(inverseToPack.impl));
+   }
+
+   private static boolean checkStatus(int status)
+   {
+      if (status == NativeSymmetricMatrixImpl.INCOMPATIBLE_DIMENSIONS)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+      return status == NativeSymmetricMatrixImpl.SUCCESS;
+   }
+
+   private void throwIndexOutOfBoundsException(int row, int col)
+   {
+      throw new IllegalArgumentException("Index out of bounds. Requested (" + row + ", " + col + "). Dimension (" + getSize() + ", " + getSize() + ").");
+   }
+}
@@ -0,0 +1,72 @@
+package us.ihmc.matrixlib;
+
+/**
+ * Vectorized implementations of the dense kernels used by {@link MatrixTools} and
+ * {@link DiagonalMatrixTools}.
+ * <p>
+ * The kernels operate on row-major arrays and do not check their arguments, the calling methods
+ * being in charge of validating the dimensions. The only implementation,
+ * {@code us.ihmc.matrixlib.vector.VectorAPIMatrixKernels}, uses the incubating Vector API and is
+ * provided by the {@code vector} source set. It is picked by {@link MatrixTools} when it is loaded,
+ * see {@link MatrixTools#SIMD_PROPERTY}, the scalar loops of {@link MatrixTools} and
+ * {@link DiagonalMatrixTools} being used otherwise.
+ * </p>
+ */
+public interface SIMDMatrixKernels
+{
+   /**
+    * @return the name of this implementation, used for reporting.
+    */
+   String getName();
+
+   /**
+    * Returns the minimum number of columns of the product for which the vectorized kernels are
+    * expected to be faster than the scalar loops, typically the number of doubles per vector.
+    *
+    * @return the minimum number of columns of the product.
+    */
+   int getMinimumLength();
+
+   /**
+    * Performs the following operation:</br>
+    * c = c + scale * a * w * b</br>
+    * where only a block of c is modified, starting at (rowStart, colStart), and w is a diagonal
+    * matrix.
+    *
+    * @param scale    the scalar multiplier of the product.
+    * @param a        the m-by-n left matrix. Not modified.
+    * @param aRows    the number of rows m of {@code a}.
+    * @param aCols    the number of columns n of {@code a}.
+    * @param w        the n diagonal elements of the middle matrix, or {@code null} for the identity.
+    *                 Not modified.
+    * @param b        the n-by-p right matrix. Not modified.
+    * @param bCols    the number of columns p of {@code b}.
+    * @param c        the matrix to which the product is added. Modified.
+    * @param cCols    the number of columns of {@code c}.
+    * @param rowStart first row index of the block of {@code c} to modify.
+    * @param colStart first column index of the block of {@code c} to modify.
+    */
+   void multAddBlock(double scale, double[] a, int aRows, int aCols, double[] w, double[] b, int bCols, double[] c, int cCols, int rowStart, int colStart);
+
+   /**
+    * Performs the following operation:</br>
+    * c = c + scale * a<sup>T</sup> * w * b</br>
+    * where only a block of c is modified, starting at (rowStart, colStart), and w is a diagonal
+    * matrix.
+    *
+    * @param scale    the scalar multiplier of the product.
+    * @param a        the m-by-n left matrix. Not modified.
+    * @param aRows    the number of rows m of {@code a}.
+    * @param aCols    the number of columns n of {@code a}.
+    * @param w        the m diagonal elements of the middle matrix, or {@code null} for the identity.
+    *                 Not modified.
+    * @param b        the m-by-p right matrix. Can be the same array as {@code a}. Not modified.
+    * @param bCols    the number of columns p of {@code b}.
+    * @param c        the matrix to which the product is added. Modified.
+    * @param cCols    the number of columns of {@code c}.
+    * @param rowStart first row index of the block of {@code c} to modify.
+    * @param colStart first column index of the block of {@code c} to modify.
+    */
+   void multAddBlockTransA(double scale, double[] a, int aRows, int aCols, double[] w, double[] b, int bCols, double[] c, int cCols, int rowStart,
+                           int colStart);
+}
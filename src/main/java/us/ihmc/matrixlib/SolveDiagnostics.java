@@ -0,0 +1,131 @@
+package us.ihmc.matrixlib;
+
+/**
+ * {@code SolveDiagnostics} holds the outcome of a checked solve, i.e. a status and the estimate of
+ * the reciprocal condition number of the matrix that was factorized.
+ * <p>
+ * The reciprocal condition number is estimated in the 1-norm by the decomposition used for the
+ * solve, at a cost that is negligible compared to the factorization. It is in [0, 1], a value close
+ * to zero indicating a matrix close to singular. The solution is considered valid when it is greater
+ * than {@link #getMinimumRcond()}.
+ * </p>
+ * <p>
+ * An instance is meant to be reused for every solve, it does not allocate memory.
+ * </p>
+ */
+public class SolveDiagnostics
+{
+   /**
+    * Default threshold below which a matrix is considered singular, the machine epsilon.
+    */
+   public static final double DEFAULT_MINIMUM_RCOND = Math.ulp(1.0);
+
+   // Negative values returned by the native solvers in place of the estimate.
+   static final double NATIVE_INCOMPATIBLE_DIMENSIONS = -1.0;
+   static final double NATIVE_NOT_POSITIVE_DEFINITE = -2.0;
+
+   public enum Status
+   {
+      /** The matrix is well enough conditioned, the solution is valid. */
+      SUCCESS,
+      /** The reciprocal condition number is below the threshold, the matrix is considered singular. */
+      ILL_CONDITIONED,
+      /** The Cholesky decomposition failed, the matrix is not positive definite. */
+      NOT_POSITIVE_DEFINITE
+   }
+
+   private double minimumRcond;
+   private Status status = null;
+   private double rcond = Double.NaN;
+
+   /**
+    * Creates new diagnostics using {@link #DEFAULT_MINIMUM_RCOND} as threshold.
+    */
+   public SolveDiagnostics()
+   {
+      this(DEFAULT_MINIMUM_RCOND);
+   }
+
+   /**
+    * Creates new diagnostics.
+    *
+    * @param minimumRcond the reciprocal condition number below which a matrix is considered singular.
+    */
+   public SolveDiagnostics(double minimumRcond)
+   {
+      setMinimumRcond(minimumRcond);
+   }
+
+   /**
+    * Sets the reciprocal condition number below which a matrix is considered singular, for instance
+    * {@code 1.0e-10} to reject solutions that lose more than about 10 significant digits.
+    *
+    * @param minimumRcond the new threshold.
+    */
+   public void setMinimumRcond(double minimumRcond)
+   {
+      this.minimumRcond = minimumRcond;
+   }
+
+   /**
+    * Updates the status from the value returned by a native solver.
+    *
+    * @param nativeRcond the estimate of the reciprocal condition number or one of the negative native
+    *                    error values.
+    * @return whether the solution is valid.
+    * @throws IllegalArgumentException if the native solver reported incompatible dimensions.
+    */
+   boolean update(double nativeRcond)
+   {
+      if (nativeRcond == NATIVE_INCOMPATIBLE_DIMENSIONS)
+      {
+         throw new IllegalArgumentException("Incompatible Matrix Dimensions.");
+      }
+
+      if (nativeRcond == NATIVE_NOT_POSITIVE_DEFINITE)
+      {
+         status = Status.NOT_POSITIVE_DEFINITE;
+         rcond = 0.0;
+      }
+      else
+      {
+         // A singular matrix can result in a NaN estimate, which fails the comparison.
+         status = nativeRcond > minimumRcond ? Status.SUCCESS : Status.ILL_CONDITIONED;
+         rcond = Double.isNaN(nativeRcond) ? 0.0 : nativeRcond;
+      }
+      return status == Status.SUCCESS;
+   }
+
+   /**
+    * @return the status of the last solve, or {@code null} if no solve was performed.
+    */
+   public Status getStatus()
+   {
+      return status;
+   }
+
+   /**
+    * @return the estimate of the reciprocal condition number of the last matrix factorized, zero if
+    *         the matrix is singular or not positive definite.
+    */
+   public double getRcond()
+   {
+      return rcond;
+   }
+
+   /**
+    * @return the reciprocal condition number below which a matrix is considered singular.
+    */
+   public double getMinimumRcond()
+   {
+      return minimumRcond;
+   }
+
+   /**
+    * @return whether the last solve succeeded.
+    */
+   public boolean isSuccess()
+   {
+      return status == Status.SUCCESS;
+   }
+}
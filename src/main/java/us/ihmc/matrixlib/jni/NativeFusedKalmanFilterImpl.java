@@ -0,0 +1,100 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeFusedKalmanFilterImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeFusedKalmanFilterImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeFusedKalmanFilterImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeFusedKalmanFilterImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public final static int SUCCESS = 0;
+
+  public final static int INCOMPATIBLE_DIMENSIONS = 1;
+
+  public final static int SINGULAR_INNOVATION_COVARIANCE = 2;
+
+  public NativeFusedKalmanFilterImpl(int stateSize, int measurementSize) {
+    this(NativeMatrixLibraryJNI.new_NativeFusedKalmanFilterImpl(stateSize, measurementSize), true);
+  }
+
+  public boolean setState(NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_setState(swigCPtr, this, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public boolean getState(NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_getState(swigCPtr, this, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public boolean setErrorCovariance(NativeMatrixImpl P) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_setErrorCovariance(swigCPtr, this, NativeMatrixImpl.getCPtr(P), P);
+  }
+
+  public boolean getErrorCovariance(NativeMatrixImpl P) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_getErrorCovariance(swigCPtr, this, NativeMatrixImpl.getCPtr(P), P);
+  }
+
+  public int predict(NativeMatrixImpl F, NativeMatrixImpl Q) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_predict(swigCPtr, this, NativeMatrixImpl.getCPtr(F), F, NativeMatrixImpl.getCPtr(Q), Q);
+  }
+
+  public int predictErrorCovariance(NativeMatrixImpl F, NativeMatrixImpl Q) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_predictErrorCovariance(swigCPtr, this, NativeMatrixImpl.getCPtr(F), F, NativeMatrixImpl.getCPtr(Q), Q);
+  }
+
+  public int update(NativeMatrixImpl H, NativeMatrixImpl R, NativeMatrixImpl z) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_update(swigCPtr, this, NativeMatrixImpl.getCPtr(H), H, NativeMatrixImpl.getCPtr(R), R, NativeMatrixImpl.getCPtr(z), z);
+  }
+
+  public int updateWithResidual(NativeMatrixImpl H, NativeMatrixImpl R, NativeMatrixImpl residual) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_updateWithResidual(swigCPtr, this, NativeMatrixImpl.getCPtr(H), H, NativeMatrixImpl.getCPtr(R), R, NativeMatrixImpl.getCPtr(residual), residual);
+  }
+
+  public int predictAndUpdate(NativeMatrixImpl F, NativeMatrixImpl Q, NativeMatrixImpl H, NativeMatrixImpl R, NativeMatrixImpl z) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_predictAndUpdate(swigCPtr, this, NativeMatrixImpl.getCPtr(F), F, NativeMatrixImpl.getCPtr(Q), Q, NativeMatrixImpl.getCPtr(H), H, NativeMatrixImpl.getCPtr(R), R, NativeMatrixImpl.getCPtr(z), z);
+  }
+
+  public int sequentialUpdate(NativeMatrixImpl H, NativeMatrixImpl R, NativeMatrixImpl z, double chiSquareThreshold) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_sequentialUpdate(swigCPtr, this, NativeMatrixImpl.getCPtr(H), H, NativeMatrixImpl.getCPtr(R), R, NativeMatrixImpl.getCPtr(z), z, chiSquareThreshold);
+  }
+
+  public int sequentialUpdateWithResidual(NativeMatrixImpl H, NativeMatrixImpl R, NativeMatrixImpl residual, double chiSquareThreshold) {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_sequentialUpdateWithResidual(swigCPtr, this, NativeMatrixImpl.getCPtr(H), H, NativeMatrixImpl.getCPtr(R), R, NativeMatrixImpl.getCPtr(residual), residual, chiSquareThreshold);
+  }
+
+  public int getStateSize() {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_getStateSize(swigCPtr, this);
+  }
+
+  public int getMeasurementSize() {
+    return NativeMatrixLibraryJNI.NativeFusedKalmanFilterImpl_getMeasurementSize(swigCPtr, this);
+  }
+
+}
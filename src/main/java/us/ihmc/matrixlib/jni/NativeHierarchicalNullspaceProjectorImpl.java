@@ -0,0 +1,66 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeHierarchicalNullspaceProjectorImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeHierarchicalNullspaceProjectorImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeHierarchicalNullspaceProjectorImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeHierarchicalNullspaceProjectorImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeHierarchicalNullspaceProjectorImpl(int degreesOfFreedom, int maximumNumberOfTasks) {
+    this(NativeMatrixLibraryJNI.new_NativeHierarchicalNullspaceProjectorImpl(degreesOfFreedom, maximumNumberOfTasks), true);
+  }
+
+  public boolean addTask(NativeMatrixImpl J, double alpha) {
+    return NativeMatrixLibraryJNI.NativeHierarchicalNullspaceProjectorImpl_addTask(swigCPtr, this, NativeMatrixImpl.getCPtr(J), J, alpha);
+  }
+
+  public void clear() {
+    NativeMatrixLibraryJNI.NativeHierarchicalNullspaceProjectorImpl_clear(swigCPtr, this);
+  }
+
+  public int getNumberOfTasks() {
+    return NativeMatrixLibraryJNI.NativeHierarchicalNullspaceProjectorImpl_getNumberOfTasks(swigCPtr, this);
+  }
+
+  public boolean compute() {
+    return NativeMatrixLibraryJNI.NativeHierarchicalNullspaceProjectorImpl_compute(swigCPtr, this);
+  }
+
+  public boolean project(int level, NativeMatrixImpl A, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeHierarchicalNullspaceProjectorImpl_project(swigCPtr, this, level, NativeMatrixImpl.getCPtr(A), A, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public boolean getProjector(int level, NativeMatrixImpl N) {
+    return NativeMatrixLibraryJNI.NativeHierarchicalNullspaceProjectorImpl_getProjector(swigCPtr, this, level, NativeMatrixImpl.getCPtr(N), N);
+  }
+
+}
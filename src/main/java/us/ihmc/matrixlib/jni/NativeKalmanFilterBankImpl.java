@@ -0,0 +1,96 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeKalmanFilterBankImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeKalmanFilterBankImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeKalmanFilterBankImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeKalmanFilterBankImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public final static int MINIMUM_FILTERS_PER_THREAD = 32;
+
+  public NativeKalmanFilterBankImpl(int numberOfFilters, int stateSize, int measurementSize) {
+    this(NativeMatrixLibraryJNI.new_NativeKalmanFilterBankImpl(numberOfFilters, stateSize, measurementSize), true);
+  }
+
+  public boolean setState(int filter, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_setState(swigCPtr, this, filter, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public boolean getState(int filter, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_getState(swigCPtr, this, filter, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public boolean setErrorCovariance(int filter, NativeMatrixImpl P) {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_setErrorCovariance(swigCPtr, this, filter, NativeMatrixImpl.getCPtr(P), P);
+  }
+
+  public boolean getErrorCovariance(int filter, NativeMatrixImpl P) {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_getErrorCovariance(swigCPtr, this, filter, NativeMatrixImpl.getCPtr(P), P);
+  }
+
+  public boolean setStates(NativeMatrixImpl X) {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_setStates(swigCPtr, this, NativeMatrixImpl.getCPtr(X), X);
+  }
+
+  public void getStates(NativeMatrixImpl X) {
+    NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_getStates(swigCPtr, this, NativeMatrixImpl.getCPtr(X), X);
+  }
+
+  public boolean predict(NativeMatrixImpl F, NativeMatrixImpl Q, NativeMatrixImpl mask) {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_predict(swigCPtr, this, NativeMatrixImpl.getCPtr(F), F, NativeMatrixImpl.getCPtr(Q), Q, NativeMatrixImpl.getCPtr(mask), mask);
+  }
+
+  public int update(NativeMatrixImpl H, NativeMatrixImpl R, NativeMatrixImpl Z, NativeMatrixImpl mask) {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_update(swigCPtr, this, NativeMatrixImpl.getCPtr(H), H, NativeMatrixImpl.getCPtr(R), R, NativeMatrixImpl.getCPtr(Z), Z, NativeMatrixImpl.getCPtr(mask), mask);
+  }
+
+  public void setNumberOfThreads(int numberOfThreads) {
+    NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_setNumberOfThreads(swigCPtr, this, numberOfThreads);
+  }
+
+  public int getNumberOfThreads() {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_getNumberOfThreads(swigCPtr, this);
+  }
+
+  public int getNumberOfFilters() {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_getNumberOfFilters(swigCPtr, this);
+  }
+
+  public int getStateSize() {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_getStateSize(swigCPtr, this);
+  }
+
+  public int getMeasurementSize() {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterBankImpl_getMeasurementSize(swigCPtr, this);
+  }
+
+}
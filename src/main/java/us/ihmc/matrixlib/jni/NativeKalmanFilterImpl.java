@@ -55,4 +55,8 @@ public class NativeKalmanFilterImpl {
     return NativeMatrixLibraryJNI.NativeKalmanFilterImpl_updateErrorCovariance(NativeMatrixImpl.getCPtr(nextError), nextError, NativeMatrixImpl.getCPtr(K), K, NativeMatrixImpl.getCPtr(H), H, NativeMatrixImpl.getCPtr(P), P);
   }
 
+  public static int sequentialUpdate(NativeMatrixImpl x, NativeMatrixImpl P, NativeMatrixImpl H, NativeMatrixImpl R, NativeMatrixImpl r, double chiSquareThreshold) {
+    return NativeMatrixLibraryJNI.NativeKalmanFilterImpl_sequentialUpdate(NativeMatrixImpl.getCPtr(x), x, NativeMatrixImpl.getCPtr(P), P, NativeMatrixImpl.getCPtr(H), H, NativeMatrixImpl.getCPtr(R), R, NativeMatrixImpl.getCPtr(r), r, chiSquareThreshold);
+  }
+
 }
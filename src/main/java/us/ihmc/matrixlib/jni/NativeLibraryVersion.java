@@ -0,0 +1,48 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeLibraryVersion {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeLibraryVersion(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeLibraryVersion obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeLibraryVersion(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public static int getLibraryVersion() {
+    return NativeMatrixLibraryJNI.NativeLibraryVersion_getLibraryVersion();
+  }
+
+  public NativeLibraryVersion() {
+    this(NativeMatrixLibraryJNI.new_NativeLibraryVersion(), true);
+  }
+
+  public final static int SOURCE_VERSION = 1;
+
+}
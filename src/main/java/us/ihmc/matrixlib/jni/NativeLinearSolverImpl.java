@@ -0,0 +1,94 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeLinearSolverImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeLinearSolverImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeLinearSolverImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeLinearSolverImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public final static int LU = 0;
+
+  public final static int LLT = 1;
+
+  public final static int LDLT = 2;
+
+  public final static int HOUSEHOLDER_QR = 3;
+
+  public final static int COMPLETE_ORTHOGONAL_DECOMPOSITION = 4;
+
+  public final static int SUCCESS = 0;
+
+  public final static int INCOMPATIBLE_DIMENSIONS = 1;
+
+  public final static int NUMERICAL_ISSUE = 2;
+
+  public NativeLinearSolverImpl(int decomposition, int maxRows, int maxCols) {
+    this(NativeMatrixLibraryJNI.new_NativeLinearSolverImpl(decomposition, maxRows, maxCols), true);
+  }
+
+  public int factor(NativeMatrixImpl A) {
+    return NativeMatrixLibraryJNI.NativeLinearSolverImpl_factor(swigCPtr, this, NativeMatrixImpl.getCPtr(A), A);
+  }
+
+  public boolean solve(NativeMatrixImpl B, NativeMatrixImpl X) {
+    return NativeMatrixLibraryJNI.NativeLinearSolverImpl_solve(swigCPtr, this, NativeMatrixImpl.getCPtr(B), B, NativeMatrixImpl.getCPtr(X), X);
+  }
+
+  public boolean solveTranspose(NativeMatrixImpl B, NativeMatrixImpl X) {
+    return NativeMatrixLibraryJNI.NativeLinearSolverImpl_solveTranspose(swigCPtr, this, NativeMatrixImpl.getCPtr(B), B, NativeMatrixImpl.getCPtr(X), X);
+  }
+
+  public double determinant() {
+    return NativeMatrixLibraryJNI.NativeLinearSolverImpl_determinant(swigCPtr, this);
+  }
+
+  public double rcond() {
+    return NativeMatrixLibraryJNI.NativeLinearSolverImpl_rcond(swigCPtr, this);
+  }
+
+  public int rank() {
+    return NativeMatrixLibraryJNI.NativeLinearSolverImpl_rank(swigCPtr, this);
+  }
+
+  public int getDecomposition() {
+    return NativeMatrixLibraryJNI.NativeLinearSolverImpl_getDecomposition(swigCPtr, this);
+  }
+
+  public int getMaxRows() {
+    return NativeMatrixLibraryJNI.NativeLinearSolverImpl_getMaxRows(swigCPtr, this);
+  }
+
+  public int getMaxCols() {
+    return NativeMatrixLibraryJNI.NativeLinearSolverImpl_getMaxCols(swigCPtr, this);
+  }
+
+}
@@ -17,7 +17,7 @@ public class NativeMatrixImpl {
     swigCPtr = cPtr;
   }
 
-  protected static long getCPtr(NativeMatrixImpl obj) {
+  public static long getCPtr(NativeMatrixImpl obj) {
     return (obj == null) ? 0 : obj.swigCPtr;
   }
 
@@ -55,6 +55,10 @@ public class NativeMatrixImpl {
     NativeMatrixLibraryJNI.NativeMatrixImpl_growRows(swigCPtr, this, numRowsToGrow);
   }
 
+  public void reserve(int numberOfElements) {
+    NativeMatrixLibraryJNI.NativeMatrixImpl_reserve(swigCPtr, this, numberOfElements);
+  }
+
   public boolean set(NativeMatrixImpl a) {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_set__SWIG_0(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
   }
@@ -179,6 +183,50 @@ public class NativeMatrixImpl {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_multAddQuadBlock(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b, rowStart, colStart);
   }
 
+  public boolean multQuadDiagonal(NativeMatrixImpl a, double[] w, int size) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_multQuadDiagonal(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, w, size);
+  }
+
+  public boolean multAddQuadDiagonal(NativeMatrixImpl a, double[] w, int size) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_multAddQuadDiagonal(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, w, size);
+  }
+
+  public boolean multAddQuadDiagonalBlock(NativeMatrixImpl a, double[] w, int size, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_multAddQuadDiagonalBlock(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, w, size, rowStart, colStart);
+  }
+
+  public boolean preMultDiagonal(double[] w, int size, NativeMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_preMultDiagonal(swigCPtr, this, w, size, NativeMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean preMultAddDiagonalBlock(double scale, double[] w, int size, NativeMatrixImpl b, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_preMultAddDiagonalBlock(swigCPtr, this, scale, w, size, NativeMatrixImpl.getCPtr(b), b, rowStart, colStart);
+  }
+
+  public boolean postMultDiagonal(NativeMatrixImpl a, double[] w, int size) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_postMultDiagonal(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, w, size);
+  }
+
+  public boolean postMultTransADiagonal(NativeMatrixImpl a, double[] w, int size) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_postMultTransADiagonal(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, w, size);
+  }
+
+  public boolean multOuterDiagonal(NativeMatrixImpl a, double[] w, int size) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_multOuterDiagonal(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, w, size);
+  }
+
+  public boolean innerDiagonalMult(NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_innerDiagonalMult(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, w, size, NativeMatrixImpl.getCPtr(c), c);
+  }
+
+  public boolean innerDiagonalMultTransA(NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_innerDiagonalMultTransA(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, w, size, NativeMatrixImpl.getCPtr(c), c);
+  }
+
+  public boolean innerDiagonalMultAddBlockTransA(double scale, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_innerDiagonalMultAddBlockTransA(swigCPtr, this, scale, NativeMatrixImpl.getCPtr(a), a, w, size, NativeMatrixImpl.getCPtr(c), c, rowStart, colStart);
+  }
+
   public boolean invert(NativeMatrixImpl a) {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_invert(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
   }
@@ -191,6 +239,10 @@ public class NativeMatrixImpl {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_solveCheck(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b);
   }
 
+  public double solveRcond(NativeMatrixImpl a, NativeMatrixImpl b, boolean positiveDefinite) {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_solveRcond(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b, positiveDefinite);
+  }
+
   public boolean insert(NativeMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0) {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_insert__SWIG_0(swigCPtr, this, NativeMatrixImpl.getCPtr(src), src, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
   }
@@ -339,6 +391,18 @@ public class NativeMatrixImpl {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_size(swigCPtr, this);
   }
 
+  public int capacity() {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_capacity(swigCPtr, this);
+  }
+
+  public java.nio.ByteBuffer data() {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_data(swigCPtr, this);
+  }
+
+  public java.nio.ByteBuffer dims() {
+    return NativeMatrixLibraryJNI.NativeMatrixImpl_dims(swigCPtr, this);
+  }
+
   public boolean zeroRow(int rowToZero) {
     return NativeMatrixLibraryJNI.NativeMatrixImpl_zeroRow(swigCPtr, this, rowToZero);
   }
@@ -14,6 +14,7 @@ public class NativeMatrixLibraryJNI {
   public final static native long new_NativeMatrixImpl(int jarg1, int jarg2);
   public final static native void NativeMatrixImpl_resize(long jarg1, NativeMatrixImpl jarg1_, int jarg2, int jarg3);
   public final static native void NativeMatrixImpl_growRows(long jarg1, NativeMatrixImpl jarg1_, int jarg2);
+  public final static native void NativeMatrixImpl_reserve(long jarg1, NativeMatrixImpl jarg1_, int jarg2);
   public final static native boolean NativeMatrixImpl_set__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
   public final static native boolean NativeMatrixImpl_add__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
   public final static native boolean NativeMatrixImpl_add__SWIG_1(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double jarg3, long jarg4, NativeMatrixImpl jarg4_);
@@ -45,9 +46,21 @@ public class NativeMatrixLibraryJNI {
   public final static native boolean NativeMatrixImpl_multAddQuad(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
   public final static native boolean NativeMatrixImpl_multQuadBlock(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, int jarg4, int jarg5);
   public final static native boolean NativeMatrixImpl_multAddQuadBlock(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, int jarg4, int jarg5);
+  public final static native boolean NativeMatrixImpl_multQuadDiagonal(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double[] jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_multAddQuadDiagonal(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double[] jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_multAddQuadDiagonalBlock(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double[] jarg3, int jarg4, int jarg5, int jarg6);
+  public final static native boolean NativeMatrixImpl_preMultDiagonal(long jarg1, NativeMatrixImpl jarg1_, double[] jarg2, int jarg3, long jarg4, NativeMatrixImpl jarg4_);
+  public final static native boolean NativeMatrixImpl_preMultAddDiagonalBlock(long jarg1, NativeMatrixImpl jarg1_, double jarg2, double[] jarg3, int jarg4, long jarg5, NativeMatrixImpl jarg5_, int jarg6, int jarg7);
+  public final static native boolean NativeMatrixImpl_postMultDiagonal(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double[] jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_postMultTransADiagonal(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double[] jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_multOuterDiagonal(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double[] jarg3, int jarg4);
+  public final static native boolean NativeMatrixImpl_innerDiagonalMult(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double[] jarg3, int jarg4, long jarg5, NativeMatrixImpl jarg5_);
+  public final static native boolean NativeMatrixImpl_innerDiagonalMultTransA(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double[] jarg3, int jarg4, long jarg5, NativeMatrixImpl jarg5_);
+  public final static native boolean NativeMatrixImpl_innerDiagonalMultAddBlockTransA(long jarg1, NativeMatrixImpl jarg1_, double jarg2, long jarg3, NativeMatrixImpl jarg3_, double[] jarg4, int jarg5, long jarg6, NativeMatrixImpl jarg6_, int jarg7, int jarg8);
   public final static native boolean NativeMatrixImpl_invert(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
   public final static native boolean NativeMatrixImpl_solve(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
   public final static native boolean NativeMatrixImpl_solveCheck(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native double NativeMatrixImpl_solveRcond(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, boolean jarg4);
   public final static native boolean NativeMatrixImpl_insert__SWIG_0(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8);
   public final static native boolean NativeMatrixImpl_insert__SWIG_1(long jarg1, NativeMatrixImpl jarg1_, double[] jarg2, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8, int jarg9, int jarg10);
   public final static native boolean NativeMatrixImpl_insert__SWIG_2(long jarg1, NativeMatrixImpl jarg1_, int jarg2, int jarg3, double jarg4, double jarg5, double jarg6, double jarg7, double jarg8, double jarg9, double jarg10, double jarg11, double jarg12);
@@ -85,17 +98,139 @@ public class NativeMatrixLibraryJNI {
   public final static native int NativeMatrixImpl_rows(long jarg1, NativeMatrixImpl jarg1_);
   public final static native int NativeMatrixImpl_cols(long jarg1, NativeMatrixImpl jarg1_);
   public final static native int NativeMatrixImpl_size(long jarg1, NativeMatrixImpl jarg1_);
+  public final static native int NativeMatrixImpl_capacity(long jarg1, NativeMatrixImpl jarg1_);
+  public final static native java.nio.ByteBuffer NativeMatrixImpl_data(long jarg1, NativeMatrixImpl jarg1_);
+  public final static native java.nio.ByteBuffer NativeMatrixImpl_dims(long jarg1, NativeMatrixImpl jarg1_);
   public final static native boolean NativeMatrixImpl_zeroRow(long jarg1, NativeMatrixImpl jarg1_, int jarg2);
   public final static native boolean NativeMatrixImpl_zeroCol(long jarg1, NativeMatrixImpl jarg1_, int jarg2);
   public final static native void NativeMatrixImpl_print(long jarg1, NativeMatrixImpl jarg1_);
   public final static native void delete_NativeMatrixImpl(long jarg1);
   public final static native long new_NativeNullspaceProjectorImpl(int jarg1);
   public final static native boolean NativeNullspaceProjectorImpl_projectOnNullSpace(long jarg1, NativeNullspaceProjectorImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_, double jarg5);
+  public final static native boolean NativeNullspaceProjectorImpl_setConstraint(long jarg1, NativeNullspaceProjectorImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double jarg3);
+  public final static native boolean NativeNullspaceProjectorImpl_project(long jarg1, NativeNullspaceProjectorImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeNullspaceProjectorImpl_projectColumns(long jarg1, NativeNullspaceProjectorImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeNullspaceProjectorImpl_getProjector(long jarg1, NativeNullspaceProjectorImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
   public final static native void delete_NativeNullspaceProjectorImpl(long jarg1);
   public final static native long new_NativeKalmanFilterImpl();
   public final static native boolean NativeKalmanFilterImpl_predictErrorCovariance(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_);
   public final static native boolean NativeKalmanFilterImpl_computeKalmanGain(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_);
   public final static native boolean NativeKalmanFilterImpl_updateState(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_);
   public final static native boolean NativeKalmanFilterImpl_updateErrorCovariance(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_);
+  public final static native int NativeKalmanFilterImpl_sequentialUpdate(long jarg1, NativeMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_, long jarg5, NativeMatrixImpl jarg5_, double jarg6);
   public final static native void delete_NativeKalmanFilterImpl(long jarg1);
+  public final static native long new_NativeMatrixProgramImpl();
+  public final static native boolean NativeMatrixProgramImpl_record(long jarg1, NativeMatrixProgramImpl jarg1_, int jarg2, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_, long jarg5, NativeMatrixImpl jarg5_, int jarg6, int jarg7, int jarg8, int jarg9, int jarg10, int jarg11, double jarg12, double jarg13);
+  public final static native int NativeMatrixProgramImpl_execute(long jarg1, NativeMatrixProgramImpl jarg1_);
+  public final static native void NativeMatrixProgramImpl_clear(long jarg1, NativeMatrixProgramImpl jarg1_);
+  public final static native int NativeMatrixProgramImpl_size(long jarg1, NativeMatrixProgramImpl jarg1_);
+  public final static native void delete_NativeMatrixProgramImpl(long jarg1);
+  public final static native long new_NativeFusedKalmanFilterImpl(int jarg1, int jarg2);
+  public final static native boolean NativeFusedKalmanFilterImpl_setState(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeFusedKalmanFilterImpl_getState(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeFusedKalmanFilterImpl_setErrorCovariance(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeFusedKalmanFilterImpl_getErrorCovariance(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native int NativeFusedKalmanFilterImpl_predict(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native int NativeFusedKalmanFilterImpl_predictErrorCovariance(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native int NativeFusedKalmanFilterImpl_update(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_);
+  public final static native int NativeFusedKalmanFilterImpl_updateWithResidual(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_);
+  public final static native int NativeFusedKalmanFilterImpl_predictAndUpdate(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_, long jarg5, NativeMatrixImpl jarg5_, long jarg6, NativeMatrixImpl jarg6_);
+  public final static native int NativeFusedKalmanFilterImpl_sequentialUpdate(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_, double jarg5);
+  public final static native int NativeFusedKalmanFilterImpl_sequentialUpdateWithResidual(long jarg1, NativeFusedKalmanFilterImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_, double jarg5);
+  public final static native int NativeFusedKalmanFilterImpl_getStateSize(long jarg1, NativeFusedKalmanFilterImpl jarg1_);
+  public final static native int NativeFusedKalmanFilterImpl_getMeasurementSize(long jarg1, NativeFusedKalmanFilterImpl jarg1_);
+  public final static native void delete_NativeFusedKalmanFilterImpl(long jarg1);
+  public final static native long new_NativeKalmanFilterBankImpl(int jarg1, int jarg2, int jarg3);
+  public final static native boolean NativeKalmanFilterBankImpl_setState(long jarg1, NativeKalmanFilterBankImpl jarg1_, int jarg2, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeKalmanFilterBankImpl_getState(long jarg1, NativeKalmanFilterBankImpl jarg1_, int jarg2, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeKalmanFilterBankImpl_setErrorCovariance(long jarg1, NativeKalmanFilterBankImpl jarg1_, int jarg2, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeKalmanFilterBankImpl_getErrorCovariance(long jarg1, NativeKalmanFilterBankImpl jarg1_, int jarg2, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeKalmanFilterBankImpl_setStates(long jarg1, NativeKalmanFilterBankImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native void NativeKalmanFilterBankImpl_getStates(long jarg1, NativeKalmanFilterBankImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeKalmanFilterBankImpl_predict(long jarg1, NativeKalmanFilterBankImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_);
+  public final static native int NativeKalmanFilterBankImpl_update(long jarg1, NativeKalmanFilterBankImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_, long jarg5, NativeMatrixImpl jarg5_);
+  public final static native void NativeKalmanFilterBankImpl_setNumberOfThreads(long jarg1, NativeKalmanFilterBankImpl jarg1_, int jarg2);
+  public final static native int NativeKalmanFilterBankImpl_getNumberOfThreads(long jarg1, NativeKalmanFilterBankImpl jarg1_);
+  public final static native int NativeKalmanFilterBankImpl_getNumberOfFilters(long jarg1, NativeKalmanFilterBankImpl jarg1_);
+  public final static native int NativeKalmanFilterBankImpl_getStateSize(long jarg1, NativeKalmanFilterBankImpl jarg1_);
+  public final static native int NativeKalmanFilterBankImpl_getMeasurementSize(long jarg1, NativeKalmanFilterBankImpl jarg1_);
+  public final static native void delete_NativeKalmanFilterBankImpl(long jarg1);
+  public final static native long new_NativeHierarchicalNullspaceProjectorImpl(int jarg1, int jarg2);
+  public final static native boolean NativeHierarchicalNullspaceProjectorImpl_addTask(long jarg1, NativeHierarchicalNullspaceProjectorImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double jarg3);
+  public final static native void NativeHierarchicalNullspaceProjectorImpl_clear(long jarg1, NativeHierarchicalNullspaceProjectorImpl jarg1_);
+  public final static native int NativeHierarchicalNullspaceProjectorImpl_getNumberOfTasks(long jarg1, NativeHierarchicalNullspaceProjectorImpl jarg1_);
+  public final static native boolean NativeHierarchicalNullspaceProjectorImpl_compute(long jarg1, NativeHierarchicalNullspaceProjectorImpl jarg1_);
+  public final static native boolean NativeHierarchicalNullspaceProjectorImpl_project(long jarg1, NativeHierarchicalNullspaceProjectorImpl jarg1_, int jarg2, long jarg3, NativeMatrixImpl jarg3_, long jarg4, NativeMatrixImpl jarg4_);
+  public final static native boolean NativeHierarchicalNullspaceProjectorImpl_getProjector(long jarg1, NativeHierarchicalNullspaceProjectorImpl jarg1_, int jarg2, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native void delete_NativeHierarchicalNullspaceProjectorImpl(long jarg1);
+  public final static native long new_NativeLinearSolverImpl(int jarg1, int jarg2, int jarg3);
+  public final static native int NativeLinearSolverImpl_factor(long jarg1, NativeLinearSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeLinearSolverImpl_solve(long jarg1, NativeLinearSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeLinearSolverImpl_solveTranspose(long jarg1, NativeLinearSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native double NativeLinearSolverImpl_determinant(long jarg1, NativeLinearSolverImpl jarg1_);
+  public final static native double NativeLinearSolverImpl_rcond(long jarg1, NativeLinearSolverImpl jarg1_);
+  public final static native int NativeLinearSolverImpl_rank(long jarg1, NativeLinearSolverImpl jarg1_);
+  public final static native int NativeLinearSolverImpl_getDecomposition(long jarg1, NativeLinearSolverImpl jarg1_);
+  public final static native int NativeLinearSolverImpl_getMaxRows(long jarg1, NativeLinearSolverImpl jarg1_);
+  public final static native int NativeLinearSolverImpl_getMaxCols(long jarg1, NativeLinearSolverImpl jarg1_);
+  public final static native void delete_NativeLinearSolverImpl(long jarg1);
+  public final static native long new_NativeSymmetricMatrixImpl(int jarg1);
+  public final static native void NativeSymmetricMatrixImpl_resize(long jarg1, NativeSymmetricMatrixImpl jarg1_, int jarg2);
+  public final static native int NativeSymmetricMatrixImpl_size(long jarg1, NativeSymmetricMatrixImpl jarg1_);
+  public final static native void NativeSymmetricMatrixImpl_zero(long jarg1, NativeSymmetricMatrixImpl jarg1_);
+  public final static native double NativeSymmetricMatrixImpl_get(long jarg1, NativeSymmetricMatrixImpl jarg1_, int jarg2, int jarg3);
+  public final static native boolean NativeSymmetricMatrixImpl_set(long jarg1, NativeSymmetricMatrixImpl jarg1_, int jarg2, int jarg3, double jarg4);
+  public final static native void NativeSymmetricMatrixImpl_copy(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeSymmetricMatrixImpl jarg2_);
+  public final static native boolean NativeSymmetricMatrixImpl_setUpper(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native void NativeSymmetricMatrixImpl_getFull(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeSymmetricMatrixImpl_multQuad(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeSymmetricMatrixImpl jarg3_);
+  public final static native boolean NativeSymmetricMatrixImpl_multAddQuad(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeSymmetricMatrixImpl jarg3_);
+  public final static native boolean NativeSymmetricMatrixImpl_multQuadOuter(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeSymmetricMatrixImpl jarg3_);
+  public final static native boolean NativeSymmetricMatrixImpl_multAddQuadOuter(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeSymmetricMatrixImpl jarg3_);
+  public final static native boolean NativeSymmetricMatrixImpl_rankUpdate(long jarg1, NativeSymmetricMatrixImpl jarg1_, double jarg2, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeSymmetricMatrixImpl_weightedRankUpdate(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeSymmetricMatrixImpl_add(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeSymmetricMatrixImpl jarg2_, long jarg3, NativeSymmetricMatrixImpl jarg3_);
+  public final static native boolean NativeSymmetricMatrixImpl_addEquals(long jarg1, NativeSymmetricMatrixImpl jarg1_, double jarg2, long jarg3, NativeSymmetricMatrixImpl jarg3_);
+  public final static native void NativeSymmetricMatrixImpl_scale(long jarg1, NativeSymmetricMatrixImpl jarg1_, double jarg2);
+  public final static native int NativeSymmetricMatrixImpl_solveLLT(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native int NativeSymmetricMatrixImpl_solveLDLT(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native int NativeSymmetricMatrixImpl_invert(long jarg1, NativeSymmetricMatrixImpl jarg1_, long jarg2, NativeSymmetricMatrixImpl jarg2_);
+  public final static native void delete_NativeSymmetricMatrixImpl(long jarg1);
+  public final static native long new_NativeSparseMatrixImpl(int jarg1, int jarg2);
+  public final static native void NativeSparseMatrixImpl_resize(long jarg1, NativeSparseMatrixImpl jarg1_, int jarg2, int jarg3);
+  public final static native int NativeSparseMatrixImpl_rows(long jarg1, NativeSparseMatrixImpl jarg1_);
+  public final static native int NativeSparseMatrixImpl_cols(long jarg1, NativeSparseMatrixImpl jarg1_);
+  public final static native int NativeSparseMatrixImpl_nonZeros(long jarg1, NativeSparseMatrixImpl jarg1_);
+  public final static native double NativeSparseMatrixImpl_get(long jarg1, NativeSparseMatrixImpl jarg1_, int jarg2, int jarg3);
+  public final static native boolean NativeSparseMatrixImpl_add(long jarg1, NativeSparseMatrixImpl jarg1_, int jarg2, int jarg3, double jarg4);
+  public final static native boolean NativeSparseMatrixImpl_addBlock(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, int jarg3, int jarg4);
+  public final static native boolean NativeSparseMatrixImpl_addBlockData(long jarg1, NativeSparseMatrixImpl jarg1_, double[] jarg2, int jarg3, int jarg4, int jarg5, int jarg6);
+  public final static native void NativeSparseMatrixImpl_build(long jarg1, NativeSparseMatrixImpl jarg1_);
+  public final static native void NativeSparseMatrixImpl_setDense(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, double jarg3);
+  public final static native void NativeSparseMatrixImpl_getDense(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_);
+  public final static native boolean NativeSparseMatrixImpl_mult(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeSparseMatrixImpl_multTransA(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeSparseMatrixImpl_multQuad(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native boolean NativeSparseMatrixImpl_multQuadSparse(long jarg1, NativeSparseMatrixImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeSparseMatrixImpl jarg3_);
+  public final static native void delete_NativeSparseMatrixImpl(long jarg1);
+  public final static native long new_NativeSparseLDLTSolverImpl();
+  public final static native int NativeSparseLDLTSolverImpl_factor(long jarg1, NativeSparseLDLTSolverImpl jarg1_, long jarg2, NativeSparseMatrixImpl jarg2_);
+  public final static native boolean NativeSparseLDLTSolverImpl_solve(long jarg1, NativeSparseLDLTSolverImpl jarg1_, long jarg2, NativeMatrixImpl jarg2_, long jarg3, NativeMatrixImpl jarg3_);
+  public final static native int NativeSparseLDLTSolverImpl_getNumberOfSymbolicFactorizations(long jarg1, NativeSparseLDLTSolverImpl jarg1_);
+  public final static native void delete_NativeSparseLDLTSolverImpl(long jarg1);
+  public final static native void NativeParallelism_setNumberOfThreads(int jarg1);
+  public final static native int NativeParallelism_getNumberOfThreads();
+  public final static native void NativeParallelism_setThreshold(int jarg1);
+  public final static native int NativeParallelism_getThreshold();
+  public final static native long new_NativeParallelism();
+  public final static native void delete_NativeParallelism(long jarg1);
+  public final static native long NativeMemoryAccounting_getLiveBytes();
+  public final static native long NativeMemoryAccounting_getHighWaterMark();
+  public final static native long NativeMemoryAccounting_getLiveCount();
+  public final static native void NativeMemoryAccounting_resetHighWaterMark();
+  public final static native long new_NativeMemoryAccounting();
+  public final static native void delete_NativeMemoryAccounting(long jarg1);
+  public final static native int NativeLibraryVersion_getLibraryVersion();
+  public final static native long new_NativeLibraryVersion();
+  public final static native void delete_NativeLibraryVersion(long jarg1);
 }
@@ -0,0 +1,104 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeMatrixProgramImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeMatrixProgramImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeMatrixProgramImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeMatrixProgramImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeMatrixProgramImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeMatrixProgramImpl(), true);
+  }
+
+  public boolean record(int operation, NativeMatrixImpl result, NativeMatrixImpl a, NativeMatrixImpl b, int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, double scale1, double scale2) {
+    return NativeMatrixLibraryJNI.NativeMatrixProgramImpl_record(swigCPtr, this, operation, NativeMatrixImpl.getCPtr(result), result, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(b), b, arg0, arg1, arg2, arg3, arg4, arg5, scale1, scale2);
+  }
+
+  public int execute() {
+    return NativeMatrixLibraryJNI.NativeMatrixProgramImpl_execute(swigCPtr, this);
+  }
+
+  public void clear() {
+    NativeMatrixLibraryJNI.NativeMatrixProgramImpl_clear(swigCPtr, this);
+  }
+
+  public int size() {
+    return NativeMatrixLibraryJNI.NativeMatrixProgramImpl_size(swigCPtr, this);
+  }
+
+  public final static int SET = 0;
+  public final static int ADD = SET + 1;
+  public final static int ADD_SCALED = ADD + 1;
+  public final static int ADD_WEIGHTED = ADD_SCALED + 1;
+  public final static int ADD_EQUALS = ADD_WEIGHTED + 1;
+  public final static int ADD_EQUALS_SCALED = ADD_EQUALS + 1;
+  public final static int SUBTRACT = ADD_EQUALS_SCALED + 1;
+  public final static int MULT = SUBTRACT + 1;
+  public final static int MULT_SCALED = MULT + 1;
+  public final static int MULT_ADD = MULT_SCALED + 1;
+  public final static int MULT_ADD_SCALED = MULT_ADD + 1;
+  public final static int MULT_TRANS_A = MULT_ADD_SCALED + 1;
+  public final static int MULT_TRANS_A_SCALED = MULT_TRANS_A + 1;
+  public final static int MULT_ADD_TRANS_A = MULT_TRANS_A_SCALED + 1;
+  public final static int MULT_ADD_TRANS_A_SCALED = MULT_ADD_TRANS_A + 1;
+  public final static int MULT_TRANS_B = MULT_ADD_TRANS_A_SCALED + 1;
+  public final static int MULT_TRANS_B_SCALED = MULT_TRANS_B + 1;
+  public final static int MULT_ADD_TRANS_B = MULT_TRANS_B_SCALED + 1;
+  public final static int MULT_ADD_TRANS_B_SCALED = MULT_ADD_TRANS_B + 1;
+  public final static int ADD_BLOCK = MULT_ADD_TRANS_B_SCALED + 1;
+  public final static int ADD_BLOCK_SCALED = ADD_BLOCK + 1;
+  public final static int SUBTRACT_BLOCK = ADD_BLOCK_SCALED + 1;
+  public final static int MULT_ADD_BLOCK = SUBTRACT_BLOCK + 1;
+  public final static int MULT_ADD_BLOCK_SCALED = MULT_ADD_BLOCK + 1;
+  public final static int MULT_ADD_BLOCK_TRANS_A = MULT_ADD_BLOCK_SCALED + 1;
+  public final static int MULT_ADD_BLOCK_TRANS_A_SCALED = MULT_ADD_BLOCK_TRANS_A + 1;
+  public final static int MULT_QUAD = MULT_ADD_BLOCK_TRANS_A_SCALED + 1;
+  public final static int MULT_ADD_QUAD = MULT_QUAD + 1;
+  public final static int MULT_QUAD_BLOCK = MULT_ADD_QUAD + 1;
+  public final static int MULT_ADD_QUAD_BLOCK = MULT_QUAD_BLOCK + 1;
+  public final static int INVERT = MULT_ADD_QUAD_BLOCK + 1;
+  public final static int SOLVE = INVERT + 1;
+  public final static int TRANSPOSE = SOLVE + 1;
+  public final static int INSERT = TRANSPOSE + 1;
+  public final static int INSERT_SCALED = INSERT + 1;
+  public final static int SCALE = INSERT_SCALED + 1;
+  public final static int SCALE_BLOCK = SCALE + 1;
+  public final static int ZERO = SCALE_BLOCK + 1;
+  public final static int FILL = ZERO + 1;
+  public final static int FILL_BLOCK = FILL + 1;
+  public final static int ZERO_BLOCK = FILL_BLOCK + 1;
+  public final static int ADD_DIAGONAL = ZERO_BLOCK + 1;
+  public final static int FILL_DIAGONAL = ADD_DIAGONAL + 1;
+  public final static int RESHAPE = FILL_DIAGONAL + 1;
+  public final static int NUMBER_OF_OPERATIONS = RESHAPE + 1;
+
+}
@@ -0,0 +1,58 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeMemoryAccounting {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeMemoryAccounting(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeMemoryAccounting obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeMemoryAccounting(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public static long getLiveBytes() {
+    return NativeMatrixLibraryJNI.NativeMemoryAccounting_getLiveBytes();
+  }
+
+  public static long getHighWaterMark() {
+    return NativeMatrixLibraryJNI.NativeMemoryAccounting_getHighWaterMark();
+  }
+
+  public static long getLiveCount() {
+    return NativeMatrixLibraryJNI.NativeMemoryAccounting_getLiveCount();
+  }
+
+  public static void resetHighWaterMark() {
+    NativeMatrixLibraryJNI.NativeMemoryAccounting_resetHighWaterMark();
+  }
+
+  public NativeMemoryAccounting() {
+    this(NativeMatrixLibraryJNI.new_NativeMemoryAccounting(), true);
+  }
+
+}
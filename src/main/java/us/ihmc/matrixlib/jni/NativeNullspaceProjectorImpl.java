@@ -43,4 +43,20 @@ public class NativeNullspaceProjectorImpl {
     return NativeMatrixLibraryJNI.NativeNullspaceProjectorImpl_projectOnNullSpace(swigCPtr, this, NativeMatrixImpl.getCPtr(A), A, NativeMatrixImpl.getCPtr(B), B, NativeMatrixImpl.getCPtr(x), x, alpha);
   }
 
+  public boolean setConstraint(NativeMatrixImpl B, double alpha) {
+    return NativeMatrixLibraryJNI.NativeNullspaceProjectorImpl_setConstraint(swigCPtr, this, NativeMatrixImpl.getCPtr(B), B, alpha);
+  }
+
+  public boolean project(NativeMatrixImpl A, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeNullspaceProjectorImpl_project(swigCPtr, this, NativeMatrixImpl.getCPtr(A), A, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public boolean projectColumns(NativeMatrixImpl V, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeNullspaceProjectorImpl_projectColumns(swigCPtr, this, NativeMatrixImpl.getCPtr(V), V, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public boolean getProjector(NativeMatrixImpl N) {
+    return NativeMatrixLibraryJNI.NativeNullspaceProjectorImpl_getProjector(swigCPtr, this, NativeMatrixImpl.getCPtr(N), N);
+  }
+
 }
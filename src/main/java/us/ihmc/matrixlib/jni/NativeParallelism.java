@@ -0,0 +1,60 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeParallelism {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeParallelism(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeParallelism obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeParallelism(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public final static int DEFAULT_THRESHOLD = 256;
+
+  public static void setNumberOfThreads(int numberOfThreads) {
+    NativeMatrixLibraryJNI.NativeParallelism_setNumberOfThreads(numberOfThreads);
+  }
+
+  public static int getNumberOfThreads() {
+    return NativeMatrixLibraryJNI.NativeParallelism_getNumberOfThreads();
+  }
+
+  public static void setThreshold(int threshold) {
+    NativeMatrixLibraryJNI.NativeParallelism_setThreshold(threshold);
+  }
+
+  public static int getThreshold() {
+    return NativeMatrixLibraryJNI.NativeParallelism_getThreshold();
+  }
+
+  public NativeParallelism() {
+    this(NativeMatrixLibraryJNI.new_NativeParallelism(), true);
+  }
+
+}
@@ -0,0 +1,60 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeSparseLDLTSolverImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeSparseLDLTSolverImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeSparseLDLTSolverImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeSparseLDLTSolverImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public final static int SUCCESS = 0;
+
+  public final static int INCOMPATIBLE_DIMENSIONS = 1;
+
+  public final static int NUMERICAL_ISSUE = 2;
+
+  public NativeSparseLDLTSolverImpl() {
+    this(NativeMatrixLibraryJNI.new_NativeSparseLDLTSolverImpl(), true);
+  }
+
+  public int factor(NativeSparseMatrixImpl A) {
+    return NativeMatrixLibraryJNI.NativeSparseLDLTSolverImpl_factor(swigCPtr, this, NativeSparseMatrixImpl.getCPtr(A), A);
+  }
+
+  public boolean solve(NativeMatrixImpl b, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeSparseLDLTSolverImpl_solve(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public int getNumberOfSymbolicFactorizations() {
+    return NativeMatrixLibraryJNI.NativeSparseLDLTSolverImpl_getNumberOfSymbolicFactorizations(swigCPtr, this);
+  }
+
+}
@@ -0,0 +1,102 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeSparseMatrixImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeSparseMatrixImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeSparseMatrixImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeSparseMatrixImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public NativeSparseMatrixImpl(int rows, int cols) {
+    this(NativeMatrixLibraryJNI.new_NativeSparseMatrixImpl(rows, cols), true);
+  }
+
+  public void resize(int rows, int cols) {
+    NativeMatrixLibraryJNI.NativeSparseMatrixImpl_resize(swigCPtr, this, rows, cols);
+  }
+
+  public int rows() {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_rows(swigCPtr, this);
+  }
+
+  public int cols() {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_cols(swigCPtr, this);
+  }
+
+  public int nonZeros() {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_nonZeros(swigCPtr, this);
+  }
+
+  public double get(int row, int col) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_get(swigCPtr, this, row, col);
+  }
+
+  public boolean add(int row, int col, double value) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_add(swigCPtr, this, row, col, value);
+  }
+
+  public boolean addBlock(NativeMatrixImpl block, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_addBlock(swigCPtr, this, NativeMatrixImpl.getCPtr(block), block, rowStart, colStart);
+  }
+
+  public boolean addBlockData(double[] data, int rows, int cols, int rowStart, int colStart) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_addBlockData(swigCPtr, this, data, rows, cols, rowStart, colStart);
+  }
+
+  public void build() {
+    NativeMatrixLibraryJNI.NativeSparseMatrixImpl_build(swigCPtr, this);
+  }
+
+  public void setDense(NativeMatrixImpl dense, double zeroTolerance) {
+    NativeMatrixLibraryJNI.NativeSparseMatrixImpl_setDense(swigCPtr, this, NativeMatrixImpl.getCPtr(dense), dense, zeroTolerance);
+  }
+
+  public void getDense(NativeMatrixImpl dense) {
+    NativeMatrixLibraryJNI.NativeSparseMatrixImpl_getDense(swigCPtr, this, NativeMatrixImpl.getCPtr(dense), dense);
+  }
+
+  public boolean mult(NativeMatrixImpl b, NativeMatrixImpl c) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_mult(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(c), c);
+  }
+
+  public boolean multTransA(NativeMatrixImpl b, NativeMatrixImpl c) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_multTransA(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(c), c);
+  }
+
+  public boolean multQuad(NativeMatrixImpl w, NativeMatrixImpl c) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_multQuad(swigCPtr, this, NativeMatrixImpl.getCPtr(w), w, NativeMatrixImpl.getCPtr(c), c);
+  }
+
+  public boolean multQuadSparse(NativeMatrixImpl w, NativeSparseMatrixImpl c) {
+    return NativeMatrixLibraryJNI.NativeSparseMatrixImpl_multQuadSparse(swigCPtr, this, NativeMatrixImpl.getCPtr(w), w, NativeSparseMatrixImpl.getCPtr(c), c);
+  }
+
+}
@@ -0,0 +1,128 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 3.0.12
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package us.ihmc.matrixlib.jni;
+
+public class NativeSymmetricMatrixImpl {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected NativeSymmetricMatrixImpl(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(NativeSymmetricMatrixImpl obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        NativeMatrixLibraryJNI.delete_NativeSymmetricMatrixImpl(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public final static int SUCCESS = 0;
+
+  public final static int INCOMPATIBLE_DIMENSIONS = 1;
+
+  public final static int NUMERICAL_ISSUE = 2;
+
+  public NativeSymmetricMatrixImpl(int size) {
+    this(NativeMatrixLibraryJNI.new_NativeSymmetricMatrixImpl(size), true);
+  }
+
+  public void resize(int size) {
+    NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_resize(swigCPtr, this, size);
+  }
+
+  public int size() {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_size(swigCPtr, this);
+  }
+
+  public void zero() {
+    NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_zero(swigCPtr, this);
+  }
+
+  public double get(int row, int col) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_get(swigCPtr, this, row, col);
+  }
+
+  public boolean set(int row, int col, double value) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_set(swigCPtr, this, row, col, value);
+  }
+
+  public void copy(NativeSymmetricMatrixImpl other) {
+    NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_copy(swigCPtr, this, NativeSymmetricMatrixImpl.getCPtr(other), other);
+  }
+
+  public boolean setUpper(NativeMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_setUpper(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a);
+  }
+
+  public void getFull(NativeMatrixImpl full) {
+    NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_getFull(swigCPtr, this, NativeMatrixImpl.getCPtr(full), full);
+  }
+
+  public boolean multQuad(NativeMatrixImpl a, NativeSymmetricMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_multQuad(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeSymmetricMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multAddQuad(NativeMatrixImpl a, NativeSymmetricMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_multAddQuad(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeSymmetricMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multQuadOuter(NativeMatrixImpl a, NativeSymmetricMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_multQuadOuter(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeSymmetricMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean multAddQuadOuter(NativeMatrixImpl a, NativeSymmetricMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_multAddQuadOuter(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeSymmetricMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean rankUpdate(double alpha, NativeMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_rankUpdate(swigCPtr, this, alpha, NativeMatrixImpl.getCPtr(a), a);
+  }
+
+  public boolean weightedRankUpdate(NativeMatrixImpl a, NativeMatrixImpl w) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_weightedRankUpdate(swigCPtr, this, NativeMatrixImpl.getCPtr(a), a, NativeMatrixImpl.getCPtr(w), w);
+  }
+
+  public boolean add(NativeSymmetricMatrixImpl a, NativeSymmetricMatrixImpl b) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_add(swigCPtr, this, NativeSymmetricMatrixImpl.getCPtr(a), a, NativeSymmetricMatrixImpl.getCPtr(b), b);
+  }
+
+  public boolean addEquals(double scale, NativeSymmetricMatrixImpl a) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_addEquals(swigCPtr, this, scale, NativeSymmetricMatrixImpl.getCPtr(a), a);
+  }
+
+  public void scale(double scale) {
+    NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_scale(swigCPtr, this, scale);
+  }
+
+  public int solveLLT(NativeMatrixImpl b, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_solveLLT(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public int solveLDLT(NativeMatrixImpl b, NativeMatrixImpl x) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_solveLDLT(swigCPtr, this, NativeMatrixImpl.getCPtr(b), b, NativeMatrixImpl.getCPtr(x), x);
+  }
+
+  public int invert(NativeSymmetricMatrixImpl inverse) {
+    return NativeMatrixLibraryJNI.NativeSymmetricMatrixImpl_invert(swigCPtr, this, NativeSymmetricMatrixImpl.getCPtr(inverse), inverse);
+  }
+
+}
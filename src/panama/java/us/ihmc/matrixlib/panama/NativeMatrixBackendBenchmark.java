@@ -0,0 +1,92 @@
+package us.ihmc.matrixlib.panama;
+
+import java.util.Random;
+
+import us.ihmc.matrixlib.JNINativeMatrixBackend;
+import us.ihmc.matrixlib.NativeMatrix;
+import us.ihmc.matrixlib.NativeMatrixBackend;
+import us.ihmc.matrixlib.jni.NativeMatrixImpl;
+
+/**
+ * Measures the per-call overhead of the JNI and Panama backends of {@link NativeMatrix} on the
+ * small matrices typically used in whole-body control.
+ * <p>
+ * Run with {@code --enable-native-access=ALL-UNNAMED} on Java 22+.
+ * </p>
+ */
+public class NativeMatrixBackendBenchmark
+{
+   private static final int warmupIterations = 500000;
+   private static final int iterations = 5000000;
+
+   private static double sink = 0.0;
+
+   public static void main(String[] args)
+   {
+      System.out.println("NativeMatrix is using the " + NativeMatrix.getBackendName() + " backend.");
+
+      NativeMatrixBackend[] backends = {new JNINativeMatrixBackend(), new PanamaNativeMatrixBackend()};
+
+      for (int size : new int[] {6, 12})
+      {
+         for (NativeMatrixBackend backend : backends)
+         {
+            benchmark(backend, size, warmupIterations);
+         }
+
+         System.out.println("Matrix size " + size + "x" + size);
+
+         for (NativeMatrixBackend backend : backends)
+         {
+            benchmark(backend, size, iterations);
+         }
+      }
+
+      System.out.println(sink);
+   }
+
+   private static void benchmark(NativeMatrixBackend backend, int size, int iterations)
+   {
+      Random random = new Random(40L);
+      double[] data = new double[size * size];
+      for (int i = 0; i < data.length; i++)
+         data[i] = random.nextDouble();
+
+      NativeMatrixImpl a = new NativeMatrixImpl(size, size);
+      NativeMatrixImpl b = new NativeMatrixImpl(size, size);
+      NativeMatrixImpl c = new NativeMatrixImpl(size, size);
+      backend.set(a, data, size, size);
+      backend.set(b, data, size, size);
+
+      long rowsTime = -System.nanoTime();
+      for (int i = 0; i < iterations; i++)
+         sink += backend.rows(a);
+      rowsTime += System.nanoTime();
+
+      long getTime = -System.nanoTime();
+      for (int i = 0; i < iterations; i++)
+         sink += backend.get(a, i % size, 0);
+      getTime += System.nanoTime();
+
+      long setTime = -System.nanoTime();
+      for (int i = 0; i < iterations; i++)
+         backend.set(c, data, size, size);
+      setTime += System.nanoTime();
+
+      long multTime = -System.nanoTime();
+      for (int i = 0; i < iterations; i++)
+         backend.mult(c, a, b);
+      multTime += System.nanoTime();
+      sink += backend.get(c, 0, 0);
+
+      a.delete();
+      b.delete();
+      c.delete();
+
+      if (iterations != warmupIterations)
+      {
+         System.out.println("   " + backend.getName() + ": rows() " + (double) rowsTime / iterations + " ns, get(row, col) " + (double) getTime / iterations
+               + " ns, set(double[]) " + (double) setTime / iterations + " ns, mult " + (double) multTime / iterations + " ns");
+      }
+   }
+}
@@ -0,0 +1,1772 @@
+package us.ihmc.matrixlib.panama;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_BOOLEAN;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static us.ihmc.matrixlib.jni.NativeMatrixImpl.getCPtr;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.Reference;
+
+import us.ihmc.matrixlib.NativeMatrixBackend;
+import us.ihmc.matrixlib.jni.NativeMatrixImpl;
+
+/**
+ * {@link NativeMatrixBackend} calling the C entry points declared in {@code NativeMatrixC.h} with
+ * downcall handles from {@code java.lang.foreign}.
+ * <p>
+ * The native library has to be loaded by the class loader of this class before it is initialized,
+ * this is done by {@code NativeMatrix} before selecting the backend.
+ * </p>
+ * <p>
+ * The {@code NativeMatrixImpl*} arguments are passed as {@code long}, the address held by the SWIG
+ * proxy, which avoids wrapping every pointer in a {@link MemorySegment}. Calls that run in constant
+ * or linear time are linked with {@link Linker.Option#critical(boolean)}: no thread state
+ * transition is done and the Java arrays are passed in place, which is what makes this backend
+ * faster than JNI for small matrices. The products and decompositions are linked as regular
+ * downcalls such that a large matrix does not hold off the garbage collector. As regular downcalls
+ * cannot access the Java heap, the diagonals passed to the diagonal products are copied off-heap
+ * first, which is linear in their size.
+ * </p>
+ */
+public final class PanamaNativeMatrixBackend implements NativeMatrixBackend
+{
+   public static final String NAME = "panama";
+
+   private static final Linker LINKER = Linker.nativeLinker();
+   private static final SymbolLookup LOOKUP = SymbolLookup.loaderLookup();
+
+   private static final MethodHandle resize = downcall("resize", true, FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle growRows = downcall("growRows", true, FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_INT));
+   private static final MethodHandle reserve = downcall("reserve", true, FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_INT));
+   private static final MethodHandle set = downcall("set", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle add = downcall("add", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle addScaled = downcall("addScaled", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG));
+   private static final MethodHandle addWeighted = downcall("addWeighted", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG));
+   private static final MethodHandle addEquals = downcall("addEquals", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle addEqualsScaled = downcall("addEqualsScaled", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG));
+   private static final MethodHandle addElement = downcall("addElement", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle subtract = downcall("subtract", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle mult = downcall("mult", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multScaled = downcall("multScaled", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multAdd = downcall("multAdd", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multAddScaled = downcall("multAddScaled", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multTransA = downcall("multTransA", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multTransAScaled = downcall("multTransAScaled", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multAddTransA = downcall("multAddTransA", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multAddTransAScaled = downcall("multAddTransAScaled", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multTransB = downcall("multTransB", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multTransBScaled = downcall("multTransBScaled", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multAddTransB = downcall("multAddTransB", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multAddTransBScaled = downcall("multAddTransBScaled", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle addBlockScaled = downcall("addBlockScaled", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle addBlock = downcall("addBlock", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT));
+   private static final MethodHandle subtractBlock = downcall("subtractBlock", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT));
+   private static final MethodHandle multAddBlock = downcall("multAddBlock", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle multAddBlockScaled = downcall("multAddBlockScaled", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle multAddBlockTransA = downcall("multAddBlockTransA", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle multAddBlockTransAScaled = downcall("multAddBlockTransAScaled", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle multQuad = downcall("multQuad", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multAddQuad = downcall("multAddQuad", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle multQuadBlock = downcall("multQuadBlock", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle multAddQuadBlock = downcall("multAddQuadBlock", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle multQuadDiagonal = downcall("multQuadDiagonal", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_INT));
+   private static final MethodHandle multAddQuadDiagonal = downcall("multAddQuadDiagonal", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_INT));
+   private static final MethodHandle multAddQuadDiagonalBlock = downcall("multAddQuadDiagonalBlock", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT));
+   private static final MethodHandle preMultDiagonal = downcall("preMultDiagonal", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, ADDRESS, JAVA_INT, JAVA_LONG));
+   private static final MethodHandle preMultAddDiagonalBlock = downcall("preMultAddDiagonalBlock", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, ADDRESS, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle postMultDiagonal = downcall("postMultDiagonal", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_INT));
+   private static final MethodHandle postMultTransADiagonal = downcall("postMultTransADiagonal", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_INT));
+   private static final MethodHandle multOuterDiagonal = downcall("multOuterDiagonal", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_INT));
+   private static final MethodHandle innerDiagonalMult = downcall("innerDiagonalMult", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_INT, JAVA_LONG));
+   private static final MethodHandle innerDiagonalMultTransA = downcall("innerDiagonalMultTransA", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_INT, JAVA_LONG));
+   private static final MethodHandle innerDiagonalMultAddBlockTransA = downcall("innerDiagonalMultAddBlockTransA", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG, ADDRESS, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle invert = downcall("invert", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle solve = downcall("solve", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle solveCheck = downcall("solveCheck", false, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle solveRcond = downcall("solveRcond", false, FunctionDescriptor.of(JAVA_DOUBLE, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_BOOLEAN));
+   private static final MethodHandle insert = downcall("insert", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT));
+   private static final MethodHandle insertData = downcall("insertData", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT));
+   private static final MethodHandle insertMatrix3D = downcall("insertMatrix3D", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE));
+   private static final MethodHandle insertTupleRow = downcall("insertTupleRow", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE));
+   private static final MethodHandle insertScaled = downcall("insertScaled", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle insertScaledData = downcall("insertScaledData", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle extract = downcall("extract", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT));
+   private static final MethodHandle transpose = downcall("transpose", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG));
+   private static final MethodHandle removeRow = downcall("removeRow", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT));
+   private static final MethodHandle removeColumn = downcall("removeColumn", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT));
+   private static final MethodHandle zero = downcall("zero", true, FunctionDescriptor.ofVoid(JAVA_LONG));
+   private static final MethodHandle containsNaN = downcall("containsNaN", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG));
+   private static final MethodHandle scale = downcall("scale", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE, JAVA_LONG));
+   private static final MethodHandle scaleBlock = downcall("scaleBlock", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle isAprrox = downcall("isAprrox", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_DOUBLE));
+   private static final MethodHandle setData = downcall("setData", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, ADDRESS, JAVA_INT, JAVA_INT));
+   private static final MethodHandle getData = downcall("getData", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, ADDRESS, JAVA_INT, JAVA_INT));
+   private static final MethodHandle addDiagonalBlock = downcall("addDiagonalBlock", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle fill = downcall("fill", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE));
+   private static final MethodHandle fillDiagonalBlock = downcall("fillDiagonalBlock", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle fillBlock = downcall("fillBlock", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle setElement = downcall("setElement", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle zeroBlock = downcall("zeroBlock", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT));
+   private static final MethodHandle addDiagonalSquare = downcall("addDiagonalSquare", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle addDiagonal = downcall("addDiagonal", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE));
+   private static final MethodHandle fillDiagonalSquare = downcall("fillDiagonalSquare", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle fillDiagonal = downcall("fillDiagonal", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_DOUBLE));
+   private static final MethodHandle min = downcall("min", true, FunctionDescriptor.of(JAVA_DOUBLE, JAVA_LONG));
+   private static final MethodHandle max = downcall("max", true, FunctionDescriptor.of(JAVA_DOUBLE, JAVA_LONG));
+   private static final MethodHandle sum = downcall("sum", true, FunctionDescriptor.of(JAVA_DOUBLE, JAVA_LONG));
+   private static final MethodHandle prod = downcall("prod", true, FunctionDescriptor.of(JAVA_DOUBLE, JAVA_LONG));
+   private static final MethodHandle scaleInPlace = downcall("scaleInPlace", true, FunctionDescriptor.ofVoid(JAVA_LONG, JAVA_DOUBLE));
+   private static final MethodHandle setValue = downcall("setValue", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_DOUBLE));
+   private static final MethodHandle getValue = downcall("getValue", true, FunctionDescriptor.of(JAVA_DOUBLE, JAVA_LONG, JAVA_INT, JAVA_INT));
+   private static final MethodHandle rows = downcall("rows", true, FunctionDescriptor.of(JAVA_INT, JAVA_LONG));
+   private static final MethodHandle cols = downcall("cols", true, FunctionDescriptor.of(JAVA_INT, JAVA_LONG));
+   private static final MethodHandle size = downcall("size", true, FunctionDescriptor.of(JAVA_INT, JAVA_LONG));
+   private static final MethodHandle capacity = downcall("capacity", true, FunctionDescriptor.of(JAVA_INT, JAVA_LONG));
+   private static final MethodHandle zeroRow = downcall("zeroRow", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT));
+   private static final MethodHandle zeroCol = downcall("zeroCol", true, FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_LONG, JAVA_INT));
+
+   /**
+    * Off-heap copies of the diagonals passed to the diagonal products. These are linked as regular
+    * downcalls, which cannot access the Java heap. The buffer of each thread grows to the largest
+    * diagonal it has passed.
+    */
+   private static final ThreadLocal<MemorySegment[]> diagonalBuffers = ThreadLocal.withInitial(() -> new MemorySegment[] {MemorySegment.NULL});
+
+   private static MemorySegment copyDiagonal(double[] w, int size)
+   {
+      MemorySegment[] buffer = diagonalBuffers.get();
+      long byteSize = (long) size * Double.BYTES;
+      if (buffer[0].byteSize() < byteSize)
+         buffer[0] = Arena.ofAuto().allocate(byteSize, Double.BYTES);
+      MemorySegment.copy(w, 0, buffer[0], JAVA_DOUBLE, 0L, size);
+      return buffer[0];
+   }
+
+   private static MethodHandle downcall(String name, boolean critical, FunctionDescriptor descriptor)
+   {
+      String symbolName = "NativeMatrixImpl_" + name;
+      MemorySegment symbol = LOOKUP.find(symbolName).orElseThrow(() -> new UnsatisfiedLinkError("Cannot find native symbol " + symbolName));
+
+      if (critical)
+         return LINKER.downcallHandle(symbol, descriptor, Linker.Option.critical(true));
+      else
+         return LINKER.downcallHandle(symbol, descriptor);
+   }
+
+   private static RuntimeException propagate(Throwable e)
+   {
+      if (e instanceof RuntimeException)
+         return (RuntimeException) e;
+      if (e instanceof Error)
+         throw (Error) e;
+      return new RuntimeException(e);
+   }
+
+   @Override
+   public String getName()
+   {
+      return NAME;
+   }
+
+   @Override
+   public void resize(NativeMatrixImpl self, int numRows, int numCols)
+   {
+      try
+      {
+         resize.invokeExact(getCPtr(self), numRows, numCols);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public void growRows(NativeMatrixImpl self, int numRowsToGrow)
+   {
+      try
+      {
+         growRows.invokeExact(getCPtr(self), numRowsToGrow);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public void reserve(NativeMatrixImpl self, int numberOfElements)
+   {
+      try
+      {
+         reserve.invokeExact(getCPtr(self), numberOfElements);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean set(NativeMatrixImpl self, NativeMatrixImpl a)
+   {
+      try
+      {
+         return (boolean) set.invokeExact(getCPtr(self), getCPtr(a));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) add.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, NativeMatrixImpl a, double scale, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) addScaled.invokeExact(getCPtr(self), getCPtr(a), scale, getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, double scale1, NativeMatrixImpl a, double scale2, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) addWeighted.invokeExact(getCPtr(self), scale1, getCPtr(a), scale2, getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean addEquals(NativeMatrixImpl self, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) addEquals.invokeExact(getCPtr(self), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean addEquals(NativeMatrixImpl self, double scale, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) addEqualsScaled.invokeExact(getCPtr(self), scale, getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean add(NativeMatrixImpl self, int row, int col, double value)
+   {
+      try
+      {
+         return (boolean) addElement.invokeExact(getCPtr(self), row, col, value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean subtract(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) subtract.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean mult(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) mult.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean mult(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multScaled.invokeExact(getCPtr(self), scale, getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAdd(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multAdd.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAdd(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multAddScaled.invokeExact(getCPtr(self), scale, getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multTransA.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multTransAScaled.invokeExact(getCPtr(self), scale, getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAddTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multAddTransA.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAddTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multAddTransAScaled.invokeExact(getCPtr(self), scale, getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multTransB(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multTransB.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multTransB(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multTransBScaled.invokeExact(getCPtr(self), scale, getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAddTransB(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multAddTransB.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAddTransB(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multAddTransBScaled.invokeExact(getCPtr(self), scale, getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean addBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns, double scale)
+   {
+      try
+      {
+         return (boolean) addBlockScaled.invokeExact(getCPtr(self), getCPtr(a), destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns, scale);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean addBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+   {
+      try
+      {
+         return (boolean) addBlock.invokeExact(getCPtr(self), getCPtr(a), destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean subtractBlock(NativeMatrixImpl self, NativeMatrixImpl a, int destStartRow, int destStartColumn, int srcStartRow, int srcStartColumn, int numberOfRows, int numberOfColumns)
+   {
+      try
+      {
+         return (boolean) subtractBlock.invokeExact(getCPtr(self), getCPtr(a), destStartRow, destStartColumn, srcStartRow, srcStartColumn, numberOfRows, numberOfColumns);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean multAddBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      try
+      {
+         return (boolean) multAddBlock.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b), rowStart, colStart);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAddBlock(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      try
+      {
+         return (boolean) multAddBlockScaled.invokeExact(getCPtr(self), scale, getCPtr(a), getCPtr(b), rowStart, colStart);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAddBlockTransA(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      try
+      {
+         return (boolean) multAddBlockTransA.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b), rowStart, colStart);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAddBlockTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      try
+      {
+         return (boolean) multAddBlockTransAScaled.invokeExact(getCPtr(self), scale, getCPtr(a), getCPtr(b), rowStart, colStart);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multQuad(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multQuad.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAddQuad(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) multAddQuad.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multQuadBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      try
+      {
+         return (boolean) multQuadBlock.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b), rowStart, colStart);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multAddQuadBlock(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      try
+      {
+         return (boolean) multAddQuadBlock.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b), rowStart, colStart);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean multQuadDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      try
+      {
+         return (boolean) multQuadDiagonal.invokeExact(getCPtr(self), getCPtr(a), copyDiagonal(w, size), size);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean multAddQuadDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      try
+      {
+         return (boolean) multAddQuadDiagonal.invokeExact(getCPtr(self), getCPtr(a), copyDiagonal(w, size), size);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean multAddQuadDiagonalBlock(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, int rowStart, int colStart)
+   {
+      try
+      {
+         return (boolean) multAddQuadDiagonalBlock.invokeExact(getCPtr(self), getCPtr(a), copyDiagonal(w, size), size, rowStart, colStart);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean preMultDiagonal(NativeMatrixImpl self, double[] w, int size, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) preMultDiagonal.invokeExact(getCPtr(self), copyDiagonal(w, size), size, getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean preMultAddDiagonalBlock(NativeMatrixImpl self, double scale, double[] w, int size, NativeMatrixImpl b, int rowStart, int colStart)
+   {
+      try
+      {
+         return (boolean) preMultAddDiagonalBlock.invokeExact(getCPtr(self), scale, copyDiagonal(w, size), size, getCPtr(b), rowStart, colStart);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean postMultDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      try
+      {
+         return (boolean) postMultDiagonal.invokeExact(getCPtr(self), getCPtr(a), copyDiagonal(w, size), size);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean postMultTransADiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      try
+      {
+         return (boolean) postMultTransADiagonal.invokeExact(getCPtr(self), getCPtr(a), copyDiagonal(w, size), size);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean multOuterDiagonal(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size)
+   {
+      try
+      {
+         return (boolean) multOuterDiagonal.invokeExact(getCPtr(self), getCPtr(a), copyDiagonal(w, size), size);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean innerDiagonalMult(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c)
+   {
+      try
+      {
+         return (boolean) innerDiagonalMult.invokeExact(getCPtr(self), getCPtr(a), copyDiagonal(w, size), size, getCPtr(c));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(c);
+      }
+   }
+
+   @Override
+   public boolean innerDiagonalMultTransA(NativeMatrixImpl self, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c)
+   {
+      try
+      {
+         return (boolean) innerDiagonalMultTransA.invokeExact(getCPtr(self), getCPtr(a), copyDiagonal(w, size), size, getCPtr(c));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(c);
+      }
+   }
+
+   @Override
+   public boolean innerDiagonalMultAddBlockTransA(NativeMatrixImpl self, double scale, NativeMatrixImpl a, double[] w, int size, NativeMatrixImpl c, int rowStart, int colStart)
+   {
+      try
+      {
+         return (boolean) innerDiagonalMultAddBlockTransA.invokeExact(getCPtr(self), scale, getCPtr(a), copyDiagonal(w, size), size, getCPtr(c), rowStart, colStart);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(c);
+      }
+   }
+
+   @Override
+   public boolean invert(NativeMatrixImpl self, NativeMatrixImpl a)
+   {
+      try
+      {
+         return (boolean) invert.invokeExact(getCPtr(self), getCPtr(a));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean solve(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) solve.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean solveCheck(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b)
+   {
+      try
+      {
+         return (boolean) solveCheck.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public double solveRcond(NativeMatrixImpl self, NativeMatrixImpl a, NativeMatrixImpl b, boolean positiveDefinite)
+   {
+      try
+      {
+         return (double) solveRcond.invokeExact(getCPtr(self), getCPtr(a), getCPtr(b), positiveDefinite);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+         Reference.reachabilityFence(b);
+      }
+   }
+
+   @Override
+   public boolean insert(NativeMatrixImpl self, NativeMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+   {
+      try
+      {
+         return (boolean) insert.invokeExact(getCPtr(self), getCPtr(src), srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(src);
+      }
+   }
+
+   @Override
+   public boolean insert(NativeMatrixImpl self, double[] src, int rows, int cols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0)
+   {
+      try
+      {
+         return (boolean) insertData.invokeExact(getCPtr(self), MemorySegment.ofArray(src), rows, cols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean insert(NativeMatrixImpl self, int startRow, int startCol, double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22)
+   {
+      try
+      {
+         return (boolean) insertMatrix3D.invokeExact(getCPtr(self), startRow, startCol, m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean insertTupleRow(NativeMatrixImpl self, int startRow, int startCol, double x, double y, double z)
+   {
+      try
+      {
+         return (boolean) insertTupleRow.invokeExact(getCPtr(self), startRow, startCol, x, y, z);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean insertScaled(NativeMatrixImpl self, NativeMatrixImpl src, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+   {
+      try
+      {
+         return (boolean) insertScaled.invokeExact(getCPtr(self), getCPtr(src), srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(src);
+      }
+   }
+
+   @Override
+   public boolean insertScaled(NativeMatrixImpl self, double[] src, int srcRows, int srcCols, int srcY0, int srcY1, int srcX0, int srcX1, int dstY0, int dstX0, double scale)
+   {
+      try
+      {
+         return (boolean) insertScaledData.invokeExact(getCPtr(self), MemorySegment.ofArray(src), srcRows, srcCols, srcY0, srcY1, srcX0, srcX1, dstY0, dstX0, scale);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean extract(NativeMatrixImpl self, int srcY0, int srcY1, int srcX0, int srcX1, double[] dst, int dstRows, int dstCols, int dstY0, int dstX0)
+   {
+      try
+      {
+         return (boolean) extract.invokeExact(getCPtr(self), srcY0, srcY1, srcX0, srcX1, MemorySegment.ofArray(dst), dstRows, dstCols, dstY0, dstX0);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean transpose(NativeMatrixImpl self, NativeMatrixImpl a)
+   {
+      try
+      {
+         return (boolean) transpose.invokeExact(getCPtr(self), getCPtr(a));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(a);
+      }
+   }
+
+   @Override
+   public boolean removeRow(NativeMatrixImpl self, int indexToRemove)
+   {
+      try
+      {
+         return (boolean) removeRow.invokeExact(getCPtr(self), indexToRemove);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean removeColumn(NativeMatrixImpl self, int indexToRemove)
+   {
+      try
+      {
+         return (boolean) removeColumn.invokeExact(getCPtr(self), indexToRemove);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public void zero(NativeMatrixImpl self)
+   {
+      try
+      {
+         zero.invokeExact(getCPtr(self));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean containsNaN(NativeMatrixImpl self)
+   {
+      try
+      {
+         return (boolean) containsNaN.invokeExact(getCPtr(self));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean scale(NativeMatrixImpl self, double scale, NativeMatrixImpl src)
+   {
+      try
+      {
+         return (boolean) PanamaNativeMatrixBackend.scale.invokeExact(getCPtr(self), scale, getCPtr(src));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(src);
+      }
+   }
+
+   @Override
+   public boolean scaleBlock(NativeMatrixImpl self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
+   {
+      try
+      {
+         return (boolean) scaleBlock.invokeExact(getCPtr(self), startRow, startCol, numberOfRows, numberOfCols, value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean isAprrox(NativeMatrixImpl self, NativeMatrixImpl other, double precision)
+   {
+      try
+      {
+         return (boolean) isAprrox.invokeExact(getCPtr(self), getCPtr(other), precision);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(other);
+      }
+   }
+
+   @Override
+   public boolean set(NativeMatrixImpl self, double[] data, int rows, int cols)
+   {
+      try
+      {
+         return (boolean) setData.invokeExact(getCPtr(self), MemorySegment.ofArray(data), rows, cols);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean get(NativeMatrixImpl self, double[] data, int rows, int cols)
+   {
+      try
+      {
+         return (boolean) getData.invokeExact(getCPtr(self), MemorySegment.ofArray(data), rows, cols);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean addDiagonal(NativeMatrixImpl self, int startRow, int startCol, int rows, int cols, double value)
+   {
+      try
+      {
+         return (boolean) addDiagonalBlock.invokeExact(getCPtr(self), startRow, startCol, rows, cols, value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean fill(NativeMatrixImpl self, double value)
+   {
+      try
+      {
+         return (boolean) fill.invokeExact(getCPtr(self), value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean fillDiagonal(NativeMatrixImpl self, int startRow, int startCol, int rows, int cols, double value)
+   {
+      try
+      {
+         return (boolean) fillDiagonalBlock.invokeExact(getCPtr(self), startRow, startCol, rows, cols, value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean fillBlock(NativeMatrixImpl self, int startRow, int startCol, int numberOfRows, int numberOfCols, double value)
+   {
+      try
+      {
+         return (boolean) fillBlock.invokeExact(getCPtr(self), startRow, startCol, numberOfRows, numberOfCols, value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean setElement(NativeMatrixImpl self, int dstRow, int dstCol, NativeMatrixImpl src, int srcRow, int srcCol)
+   {
+      try
+      {
+         return (boolean) setElement.invokeExact(getCPtr(self), dstRow, dstCol, getCPtr(src), srcRow, srcCol);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+         Reference.reachabilityFence(src);
+      }
+   }
+
+   @Override
+   public boolean zeroBlock(NativeMatrixImpl self, int srcY0, int srcY1, int srcX0, int srcX1)
+   {
+      try
+      {
+         return (boolean) zeroBlock.invokeExact(getCPtr(self), srcY0, srcY1, srcX0, srcX1);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean addDiagonal(NativeMatrixImpl self, int startRow, int startCol, int size, double value)
+   {
+      try
+      {
+         return (boolean) addDiagonalSquare.invokeExact(getCPtr(self), startRow, startCol, size, value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean addDiagonal(NativeMatrixImpl self, double value)
+   {
+      try
+      {
+         return (boolean) addDiagonal.invokeExact(getCPtr(self), value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean fillDiagonal(NativeMatrixImpl self, int startRow, int startCol, int size, double value)
+   {
+      try
+      {
+         return (boolean) fillDiagonalSquare.invokeExact(getCPtr(self), startRow, startCol, size, value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean fillDiagonal(NativeMatrixImpl self, double value)
+   {
+      try
+      {
+         return (boolean) fillDiagonal.invokeExact(getCPtr(self), value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public double min(NativeMatrixImpl self)
+   {
+      try
+      {
+         return (double) min.invokeExact(getCPtr(self));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public double max(NativeMatrixImpl self)
+   {
+      try
+      {
+         return (double) max.invokeExact(getCPtr(self));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public double sum(NativeMatrixImpl self)
+   {
+      try
+      {
+         return (double) sum.invokeExact(getCPtr(self));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public double prod(NativeMatrixImpl self)
+   {
+      try
+      {
+         return (double) prod.invokeExact(getCPtr(self));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public void scale(NativeMatrixImpl self, double scale)
+   {
+      try
+      {
+         scaleInPlace.invokeExact(getCPtr(self), scale);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean set(NativeMatrixImpl self, int row, int col, double value)
+   {
+      try
+      {
+         return (boolean) setValue.invokeExact(getCPtr(self), row, col, value);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public double get(NativeMatrixImpl self, int row, int col)
+   {
+      try
+      {
+         return (double) getValue.invokeExact(getCPtr(self), row, col);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public int rows(NativeMatrixImpl self)
+   {
+      try
+      {
+         return (int) rows.invokeExact(getCPtr(self));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public int cols(NativeMatrixImpl self)
+   {
+      try
+      {
+         return (int) cols.invokeExact(getCPtr(self));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public int size(NativeMatrixImpl self)
+   {
+      try
+      {
+         return (int) size.invokeExact(getCPtr(self));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public int capacity(NativeMatrixImpl self)
+   {
+      try
+      {
+         return (int) capacity.invokeExact(getCPtr(self));
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean zeroRow(NativeMatrixImpl self, int rowToZero)
+   {
+      try
+      {
+         return (boolean) zeroRow.invokeExact(getCPtr(self), rowToZero);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+
+   @Override
+   public boolean zeroCol(NativeMatrixImpl self, int colToZero)
+   {
+      try
+      {
+         return (boolean) zeroCol.invokeExact(getCPtr(self), colToZero);
+      }
+      catch (Throwable e)
+      {
+         throw propagate(e);
+      }
+      finally
+      {
+         Reference.reachabilityFence(self);
+      }
+   }
+}
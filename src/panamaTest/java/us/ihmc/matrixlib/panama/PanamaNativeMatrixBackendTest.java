@@ -0,0 +1,59 @@
+package us.ihmc.matrixlib.panama;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.matrixlib.MatrixTestTools;
+import us.ihmc.matrixlib.NativeMatrix;
+
+public class PanamaNativeMatrixBackendTest
+{
+   private static final int maxSize = 20;
+   private static final int iterations = 1000;
+   private static final double epsilon = 1.0e-12;
+
+   @Test
+   public void testBackendIsPanama()
+   {
+      // The testPanama task also runs NativeMatrixTest and DirectNativeMatrixTest, they have to go through this backend.
+      assertEquals(PanamaNativeMatrixBackend.NAME, NativeMatrix.getBackendName());
+   }
+
+   @Test
+   public void testMult()
+   {
+      Random random = new Random(8734L);
+
+      NativeMatrix nativeA = new NativeMatrix(0, 0);
+      NativeMatrix nativeB = new NativeMatrix(0, 0);
+      NativeMatrix actual = new NativeMatrix(0, 0);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int aCols = random.nextInt(maxSize) + 1;
+         int bCols = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, random);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(aCols, bCols, random);
+         DMatrixRMaj expected = new DMatrixRMaj(aRows, bCols);
+         CommonOps_DDRM.mult(A, B, expected);
+
+         nativeA.set(A);
+         nativeB.set(B);
+         actual.mult(nativeA, nativeB);
+
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+
+      nativeA.close();
+      nativeB.close();
+      actual.close();
+   }
+}
@@ -0,0 +1,129 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.matrixlib.AutoCommonOps.Backend;
+import us.ihmc.matrixlib.AutoCommonOps.Operation;
+
+public class AutoCommonOpsTest
+{
+   private static final int maxSize = 80;
+   private static final int iterations = 500;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testSelectBackend()
+   {
+      for (Operation operation : Operation.values())
+      {
+         int threshold = AutoCommonOps.getNativeThreshold(operation);
+         assertEquals(Backend.EJML, AutoCommonOps.selectBackend(operation, threshold - 1));
+         assertEquals(Backend.NATIVE_COMMON_OPS, AutoCommonOps.selectBackend(operation, threshold));
+      }
+
+      NativeMatrix.setNumberOfThreads(4);
+      try
+      {
+         int parallelThreshold = NativeMatrix.getParallelThreshold();
+         assertEquals(Backend.NATIVE_COMMON_OPS, AutoCommonOps.selectBackend(Operation.MULT, parallelThreshold - 1));
+         assertEquals(Backend.NATIVE_MATRIX, AutoCommonOps.selectBackend(Operation.MULT, parallelThreshold));
+      }
+      finally
+      {
+         NativeMatrix.setNumberOfThreads(1);
+      }
+      assertEquals(Backend.NATIVE_COMMON_OPS, AutoCommonOps.selectBackend(Operation.MULT, NativeMatrix.getParallelThreshold()));
+
+      assertEquals(10, AutoCommonOps.multSize(10, 10, 10));
+      assertEquals(10, AutoCommonOps.multSize(4, 25, 10));
+      assertEquals(10, AutoCommonOps.multQuadSize(10, 10));
+   }
+
+   @Test
+   public void testOperations()
+   {
+      Random random = new Random(40L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int aCols = random.nextInt(maxSize) + 1;
+         int bCols = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, random);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(aCols, bCols, random);
+         DMatrixRMaj actual = new DMatrixRMaj(0, 0);
+         DMatrixRMaj expected = new DMatrixRMaj(aRows, bCols);
+
+         AutoCommonOps.mult(A, B, actual);
+         CommonOps_DDRM.mult(A, B, expected);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DMatrixRMaj Q = RandomMatrices_DDRM.rectangle(aRows, aRows, random);
+         DMatrixRMaj tempMatrix = new DMatrixRMaj(aCols, aRows);
+         CommonOps_DDRM.multTransA(A, Q, tempMatrix);
+         expected.reshape(aCols, aCols);
+         CommonOps_DDRM.mult(tempMatrix, A, expected);
+         AutoCommonOps.multQuad(A, Q, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(aRows, 1, random);
+         expected.reshape(aRows, aRows);
+         CommonOps_DDRM.invert(Q, expected);
+         AutoCommonOps.invert(Q, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, 1.0e-6);
+
+         expected.reshape(aRows, 1);
+         CommonOps_DDRM.solve(Q, b, expected);
+         AutoCommonOps.solve(Q, b, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, 1.0e-6);
+      }
+   }
+
+   @Test
+   public void testInPlaceAndDimensions()
+   {
+      Random random = new Random(41L);
+
+      DMatrixRMaj A = RandomMatrices_DDRM.rectangle(4, 4, random);
+      DMatrixRMaj B = RandomMatrices_DDRM.rectangle(4, 4, random);
+      DMatrixRMaj expected = new DMatrixRMaj(4, 4);
+      CommonOps_DDRM.mult(A, B, expected);
+      AutoCommonOps.mult(A, B, A);
+      MatrixTestTools.assertMatrixEquals(expected, A, epsilon);
+
+      assertThrows(IllegalArgumentException.class, () -> AutoCommonOps.invert(B, B));
+      assertThrows(IllegalArgumentException.class, () -> AutoCommonOps.mult(new DMatrixRMaj(3, 4), new DMatrixRMaj(3, 4), new DMatrixRMaj(0, 0)));
+      assertThrows(IllegalArgumentException.class, () -> AutoCommonOps.solve(B, new DMatrixRMaj(4, 2), new DMatrixRMaj(0, 0)));
+   }
+
+   @Test
+   public void testCalibrate()
+   {
+      int[] thresholds = new int[Operation.values().length];
+      for (Operation operation : Operation.values())
+         thresholds[operation.ordinal()] = AutoCommonOps.getNativeThreshold(operation);
+
+      try
+      {
+         AutoCommonOps.calibrate();
+
+         for (Operation operation : Operation.values())
+            assertTrue(AutoCommonOps.getNativeThreshold(operation) >= 2);
+      }
+      finally
+      {
+         for (Operation operation : Operation.values())
+            AutoCommonOps.setNativeThreshold(operation, thresholds[operation.ordinal()]);
+      }
+   }
+}
@@ -0,0 +1,109 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.simple.SimpleMatrix;
+import org.junit.jupiter.api.Test;
+
+public class BlockSparseMatrixTest
+{
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-10;
+
+   @Test
+   public void testProducts()
+   {
+      Random random = new Random(60L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         // Block diagonal structure, one 6-by-n block per body.
+         int numberOfBodies = random.nextInt(4) + 1;
+         int[] blockCols = new int[numberOfBodies];
+         int cols = 0;
+         for (int body = 0; body < numberOfBodies; body++)
+         {
+            blockCols[body] = random.nextInt(7) + 1;
+            cols += blockCols[body];
+         }
+         int rows = 6 * numberOfBodies;
+
+         BlockSparseMatrix sparse = new BlockSparseMatrix(rows, cols);
+         DMatrixRMaj[] blocks = new DMatrixRMaj[numberOfBodies];
+         int colStart = 0;
+         for (int body = 0; body < numberOfBodies; body++)
+         {
+            blocks[body] = new DMatrixRMaj(6, blockCols[body]);
+            sparse.addBlock(blocks[body], 6 * body, colStart);
+            colStart += blockCols[body];
+         }
+         assertEquals(numberOfBodies, sparse.getNumberOfBlocks());
+
+         // The blocks are updated in place after having been registered.
+         for (DMatrixRMaj block : blocks)
+            RandomMatrices_DDRM.fillUniform(block, -1.0, 1.0, random);
+
+         DMatrixRMaj dense = new DMatrixRMaj(0, 0);
+         sparse.get(dense);
+         SimpleMatrix J = new SimpleMatrix(dense);
+         DMatrixRMaj expectedDense = new DMatrixRMaj(rows, cols);
+         colStart = 0;
+         for (int body = 0; body < numberOfBodies; body++)
+         {
+            CommonOps_DDRM.insert(blocks[body], expectedDense, 6 * body, colStart);
+            colStart += blockCols[body];
+         }
+         MatrixTestTools.assertMatrixEquals(expectedDense, dense, 0.0);
+
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(cols, 3, random);
+         DMatrixRMaj C = RandomMatrices_DDRM.rectangle(rows, 2, random);
+         DMatrixRMaj W = RandomMatrices_DDRM.symmetricPosDef(rows, random);
+         DMatrixRMaj actual = new DMatrixRMaj(0, 0);
+
+         sparse.mult(B, actual);
+         MatrixTestTools.assertMatrixEquals(J.mult(new SimpleMatrix(B)).getDDRM(), actual, epsilon);
+
+         sparse.multTransA(C, actual);
+         MatrixTestTools.assertMatrixEquals(J.transpose().mult(new SimpleMatrix(C)).getDDRM(), actual, epsilon);
+
+         SimpleMatrix expectedQuad = J.transpose().mult(new SimpleMatrix(W)).mult(J);
+         sparse.multQuad(W, actual);
+         MatrixTestTools.assertMatrixEquals(expectedQuad.getDDRM(), actual, epsilon);
+
+         int offset = random.nextInt(3);
+         DMatrixRMaj initial = RandomMatrices_DDRM.rectangle(cols + 4, cols + 4, random);
+         actual.set(initial);
+         sparse.multAddQuadBlock(W, actual, offset, 4 - offset);
+         SimpleMatrix expected = new SimpleMatrix(initial);
+         expected.insertIntoThis(offset, 4 - offset, expected.extractMatrix(offset, offset + cols, 4 - offset, 4 - offset + cols).plus(expectedQuad));
+         MatrixTestTools.assertMatrixEquals(expected.getDDRM(), actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testExceptions()
+   {
+      assertThrows(IllegalArgumentException.class, () -> new BlockSparseMatrix(-1, 2));
+
+      BlockSparseMatrix sparse = new BlockSparseMatrix(4, 5);
+      assertThrows(MatrixDimensionException.class, () -> sparse.addBlock(new DMatrixRMaj(2, 2), 3, 0));
+      assertThrows(MatrixDimensionException.class, () -> sparse.addBlock(new DMatrixRMaj(2, 6), 0, 0));
+      sparse.addBlock(new DMatrixRMaj(2, 2), 0, 0);
+      assertThrows(MatrixDimensionException.class, () -> sparse.mult(new DMatrixRMaj(4, 1), new DMatrixRMaj(4, 1)));
+      assertThrows(MatrixDimensionException.class, () -> sparse.multTransA(new DMatrixRMaj(5, 1), new DMatrixRMaj(5, 1)));
+      assertThrows(MatrixDimensionException.class, () -> sparse.multQuad(new DMatrixRMaj(4, 1), new DMatrixRMaj(5, 5)));
+      assertThrows(MatrixDimensionException.class, () -> sparse.multAddQuadBlock(new DMatrixRMaj(4, 4), new DMatrixRMaj(5, 5), 1, 0));
+      DMatrixRMaj b = new DMatrixRMaj(5, 1);
+      assertThrows(IllegalArgumentException.class, () -> sparse.mult(b, b));
+
+      sparse.clear();
+      assertEquals(0, sparse.getNumberOfBlocks());
+   }
+}
@@ -1,9 +1,11 @@
 package us.ihmc.matrixlib;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Random;
 
+import org.ejml.MatrixDimensionException;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.CommonOps_DDRM;
 import org.ejml.dense.row.RandomMatrices_DDRM;
@@ -1334,4 +1336,131 @@ public class DiagonalMatrixToolsTest
          MatrixTestTools.assertMatrixEquals(expectedSolutionB, solutionB, epsilon);
       }
    }
+
+   @Test
+   public void testDiagonalMatrixOverloads()
+   {
+      Random random = new Random(125L);
+
+      int iters = 500;
+
+      for (int i = 0; i < iters; i++)
+      {
+         int size = RandomNumbers.nextInt(random, 1, 30);
+         int rows = RandomNumbers.nextInt(random, 1, 30);
+         int cols = RandomNumbers.nextInt(random, 1, 30);
+
+         DiagonalMatrix diagonal = new DiagonalMatrix(size);
+         for (int index = 0; index < size; index++)
+            diagonal.set(index, RandomNumbers.nextDouble(random, 50.0));
+         DMatrixRMaj dense = new DMatrixRMaj(0, 0);
+         diagonal.get(dense);
+
+         DMatrixRMaj sizeByCols = RandomMatrices_DDRM.rectangle(size, cols, -50.0, 50.0, random);
+         DMatrixRMaj rowsBySize = RandomMatrices_DDRM.rectangle(rows, size, -50.0, 50.0, random);
+         DMatrixRMaj sizeByRows = RandomMatrices_DDRM.rectangle(size, rows, -50.0, 50.0, random);
+
+         DMatrixRMaj expected = new DMatrixRMaj(size, cols);
+         DMatrixRMaj actual = new DMatrixRMaj(size, cols);
+         DiagonalMatrixTools.preMult(dense, sizeByCols, expected);
+         DiagonalMatrixTools.preMult(diagonal, sizeByCols, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DMatrixRMaj block = RandomMatrices_DDRM.rectangle(size + 2, cols + 3, random);
+         expected.set(block);
+         actual.set(block);
+         DiagonalMatrixTools.preMultAddBlock(dense, sizeByCols, expected, 2, 1);
+         DiagonalMatrixTools.preMultAddBlock(diagonal, sizeByCols, actual, 2, 1);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+         DiagonalMatrixTools.preMultAddBlock(-0.5, dense, sizeByCols, expected, 1, 3);
+         DiagonalMatrixTools.preMultAddBlock(-0.5, diagonal, sizeByCols, actual, 1, 3);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         expected.reshape(rows, size);
+         actual.reshape(rows, size);
+         DiagonalMatrixTools.postMult(rowsBySize, dense, expected);
+         DiagonalMatrixTools.postMult(rowsBySize, diagonal, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DiagonalMatrixTools.postMultTransA(sizeByRows, dense, expected);
+         DiagonalMatrixTools.postMultTransA(sizeByRows, diagonal, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         expected.reshape(cols, cols);
+         actual.reshape(cols, cols);
+         DiagonalMatrixTools.multInner(sizeByCols, dense, expected);
+         DiagonalMatrixTools.multInner(sizeByCols, diagonal, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+         DiagonalMatrixTools.multAddInner(sizeByCols, dense, expected);
+         DiagonalMatrixTools.multAddInner(sizeByCols, diagonal, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+         DiagonalMatrixTools.multAddInner(0.3, sizeByCols, dense, expected);
+         DiagonalMatrixTools.multAddInner(0.3, sizeByCols, diagonal, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         block = RandomMatrices_DDRM.rectangle(cols + 2, cols + 2, random);
+         expected.set(block);
+         actual.set(block);
+         DiagonalMatrixTools.multAddBlockInner(sizeByCols, dense, expected, 1, 2);
+         DiagonalMatrixTools.multAddBlockInner(sizeByCols, diagonal, actual, 1, 2);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         expected.reshape(rows, rows);
+         actual.reshape(rows, rows);
+         DiagonalMatrixTools.multOuter(rowsBySize, dense, expected);
+         DiagonalMatrixTools.multOuter(rowsBySize, diagonal, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         expected.reshape(rows, cols);
+         actual.reshape(rows, cols);
+         DiagonalMatrixTools.innerDiagonalMult(rowsBySize, dense, sizeByCols, expected);
+         DiagonalMatrixTools.innerDiagonalMult(rowsBySize, diagonal, sizeByCols, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DiagonalMatrixTools.innerDiagonalMultTransA(sizeByRows, dense, sizeByCols, expected);
+         DiagonalMatrixTools.innerDiagonalMultTransA(sizeByRows, diagonal, sizeByCols, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+         DiagonalMatrixTools.innerDiagonalMultAddTransA(sizeByRows, dense, sizeByCols, expected);
+         DiagonalMatrixTools.innerDiagonalMultAddTransA(sizeByRows, diagonal, sizeByCols, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         block = RandomMatrices_DDRM.rectangle(rows + 2, cols + 2, random);
+         expected.set(block);
+         actual.set(block);
+         DiagonalMatrixTools.innerDiagonalMultAddBlockTransA(sizeByRows, dense, sizeByCols, expected, 2, 1);
+         DiagonalMatrixTools.innerDiagonalMultAddBlockTransA(sizeByRows, diagonal, sizeByCols, actual, 2, 1);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+         DiagonalMatrixTools.innerDiagonalMultAddBlockTransA(-2.0, sizeByRows, dense, sizeByCols, expected, 0, 2);
+         DiagonalMatrixTools.innerDiagonalMultAddBlockTransA(-2.0, sizeByRows, diagonal, sizeByCols, actual, 0, 2);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testDiagonalMatrix()
+   {
+      Random random = new Random(126L);
+      DMatrixRMaj vector = RandomMatrices_DDRM.rectangle(6, 1, 0.5, 2.0, random);
+      DMatrixRMaj square = new DMatrixRMaj(0, 0);
+
+      DiagonalMatrix diagonal = new DiagonalMatrix(0);
+      diagonal.set(vector);
+      assertEquals(6, diagonal.getSize());
+      diagonal.get(square);
+
+      DiagonalMatrix other = new DiagonalMatrix(2);
+      other.set(square);
+      for (int i = 0; i < 6; i++)
+         assertEquals(vector.get(i), other.get(i), 0.0);
+
+      DMatrixRMaj expectedInverse = new DMatrixRMaj(6, 6);
+      DiagonalMatrixTools.invertDiagonalMatrix(square, expectedInverse);
+      other.invert();
+      other.get(square);
+      MatrixTestTools.assertMatrixEquals(expectedInverse, square, epsilon);
+
+      assertThrows(MatrixDimensionException.class, () -> diagonal.set(new DMatrixRMaj(3, 2)));
+      assertThrows(MatrixDimensionException.class, () -> DiagonalMatrixTools.preMult(diagonal, new DMatrixRMaj(5, 2), new DMatrixRMaj(6, 2)));
+      assertThrows(MatrixDimensionException.class, () -> DiagonalMatrixTools.multInner(new DMatrixRMaj(5, 2), diagonal, new DMatrixRMaj(2, 2)));
+   }
 }
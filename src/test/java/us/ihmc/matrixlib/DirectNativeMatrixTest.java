@@ -0,0 +1,171 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.DoubleBuffer;
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+public class DirectNativeMatrixTest
+{
+   private static final int maxSize = 80;
+   private static final int iterations = 1000;
+   private static final double epsilon = 1.0e-12;
+
+   @Test
+   public void testReadAndWriteThroughBuffer()
+   {
+      Random random = new Random(3452L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int rows = random.nextInt(maxSize) + 1;
+         int cols = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj expected = RandomMatrices_DDRM.rectangle(rows, cols, random);
+         DMatrixRMaj actual = new DMatrixRMaj(rows, cols);
+         DirectNativeMatrix matrix = new DirectNativeMatrix(rows, cols);
+
+         DoubleBuffer buffer = matrix.getDataBuffer();
+         for (int col = 0; col < cols; col++)
+         {
+            for (int row = 0; row < rows; row++)
+            {
+               buffer.put(row + col * rows, expected.get(row, col));
+            }
+         }
+
+         matrix.get(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         expected = RandomMatrices_DDRM.rectangle(rows, cols, random);
+         matrix.set(expected);
+
+         for (int col = 0; col < cols; col++)
+         {
+            for (int row = 0; row < rows; row++)
+            {
+               assertEquals(expected.get(row, col), buffer.get(row + col * rows), epsilon);
+               assertEquals(expected.get(row, col), matrix.get(row, col), epsilon);
+            }
+         }
+
+         assertEquals(rows, matrix.getNumRows());
+         assertEquals(cols, matrix.getNumCols());
+      }
+   }
+
+   @Test
+   public void testResultOfNativeOperation()
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int aCols = random.nextInt(maxSize) + 1;
+         int bCols = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, random);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(aCols, bCols, random);
+         DMatrixRMaj expected = new DMatrixRMaj(aRows, bCols);
+         CommonOps_DDRM.mult(A, B, expected);
+
+         DirectNativeMatrix result = new DirectNativeMatrix(0, 0, maxSize * maxSize);
+         DoubleBuffer buffer = result.getDataBuffer();
+         result.mult(new NativeMatrix(A), new NativeMatrix(B));
+
+         assertEquals(aRows, result.getNumRows());
+         assertEquals(bCols, result.getNumCols());
+         assertTrue(result.isDataBufferValid(buffer));
+         assertSame(buffer, result.getDataBuffer());
+
+         for (int col = 0; col < bCols; col++)
+         {
+            for (int row = 0; row < aRows; row++)
+            {
+               assertEquals(expected.get(row, col), buffer.get(row + col * aRows), 1.0e-10);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testReallocation()
+   {
+      Random random = new Random(3454L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int rows = random.nextInt(maxSize) + 1;
+         int cols = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj expected = RandomMatrices_DDRM.rectangle(rows, cols, random);
+         DMatrixRMaj actual = new DMatrixRMaj(rows, cols);
+         DirectNativeMatrix matrix = new DirectNativeMatrix(expected.getNumRows(), expected.getNumCols());
+         matrix.set(expected);
+         DoubleBuffer buffer = matrix.getDataBuffer();
+
+         matrix.reserve(rows * cols);
+         assertTrue(matrix.isDataBufferValid(buffer));
+
+         matrix.reserve(rows * cols + 1);
+         assertFalse(matrix.isDataBufferValid(buffer));
+         assertEquals(rows * cols + 1, matrix.getCapacity());
+
+         // The data is preserved when the storage is reallocated.
+         matrix.get(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         int newRows = random.nextInt(maxSize) + 1;
+         matrix.growRows(newRows);
+         DMatrixRMaj expectedGrown = new DMatrixRMaj(rows + newRows, cols);
+         CommonOps_DDRM.insert(expected, expectedGrown, 0, 0);
+         DMatrixRMaj actualGrown = new DMatrixRMaj(rows + newRows, cols);
+         matrix.get(actualGrown);
+         MatrixTestTools.assertMatrixEquals(expectedGrown, actualGrown, epsilon);
+      }
+   }
+
+   @Test
+   public void testGrowRowsAfterShrinking()
+   {
+      Random random = new Random(3455L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int rows = random.nextInt(maxSize) + 1;
+         int cols = random.nextInt(maxSize) + 1;
+         int newRows = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj expected = RandomMatrices_DDRM.rectangle(rows, cols, random);
+         NativeMatrix matrix = new NativeMatrix(maxSize, maxSize);
+         matrix.set(expected);
+         matrix.growRows(newRows);
+
+         DMatrixRMaj expectedGrown = new DMatrixRMaj(rows + newRows, cols);
+         CommonOps_DDRM.insert(expected, expectedGrown, 0, 0);
+         DMatrixRMaj actualGrown = new DMatrixRMaj(rows + newRows, cols);
+         matrix.get(actualGrown);
+         MatrixTestTools.assertMatrixEquals(expectedGrown, actualGrown, epsilon);
+      }
+   }
+
+   @Test
+   public void testIndexOutOfBounds()
+   {
+      DirectNativeMatrix matrix = new DirectNativeMatrix(3, 4, 100);
+      assertThrows(IllegalArgumentException.class, () -> matrix.get(3, 0));
+      assertThrows(IllegalArgumentException.class, () -> matrix.get(0, 4));
+      assertThrows(IllegalArgumentException.class, () -> matrix.set(-1, 0, 1.0));
+      assertThrows(IllegalArgumentException.class, () -> matrix.set(0, -1, 1.0));
+   }
+}
@@ -0,0 +1,82 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest
+{
+   @Test
+   public void testBuckets()
+   {
+      for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++)
+      {
+         long lowest = LatencyHistogram.lowestEquivalentValue(i);
+         long highest = LatencyHistogram.highestEquivalentValue(i);
+         assertEquals(i, LatencyHistogram.bucketIndex(lowest));
+         assertEquals(i, LatencyHistogram.bucketIndex(highest));
+         if (i > 0)
+            assertEquals(LatencyHistogram.highestEquivalentValue(i - 1) + 1, lowest);
+      }
+      assertEquals(LatencyHistogram.MAX_TRACKABLE_VALUE, LatencyHistogram.highestEquivalentValue(LatencyHistogram.BUCKET_COUNT - 1));
+      assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+      assertEquals(0, LatencyHistogram.bucketIndex(-5L));
+   }
+
+   @Test
+   public void testPercentiles()
+   {
+      Random random = new Random(43L);
+      LatencyHistogram histogram = new LatencyHistogram();
+      long[] values = new long[10000];
+      for (int i = 0; i < values.length; i++)
+      {
+         values[i] = 1000L + (long) (random.nextDouble() * 1.0e6);
+         histogram.record(values[i]);
+      }
+      Arrays.sort(values);
+
+      assertEquals(values.length, histogram.getTotalCount());
+      for (double percentile : new double[] {0.0, 50.0, 99.0, 99.9, 100.0})
+      {
+         long expected = values[Math.max(0, (int) Math.ceil(percentile / 100.0 * values.length) - 1)];
+         long actual = histogram.getValueAtPercentile(percentile);
+         assertTrue(Math.abs(actual - expected) <= expected / LatencyHistogram.SUB_BUCKET_HALF_COUNT, percentile + ": " + actual + " != " + expected);
+      }
+      assertEquals(values[values.length - 1], histogram.getMax(), values[values.length - 1] / LatencyHistogram.SUB_BUCKET_HALF_COUNT);
+      assertEquals(values[0], histogram.getMin(), values[0] / LatencyHistogram.SUB_BUCKET_HALF_COUNT);
+      assertEquals(Arrays.stream(values).average().getAsDouble(), histogram.getMean(), 1.0e6 / LatencyHistogram.SUB_BUCKET_HALF_COUNT);
+      assertEquals(1.0e6 / Math.sqrt(12.0), histogram.getStandardDeviation(), 1.0e4);
+      assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101.0));
+
+      LatencyHistogram copy = new LatencyHistogram(histogram);
+      copy.add(histogram);
+      assertEquals(2 * values.length, copy.getTotalCount());
+      assertEquals(histogram.getValueAtPercentile(99.0), copy.getValueAtPercentile(99.0));
+      copy.subtract(histogram);
+      assertEquals(values.length, copy.getTotalCount());
+
+      histogram.reset();
+      assertEquals(0L, histogram.getTotalCount());
+      assertEquals(0L, histogram.getMax());
+      assertEquals(0L, histogram.getValueAtPercentile(50.0));
+   }
+
+   @Test
+   public void testExactSmallValues()
+   {
+      LatencyHistogram histogram = new LatencyHistogram();
+      for (long value = 1; value <= 100; value++)
+         histogram.record(value);
+      assertEquals(50L, histogram.getValueAtPercentile(50.0));
+      assertEquals(99L, histogram.getValueAtPercentile(99.0));
+      assertEquals(100L, histogram.getMax());
+      assertEquals(1L, histogram.getMin());
+      assertEquals(50.5, histogram.getMean(), 1.0e-12);
+   }
+}
@@ -0,0 +1,102 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.simple.SimpleMatrix;
+import org.junit.jupiter.api.Test;
+
+public class NativeBlockSparseMatrixTest
+{
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-10;
+
+   @Test
+   public void testProducts()
+   {
+      Random random = new Random(61L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         // Block diagonal structure, one 6-by-n block per body.
+         int numberOfBodies = random.nextInt(4) + 1;
+         int[] blockCols = new int[numberOfBodies];
+         int cols = 0;
+         for (int body = 0; body < numberOfBodies; body++)
+         {
+            blockCols[body] = random.nextInt(7) + 1;
+            cols += blockCols[body];
+         }
+         int rows = 6 * numberOfBodies;
+
+         NativeBlockSparseMatrix sparse = new NativeBlockSparseMatrix(rows, cols);
+         NativeMatrix[] blocks = new NativeMatrix[numberOfBodies];
+         DMatrixRMaj expectedDense = new DMatrixRMaj(rows, cols);
+         int colStart = 0;
+         for (int body = 0; body < numberOfBodies; body++)
+         {
+            blocks[body] = new NativeMatrix(6, blockCols[body]);
+            sparse.addBlock(blocks[body], 6 * body, colStart);
+
+            // The blocks are updated in place after having been registered.
+            DMatrixRMaj values = RandomMatrices_DDRM.rectangle(6, blockCols[body], random);
+            blocks[body].set(values);
+            CommonOps_DDRM.insert(values, expectedDense, 6 * body, colStart);
+            colStart += blockCols[body];
+         }
+         assertEquals(numberOfBodies, sparse.getNumberOfBlocks());
+
+         NativeMatrix actual = new NativeMatrix(0, 0);
+         sparse.get(actual);
+         MatrixTestTools.assertMatrixEquals(expectedDense, actual, 0.0);
+         SimpleMatrix J = new SimpleMatrix(expectedDense);
+
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(cols, 3, random);
+         DMatrixRMaj C = RandomMatrices_DDRM.rectangle(rows, 2, random);
+         DMatrixRMaj W = RandomMatrices_DDRM.symmetricPosDef(rows, random);
+
+         sparse.mult(new NativeMatrix(B), actual);
+         MatrixTestTools.assertMatrixEquals(J.mult(new SimpleMatrix(B)).getDDRM(), actual, epsilon);
+
+         sparse.multTransA(new NativeMatrix(C), actual);
+         MatrixTestTools.assertMatrixEquals(J.transpose().mult(new SimpleMatrix(C)).getDDRM(), actual, epsilon);
+
+         SimpleMatrix expectedQuad = J.transpose().mult(new SimpleMatrix(W)).mult(J);
+         sparse.multQuad(new NativeMatrix(W), actual);
+         MatrixTestTools.assertMatrixEquals(expectedQuad.getDDRM(), actual, epsilon);
+
+         int offset = random.nextInt(3);
+         DMatrixRMaj initial = RandomMatrices_DDRM.rectangle(cols + 4, cols + 4, random);
+         actual.set(initial);
+         sparse.multAddQuadBlock(new NativeMatrix(W), actual, offset, 4 - offset);
+         SimpleMatrix expected = new SimpleMatrix(initial);
+         expected.insertIntoThis(offset, 4 - offset, expected.extractMatrix(offset, offset + cols, 4 - offset, 4 - offset + cols).plus(expectedQuad));
+         MatrixTestTools.assertMatrixEquals(expected.getDDRM(), actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testExceptions()
+   {
+      assertThrows(IllegalArgumentException.class, () -> new NativeBlockSparseMatrix(-1, 2));
+
+      NativeBlockSparseMatrix sparse = new NativeBlockSparseMatrix(4, 5);
+      assertThrows(IllegalArgumentException.class, () -> sparse.addBlock(new NativeMatrix(2, 2), 3, 0));
+      assertThrows(IllegalArgumentException.class, () -> sparse.addBlock(new NativeMatrix(2, 6), 0, 0));
+      sparse.addBlock(new NativeMatrix(2, 2), 0, 0);
+      assertThrows(IllegalArgumentException.class, () -> sparse.mult(new NativeMatrix(4, 1), new NativeMatrix(4, 1)));
+      assertThrows(IllegalArgumentException.class, () -> sparse.multTransA(new NativeMatrix(5, 1), new NativeMatrix(5, 1)));
+      assertThrows(IllegalArgumentException.class, () -> sparse.multQuad(new NativeMatrix(4, 1), new NativeMatrix(5, 5)));
+      assertThrows(IllegalArgumentException.class, () -> sparse.multAddQuadBlock(new NativeMatrix(4, 4), new NativeMatrix(5, 5), 1, 0));
+      NativeMatrix b = new NativeMatrix(5, 1);
+      assertThrows(IllegalArgumentException.class, () -> sparse.mult(b, b));
+
+      sparse.clear();
+      assertEquals(0, sparse.getNumberOfBlocks());
+   }
+}
@@ -0,0 +1,28 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.matrixlib.NativeCommonOpsLibrary.Variant;
+
+public class NativeCommonOpsLibraryTest
+{
+   @Test
+   public void testActiveVariantIsSupported()
+   {
+      Variant variant = NativeCommonOpsLibrary.getActiveVariant();
+      assertNotNull(variant);
+
+      // The native classes share the library that has been loaded.
+      NativeMatrix matrix = new NativeMatrix(2, 2);
+      matrix.fill(1.0);
+      assertTrue(matrix.get(1, 1) == 1.0);
+
+      if (variant == Variant.AVX2)
+         assertTrue(NativeCPUFeatures.getSupportedInstructionSet() >= NativeCPUFeatures.AVX2);
+      else if (variant == Variant.AVX512)
+         assertTrue(NativeCPUFeatures.getSupportedInstructionSet() >= NativeCPUFeatures.AVX512);
+   }
+}
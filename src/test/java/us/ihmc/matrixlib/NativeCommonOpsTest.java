@@ -1,5 +1,9 @@
 package us.ihmc.matrixlib;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.util.Random;
 
 import org.ejml.data.DMatrixRMaj;
@@ -222,6 +226,84 @@ public class NativeCommonOpsTest
       System.out.println("Native takes " + 100.0 * nativeTime / ejmlTime + "% of EJML time.\n");
    }
 
+   @Test
+   public void testSolveCheck()
+   {
+      Random random = new Random(40L);
+      LinearSolverDense<DMatrixRMaj> solver = LinearSolverFactory_DDRM.lu(maxSize);
+      SolveDiagnostics diagnostics = new SolveDiagnostics();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int bCols = random.nextInt(5) + 1;
+         boolean positiveDefinite = random.nextBoolean();
+
+         DMatrixRMaj A = positiveDefinite ? RandomMatrices_DDRM.symmetricPosDef(aRows, random) : RandomMatrices_DDRM.rectangle(aRows, aRows, random);
+         CommonOps_DDRM.addEquals(A, CommonOps_DDRM.identity(aRows));
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(aRows, bCols, random);
+         DMatrixRMaj x = new DMatrixRMaj(aRows, bCols);
+         solver.setA(A);
+         solver.solve(b, x);
+
+         DMatrixRMaj nativeResult = new DMatrixRMaj(0, 0);
+         assertTrue(NativeCommonOps.solveCheck(A, b, nativeResult, positiveDefinite, diagnostics));
+         assertTrue(diagnostics.getRcond() > 0.0 && diagnostics.getRcond() <= 1.0);
+         MatrixTestTools.assertMatrixEquals(x, nativeResult, epsilon);
+
+         // The solution can be written in place of b.
+         NativeCommonOps.solveCheck(A, b, b, positiveDefinite, diagnostics);
+         MatrixTestTools.assertMatrixEquals(x, b, epsilon);
+
+         if (bCols == 1)
+         {
+            DMatrixRMaj checkedResult = new DMatrixRMaj(0, 0);
+            assertTrue(NativeCommonOps.solveCheck(A, b.copy(), checkedResult));
+         }
+      }
+
+      DMatrixRMaj singular = new DMatrixRMaj(3, 3, true, 1.0, 0.0, 3.0, 4.0, 0.0, 6.0, 5.0, 0.0, 9.0);
+      DMatrixRMaj b = RandomMatrices_DDRM.rectangle(3, 2, random);
+      DMatrixRMaj x = new DMatrixRMaj(0, 0);
+      assertFalse(NativeCommonOps.solveCheck(singular, b, x, false, diagnostics));
+      assertEquals(SolveDiagnostics.Status.ILL_CONDITIONED, diagnostics.getStatus());
+      assertTrue(Double.isNaN(x.get(0, 0)));
+      assertFalse(NativeCommonOps.solveCheck(singular, b, x, true, diagnostics));
+      assertEquals(SolveDiagnostics.Status.NOT_POSITIVE_DEFINITE, diagnostics.getStatus());
+      assertFalse(NativeCommonOps.solveCheck(singular, new DMatrixRMaj(3, 1), new DMatrixRMaj(3, 1)));
+   }
+
+   @Test
+   public void testMultInPlace()
+   {
+      Random random = new Random(40L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(size, size, random);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(size, size, random);
+         DMatrixRMaj expected = new DMatrixRMaj(size, size);
+         DMatrixRMaj tempBA = new DMatrixRMaj(size, size);
+
+         CommonOps_DDRM.mult(A, B, expected);
+         DMatrixRMaj actual = new DMatrixRMaj(A);
+         NativeCommonOps.mult(actual, B, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         actual.set(B);
+         NativeCommonOps.mult(A, actual, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         CommonOps_DDRM.mult(B, A, tempBA);
+         CommonOps_DDRM.multTransA(A, tempBA, expected);
+         actual.set(A);
+         NativeCommonOps.multQuad(actual, B, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+   }
+
    public static void main(String[] args)
    {
       int size = 500;
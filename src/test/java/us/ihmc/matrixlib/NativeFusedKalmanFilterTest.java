@@ -0,0 +1,207 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.simple.SimpleMatrix;
+import org.junit.jupiter.api.Test;
+
+public class NativeFusedKalmanFilterTest
+{
+   private static final int ITERATIONS = 50;
+   private static final int STEPS = 20;
+   private static final double EPSILON = 1.0E-8;
+   private static final Random random = new Random(2389471L);
+
+   @Test
+   public void testPredictAndUpdate()
+   {
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int n = random.nextInt(30) + 1;
+         int m = random.nextInt(30) + 1;
+         boolean diagonalNoise = random.nextBoolean();
+
+         DMatrixRMaj F = RandomMatrices_DDRM.rectangle(n, n, -1.0, 1.0, random);
+         DMatrixRMaj Q = RandomMatrices_DDRM.diagonal(n, 0.1, 1.0, random);
+         DMatrixRMaj H = RandomMatrices_DDRM.rectangle(m, n, -1.0, 1.0, random);
+         DMatrixRMaj R = RandomMatrices_DDRM.symmetricPosDef(m, random);
+         CommonOps_DDRM.addEquals(R, CommonOps_DDRM.identity(m));
+         if (diagonalNoise)
+            R = RandomMatrices_DDRM.diagonal(m, 1.0, 10.0, random);
+
+         NativeMatrix Fnative = new NativeMatrix(F);
+         NativeMatrix Qnative = new NativeMatrix(diagonalNoise ? diagonal(Q) : Q);
+         NativeMatrix Hnative = new NativeMatrix(H);
+         NativeMatrix Rnative = new NativeMatrix(diagonalNoise ? diagonal(R) : R);
+         NativeMatrix znative = new NativeMatrix(m, 1);
+
+         SimpleMatrix x = new SimpleMatrix(RandomMatrices_DDRM.rectangle(n, 1, -1.0, 1.0, random));
+         SimpleMatrix P = new SimpleMatrix(RandomMatrices_DDRM.symmetricPosDef(n, random));
+
+         NativeFusedKalmanFilter filter = new NativeFusedKalmanFilter(n, m);
+         filter.setState(new NativeMatrix(x.getDDRM()));
+         filter.setErrorCovariance(new NativeMatrix(P.getDDRM()));
+
+         SimpleMatrix Fsimple = new SimpleMatrix(F);
+         SimpleMatrix Qsimple = new SimpleMatrix(Q);
+         SimpleMatrix Hsimple = new SimpleMatrix(H);
+         SimpleMatrix Rsimple = new SimpleMatrix(R);
+
+         for (int step = 0; step < STEPS; step++)
+         {
+            DMatrixRMaj z = RandomMatrices_DDRM.rectangle(m, 1, -1.0, 1.0, random);
+            znative.set(z);
+
+            assertTrue(filter.predictAndUpdate(Fnative, Qnative, Hnative, Rnative, znative));
+
+            x = Fsimple.mult(x);
+            P = Fsimple.mult(P).mult(Fsimple.transpose()).plus(Qsimple);
+            SimpleMatrix S = Hsimple.mult(P).mult(Hsimple.transpose()).plus(Rsimple);
+            SimpleMatrix K = P.mult(Hsimple.transpose()).mult(S.invert());
+            x = x.plus(K.mult(new SimpleMatrix(z).minus(Hsimple.mult(x))));
+            P = SimpleMatrix.identity(n).minus(K.mult(Hsimple)).mult(P);
+
+            assertFilterEquals(x, P, filter);
+         }
+      }
+   }
+
+   @Test
+   public void testSeparatePredictAndUpdate()
+   {
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int n = random.nextInt(30) + 1;
+         int m = random.nextInt(30) + 1;
+
+         DMatrixRMaj F = RandomMatrices_DDRM.rectangle(n, n, -1.0, 1.0, random);
+         DMatrixRMaj Q = RandomMatrices_DDRM.diagonal(n, 0.1, 1.0, random);
+         DMatrixRMaj H = RandomMatrices_DDRM.rectangle(m, n, -1.0, 1.0, random);
+         DMatrixRMaj R = RandomMatrices_DDRM.diagonal(m, 1.0, 10.0, random);
+         DMatrixRMaj residual = RandomMatrices_DDRM.rectangle(m, 1, -1.0, 1.0, random);
+
+         NativeFusedKalmanFilter filter = new NativeFusedKalmanFilter(n, m);
+         SimpleMatrix x = new SimpleMatrix(n, 1);
+         SimpleMatrix P = SimpleMatrix.identity(n);
+
+         // Extended Kalman filter style: the covariance is predicted and the residual computed outside.
+         filter.predictErrorCovariance(new NativeMatrix(F), new NativeMatrix(Q));
+         assertTrue(filter.updateWithResidual(new NativeMatrix(H), new NativeMatrix(R), new NativeMatrix(residual)));
+
+         P = new SimpleMatrix(F).mult(P).mult(new SimpleMatrix(F).transpose()).plus(new SimpleMatrix(Q));
+         SimpleMatrix Hsimple = new SimpleMatrix(H);
+         SimpleMatrix S = Hsimple.mult(P).mult(Hsimple.transpose()).plus(new SimpleMatrix(R));
+         SimpleMatrix K = P.mult(Hsimple.transpose()).mult(S.invert());
+         x = x.plus(K.mult(new SimpleMatrix(residual)));
+         P = SimpleMatrix.identity(n).minus(K.mult(Hsimple)).mult(P);
+
+         assertFilterEquals(x, P, filter);
+      }
+   }
+
+   @Test
+   public void testSequentialUpdate()
+   {
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int n = random.nextInt(30) + 1;
+         int m = random.nextInt(30) + 1;
+
+         DMatrixRMaj H = RandomMatrices_DDRM.rectangle(m, n, -1.0, 1.0, random);
+         DMatrixRMaj R = RandomMatrices_DDRM.diagonal(m, 1.0, 10.0, random);
+         DMatrixRMaj z = RandomMatrices_DDRM.rectangle(m, 1, -1.0, 1.0, random);
+         SimpleMatrix x = new SimpleMatrix(RandomMatrices_DDRM.rectangle(n, 1, -1.0, 1.0, random));
+         SimpleMatrix P = new SimpleMatrix(RandomMatrices_DDRM.symmetricPosDef(n, random));
+
+         // The measurement size of the filter does not limit the number of rows of a sequential update.
+         NativeFusedKalmanFilter filter = new NativeFusedKalmanFilter(n, 1);
+         filter.setState(new NativeMatrix(x.getDDRM()));
+         filter.setErrorCovariance(new NativeMatrix(P.getDDRM()));
+         assertEquals(0, filter.sequentialUpdate(new NativeMatrix(H), new NativeMatrix(diagonal(R)), new NativeMatrix(z), 0.0));
+
+         SimpleMatrix Hsimple = new SimpleMatrix(H);
+         SimpleMatrix S = Hsimple.mult(P).mult(Hsimple.transpose()).plus(new SimpleMatrix(R));
+         SimpleMatrix K = P.mult(Hsimple.transpose()).mult(S.invert());
+         x = x.plus(K.mult(new SimpleMatrix(z).minus(Hsimple.mult(x))));
+         P = SimpleMatrix.identity(n).minus(K.mult(Hsimple)).mult(P);
+
+         assertFilterEquals(x, P, filter);
+      }
+   }
+
+   @Test
+   public void testSequentialUpdateWithResidualRejectsOutliers()
+   {
+      int n = 3;
+      int m = 3;
+      NativeFusedKalmanFilter filter = new NativeFusedKalmanFilter(n, m);
+      filter.setErrorCovariance(new NativeMatrix(CommonOps_DDRM.identity(n)));
+
+      NativeMatrix H = new NativeMatrix(CommonOps_DDRM.identity(m));
+      NativeMatrix R = new NativeMatrix(m, 1);
+      R.fill(1.0);
+      NativeMatrix residual = new NativeMatrix(m, 1);
+      residual.set(0, 0, 1.0);
+      residual.set(1, 0, 100.0);
+      residual.set(2, 0, -1.0);
+
+      // The normalized innovation squared of the second row is 100^2 / 2, far above the 99% gate.
+      assertEquals(1, filter.sequentialUpdateWithResidual(H, R, residual, 6.63));
+
+      SimpleMatrix expectedState = new SimpleMatrix(new double[][] {{0.5}, {0.0}, {-0.5}});
+      SimpleMatrix expectedCovariance = SimpleMatrix.diag(0.5, 1.0, 0.5);
+      assertFilterEquals(expectedState, expectedCovariance, filter);
+
+      assertThrows(IllegalArgumentException.class, () -> filter.sequentialUpdate(new NativeMatrix(m, n + 1), R, residual, 0.0));
+      assertThrows(IllegalArgumentException.class, () -> filter.sequentialUpdate(H, new NativeMatrix(m, m), residual, 0.0));
+   }
+
+   @Test
+   public void testSingularInnovationCovariance()
+   {
+      int n = 4;
+      int m = 2;
+      NativeFusedKalmanFilter filter = new NativeFusedKalmanFilter(n, m);
+      NativeMatrix x = new NativeMatrix(RandomMatrices_DDRM.rectangle(n, 1, -1.0, 1.0, random));
+      filter.setState(x);
+
+      NativeMatrix H = new NativeMatrix(m, n);
+      NativeMatrix R = new NativeMatrix(m, 1);
+      NativeMatrix z = new NativeMatrix(m, 1);
+      assertFalse(filter.update(H, R, z));
+
+      NativeMatrix actual = new NativeMatrix(0, 0);
+      filter.getState(actual);
+      assertTrue(actual.isApprox(x, EPSILON));
+
+      assertThrows(IllegalArgumentException.class, () -> filter.update(new NativeMatrix(m + 1, n), R, z));
+      assertThrows(IllegalArgumentException.class, () -> filter.predict(new NativeMatrix(n, n), new NativeMatrix(n, 2)));
+      assertThrows(IllegalArgumentException.class, () -> filter.setState(new NativeMatrix(n + 1, 1)));
+   }
+
+   private static DMatrixRMaj diagonal(DMatrixRMaj matrix)
+   {
+      DMatrixRMaj diagonal = new DMatrixRMaj(matrix.getNumRows(), 1);
+      CommonOps_DDRM.extractDiag(matrix, diagonal);
+      return diagonal;
+   }
+
+   private static void assertFilterEquals(SimpleMatrix expectedState, SimpleMatrix expectedCovariance, NativeFusedKalmanFilter filter)
+   {
+      NativeMatrix x = new NativeMatrix(0, 0);
+      NativeMatrix P = new NativeMatrix(0, 0);
+      filter.getState(x);
+      filter.getErrorCovariance(P);
+
+      MatrixTestTools.assertMatrixEquals(expectedState.getDDRM(), x, EPSILON);
+      MatrixTestTools.assertMatrixEquals(expectedCovariance.getDDRM(), P, EPSILON);
+   }
+}
@@ -0,0 +1,128 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.simple.SimpleMatrix;
+import org.junit.jupiter.api.Test;
+
+public class NativeHierarchicalNullspaceProjectorTest
+{
+   private static final int maxSize = 40;
+   private static final int maxTasks = 5;
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testAgainstRecursiveProjection()
+   {
+      Random random = new Random(42L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int dofs = random.nextInt(maxSize) + 1;
+         int numberOfTasks = random.nextInt(maxTasks) + 1;
+         NativeHierarchicalNullspaceProjector hierarchy = new NativeHierarchicalNullspaceProjector(dofs, maxTasks);
+
+         NativeMatrix[] jacobians = new NativeMatrix[numberOfTasks];
+         double[] alphas = new double[numberOfTasks];
+         for (int task = 0; task < numberOfTasks; task++)
+         {
+            jacobians[task] = new NativeMatrix(RandomMatrices_DDRM.rectangle(random.nextInt(dofs) + 1, dofs, random));
+            alphas[task] = 0.1 + random.nextDouble();
+            hierarchy.addTask(jacobians[task], alphas[task]);
+         }
+
+         // The Jacobians are read at each computation, the hierarchy is set up once.
+         for (int tick = 0; tick < 3; tick++)
+         {
+            for (int task = 0; task < numberOfTasks; task++)
+               jacobians[task].set(RandomMatrices_DDRM.rectangle(jacobians[task].getNumRows(), dofs, random));
+
+            hierarchy.compute();
+
+            SimpleMatrix N = SimpleMatrix.identity(dofs);
+            NativeMatrix actual = new NativeMatrix(0, 0);
+
+            for (int task = 0; task <= numberOfTasks; task++)
+            {
+               hierarchy.getProjector(task, actual);
+               MatrixTestTools.assertMatrixEquals(N.getDDRM(), actual, epsilon);
+
+               DMatrixRMaj A = RandomMatrices_DDRM.rectangle(random.nextInt(maxSize) + 1, dofs, random);
+               hierarchy.project(task, new NativeMatrix(A), actual);
+               MatrixTestTools.assertMatrixEquals(new SimpleMatrix(A).mult(N).getDDRM(), actual, epsilon);
+
+               if (task == numberOfTasks)
+                  break;
+
+               DMatrixRMaj J = new DMatrixRMaj(jacobians[task].getNumRows(), dofs);
+               jacobians[task].get(J);
+               SimpleMatrix Jp = new SimpleMatrix(J).mult(N);
+               SimpleMatrix outer = Jp.mult(Jp.transpose()).plus(SimpleMatrix.identity(J.getNumRows()).scale(alphas[task] * alphas[task]));
+               N = N.minus(Jp.transpose().mult(outer.solve(Jp)));
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testSingleTaskMatchesNullspaceProjector()
+   {
+      Random random = new Random(43L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int dofs = random.nextInt(maxSize) + 1;
+         double alpha = 0.5;
+         DMatrixRMaj J = RandomMatrices_DDRM.rectangle(random.nextInt(2 * dofs) + 1, dofs, random);
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(random.nextInt(maxSize) + 1, dofs, random);
+
+         DMatrixRMaj expected = new DMatrixRMaj(0, 0);
+         NativeCommonOps.projectOnNullspace(A, J, expected, alpha);
+
+         NativeHierarchicalNullspaceProjector hierarchy = new NativeHierarchicalNullspaceProjector(dofs, 1);
+         hierarchy.addTask(new NativeMatrix(J), alpha);
+         hierarchy.compute();
+
+         NativeMatrix actual = new NativeMatrix(A);
+         hierarchy.project(1, actual, actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testExceptions()
+   {
+      int m = 10;
+      assertThrows(IllegalArgumentException.class, () -> new NativeHierarchicalNullspaceProjector(-1, 2));
+
+      NativeHierarchicalNullspaceProjector hierarchy = new NativeHierarchicalNullspaceProjector(m, 2);
+      assertThrows(IllegalArgumentException.class, () -> hierarchy.addTask(new NativeMatrix(3, m + 1), 0.1));
+
+      NativeMatrix J = new NativeMatrix(3, m);
+      hierarchy.addTask(J, 0.1);
+      hierarchy.addTask(new NativeMatrix(2, m), 0.1);
+      assertThrows(IllegalArgumentException.class, () -> hierarchy.addTask(new NativeMatrix(2, m), 0.1));
+      assertEquals(2, hierarchy.getNumberOfTasks());
+
+      assertThrows(IllegalStateException.class, () -> hierarchy.project(1, new NativeMatrix(3, m), new NativeMatrix(3, m)));
+      hierarchy.compute();
+      assertThrows(IllegalArgumentException.class, () -> hierarchy.project(1, new NativeMatrix(3, m + 1), new NativeMatrix(3, m)));
+      assertThrows(IllegalStateException.class, () -> hierarchy.project(3, new NativeMatrix(3, m), new NativeMatrix(3, m)));
+
+      J.reshape(3, m + 1);
+      assertThrows(IllegalArgumentException.class, () -> hierarchy.compute());
+
+      hierarchy.clear();
+      assertEquals(0, hierarchy.getNumberOfTasks());
+      NativeMatrix identity = new NativeMatrix(0, 0);
+      hierarchy.getProjector(0, identity);
+      MatrixTestTools.assertMatrixEquals(CommonOps_DDRM.identity(m), identity, epsilon);
+   }
+}
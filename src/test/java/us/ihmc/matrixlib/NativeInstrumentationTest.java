@@ -0,0 +1,120 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class NativeInstrumentationTest
+{
+   @Test
+   public void testCountersAndSnapshots() throws InterruptedException
+   {
+      int first = NativeInstrumentation.registerOperation("NativeInstrumentationTest.first");
+      int second = NativeInstrumentation.registerOperation("NativeInstrumentationTest.second");
+      assertEquals(first, NativeInstrumentation.registerOperation("NativeInstrumentationTest.first"));
+      assertTrue(first != second);
+
+      NativeInstrumentation.reset();
+
+      NativeInstrumentation.record(first, 100L);
+      NativeInstrumentation.record(first, 200L);
+      NativeInstrumentation.record(second, 50L);
+
+      Thread otherThread = new Thread(() ->
+      {
+         for (int i = 0; i < 10; i++)
+            NativeInstrumentation.record(second, 10L);
+      });
+      otherThread.start();
+      otherThread.join();
+
+      NativeInstrumentationSnapshot snapshot = NativeInstrumentation.snapshot();
+      assertEquals(2L, snapshot.getCallCount("NativeInstrumentationTest.first"));
+      assertEquals(300L, snapshot.getTime("NativeInstrumentationTest.first"));
+      assertEquals(11L, snapshot.getCallCount("NativeInstrumentationTest.second"));
+      assertEquals(150L, snapshot.getTime("NativeInstrumentationTest.second"));
+      assertTrue(snapshot.getOperationNames().contains("NativeInstrumentationTest.first"));
+      assertTrue(snapshot.toString().contains("NativeInstrumentationTest.second"));
+      assertEquals(0L, snapshot.getCallCount("unknown"));
+
+      NativeInstrumentationSnapshot threadSnapshot = NativeInstrumentation.snapshotCurrentThread();
+      assertEquals(2L, threadSnapshot.getCallCount("NativeInstrumentationTest.first"));
+      assertEquals(1L, threadSnapshot.getCallCount("NativeInstrumentationTest.second"));
+
+      NativeInstrumentation.reset();
+      snapshot = NativeInstrumentation.snapshot();
+      assertEquals(0L, snapshot.getTotalCallCount());
+      assertEquals(0L, snapshot.getTotalTime());
+
+      NativeInstrumentation.record(first, 5L);
+      snapshot = NativeInstrumentation.snapshot();
+      assertEquals(1L, snapshot.getTotalCallCount());
+      assertEquals(5L, snapshot.getTotalTime());
+      NativeInstrumentation.reset();
+   }
+
+   @Test
+   public void testTerminatedThreads() throws InterruptedException
+   {
+      int operation = NativeInstrumentation.registerOperation("NativeInstrumentationTest.terminated");
+      NativeInstrumentation.reset();
+      int threadCountersBefore = NativeInstrumentation.getNumberOfThreadCounters();
+
+      for (int i = 0; i < 100; i++)
+      {
+         Thread thread = new Thread(() -> NativeInstrumentation.record(operation, 10L));
+         thread.start();
+         thread.join();
+      }
+
+      // The counters of the terminated threads are released, their counts are kept.
+      assertTrue(NativeInstrumentation.getNumberOfThreadCounters() <= threadCountersBefore);
+      NativeInstrumentationSnapshot snapshot = NativeInstrumentation.snapshot();
+      assertEquals(100L, snapshot.getCallCount("NativeInstrumentationTest.terminated"));
+      assertEquals(1000L, snapshot.getTime("NativeInstrumentationTest.terminated"));
+
+      NativeInstrumentation.reset();
+      assertEquals(0L, NativeInstrumentation.snapshot().getCallCount("NativeInstrumentationTest.terminated"));
+   }
+
+   @Test
+   public void testLatencies()
+   {
+      int operation = NativeInstrumentation.registerOperation("NativeInstrumentationTest.latency");
+      NativeInstrumentation.reset();
+
+      for (long time = 1000L; time <= 100000L; time += 1000L)
+         NativeInstrumentation.recordLatency(operation, time);
+
+      LatencyHistogram latency = NativeInstrumentation.snapshot().getLatency("NativeInstrumentationTest.latency");
+      assertEquals(100L, latency.getTotalCount());
+      assertEquals(50000L, latency.getValueAtPercentile(50.0), 50000L / LatencyHistogram.SUB_BUCKET_HALF_COUNT);
+      assertEquals(100000L, latency.getMax(), 100000L / LatencyHistogram.SUB_BUCKET_HALF_COUNT);
+      assertEquals(100L, NativeInstrumentation.snapshotCurrentThread().getLatency("NativeInstrumentationTest.latency").getTotalCount());
+      assertTrue(NativeInstrumentation.snapshot().toString().contains("p99.9"));
+      assertEquals(0L, NativeInstrumentation.snapshot().getLatency("unknown").getTotalCount());
+
+      NativeInstrumentation.reset();
+      assertEquals(0L, NativeInstrumentation.snapshot().getLatency("NativeInstrumentationTest.latency").getTotalCount());
+      NativeInstrumentation.recordLatency(operation, 500L);
+      latency = NativeInstrumentation.snapshot().getLatency("NativeInstrumentationTest.latency");
+      assertEquals(1L, latency.getTotalCount());
+      assertEquals(500L, latency.getMax(), 500L / LatencyHistogram.SUB_BUCKET_HALF_COUNT);
+      NativeInstrumentation.reset();
+   }
+
+   @Test
+   public void testDisabledByDefault()
+   {
+      assertFalse(NativeInstrumentation.isEnabled());
+      assertFalse(NativeInstrumentation.isLatencyEnabled());
+      assertEquals(0L, NativeInstrumentation.start());
+
+      int operation = NativeInstrumentation.registerOperation("NativeInstrumentationTest.disabled");
+      NativeInstrumentation.stop(operation, NativeInstrumentation.start());
+      assertEquals(0L, NativeInstrumentation.snapshot().getCallCount("NativeInstrumentationTest.disabled"));
+      assertFalse(NativeMatrix.backend instanceof InstrumentedNativeMatrixBackend);
+   }
+}
@@ -0,0 +1,191 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.simple.SimpleMatrix;
+import org.junit.jupiter.api.Test;
+
+public class NativeKalmanFilterBankTest
+{
+   private static final int ITERATIONS = 20;
+   private static final int STEPS = 10;
+   private static final double EPSILON = 1.0E-8;
+   private static final Random random = new Random(6234871L);
+
+   @Test
+   public void testPredictAndUpdate()
+   {
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int N = random.nextInt(100) + 1;
+         int n = random.nextInt(6) + 1;
+         int m = random.nextInt(4) + 1;
+         boolean diagonalNoise = random.nextBoolean();
+
+         runAndCompare(N, n, m, diagonalNoise, 1, false);
+      }
+   }
+
+   @Test
+   public void testMaskedSubset()
+   {
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int N = random.nextInt(100) + 1;
+         int n = random.nextInt(6) + 1;
+         int m = random.nextInt(4) + 1;
+
+         runAndCompare(N, n, m, true, 1, true);
+      }
+   }
+
+   @Test
+   public void testWorkerPool()
+   {
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int N = random.nextInt(1000) + 1;
+         int n = random.nextInt(6) + 1;
+         int m = random.nextInt(4) + 1;
+         int threads = random.nextInt(4) + 2;
+
+         runAndCompare(N, n, m, random.nextBoolean(), threads, random.nextBoolean());
+      }
+   }
+
+   @Test
+   public void testSingularInnovationCovariance()
+   {
+      int N = 3;
+      int n = 2;
+      int m = 1;
+      NativeKalmanFilterBank bank = new NativeKalmanFilterBank(N, n, m);
+      NativeMatrix P = new NativeMatrix(n, n);
+      bank.setErrorCovariance(1, P);
+
+      NativeMatrix H = new NativeMatrix(m, n);
+      H.set(0, 0, 1.0);
+      NativeMatrix R = new NativeMatrix(m, 1);
+      NativeMatrix Z = new NativeMatrix(m, N);
+      Z.fill(1.0);
+
+      // The innovation covariance of the filter 1 is zero, the two others are updated.
+      assertEquals(1, bank.update(H, R, Z));
+
+      NativeMatrix x = new NativeMatrix(0, 0);
+      bank.getState(1, x);
+      assertTrue(x.isApprox(new NativeMatrix(n, 1), EPSILON));
+      bank.getState(0, x);
+      assertEquals(1.0, x.get(0, 0), EPSILON);
+
+      assertThrows(IllegalArgumentException.class, () -> bank.update(H, R, new NativeMatrix(m, N + 1)));
+      assertThrows(IllegalArgumentException.class, () -> bank.predict(new NativeMatrix(n, n), new NativeMatrix(n, 2)));
+      assertThrows(IllegalArgumentException.class, () -> bank.predict(new NativeMatrix(n, n), new NativeMatrix(n, 1), new NativeMatrix(N + 1, 1)));
+      assertThrows(IllegalArgumentException.class, () -> bank.setState(N, new NativeMatrix(n, 1)));
+   }
+
+   private static void runAndCompare(int N, int n, int m, boolean diagonalNoise, int threads, boolean useMask)
+   {
+      DMatrixRMaj F = RandomMatrices_DDRM.rectangle(n, n, -1.0, 1.0, random);
+      DMatrixRMaj Q = RandomMatrices_DDRM.diagonal(n, 0.1, 1.0, random);
+      DMatrixRMaj H = RandomMatrices_DDRM.rectangle(m, n, -1.0, 1.0, random);
+      DMatrixRMaj R = RandomMatrices_DDRM.symmetricPosDef(m, random);
+      CommonOps_DDRM.addEquals(R, CommonOps_DDRM.identity(m));
+      if (diagonalNoise)
+         R = RandomMatrices_DDRM.diagonal(m, 1.0, 10.0, random);
+
+      NativeMatrix Fnative = new NativeMatrix(F);
+      NativeMatrix Qnative = new NativeMatrix(diagonalNoise ? diagonal(Q) : Q);
+      NativeMatrix Hnative = new NativeMatrix(H);
+      NativeMatrix Rnative = new NativeMatrix(diagonalNoise ? diagonal(R) : R);
+      NativeMatrix Znative = new NativeMatrix(m, N);
+      NativeMatrix mask = new NativeMatrix(N, 1);
+
+      NativeKalmanFilterBank bank = new NativeKalmanFilterBank(N, n, m);
+      bank.setNumberOfThreads(threads);
+
+      SimpleMatrix[] x = new SimpleMatrix[N];
+      SimpleMatrix[] P = new SimpleMatrix[N];
+      DMatrixRMaj X = new DMatrixRMaj(n, N);
+      for (int filter = 0; filter < N; filter++)
+      {
+         x[filter] = new SimpleMatrix(RandomMatrices_DDRM.rectangle(n, 1, -1.0, 1.0, random));
+         P[filter] = new SimpleMatrix(RandomMatrices_DDRM.symmetricPosDef(n, random));
+         CommonOps_DDRM.insert(x[filter].getDDRM(), X, 0, filter);
+         bank.setErrorCovariance(filter, new NativeMatrix(P[filter].getDDRM()));
+      }
+      bank.setStates(new NativeMatrix(X));
+
+      SimpleMatrix Fsimple = new SimpleMatrix(F);
+      SimpleMatrix Qsimple = new SimpleMatrix(Q);
+      SimpleMatrix Hsimple = new SimpleMatrix(H);
+      SimpleMatrix Rsimple = new SimpleMatrix(R);
+
+      for (int step = 0; step < STEPS; step++)
+      {
+         DMatrixRMaj Z = RandomMatrices_DDRM.rectangle(m, N, -1.0, 1.0, random);
+         Znative.set(Z);
+
+         boolean[] active = new boolean[N];
+         for (int filter = 0; filter < N; filter++)
+         {
+            active[filter] = !useMask || random.nextBoolean();
+            mask.set(filter, 0, active[filter] ? 1.0 : 0.0);
+         }
+
+         if (useMask)
+         {
+            bank.predict(Fnative, Qnative, mask);
+            assertEquals(0, bank.update(Hnative, Rnative, Znative, mask));
+         }
+         else
+         {
+            bank.predict(Fnative, Qnative);
+            assertEquals(0, bank.update(Hnative, Rnative, Znative));
+         }
+
+         for (int filter = 0; filter < N; filter++)
+         {
+            if (!active[filter])
+               continue;
+
+            SimpleMatrix z = new SimpleMatrix(Z).extractVector(false, filter);
+            x[filter] = Fsimple.mult(x[filter]);
+            P[filter] = Fsimple.mult(P[filter]).mult(Fsimple.transpose()).plus(Qsimple);
+            SimpleMatrix S = Hsimple.mult(P[filter]).mult(Hsimple.transpose()).plus(Rsimple);
+            SimpleMatrix K = P[filter].mult(Hsimple.transpose()).mult(S.invert());
+            x[filter] = x[filter].plus(K.mult(z.minus(Hsimple.mult(x[filter]))));
+            P[filter] = SimpleMatrix.identity(n).minus(K.mult(Hsimple)).mult(P[filter]);
+         }
+      }
+
+      NativeMatrix actualX = new NativeMatrix(0, 0);
+      NativeMatrix actualx = new NativeMatrix(0, 0);
+      NativeMatrix actualP = new NativeMatrix(0, 0);
+      bank.getStates(actualX);
+      for (int filter = 0; filter < N; filter++)
+      {
+         bank.getErrorCovariance(filter, actualP);
+         MatrixTestTools.assertMatrixEquals(P[filter].getDDRM(), actualP, EPSILON * Math.max(1.0, P[filter].elementMaxAbs()));
+
+         bank.getState(filter, actualx);
+         MatrixTestTools.assertMatrixEquals(x[filter].getDDRM(), actualx, EPSILON * Math.max(1.0, x[filter].elementMaxAbs()));
+         for (int i = 0; i < n; i++)
+            assertEquals(x[filter].get(i), actualX.get(i, filter), EPSILON * Math.max(1.0, x[filter].elementMaxAbs()));
+      }
+   }
+
+   private static DMatrixRMaj diagonal(DMatrixRMaj matrix)
+   {
+      DMatrixRMaj diagonal = new DMatrixRMaj(matrix.getNumRows(), 1);
+      CommonOps_DDRM.extractDiag(matrix, diagonal);
+      return diagonal;
+   }
+}
@@ -1,5 +1,7 @@
 package us.ihmc.matrixlib;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Random;
@@ -137,4 +139,77 @@ public class NativeKalmanFilterTest
       }
    }
    
+
+   @Test
+   public void testSequentialUpdate()
+   {
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int n = random.nextInt(50) + 1;
+         int m = random.nextInt(50) + 1;
+
+         DMatrixRMaj H = RandomMatrices_DDRM.rectangle(m, n, -1.0, 1.0, random);
+         DMatrixRMaj R = RandomMatrices_DDRM.diagonal(m, 1.0, 10.0, random);
+         DMatrixRMaj P = RandomMatrices_DDRM.symmetricPosDef(n, random);
+         DMatrixRMaj x = RandomMatrices_DDRM.rectangle(n, 1, -1.0, 1.0, random);
+         DMatrixRMaj r = RandomMatrices_DDRM.rectangle(m, 1, -1.0, 1.0, random);
+         DMatrixRMaj Rdiagonal = new DMatrixRMaj(m, 1);
+         CommonOps_DDRM.extractDiag(R, Rdiagonal);
+
+         NativeMatrix xNative = new NativeMatrix(x);
+         NativeMatrix Pnative = new NativeMatrix(P);
+         assertEquals(0, NativeKalmanFilter.sequentialUpdate(xNative, Pnative, new NativeMatrix(H), new NativeMatrix(Rdiagonal), new NativeMatrix(r), 0.0));
+
+         SimpleMatrix Hsimple = new SimpleMatrix(H);
+         SimpleMatrix Psimple = new SimpleMatrix(P);
+         SimpleMatrix S = Hsimple.mult(Psimple).mult(Hsimple.transpose()).plus(new SimpleMatrix(R));
+         SimpleMatrix K = Psimple.mult(Hsimple.transpose()).mult(S.invert());
+         DMatrixRMaj expectedState = new SimpleMatrix(x).plus(K.mult(new SimpleMatrix(r))).getMatrix();
+         DMatrixRMaj expectedCovariance = SimpleMatrix.identity(n).minus(K.mult(Hsimple)).mult(Psimple).getMatrix();
+
+         MatrixTestTools.assertMatrixEquals(expectedState, xNative, 1.0E-8);
+         MatrixTestTools.assertMatrixEquals(expectedCovariance, Pnative, 1.0E-8);
+      }
+   }
+
+   @Test
+   public void testSequentialUpdateRejectsOutliers()
+   {
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int n = random.nextInt(20) + 1;
+         int m = random.nextInt(20) + 2;
+         int outlier = random.nextInt(m);
+
+         DMatrixRMaj H = RandomMatrices_DDRM.rectangle(m, n, -1.0, 1.0, random);
+         DMatrixRMaj Rdiagonal = RandomMatrices_DDRM.rectangle(m, 1, 1.0, 2.0, random);
+         DMatrixRMaj P = CommonOps_DDRM.identity(n);
+         DMatrixRMaj r = RandomMatrices_DDRM.rectangle(m, 1, -0.1, 0.1, random);
+         r.set(outlier, 0, 1.0E3);
+
+         DMatrixRMaj Hinlier = new DMatrixRMaj(m - 1, n);
+         DMatrixRMaj Rinlier = new DMatrixRMaj(m - 1, 1);
+         DMatrixRMaj rInlier = new DMatrixRMaj(m - 1, 1);
+         for (int row = 0, inlierRow = 0; row < m; row++)
+         {
+            if (row == outlier)
+               continue;
+            CommonOps_DDRM.extract(H, row, row + 1, 0, n, Hinlier, inlierRow, 0);
+            Rinlier.set(inlierRow, 0, Rdiagonal.get(row, 0));
+            rInlier.set(inlierRow, 0, r.get(row, 0));
+            inlierRow++;
+         }
+
+         NativeMatrix xActual = new NativeMatrix(n, 1);
+         NativeMatrix Pactual = new NativeMatrix(P);
+         assertEquals(1, NativeKalmanFilter.sequentialUpdate(xActual, Pactual, new NativeMatrix(H), new NativeMatrix(Rdiagonal), new NativeMatrix(r), 6.63));
+
+         NativeMatrix xExpected = new NativeMatrix(n, 1);
+         NativeMatrix Pexpected = new NativeMatrix(P);
+         NativeKalmanFilter.sequentialUpdate(xExpected, Pexpected, new NativeMatrix(Hinlier), new NativeMatrix(Rinlier), new NativeMatrix(rInlier));
+
+         assertTrue(xExpected.isApprox(xActual, 1.0E-10));
+         assertTrue(Pexpected.isApprox(Pactual, 1.0E-10));
+      }
+   }
 }
@@ -0,0 +1,177 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.simple.SimpleMatrix;
+import org.junit.jupiter.api.Test;
+
+public class NativeLinearSolverTest
+{
+   private static final int maxSize = 40;
+   private static final int iterations = 500;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testSquareSolvers()
+   {
+      Random random = new Random(44L);
+
+      NativeLinearSolver[] solvers = {NativeLinearSolver.lu(maxSize), NativeLinearSolver.llt(maxSize), NativeLinearSolver.ldlt(maxSize),
+            NativeLinearSolver.qr(maxSize, maxSize), NativeLinearSolver.cod(maxSize, maxSize)};
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = random.nextInt(maxSize) + 1;
+         int bCols = random.nextInt(5) + 1;
+
+         // Symmetric positive definite such that every decomposition applies.
+         DMatrixRMaj A = RandomMatrices_DDRM.symmetricPosDef(size, random);
+         CommonOps_DDRM.addEquals(A, CommonOps_DDRM.identity(size));
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(size, bCols, random);
+
+         SimpleMatrix Asimple = new SimpleMatrix(A);
+         DMatrixRMaj expected = Asimple.solve(new SimpleMatrix(B)).getDDRM();
+         DMatrixRMaj expectedTranspose = Asimple.transpose().solve(new SimpleMatrix(B)).getDDRM();
+         double expectedDeterminant = Asimple.determinant();
+
+         for (NativeLinearSolver solver : solvers)
+         {
+            assertTrue(solver.factor(new NativeMatrix(A)));
+
+            NativeMatrix x = new NativeMatrix(0, 0);
+            solver.solve(new NativeMatrix(B), x);
+            MatrixTestTools.assertMatrixEquals(expected, x, epsilon);
+
+            solver.solveTranspose(new NativeMatrix(B), x);
+            MatrixTestTools.assertMatrixEquals(expectedTranspose, x, epsilon);
+
+            x.set(B);
+            solver.solve(x, x);
+            MatrixTestTools.assertMatrixEquals(expected, x, epsilon);
+
+            assertEquals(1.0, solver.determinant() / expectedDeterminant, epsilon);
+            assertTrue(solver.rcond() > 0.0 && solver.rcond() <= 1.0);
+            assertEquals(size, solver.rank());
+         }
+      }
+   }
+
+   @Test
+   public void testNonSymmetric()
+   {
+      Random random = new Random(45L);
+
+      NativeLinearSolver[] solvers = {NativeLinearSolver.lu(maxSize), NativeLinearSolver.qr(maxSize, maxSize), NativeLinearSolver.cod(maxSize, maxSize)};
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = random.nextInt(maxSize) + 1;
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(size, size, -1.0, 1.0, random);
+         CommonOps_DDRM.addEquals(A, size, CommonOps_DDRM.identity(size));
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(size, 3, random);
+
+         SimpleMatrix Asimple = new SimpleMatrix(A);
+         DMatrixRMaj expected = Asimple.solve(new SimpleMatrix(B)).getDDRM();
+         DMatrixRMaj expectedTranspose = Asimple.transpose().solve(new SimpleMatrix(B)).getDDRM();
+         double expectedDeterminant = Asimple.determinant();
+
+         for (NativeLinearSolver solver : solvers)
+         {
+            solver.factor(new NativeMatrix(A));
+
+            NativeMatrix x = new NativeMatrix(0, 0);
+            solver.solve(new NativeMatrix(B), x);
+            MatrixTestTools.assertMatrixEquals(expected, x, epsilon);
+
+            solver.solveTranspose(new NativeMatrix(B), x);
+            MatrixTestTools.assertMatrixEquals(expectedTranspose, x, epsilon);
+
+            assertEquals(1.0, solver.determinant() / expectedDeterminant, epsilon);
+         }
+      }
+   }
+
+   @Test
+   public void testLeastSquares()
+   {
+      Random random = new Random(46L);
+
+      NativeLinearSolver qr = NativeLinearSolver.qr(maxSize, maxSize);
+      NativeLinearSolver cod = NativeLinearSolver.cod(maxSize, maxSize);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int cols = random.nextInt(maxSize) + 1;
+         int rows = cols + random.nextInt(maxSize - cols + 1);
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(rows, cols, random);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(rows, 2, random);
+         DMatrixRMaj C = RandomMatrices_DDRM.rectangle(cols, 2, random);
+
+         SimpleMatrix Asimple = new SimpleMatrix(A);
+         DMatrixRMaj expected = Asimple.pseudoInverse().mult(new SimpleMatrix(B)).getDDRM();
+         DMatrixRMaj expectedTranspose = Asimple.transpose().pseudoInverse().mult(new SimpleMatrix(C)).getDDRM();
+
+         for (NativeLinearSolver solver : new NativeLinearSolver[] {qr, cod})
+         {
+            solver.factor(new NativeMatrix(A));
+
+            NativeMatrix x = new NativeMatrix(0, 0);
+            solver.solve(new NativeMatrix(B), x);
+            MatrixTestTools.assertMatrixEquals(expected, x, 1.0e-6);
+
+            // Minimum norm solution of the under-determined transposed system.
+            solver.solveTranspose(new NativeMatrix(C), x);
+            MatrixTestTools.assertMatrixEquals(expectedTranspose, x, 1.0e-6);
+         }
+      }
+   }
+
+   @Test
+   public void testRankDeficient()
+   {
+      Random random = new Random(47L);
+      NativeLinearSolver cod = NativeLinearSolver.cod(maxSize, maxSize);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = random.nextInt(maxSize - 1) + 2;
+         int rank = random.nextInt(size - 1) + 1;
+         DMatrixRMaj U = RandomMatrices_DDRM.rectangle(size, rank, random);
+         DMatrixRMaj V = RandomMatrices_DDRM.rectangle(rank, size, random);
+         DMatrixRMaj A = new DMatrixRMaj(size, size);
+         CommonOps_DDRM.mult(U, V, A);
+
+         cod.factor(new NativeMatrix(A));
+         assertEquals(rank, cod.rank());
+         assertEquals(0.0, cod.determinant());
+         assertEquals(0.0, cod.rcond());
+      }
+   }
+
+   @Test
+   public void testExceptions()
+   {
+      NativeLinearSolver llt = NativeLinearSolver.llt(5);
+      assertThrows(IllegalStateException.class, () -> llt.solve(new NativeMatrix(3, 1), new NativeMatrix(3, 1)));
+      assertThrows(IllegalArgumentException.class, () -> llt.factor(new NativeMatrix(6, 6)));
+      assertThrows(IllegalArgumentException.class, () -> llt.factor(new NativeMatrix(3, 4)));
+
+      NativeMatrix negative = new NativeMatrix(3, 3);
+      negative.fillDiagonal(-1.0);
+      assertFalse(llt.factor(negative));
+      assertEquals(0.0, llt.rcond());
+      assertTrue(Double.isNaN(llt.determinant()));
+      assertThrows(IllegalArgumentException.class, () -> llt.solve(new NativeMatrix(4, 1), new NativeMatrix(3, 1)));
+
+      NativeLinearSolver qr = NativeLinearSolver.qr(5, 5);
+      assertThrows(IllegalArgumentException.class, () -> qr.factor(new NativeMatrix(3, 4)));
+   }
+}
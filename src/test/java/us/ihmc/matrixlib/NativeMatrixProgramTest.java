@@ -0,0 +1,159 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.commons.Conversions;
+import us.ihmc.matrixlib.jni.NativeMatrixImpl;
+import us.ihmc.matrixlib.jni.NativeMatrixProgramImpl;
+
+public class NativeMatrixProgramTest
+{
+   private static final int maxSize = 40;
+   private static final int iterations = 1000;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testQPAssembly()
+   {
+      Random random = new Random(5761L);
+
+      long programTime = 0;
+      long nativeTime = 0;
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int taskSize = random.nextInt(maxSize) + 1;
+         int variables = random.nextInt(maxSize) + 1;
+         double damping = random.nextDouble();
+         double weight = random.nextDouble();
+
+         NativeMatrix J = new NativeMatrix(taskSize, variables);
+         NativeMatrix W = new NativeMatrix(taskSize, taskSize);
+         NativeMatrix b = new NativeMatrix(taskSize, 1);
+
+         NativeMatrix Wb = new NativeMatrix(0, 0);
+         NativeMatrix H = new NativeMatrix(0, 0);
+         NativeMatrix g = new NativeMatrix(0, 0);
+         NativeMatrix A = new NativeMatrix(variables + 1, variables + 1);
+
+         NativeMatrixProgram program = new NativeMatrixProgram();
+         program.multQuad(H, J, W);
+         program.addDiagonal(H, damping);
+         program.mult(Wb, W, b);
+         program.multTransA(g, -weight, J, Wb);
+         program.zero(A);
+         program.insert(A, H, 0, variables, 0, variables, 0, 0);
+         program.insert(A, g, 0, variables, 0, 1, 0, variables);
+         program.multAddBlockTransA(A, b, J, variables, 0);
+         assertEquals(8, program.getNumberOfOperations());
+
+         NativeMatrix expectedWb = new NativeMatrix(0, 0);
+         NativeMatrix expectedH = new NativeMatrix(0, 0);
+         NativeMatrix expectedG = new NativeMatrix(0, 0);
+         NativeMatrix expectedA = new NativeMatrix(variables + 1, variables + 1);
+
+         // The program uses the current values of the matrices every time it is executed.
+         for (int j = 0; j < 3; j++)
+         {
+            J.set(RandomMatrices_DDRM.rectangle(taskSize, variables, random));
+            W.set(RandomMatrices_DDRM.diagonal(taskSize, 0.1, 1.0, random));
+            b.set(RandomMatrices_DDRM.rectangle(taskSize, 1, random));
+
+            programTime -= System.nanoTime();
+            program.execute();
+            programTime += System.nanoTime();
+
+            nativeTime -= System.nanoTime();
+            expectedH.multQuad(J, W);
+            expectedH.addDiagonal(damping);
+            expectedWb.mult(W, b);
+            expectedG.multTransA(-weight, J, expectedWb);
+            expectedA.zero();
+            expectedA.insert(expectedH, 0, variables, 0, variables, 0, 0);
+            expectedA.insert(expectedG, 0, variables, 0, 1, 0, variables);
+            expectedA.multAddBlockTransA(b, J, variables, 0);
+            nativeTime += System.nanoTime();
+
+            assertNativeMatrixEquals(expectedH, H);
+            assertNativeMatrixEquals(expectedG, g);
+            assertNativeMatrixEquals(expectedA, A);
+         }
+      }
+
+      System.out.println("Program took " + Conversions.nanosecondsToMilliseconds((double) (programTime / iterations)) + " ms on average");
+      System.out.println("Separate calls took " + Conversions.nanosecondsToMilliseconds((double) (nativeTime / iterations)) + " ms on average");
+   }
+
+   @Test
+   public void testFailedOperation()
+   {
+      NativeMatrix a = new NativeMatrix(3, 4);
+      NativeMatrix b = new NativeMatrix(4, 2);
+      NativeMatrix c = new NativeMatrix(0, 0);
+      NativeMatrix d = new NativeMatrix(0, 0);
+
+      NativeMatrixProgram program = new NativeMatrixProgram();
+      program.fill(a, 1.0);
+      program.mult(c, a, b);
+      program.mult(d, b, a);
+      program.fill(d, 2.0);
+
+      assertEquals(2, program.tryExecute());
+      assertEquals("mult", program.getOperationName(2));
+      assertEquals(3, c.getNumRows());
+      assertEquals(2, c.getNumCols());
+      assertThrows(IllegalArgumentException.class, () -> program.execute());
+
+      b.reshape(4, 3);
+      assertEquals(-1, program.tryExecute());
+      assertEquals(2.0, d.get(3, 3), epsilon);
+
+      program.clear();
+      assertEquals(0, program.getNumberOfOperations());
+      assertEquals(-1, program.tryExecute());
+   }
+
+   private static void assertNativeMatrixEquals(NativeMatrix expected, NativeMatrix actual)
+   {
+      assertEquals(expected.getNumRows(), actual.getNumRows());
+      assertEquals(expected.getNumCols(), actual.getNumCols());
+
+      DMatrixRMaj expectedMatrix = new DMatrixRMaj(expected.getNumRows(), expected.getNumCols());
+      DMatrixRMaj actualMatrix = new DMatrixRMaj(actual.getNumRows(), actual.getNumCols());
+      expected.get(expectedMatrix);
+      actual.get(actualMatrix);
+      MatrixTestTools.assertMatrixEquals(expectedMatrix, actualMatrix, epsilon);
+   }
+
+   @Test
+   public void testInPlaceOperations()
+   {
+      NativeMatrixProgram program = new NativeMatrixProgram();
+      NativeMatrix a = new NativeMatrix(3, 3);
+      assertThrows(IllegalArgumentException.class, () -> program.invert(a, a));
+      assertThrows(IllegalArgumentException.class, () -> program.transpose(a, a));
+      assertEquals(0, program.getNumberOfOperations());
+   }
+
+   @Test
+   public void testOperationCodes()
+   {
+      assertEquals(NativeMatrixProgramImpl.NUMBER_OF_OPERATIONS, NativeMatrixProgram.operationNames.length);
+
+      // The native library accepts exactly the codes generated from its header.
+      NativeMatrixProgramImpl impl = new NativeMatrixProgramImpl();
+      NativeMatrixImpl result = new NativeMatrixImpl(1, 1);
+      assertTrue(impl.record(NativeMatrixProgramImpl.ZERO, result, null, null, 0, 0, 0, 0, 0, 0, 0.0, 0.0));
+      assertFalse(impl.record(NativeMatrixProgramImpl.NUMBER_OF_OPERATIONS, result, null, null, 0, 0, 0, 0, 0, 0, 0.0, 0.0));
+      assertFalse(impl.record(-1, result, null, null, 0, 0, 0, 0, 0, 0, 0.0, 0.0));
+   }
+}
@@ -38,6 +38,15 @@ public class NativeMatrixTest
 
    
    
+   @Test
+   public void testBackend()
+   {
+      // The testPanama task runs this class with the Panama backend, which has to be the one in use.
+      String requestedBackend = System.getProperty(NativeMatrix.BACKEND_PROPERTY, "auto");
+      if (!requestedBackend.equals("auto"))
+         assertEquals(requestedBackend, NativeMatrix.getBackendName());
+   }
+
    @Test
    public void testZero()
    {
@@ -895,6 +904,207 @@ public class NativeMatrixTest
       }
    }
 
+   @Test
+   public void testMultQuadDiagonal()
+   {
+      Random random = new Random(40L);
+      NativeMatrix actual = new NativeMatrix(0, 0);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int aCols = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, random);
+         DiagonalMatrix W = new DiagonalMatrix(RandomMatrices_DDRM.rectangle(aRows, 1, 0.1, 10.0, random).getData());
+         DMatrixRMaj expected = new DMatrixRMaj(aCols, aCols);
+         DiagonalMatrixTools.multInner(A, W, expected);
+
+         NativeMatrix nativeA = new NativeMatrix(A);
+         actual.multQuad(nativeA, W);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         actual.multAddQuad(nativeA, W);
+         CommonOps_DDRM.scale(2.0, expected);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DMatrixRMaj base = RandomMatrices_DDRM.rectangle(aCols + 2, aCols + 3, random);
+         actual.set(base);
+         actual.multAddQuadBlock(nativeA, W, 2, 1);
+         DiagonalMatrixTools.multAddBlockInner(A, W, base, 2, 1);
+         MatrixTestTools.assertMatrixEquals(base, actual, epsilon);
+      }
+
+      NativeMatrix a = new NativeMatrix(4, 3);
+      assertThrows(IllegalArgumentException.class, () -> actual.multQuad(a, new DiagonalMatrix(3)));
+      assertThrows(IllegalArgumentException.class, () -> new NativeMatrix(3, 3).multAddQuad(a, new DiagonalMatrix(4)));
+      assertThrows(IllegalArgumentException.class, () -> new NativeMatrix(3, 3).multAddQuadBlock(a, new DiagonalMatrix(4), 1, 0));
+
+      NativeMatrix square = new NativeMatrix(3, 3);
+      assertThrows(IllegalArgumentException.class, () -> square.multQuad(square, new DiagonalMatrix(3)));
+      assertThrows(IllegalArgumentException.class, () -> square.multAddQuad(square, new DiagonalMatrix(3)));
+      assertThrows(IllegalArgumentException.class, () -> square.multAddQuadBlock(square, new DiagonalMatrix(3), 0, 0));
+   }
+
+   @Test
+   public void testDiagonalProducts()
+   {
+      Random random = new Random(41L);
+      NativeMatrix actual = new NativeMatrix(0, 0);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int size = random.nextInt(maxSize) + 1;
+         int rows = random.nextInt(maxSize) + 1;
+         int cols = random.nextInt(maxSize) + 1;
+
+         DiagonalMatrix W = new DiagonalMatrix(RandomMatrices_DDRM.rectangle(size, 1, -10.0, 10.0, random).getData());
+         DMatrixRMaj sizeByCols = RandomMatrices_DDRM.rectangle(size, cols, random);
+         DMatrixRMaj rowsBySize = RandomMatrices_DDRM.rectangle(rows, size, random);
+         DMatrixRMaj sizeByRows = RandomMatrices_DDRM.rectangle(size, rows, random);
+         NativeMatrix nativeSizeByCols = new NativeMatrix(sizeByCols);
+         NativeMatrix nativeRowsBySize = new NativeMatrix(rowsBySize);
+         NativeMatrix nativeSizeByRows = new NativeMatrix(sizeByRows);
+
+         DMatrixRMaj expected = new DMatrixRMaj(size, cols);
+         DiagonalMatrixTools.preMult(W, sizeByCols, expected);
+         actual.preMult(W, nativeSizeByCols);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DMatrixRMaj base = RandomMatrices_DDRM.rectangle(size + 2, cols + 3, random);
+         expected.set(base);
+         actual.set(base);
+         DiagonalMatrixTools.preMultAddBlock(W, sizeByCols, expected, 2, 1);
+         actual.preMultAddBlock(W, nativeSizeByCols, 2, 1);
+         DiagonalMatrixTools.preMultAddBlock(-0.5, W, sizeByCols, expected, 0, 3);
+         actual.preMultAddBlock(-0.5, W, nativeSizeByCols, 0, 3);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         expected.reshape(rows, size);
+         DiagonalMatrixTools.postMult(rowsBySize, W, expected);
+         actual.postMult(nativeRowsBySize, W);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DiagonalMatrixTools.postMultTransA(sizeByRows, W, expected);
+         actual.postMultTransA(nativeSizeByRows, W);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         expected.reshape(rows, rows);
+         DiagonalMatrixTools.multOuter(rowsBySize, W, expected);
+         actual.multOuter(nativeRowsBySize, W);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         expected.reshape(rows, cols);
+         DiagonalMatrixTools.innerDiagonalMult(rowsBySize, W, sizeByCols, expected);
+         actual.innerDiagonalMult(nativeRowsBySize, W, nativeSizeByCols);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DiagonalMatrixTools.innerDiagonalMultTransA(sizeByRows, W, sizeByCols, expected);
+         actual.innerDiagonalMultTransA(nativeSizeByRows, W, nativeSizeByCols);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         DiagonalMatrixTools.innerDiagonalMultAddTransA(sizeByRows, W, sizeByCols, expected);
+         actual.innerDiagonalMultAddTransA(nativeSizeByRows, W, nativeSizeByCols);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         base = RandomMatrices_DDRM.rectangle(rows + 2, cols + 2, random);
+         expected.set(base);
+         actual.set(base);
+         DiagonalMatrixTools.innerDiagonalMultAddBlockTransA(sizeByRows, W, sizeByCols, expected, 2, 1);
+         actual.innerDiagonalMultAddBlockTransA(nativeSizeByRows, W, nativeSizeByCols, 2, 1);
+         DiagonalMatrixTools.innerDiagonalMultAddBlockTransA(3.0, sizeByRows, W, sizeByCols, expected, 0, 2);
+         actual.innerDiagonalMultAddBlockTransA(3.0, nativeSizeByRows, W, nativeSizeByCols, 0, 2);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+
+      DiagonalMatrix W = new DiagonalMatrix(3);
+      NativeMatrix a = new NativeMatrix(4, 2);
+      assertThrows(IllegalArgumentException.class, () -> actual.preMult(W, a));
+      assertThrows(IllegalArgumentException.class, () -> actual.postMult(a, W));
+      assertThrows(IllegalArgumentException.class, () -> actual.innerDiagonalMultTransA(a, W, a));
+      assertThrows(IllegalArgumentException.class, () -> new NativeMatrix(2, 2).innerDiagonalMultAddBlockTransA(new NativeMatrix(3, 2), W, new NativeMatrix(3, 2), 1, 0));
+
+      NativeMatrix square = new NativeMatrix(3, 3);
+      NativeMatrix other = new NativeMatrix(3, 3);
+      assertThrows(IllegalArgumentException.class, () -> square.postMultTransA(square, W));
+      assertThrows(IllegalArgumentException.class, () -> square.preMult(W, square));
+      assertThrows(IllegalArgumentException.class, () -> square.preMultAddBlock(W, square, 0, 0));
+      assertThrows(IllegalArgumentException.class, () -> square.postMult(square, W));
+      assertThrows(IllegalArgumentException.class, () -> square.multOuter(square, W));
+      assertThrows(IllegalArgumentException.class, () -> square.innerDiagonalMult(square, W, other));
+      assertThrows(IllegalArgumentException.class, () -> square.innerDiagonalMult(other, W, square));
+      assertThrows(IllegalArgumentException.class, () -> square.innerDiagonalMultTransA(square, W, other));
+      assertThrows(IllegalArgumentException.class, () -> square.innerDiagonalMultAddTransA(other, W, square));
+      assertThrows(IllegalArgumentException.class, () -> square.innerDiagonalMultAddBlockTransA(2.0, square, W, other, 0, 0));
+   }
+
+   @Test
+   public void testSolveCheck()
+   {
+      Random random = new Random(40L);
+      LinearSolverDense<DMatrixRMaj> solver = LinearSolverFactory_DDRM.lu(maxSize);
+      SolveDiagnostics diagnostics = new SolveDiagnostics();
+      NativeMatrix nativex = new NativeMatrix(0, 0);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int bCols = random.nextInt(5) + 1;
+         boolean positiveDefinite = random.nextBoolean();
+
+         DMatrixRMaj A = positiveDefinite ? RandomMatrices_DDRM.symmetricPosDef(aRows, random) : RandomMatrices_DDRM.rectangle(aRows, aRows, random);
+         CommonOps_DDRM.addEquals(A, CommonOps_DDRM.identity(aRows));
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(aRows, bCols, random);
+         DMatrixRMaj x = new DMatrixRMaj(aRows, bCols);
+         solver.setA(A);
+         solver.solve(b, x);
+
+         assertTrue(nativex.solveCheck(new NativeMatrix(A), new NativeMatrix(b), positiveDefinite, diagnostics));
+         assertEquals(SolveDiagnostics.Status.SUCCESS, diagnostics.getStatus());
+         assertTrue(diagnostics.getRcond() > 0.0 && diagnostics.getRcond() <= 1.0);
+         MatrixTestTools.assertMatrixEquals(x, nativex, epsilon);
+
+         if (bCols == 1)
+         {
+            assertTrue(nativex.solveCheck(new NativeMatrix(A), new NativeMatrix(b)));
+            MatrixTestTools.assertMatrixEquals(x, nativex, epsilon);
+         }
+      }
+
+      DMatrixRMaj singular = RandomMatrices_DDRM.rectangle(5, 5, random);
+      for (int row = 0; row < 5; row++)
+         singular.set(row, 2, 0.0);
+      NativeMatrix nativeSingular = new NativeMatrix(singular);
+      NativeMatrix b = new NativeMatrix(RandomMatrices_DDRM.rectangle(5, 1, random));
+
+      assertFalse(nativex.solveCheck(nativeSingular, b));
+      assertTrue(nativex.containsNaN());
+      assertFalse(nativex.solveCheck(nativeSingular, b, false, diagnostics));
+      assertEquals(SolveDiagnostics.Status.ILL_CONDITIONED, diagnostics.getStatus());
+      assertEquals(0.0, diagnostics.getRcond());
+      assertTrue(nativex.containsNaN());
+
+      // A well conditioned matrix can still be rejected with a stricter threshold.
+      NativeMatrix scaled = new NativeMatrix(5, 5);
+      scaled.fillDiagonal(1.0);
+      scaled.set(0, 0, 1.0e-6);
+      assertFalse(nativex.solveCheck(scaled, b, false, new SolveDiagnostics(1.0e-3)));
+      assertTrue(nativex.solveCheck(scaled, b, false, diagnostics));
+      assertEquals(1.0e-6, diagnostics.getRcond(), 1.0e-12);
+
+      NativeMatrix negative = new NativeMatrix(5, 5);
+      negative.fillDiagonal(-1.0);
+      assertTrue(nativex.solveCheck(negative, b, false, diagnostics));
+      assertFalse(nativex.solveCheck(negative, b, true, diagnostics));
+      assertEquals(SolveDiagnostics.Status.NOT_POSITIVE_DEFINITE, diagnostics.getStatus());
+      assertEquals(5, nativex.getNumRows());
+      assertTrue(nativex.containsNaN());
+
+      Class<IllegalArgumentException> expectedType = IllegalArgumentException.class;
+      assertThrows(expectedType, () -> nativex.solveCheck(new NativeMatrix(5, 4), new NativeMatrix(5, 1), false, diagnostics));
+      assertThrows(expectedType, () -> nativex.solveCheck(new NativeMatrix(5, 5), new NativeMatrix(4, 1), true, diagnostics));
+   }
+
    private static void printTimings(long nativeTotalTime, long ejmlTotalTime, double summedMatrixSizes, int iterations)
    {
       System.out.println("Native took " + Conversions.nanosecondsToMilliseconds((double) (nativeTotalTime / iterations)) + " ms on average");
@@ -2228,5 +2438,83 @@ public class NativeMatrixTest
          
       }
    }
-   
+
+   @Test
+   public void testParallelOperations() throws InterruptedException
+   {
+      Random random = new Random(48L);
+
+      NativeMatrix.setNumberOfThreads(4);
+      NativeMatrix.setParallelThreshold(40);
+
+      try
+      {
+         assertEquals(4, NativeMatrix.getNumberOfThreads());
+
+         // The settings only apply to the thread that set them.
+         int[] otherThreadSettings = new int[2];
+         Thread otherThread = new Thread(() ->
+         {
+            otherThreadSettings[0] = NativeMatrix.getNumberOfThreads();
+            otherThreadSettings[1] = NativeMatrix.getParallelThreshold();
+         });
+         otherThread.start();
+         otherThread.join();
+         assertEquals(1, otherThreadSettings[0]);
+         assertEquals(256, otherThreadSettings[1]);
+
+         for (int i = 0; i < 20; i++)
+         {
+            int n = RandomNumbers.nextInt(random, 30, 200);
+            int m = RandomNumbers.nextInt(random, 1, 200);
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(n, n, -10.0, 10.0, random);
+            DMatrixRMaj B = RandomMatrices_DDRM.rectangle(n, m, -10.0, 10.0, random);
+            DMatrixRMaj b = RandomMatrices_DDRM.rectangle(n, 1, -10.0, 10.0, random);
+            DMatrixRMaj expected = new DMatrixRMaj(0, 0);
+
+            NativeMatrix nativeA = new NativeMatrix(A);
+            NativeMatrix nativeB = new NativeMatrix(B);
+            NativeMatrix nativeb = new NativeMatrix(b);
+            NativeMatrix actual = new NativeMatrix(0, 0);
+
+            expected.reshape(n, m);
+            CommonOps_DDRM.mult(2.0, A, B, expected);
+            actual.mult(2.0, nativeA, nativeB);
+            MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+            CommonOps_DDRM.multTransA(A, B, expected);
+            actual.multTransA(nativeA, nativeB);
+            MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+            expected.reshape(n, 1);
+            CommonOps_DDRM.mult(A, b, expected);
+            actual.mult(nativeA, nativeb);
+            MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+            expected.reshape(n, n);
+            CommonOps_DDRM.invert(A, expected);
+            actual.invert(nativeA);
+            MatrixTestTools.assertMatrixEquals(expected, actual, 1.0e-6);
+
+            expected.reshape(n, 1);
+            CommonOps_DDRM.solve(A, b, expected);
+            actual.solve(nativeA, nativeb);
+            MatrixTestTools.assertMatrixEquals(expected, actual, 1.0e-6);
+
+            // In place inversions are rejected whether the operation runs in parallel or not.
+            actual.set(A);
+            assertThrows(IllegalArgumentException.class, () -> actual.invert(actual));
+
+            nativeA.close();
+            nativeB.close();
+            nativeb.close();
+            actual.close();
+         }
+      }
+      finally
+      {
+         NativeMatrix.setNumberOfThreads(1);
+         NativeMatrix.setParallelThreshold(256);
+      }
+   }
 }
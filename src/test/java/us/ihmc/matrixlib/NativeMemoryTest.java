@@ -0,0 +1,97 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.DoubleBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class NativeMemoryTest
+{
+   @Test
+   public void testAccounting()
+   {
+      long liveBytes = NativeMemory.getLiveBytes();
+      long liveMatrixCount = NativeMemory.getLiveMatrixCount();
+
+      NativeMatrix matrix = new NativeMatrix(10, 10);
+      long matrixBytes = NativeMemory.getLiveBytes() - liveBytes;
+      assertTrue(matrixBytes >= 100 * Double.BYTES);
+      assertEquals(liveMatrixCount + 1, NativeMemory.getLiveMatrixCount());
+
+      // The storage only grows.
+      matrix.reshape(20, 20);
+      assertEquals(liveBytes + matrixBytes + 300 * Double.BYTES, NativeMemory.getLiveBytes());
+      matrix.reshape(5, 5);
+      assertEquals(liveBytes + matrixBytes + 300 * Double.BYTES, NativeMemory.getLiveBytes());
+      assertTrue(NativeMemory.getHighWaterMark() >= NativeMemory.getLiveBytes());
+
+      matrix.close();
+      matrix.close();
+      assertEquals(liveBytes, NativeMemory.getLiveBytes());
+      assertEquals(liveMatrixCount, NativeMemory.getLiveMatrixCount());
+      assertTrue(NativeMemory.getHighWaterMark() >= liveBytes + matrixBytes + 300 * Double.BYTES);
+
+      NativeMemory.resetHighWaterMark();
+      assertEquals(NativeMemory.getLiveBytes(), NativeMemory.getHighWaterMark());
+   }
+
+   @Test
+   public void testUseAfterClose()
+   {
+      NativeMatrix matrix = new NativeMatrix(3, 3);
+      NativeMatrix other = new NativeMatrix(3, 3);
+      matrix.close();
+      assertTrue(matrix.isClosed());
+      assertFalse(other.isClosed());
+
+      assertThrows(IllegalStateException.class, () -> matrix.get(0, 0));
+      assertThrows(IllegalStateException.class, () -> matrix.getNumRows());
+      assertThrows(IllegalStateException.class, () -> matrix.reshape(2, 2));
+      assertThrows(IllegalStateException.class, () -> other.set(matrix));
+      assertThrows(IllegalStateException.class, () -> other.mult(other, matrix));
+
+      DirectNativeMatrix direct = new DirectNativeMatrix(3, 3);
+      DoubleBuffer buffer = direct.getDataBuffer();
+      direct.close();
+      assertFalse(direct.isDataBufferValid(buffer));
+      assertThrows(IllegalStateException.class, () -> direct.getNumRows());
+      assertThrows(IllegalStateException.class, () -> direct.get(0, 0));
+      assertThrows(IllegalStateException.class, () -> direct.getDataBuffer());
+      other.close();
+   }
+
+   @Test
+   public void testCloseUsedMatrix()
+   {
+      NativeMatrix jacobian = new NativeMatrix(2, 4);
+      NativeHierarchicalNullspaceProjector projector = new NativeHierarchicalNullspaceProjector(4, 1);
+      projector.addTask(jacobian, 0.0);
+      assertThrows(IllegalStateException.class, () -> jacobian.close());
+      projector.clear();
+      jacobian.close();
+
+      NativeMatrix a = new NativeMatrix(3, 3);
+      NativeMatrix result = new NativeMatrix(3, 3);
+      NativeMatrixProgram program = new NativeMatrixProgram();
+      program.mult(result, a, a);
+      assertThrows(IllegalStateException.class, () -> a.close());
+      assertThrows(IllegalStateException.class, () -> result.close());
+      program.clear();
+      a.close();
+      result.close();
+   }
+
+   @Test
+   public void testLeakDetectionDisabledByDefault()
+   {
+      assertFalse(NativeMemory.isLeakDetectionEnabled());
+      new NativeMatrix(3, 3);
+      System.gc();
+      assertEquals(0L, NativeMemory.getLeakCount());
+      assertTrue(NativeMemory.getLeakSites().isEmpty());
+   }
+}
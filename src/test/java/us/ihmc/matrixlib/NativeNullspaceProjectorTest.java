@@ -85,4 +85,59 @@ public class NativeNullspaceProjectorTest
          assertThrows(expectedType, () -> projector.project(new NativeMatrix(7, m + 1), new NativeMatrix(12, m + 1), new NativeMatrix(3, 3), 1.0));
       }
    }
+
+   @Test
+   public void testCachedConstraint()
+   {
+      Random random = new Random(41L);
+
+      for (int i = 0; i < iterations / 10; i++)
+      {
+         int dofs = random.nextInt(maxSize) + 1;
+         int bRows = random.nextInt(maxSize) + 1;
+         double alpha = 0.5;
+
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(bRows, dofs, random);
+         NativeNullspaceProjector nullspaceProjector = new NativeNullspaceProjector(dofs);
+         nullspaceProjector.setConstraint(new NativeMatrix(b), alpha);
+
+         NativeMatrix projector = new NativeMatrix(0, 0);
+         nullspaceProjector.getProjector(projector);
+
+         for (int j = 0; j < 5; j++)
+         {
+            int aRows = random.nextInt(maxSize) + 1;
+            DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, dofs, random);
+            DMatrixRMaj expected = new DMatrixRMaj(aRows, dofs);
+            NativeCommonOps.projectOnNullspace(A, b, expected, alpha);
+
+            NativeMatrix actual = new NativeMatrix(0, 0);
+            nullspaceProjector.project(new NativeMatrix(A), actual);
+            MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+            actual.set(A);
+            nullspaceProjector.project(actual, actual);
+            MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+            NativeMatrix expectedN = new NativeMatrix(0, 0);
+            expectedN.mult(new NativeMatrix(A), projector);
+            MatrixTestTools.assertMatrixEquals(expected, expectedN, epsilon);
+
+            // The projector is symmetric, projecting the columns of A' gives the transpose of A * N.
+            NativeMatrix columns = new NativeMatrix(0, 0);
+            columns.transpose(new NativeMatrix(A));
+            nullspaceProjector.projectColumns(columns, columns);
+            actual.transpose(columns);
+            MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+         }
+      }
+
+      int m = 10;
+      NativeNullspaceProjector projector = new NativeNullspaceProjector(m);
+      assertThrows(IllegalStateException.class, () -> projector.project(new NativeMatrix(7, m), new NativeMatrix(7, m)));
+      assertThrows(IllegalArgumentException.class, () -> projector.setConstraint(new NativeMatrix(12, m + 1), 1.0));
+      projector.setConstraint(new NativeMatrix(12, m), 1.0);
+      assertThrows(IllegalArgumentException.class, () -> projector.project(new NativeMatrix(7, m + 1), new NativeMatrix(7, m)));
+      assertThrows(IllegalArgumentException.class, () -> projector.projectColumns(new NativeMatrix(7, m), new NativeMatrix(7, m)));
+   }
 }
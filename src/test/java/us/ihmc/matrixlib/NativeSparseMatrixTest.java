@@ -0,0 +1,201 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.simple.SimpleMatrix;
+import org.junit.jupiter.api.Test;
+
+public class NativeSparseMatrixTest
+{
+   private static final int maxSize = 40;
+   private static final int iterations = 200;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testBlockAssemblyAndProducts()
+   {
+      Random random = new Random(50L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int rows = random.nextInt(maxSize) + 1;
+         int cols = random.nextInt(maxSize) + 1;
+         DMatrixRMaj expected = new DMatrixRMaj(rows, cols);
+         NativeSparseMatrix sparse = new NativeSparseMatrix(rows, cols);
+
+         for (int block = 0; block < 4; block++)
+         {
+            int blockRows = random.nextInt(rows) + 1;
+            int blockCols = random.nextInt(cols) + 1;
+            int rowStart = random.nextInt(rows - blockRows + 1);
+            int colStart = random.nextInt(cols - blockCols + 1);
+            DMatrixRMaj values = RandomMatrices_DDRM.rectangle(blockRows, blockCols, random);
+
+            if (random.nextBoolean())
+               sparse.addBlock(values, rowStart, colStart);
+            else
+               sparse.addBlock(new NativeMatrix(values), rowStart, colStart);
+            addBlock(expected, values, rowStart, colStart);
+         }
+         int row = random.nextInt(rows);
+         int col = random.nextInt(cols);
+         sparse.add(row, col, 1.0);
+         expected.add(row, col, 1.0);
+
+         assertEquals(0, sparse.getNonZeros());
+         sparse.build();
+         assertTrue(sparse.getNonZeros() > 0);
+         assertEquals(expected.get(row, col), sparse.get(row, col), epsilon);
+
+         NativeMatrix actual = new NativeMatrix(0, 0);
+         sparse.get(actual);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         SimpleMatrix J = new SimpleMatrix(expected);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(cols, 3, random);
+         DMatrixRMaj C = RandomMatrices_DDRM.rectangle(rows, 2, random);
+         DMatrixRMaj w = RandomMatrices_DDRM.rectangle(rows, 1, 0.1, 1.0, random);
+         DMatrixRMaj W = RandomMatrices_DDRM.symmetricPosDef(rows, random);
+
+         sparse.mult(new NativeMatrix(B), actual);
+         MatrixTestTools.assertMatrixEquals(J.mult(new SimpleMatrix(B)).getDDRM(), actual, epsilon);
+
+         actual.set(C);
+         sparse.multTransA(actual, actual);
+         MatrixTestTools.assertMatrixEquals(J.transpose().mult(new SimpleMatrix(C)).getDDRM(), actual, epsilon);
+
+         SimpleMatrix expectedQuad = J.transpose().mult(SimpleMatrix.diag(w.getData())).mult(J);
+         sparse.multQuad(new NativeMatrix(w), actual);
+         MatrixTestTools.assertMatrixEquals(expectedQuad.getDDRM(), actual, epsilon);
+
+         NativeSparseMatrix sparseQuad = new NativeSparseMatrix(0, 0);
+         sparse.multQuad(new NativeMatrix(w), sparseQuad);
+         sparseQuad.get(actual);
+         MatrixTestTools.assertMatrixEquals(expectedQuad.getDDRM(), actual, epsilon);
+
+         sparse.multQuad(new NativeMatrix(W), actual);
+         MatrixTestTools.assertMatrixEquals(J.transpose().mult(new SimpleMatrix(W)).mult(J).getDDRM(), actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testSetFromDense()
+   {
+      Random random = new Random(51L);
+      DMatrixRMaj dense = RandomMatrices_DDRM.rectangle(10, 12, random);
+      int nonZeros = 0;
+      for (int i = 0; i < dense.getNumElements(); i++)
+      {
+         if (random.nextDouble() < 0.7)
+            dense.set(i, 0.0);
+         else
+            nonZeros++;
+      }
+
+      NativeSparseMatrix sparse = new NativeSparseMatrix(0, 0);
+      sparse.set(new NativeMatrix(dense), 0.0);
+      assertEquals(nonZeros, sparse.getNonZeros());
+
+      NativeMatrix actual = new NativeMatrix(0, 0);
+      sparse.get(actual);
+      MatrixTestTools.assertMatrixEquals(dense, actual, 0.0);
+   }
+
+   @Test
+   public void testLDLTPatternReuse()
+   {
+      Random random = new Random(52L);
+      int rows = 30;
+      int cols = 20;
+      NativeSparseMatrix stacked = new NativeSparseMatrix(rows + cols, cols);
+      NativeSparseMatrix hessian = new NativeSparseMatrix(0, 0);
+      NativeSparseLDLTSolver solver = new NativeSparseLDLTSolver();
+      NativeMatrix x = new NativeMatrix(0, 0);
+
+      for (int tick = 0; tick < 10; tick++)
+      {
+         // Same block structure at each tick, new values.
+         DMatrixRMaj base = RandomMatrices_DDRM.rectangle(6, 6, random);
+         DMatrixRMaj limbA = RandomMatrices_DDRM.rectangle(12, 7, random);
+         DMatrixRMaj limbB = RandomMatrices_DDRM.rectangle(12, 7, random);
+         DMatrixRMaj regularization = CommonOps_DDRM.identity(cols);
+
+         // Regularized Hessian J^T J + I, stacking the identity below the Jacobian.
+         stacked.addBlock(base, 0, 0);
+         stacked.addBlock(limbA, 6, 6);
+         stacked.addBlock(limbB, 18, 13);
+         stacked.addBlock(regularization, rows, 0);
+         stacked.build();
+
+         NativeMatrix w = new NativeMatrix(rows + cols, 1);
+         w.fill(1.0);
+         stacked.multQuad(w, hessian);
+
+         assertTrue(solver.factor(hessian));
+         assertEquals(1, solver.getNumberOfSymbolicFactorizations());
+
+         DMatrixRMaj b = RandomMatrices_DDRM.rectangle(cols, 2, random);
+         NativeMatrix denseStacked = new NativeMatrix(0, 0);
+         stacked.get(denseStacked);
+         SimpleMatrix J = new SimpleMatrix(denseStacked.getNumRows(), denseStacked.getNumCols());
+         denseStacked.get(J.getDDRM());
+         DMatrixRMaj expected = J.transpose().mult(J).solve(new SimpleMatrix(b)).getDDRM();
+
+         solver.solve(new NativeMatrix(b), x);
+         MatrixTestTools.assertMatrixEquals(expected, x, epsilon);
+
+         x.set(b);
+         solver.solve(x, x);
+         MatrixTestTools.assertMatrixEquals(expected, x, epsilon);
+      }
+
+      // A different pattern triggers a new analysis.
+      NativeSparseMatrix identity = new NativeSparseMatrix(cols, cols);
+      identity.addBlock(CommonOps_DDRM.identity(cols), 0, 0);
+      identity.build();
+      assertTrue(solver.factor(identity));
+      assertEquals(2, solver.getNumberOfSymbolicFactorizations());
+   }
+
+   @Test
+   public void testExceptions()
+   {
+      assertThrows(IllegalArgumentException.class, () -> new NativeSparseMatrix(-1, 2));
+
+      NativeSparseMatrix sparse = new NativeSparseMatrix(4, 5);
+      assertThrows(IllegalArgumentException.class, () -> sparse.add(4, 0, 1.0));
+      assertThrows(IllegalArgumentException.class, () -> sparse.addBlock(new NativeMatrix(2, 2), 3, 0));
+      assertThrows(IllegalArgumentException.class, () -> sparse.addBlock(new DMatrixRMaj(2, 6), 0, 0));
+      assertThrows(IllegalArgumentException.class, () -> sparse.get(0, 5));
+      assertThrows(IllegalArgumentException.class, () -> sparse.mult(new NativeMatrix(4, 1), new NativeMatrix(4, 1)));
+      assertThrows(IllegalArgumentException.class, () -> sparse.multTransA(new NativeMatrix(5, 1), new NativeMatrix(5, 1)));
+      assertThrows(IllegalArgumentException.class, () -> sparse.multQuad(new NativeMatrix(4, 2), new NativeMatrix(5, 5)));
+      assertThrows(IllegalArgumentException.class, () -> sparse.multQuad(new NativeMatrix(4, 1), sparse));
+
+      NativeSparseLDLTSolver solver = new NativeSparseLDLTSolver();
+      assertThrows(IllegalStateException.class, () -> solver.solve(new NativeMatrix(4, 1), new NativeMatrix(4, 1)));
+      assertThrows(IllegalArgumentException.class, () -> solver.factor(sparse));
+
+      NativeSparseMatrix singular = new NativeSparseMatrix(3, 3);
+      singular.add(0, 0, 1.0);
+      singular.build();
+      assertFalse(solver.factor(singular));
+   }
+
+   private static void addBlock(DMatrixRMaj matrix, DMatrixRMaj block, int rowStart, int colStart)
+   {
+      for (int row = 0; row < block.getNumRows(); row++)
+      {
+         for (int col = 0; col < block.getNumCols(); col++)
+            matrix.add(rowStart + row, colStart + col, block.get(row, col));
+      }
+   }
+}
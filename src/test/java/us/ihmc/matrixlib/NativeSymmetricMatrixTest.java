@@ -0,0 +1,174 @@
+package us.ihmc.matrixlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.ejml.simple.SimpleMatrix;
+import org.junit.jupiter.api.Test;
+
+public class NativeSymmetricMatrixTest
+{
+   private static final int maxSize = 40;
+   private static final int iterations = 500;
+   private static final double epsilon = 1.0e-8;
+
+   @Test
+   public void testQuadraticFormsAndRankUpdates()
+   {
+      Random random = new Random(48L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int n = random.nextInt(maxSize) + 1;
+         int k = random.nextInt(maxSize) + 1;
+
+         DMatrixRMaj B = RandomMatrices_DDRM.symmetric(k, -1.0, 1.0, random);
+         DMatrixRMaj C = RandomMatrices_DDRM.symmetric(n, -1.0, 1.0, random);
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(k, n, random);
+         DMatrixRMaj F = RandomMatrices_DDRM.rectangle(n, k, random);
+         DMatrixRMaj w = RandomMatrices_DDRM.rectangle(k, 1, -1.0, 1.0, random);
+         double alpha = random.nextDouble();
+
+         SimpleMatrix Bsimple = new SimpleMatrix(B);
+         SimpleMatrix Csimple = new SimpleMatrix(C);
+         SimpleMatrix Asimple = new SimpleMatrix(A);
+         SimpleMatrix Fsimple = new SimpleMatrix(F);
+
+         // The lower triangle of the dense matrix is garbage and must be ignored.
+         DMatrixRMaj Bupper = B.copy();
+         for (int row = 1; row < k; row++)
+            for (int col = 0; col < row; col++)
+               Bupper.set(row, col, random.nextDouble());
+         NativeSymmetricMatrix b = new NativeSymmetricMatrix(new NativeMatrix(Bupper));
+         NativeSymmetricMatrix c = new NativeSymmetricMatrix(new NativeMatrix(C));
+         NativeMatrix a = new NativeMatrix(A);
+         NativeMatrix f = new NativeMatrix(F);
+
+         NativeSymmetricMatrix result = new NativeSymmetricMatrix(0);
+         NativeMatrix actual = new NativeMatrix(0, 0);
+
+         b.get(actual);
+         MatrixTestTools.assertMatrixEquals(B, actual, epsilon);
+
+         result.multQuad(a, b);
+         result.get(actual);
+         SimpleMatrix expected = Asimple.transpose().mult(Bsimple).mult(Asimple);
+         MatrixTestTools.assertMatrixEquals(expected.getDDRM(), actual, epsilon);
+
+         result.multAddQuad(a, b);
+         result.get(actual);
+         expected = expected.scale(2.0);
+         MatrixTestTools.assertMatrixEquals(expected.getDDRM(), actual, epsilon);
+
+         result.multQuadOuter(f, b);
+         result.get(actual);
+         expected = Fsimple.mult(Bsimple).mult(Fsimple.transpose());
+         MatrixTestTools.assertMatrixEquals(expected.getDDRM(), actual, epsilon);
+
+         result.multAddQuadOuter(f, b);
+         result.get(actual);
+         expected = expected.scale(2.0);
+         MatrixTestTools.assertMatrixEquals(expected.getDDRM(), actual, epsilon);
+
+         result.set(c);
+         result.rankUpdate(alpha, a);
+         result.get(actual);
+         expected = Csimple.plus(Asimple.transpose().mult(Asimple).scale(alpha));
+         MatrixTestTools.assertMatrixEquals(expected.getDDRM(), actual, epsilon);
+
+         result.weightedRankUpdate(a, new NativeMatrix(w));
+         result.get(actual);
+         expected = expected.plus(Asimple.transpose().mult(SimpleMatrix.diag(w.getData())).mult(Asimple));
+         MatrixTestTools.assertMatrixEquals(expected.getDDRM(), actual, epsilon);
+
+         result.add(c, c);
+         result.addEquals(-0.5, c);
+         result.scale(2.0);
+         result.get(actual);
+         MatrixTestTools.assertMatrixEquals(Csimple.scale(3.0).getDDRM(), actual, epsilon);
+
+         // In place propagation of a covariance.
+         NativeSymmetricMatrix propagated = new NativeSymmetricMatrix(new NativeMatrix(C));
+         DMatrixRMaj square = RandomMatrices_DDRM.rectangle(n, n, random);
+         propagated.multQuadOuter(new NativeMatrix(square), propagated);
+         propagated.get(actual);
+         SimpleMatrix squareSimple = new SimpleMatrix(square);
+         MatrixTestTools.assertMatrixEquals(squareSimple.mult(Csimple).mult(squareSimple.transpose()).getDDRM(), actual, epsilon);
+
+         for (int row = 0; row < n; row++)
+         {
+            for (int col = 0; col < n; col++)
+               assertEquals(C.get(row, col), c.get(row, col), epsilon);
+         }
+      }
+   }
+
+   @Test
+   public void testSolveAndInvert()
+   {
+      Random random = new Random(49L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int n = random.nextInt(maxSize) + 1;
+         DMatrixRMaj S = RandomMatrices_DDRM.symmetricPosDef(n, random);
+         CommonOps_DDRM.addEquals(S, CommonOps_DDRM.identity(n));
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(n, random.nextInt(4) + 1, random);
+
+         SimpleMatrix Ssimple = new SimpleMatrix(S);
+         DMatrixRMaj expected = Ssimple.solve(new SimpleMatrix(B)).getDDRM();
+
+         NativeSymmetricMatrix s = new NativeSymmetricMatrix(new NativeMatrix(S));
+         NativeMatrix x = new NativeMatrix(0, 0);
+         assertTrue(s.solveLLT(new NativeMatrix(B), x));
+         MatrixTestTools.assertMatrixEquals(expected, x, epsilon);
+
+         x.set(B);
+         assertTrue(s.solveLDLT(x, x));
+         MatrixTestTools.assertMatrixEquals(expected, x, epsilon);
+
+         NativeSymmetricMatrix inverse = new NativeSymmetricMatrix(0);
+         assertTrue(s.invert(inverse));
+         inverse.get(x);
+         MatrixTestTools.assertMatrixEquals(Ssimple.invert().getDDRM(), x, epsilon);
+
+         assertTrue(s.invert(s));
+         s.get(x);
+         MatrixTestTools.assertMatrixEquals(Ssimple.invert().getDDRM(), x, epsilon);
+      }
+   }
+
+   @Test
+   public void testExceptions()
+   {
+      assertThrows(IllegalArgumentException.class, () -> new NativeSymmetricMatrix(-1));
+      assertThrows(IllegalArgumentException.class, () -> new NativeSymmetricMatrix(new NativeMatrix(3, 4)));
+
+      NativeSymmetricMatrix s = new NativeSymmetricMatrix(3);
+      assertThrows(IllegalArgumentException.class, () -> s.get(3, 0));
+      assertThrows(IllegalArgumentException.class, () -> s.set(0, -1, 1.0));
+      s.set(2, 0, 1.5);
+      assertEquals(1.5, s.get(0, 2));
+
+      assertThrows(IllegalArgumentException.class, () -> s.multQuad(new NativeMatrix(4, 2), s));
+      assertThrows(IllegalArgumentException.class, () -> s.multAddQuad(new NativeMatrix(3, 2), s));
+      assertThrows(IllegalArgumentException.class, () -> s.rankUpdate(1.0, new NativeMatrix(5, 2)));
+      assertThrows(IllegalArgumentException.class, () -> s.weightedRankUpdate(new NativeMatrix(5, 3), new NativeMatrix(4, 1)));
+      assertThrows(IllegalArgumentException.class, () -> s.addEquals(new NativeSymmetricMatrix(2)));
+      assertThrows(IllegalArgumentException.class, () -> s.solveLLT(new NativeMatrix(2, 1), new NativeMatrix(3, 1)));
+
+      NativeSymmetricMatrix negative = new NativeSymmetricMatrix(3);
+      for (int i = 0; i < 3; i++)
+         negative.set(i, i, -1.0);
+      NativeMatrix x = new NativeMatrix(3, 1);
+      assertFalse(negative.solveLLT(new NativeMatrix(3, 1), x));
+      assertFalse(negative.invert(new NativeSymmetricMatrix(3)));
+   }
+}
@@ -0,0 +1,124 @@
+package us.ihmc.matrixlib.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import us.ihmc.matrixlib.MatrixTools;
+import us.ihmc.matrixlib.SIMDMatrixKernels;
+
+/**
+ * Implements the dense kernels of {@link MatrixTools} and {@code DiagonalMatrixTools} with the
+ * incubating Vector API.
+ * <p>
+ * The products are computed one row of the result at a time: a vector of consecutive columns of the
+ * result is accumulated in a register with fused multiply-adds over the rows of the right matrix,
+ * which are contiguous in memory, and is then added to the result. The remaining columns that do not
+ * fill a vector are computed with scalar code.
+ * </p>
+ * <p>
+ * Requires Java 17+ and {@code --add-modules jdk.incubator.vector}.
+ * </p>
+ */
+public class VectorAPIMatrixKernels implements SIMDMatrixKernels
+{
+   private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+   public VectorAPIMatrixKernels()
+   {
+      if (SPECIES.length() < 2)
+         throw new UnsupportedOperationException("The platform does not support vectors of doubles.");
+   }
+
+   @Override
+   public String getName()
+   {
+      return "vector" + SPECIES.vectorBitSize();
+   }
+
+   @Override
+   public int getMinimumLength()
+   {
+      return SPECIES.length();
+   }
+
+   @Override
+   public void multAddBlock(double scale, double[] a, int aRows, int aCols, double[] w, double[] b, int bCols, double[] c, int cCols, int rowStart, int colStart)
+   {
+      int upperBound = SPECIES.loopBound(bCols);
+      DoubleVector scaleVector = DoubleVector.broadcast(SPECIES, scale);
+
+      for (int i = 0; i < aRows; i++)
+      {
+         int aIndexStart = i * aCols;
+         int cIndexStart = (i + rowStart) * cCols + colStart;
+
+         int j = 0;
+         for (; j < upperBound; j += SPECIES.length())
+         {
+            DoubleVector total = DoubleVector.zero(SPECIES);
+
+            for (int k = 0; k < aCols; k++)
+            {
+               double aValue = w == null ? a[aIndexStart + k] : a[aIndexStart + k] * w[k];
+               total = DoubleVector.fromArray(SPECIES, b, k * bCols + j).fma(DoubleVector.broadcast(SPECIES, aValue), total);
+            }
+
+            int cIndex = cIndexStart + j;
+            total.fma(scaleVector, DoubleVector.fromArray(SPECIES, c, cIndex)).intoArray(c, cIndex);
+         }
+
+         for (; j < bCols; j++)
+         {
+            double total = 0.0;
+
+            for (int k = 0; k < aCols; k++)
+            {
+               double aValue = w == null ? a[aIndexStart + k] : a[aIndexStart + k] * w[k];
+               total += aValue * b[k * bCols + j];
+            }
+
+            c[cIndexStart + j] += scale * total;
+         }
+      }
+   }
+
+   @Override
+   public void multAddBlockTransA(double scale, double[] a, int aRows, int aCols, double[] w, double[] b, int bCols, double[] c, int cCols, int rowStart,
+                                  int colStart)
+   {
+      int upperBound = SPECIES.loopBound(bCols);
+      DoubleVector scaleVector = DoubleVector.broadcast(SPECIES, scale);
+
+      for (int i = 0; i < aCols; i++)
+      {
+         int cIndexStart = (i + rowStart) * cCols + colStart;
+
+         int j = 0;
+         for (; j < upperBound; j += SPECIES.length())
+         {
+            DoubleVector total = DoubleVector.zero(SPECIES);
+
+            for (int k = 0; k < aRows; k++)
+            {
+               double aValue = w == null ? a[k * aCols + i] : a[k * aCols + i] * w[k];
+               total = DoubleVector.fromArray(SPECIES, b, k * bCols + j).fma(DoubleVector.broadcast(SPECIES, aValue), total);
+            }
+
+            int cIndex = cIndexStart + j;
+            total.fma(scaleVector, DoubleVector.fromArray(SPECIES, c, cIndex)).intoArray(c, cIndex);
+         }
+
+         for (; j < bCols; j++)
+         {
+            double total = 0.0;
+
+            for (int k = 0; k < aRows; k++)
+            {
+               double aValue = w == null ? a[k * aCols + i] : a[k * aCols + i] * w[k];
+               total += aValue * b[k * bCols + j];
+            }
+
+            c[cIndexStart + j] += scale * total;
+         }
+      }
+   }
+}
@@ -0,0 +1,93 @@
+package us.ihmc.matrixlib.vector;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+
+import us.ihmc.matrixlib.DiagonalMatrix;
+import us.ihmc.matrixlib.DiagonalMatrixTools;
+import us.ihmc.matrixlib.MatrixTools;
+import us.ihmc.matrixlib.NativeMatrix;
+
+/**
+ * Compares the kernels of {@link MatrixTools} and {@link DiagonalMatrixTools} to the equivalent
+ * {@link NativeMatrix} operations for mid-size matrices.
+ * <p>
+ * Run once with {@code -Dus.ihmc.matrixlib.simd=scalar} and once with
+ * {@code -Dus.ihmc.matrixlib.simd=vector --add-modules jdk.incubator.vector} to compare the scalar
+ * loops with the Vector API kernels.
+ * </p>
+ */
+public class VectorAPIMatrixKernelsBenchmark
+{
+   private static final int warmupIterations = 2000;
+   private static final int iterations = 20000;
+
+   private static double sink = 0.0;
+
+   public static void main(String[] args)
+   {
+      System.out.println("MatrixTools is using the " + MatrixTools.getKernelsName() + " kernels.");
+
+      for (int size : new int[] {12, 30, 60, 100})
+      {
+         benchmark(size, warmupIterations);
+         System.out.println("Matrix size " + size + "x" + size);
+         benchmark(size, iterations);
+      }
+
+      System.out.println(sink);
+   }
+
+   private static void benchmark(int size, int iterations)
+   {
+      Random random = new Random(40L);
+      DMatrixRMaj a = RandomMatrices_DDRM.rectangle(size, size, random);
+      DMatrixRMaj b = RandomMatrices_DDRM.rectangle(size, size, random);
+      DMatrixRMaj c = new DMatrixRMaj(size, size);
+      DiagonalMatrix w = new DiagonalMatrix(size);
+      for (int i = 0; i < size; i++)
+         w.set(i, random.nextDouble());
+
+      NativeMatrix nativeA = new NativeMatrix(a);
+      NativeMatrix nativeB = new NativeMatrix(b);
+      NativeMatrix nativeC = new NativeMatrix(size, size);
+      nativeC.zero();
+
+      long multAddBlockTime = -System.nanoTime();
+      for (int i = 0; i < iterations; i++)
+         MatrixTools.multAddBlock(a, b, c, 0, 0);
+      multAddBlockTime += System.nanoTime();
+
+      long multAddBlockTransATime = -System.nanoTime();
+      for (int i = 0; i < iterations; i++)
+         MatrixTools.multAddBlockTransA(a, b, c, 0, 0);
+      multAddBlockTransATime += System.nanoTime();
+
+      long multAddInnerTime = -System.nanoTime();
+      for (int i = 0; i < iterations; i++)
+         DiagonalMatrixTools.multAddInner(a, w, c);
+      multAddInnerTime += System.nanoTime();
+      sink += c.get(0, 0);
+
+      long nativeMultAddBlockTime = -System.nanoTime();
+      for (int i = 0; i < iterations; i++)
+         nativeC.multAddBlock(nativeA, nativeB, 0, 0);
+      nativeMultAddBlockTime += System.nanoTime();
+
+      long nativeMultAddQuadTime = -System.nanoTime();
+      for (int i = 0; i < iterations; i++)
+         nativeC.multAddQuad(nativeA, w);
+      nativeMultAddQuadTime += System.nanoTime();
+      sink += nativeC.get(0, 0);
+
+      if (iterations != warmupIterations)
+      {
+         System.out.println("   MatrixTools: multAddBlock " + (double) multAddBlockTime / iterations + " ns, multAddBlockTransA "
+               + (double) multAddBlockTransATime / iterations + " ns, DiagonalMatrixTools.multAddInner " + (double) multAddInnerTime / iterations + " ns");
+         System.out.println("   NativeMatrix: multAddBlock " + (double) nativeMultAddBlockTime / iterations + " ns, multAddQuad "
+               + (double) nativeMultAddQuadTime / iterations + " ns");
+      }
+   }
+}
@@ -0,0 +1,136 @@
+package us.ihmc.matrixlib.vector;
+
+import java.util.Random;
+
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.dense.row.RandomMatrices_DDRM;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.matrixlib.MatrixTestTools;
+
+public class VectorAPIMatrixKernelsTest
+{
+   private static final int maxSize = 40;
+   private static final int iterations = 2000;
+   private static final double epsilon = 1.0e-10;
+
+   private final VectorAPIMatrixKernels kernels = new VectorAPIMatrixKernels();
+
+   @Test
+   public void testMultAddBlock()
+   {
+      Random random = new Random(6521L);
+      int lanes = kernels.getMinimumLength();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int aCols = random.nextInt(maxSize) + 1;
+         // Covers the sizes below one vector, the multiples of a vector and the remaining lanes.
+         int bCols = i < 4 * lanes ? i + 1 : random.nextInt(maxSize) + 1;
+         int rowStart = random.nextInt(5);
+         int colStart = random.nextInt(5);
+         double scale = random.nextDouble() - 0.5;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, random);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(aCols, bCols, random);
+         double[] w = RandomMatrices_DDRM.rectangle(aCols, 1, -1.0, 1.0, random).data;
+         DMatrixRMaj W = CommonOps_DDRM.diag(w);
+         DMatrixRMaj C = RandomMatrices_DDRM.rectangle(aRows + rowStart + random.nextInt(3), bCols + colStart + random.nextInt(3), random);
+
+         DMatrixRMaj expected = new DMatrixRMaj(C);
+         DMatrixRMaj AW = new DMatrixRMaj(aRows, aCols);
+         CommonOps_DDRM.mult(A, W, AW);
+         multAddBlock(scale, AW, B, expected, rowStart, colStart);
+
+         DMatrixRMaj actual = new DMatrixRMaj(C);
+         kernels.multAddBlock(scale, A.data, aRows, aCols, w, B.data, bCols, actual.data, actual.numCols, rowStart, colStart);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         expected.set(C);
+         multAddBlock(scale, A, B, expected, rowStart, colStart);
+
+         actual.set(C);
+         kernels.multAddBlock(scale, A.data, aRows, aCols, null, B.data, bCols, actual.data, actual.numCols, rowStart, colStart);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testMultAddBlockTransA()
+   {
+      Random random = new Random(6522L);
+      int lanes = kernels.getMinimumLength();
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int aCols = random.nextInt(maxSize) + 1;
+         int bCols = i < 4 * lanes ? i + 1 : random.nextInt(maxSize) + 1;
+         int rowStart = random.nextInt(5);
+         int colStart = random.nextInt(5);
+         double scale = random.nextDouble() - 0.5;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, random);
+         DMatrixRMaj B = RandomMatrices_DDRM.rectangle(aRows, bCols, random);
+         double[] w = RandomMatrices_DDRM.rectangle(aRows, 1, -1.0, 1.0, random).data;
+         DMatrixRMaj W = CommonOps_DDRM.diag(w);
+         DMatrixRMaj C = RandomMatrices_DDRM.rectangle(aCols + rowStart + random.nextInt(3), bCols + colStart + random.nextInt(3), random);
+
+         DMatrixRMaj expected = new DMatrixRMaj(C);
+         DMatrixRMaj AtW = new DMatrixRMaj(aCols, aRows);
+         CommonOps_DDRM.multTransA(A, W, AtW);
+         multAddBlock(scale, AtW, B, expected, rowStart, colStart);
+
+         DMatrixRMaj actual = new DMatrixRMaj(C);
+         kernels.multAddBlockTransA(scale, A.data, aRows, aCols, w, B.data, bCols, actual.data, actual.numCols, rowStart, colStart);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+
+         expected.set(C);
+         DMatrixRMaj At = CommonOps_DDRM.transpose(A, null);
+         multAddBlock(scale, At, B, expected, rowStart, colStart);
+
+         actual.set(C);
+         kernels.multAddBlockTransA(scale, A.data, aRows, aCols, null, B.data, bCols, actual.data, actual.numCols, rowStart, colStart);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+   }
+
+   @Test
+   public void testMultAddBlockTransASameArray()
+   {
+      Random random = new Random(6523L);
+
+      for (int i = 0; i < iterations; i++)
+      {
+         int aRows = random.nextInt(maxSize) + 1;
+         int aCols = random.nextInt(maxSize) + 1;
+         double scale = random.nextDouble() - 0.5;
+
+         DMatrixRMaj A = RandomMatrices_DDRM.rectangle(aRows, aCols, random);
+         double[] w = RandomMatrices_DDRM.rectangle(aRows, 1, -1.0, 1.0, random).data;
+         DMatrixRMaj W = CommonOps_DDRM.diag(w);
+         DMatrixRMaj C = RandomMatrices_DDRM.rectangle(aCols, aCols, random);
+
+         DMatrixRMaj expected = new DMatrixRMaj(C);
+         DMatrixRMaj AtW = new DMatrixRMaj(aCols, aRows);
+         CommonOps_DDRM.multTransA(A, W, AtW);
+         multAddBlock(scale, AtW, A, expected, 0, 0);
+
+         DMatrixRMaj actual = new DMatrixRMaj(C);
+         kernels.multAddBlockTransA(scale, A.data, aRows, aCols, w, A.data, aCols, actual.data, actual.numCols, 0, 0);
+         MatrixTestTools.assertMatrixEquals(expected, actual, epsilon);
+      }
+   }
+
+   /**
+    * c = c + scale * a * b, where only the block of c starting at (rowStart, colStart) is modified.
+    */
+   private static void multAddBlock(double scale, DMatrixRMaj a, DMatrixRMaj b, DMatrixRMaj c, int rowStart, int colStart)
+   {
+      DMatrixRMaj block = CommonOps_DDRM.extract(c, rowStart, rowStart + a.numRows, colStart, colStart + b.numCols);
+      CommonOps_DDRM.multAdd(scale, a, b, block);
+      CommonOps_DDRM.insert(block, c, rowStart, colStart);
+   }
+}